@@ -0,0 +1,576 @@
+package org.xrpl.xrpl4j.client;
+
+/*-
+ * ========================LICENSE_START=================================
+ * xrpl4j :: client
+ * %%
+ * Copyright (C) 2020 - 2022 XRPL Foundation and its contributors
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * =========================LICENSE_END==================================
+ */
+
+import com.fasterxml.jackson.databind.JavaType;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.util.TokenBuffer;
+import com.google.common.annotations.Beta;
+import com.google.common.base.Preconditions;
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
+import okhttp3.Call;
+import okhttp3.Callback;
+import okhttp3.Dispatcher;
+import okhttp3.HttpUrl;
+import okhttp3.MediaType;
+import okhttp3.OkHttpClient;
+import okhttp3.Request;
+import okhttp3.RequestBody;
+import okhttp3.Response;
+import okhttp3.ResponseBody;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.xrpl.xrpl4j.crypto.signing.MultiSignedTransaction;
+import org.xrpl.xrpl4j.crypto.signing.SingleSignedTransaction;
+import org.xrpl.xrpl4j.model.client.XrplMethods;
+import org.xrpl.xrpl4j.model.client.XrplRequestParams;
+import org.xrpl.xrpl4j.model.client.XrplResult;
+import org.xrpl.xrpl4j.model.client.accounts.AccountChannelsRequestParams;
+import org.xrpl.xrpl4j.model.client.accounts.AccountChannelsResult;
+import org.xrpl.xrpl4j.model.client.accounts.AccountCurrenciesRequestParams;
+import org.xrpl.xrpl4j.model.client.accounts.AccountCurrenciesResult;
+import org.xrpl.xrpl4j.model.client.accounts.AccountInfoRequestParams;
+import org.xrpl.xrpl4j.model.client.accounts.AccountInfoResult;
+import org.xrpl.xrpl4j.model.client.accounts.AccountLinesRequestParams;
+import org.xrpl.xrpl4j.model.client.accounts.AccountLinesResult;
+import org.xrpl.xrpl4j.model.client.accounts.AccountNftsRequestParams;
+import org.xrpl.xrpl4j.model.client.accounts.AccountNftsResult;
+import org.xrpl.xrpl4j.model.client.accounts.AccountObjectsRequestParams;
+import org.xrpl.xrpl4j.model.client.accounts.AccountObjectsResult;
+import org.xrpl.xrpl4j.model.client.accounts.AccountOffersRequestParams;
+import org.xrpl.xrpl4j.model.client.accounts.AccountOffersResult;
+import org.xrpl.xrpl4j.model.client.accounts.AccountTransactionsRequestParams;
+import org.xrpl.xrpl4j.model.client.accounts.AccountTransactionsResult;
+import org.xrpl.xrpl4j.model.client.accounts.GatewayBalancesRequestParams;
+import org.xrpl.xrpl4j.model.client.accounts.GatewayBalancesResult;
+import org.xrpl.xrpl4j.model.client.channels.ChannelVerifyRequestParams;
+import org.xrpl.xrpl4j.model.client.channels.ChannelVerifyResult;
+import org.xrpl.xrpl4j.model.client.fees.FeeResult;
+import org.xrpl.xrpl4j.model.client.ledger.LedgerRequestParams;
+import org.xrpl.xrpl4j.model.client.ledger.LedgerResult;
+import org.xrpl.xrpl4j.model.client.nft.NftBuyOffersRequestParams;
+import org.xrpl.xrpl4j.model.client.nft.NftBuyOffersResult;
+import org.xrpl.xrpl4j.model.client.nft.NftSellOffersRequestParams;
+import org.xrpl.xrpl4j.model.client.nft.NftSellOffersResult;
+import org.xrpl.xrpl4j.model.client.path.DepositAuthorizedRequestParams;
+import org.xrpl.xrpl4j.model.client.path.DepositAuthorizedResult;
+import org.xrpl.xrpl4j.model.client.path.RipplePathFindRequestParams;
+import org.xrpl.xrpl4j.model.client.path.RipplePathFindResult;
+import org.xrpl.xrpl4j.model.client.serverinfo.ServerInfoResult;
+import org.xrpl.xrpl4j.model.client.transactions.SubmitMultiSignedRequestParams;
+import org.xrpl.xrpl4j.model.client.transactions.SubmitMultiSignedResult;
+import org.xrpl.xrpl4j.model.client.transactions.SubmitRequestParams;
+import org.xrpl.xrpl4j.model.client.transactions.SubmitResult;
+import org.xrpl.xrpl4j.model.client.transactions.TransactionRequestParams;
+import org.xrpl.xrpl4j.model.client.transactions.TransactionResult;
+import org.xrpl.xrpl4j.model.jackson.ObjectMapperFactory;
+import org.xrpl.xrpl4j.model.transactions.Address;
+import org.xrpl.xrpl4j.model.transactions.Transaction;
+
+import java.io.IOException;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * <p>A non-blocking counterpart to {@link XrplClient}. Every method returns a {@link CompletableFuture} immediately and
+ * sends its request with OkHttp's asynchronous {@link Call#enqueue(Callback)}, so no thread is tied up while a request
+ * is in flight. This makes it practical to fan a request out over a large number of accounts.</p>
+ *
+ * <p>The number of requests in flight is bounded by the {@link Dispatcher} of the underlying {@link OkHttpClient};
+ * requests beyond that window are queued without blocking the caller. Like {@link JsonRpcClient}, requests that fail
+ * with a {@code 503 Service Unavailable} status, which rippled returns when rate limiting, are retried after
+ * {@link JsonRpcClient#RETRY_INTERVAL}.</p>
+ *
+ * <p>Futures are completed on OkHttp's dispatcher threads, so dependent stages that block or do heavy work should use
+ * one of the {@code *Async} methods of {@link CompletableFuture} with their own executor.</p>
+ *
+ * <p>Note: This client is currently marked as {@link Beta}, and should be used as a reference implementation ONLY.</p>
+ */
+@Beta
+public class AsyncXrplClient {
+
+  /**
+   * The default maximum number of requests in flight at once.
+   */
+  public static final int DEFAULT_MAX_IN_FLIGHT_REQUESTS = 64;
+
+  private static final Logger LOGGER = LoggerFactory.getLogger(AsyncXrplClient.class);
+
+  private static final MediaType APPLICATION_JSON = MediaType.get(JsonRpcClient.APPLICATION_JSON);
+
+  // The same number of attempts as Feign's default Retryer, which JsonRpcClient uses.
+  private static final int MAX_ATTEMPTS = 5;
+
+  private static final ScheduledExecutorService RETRY_SCHEDULER = Executors.newSingleThreadScheduledExecutor(
+    new ThreadFactoryBuilder().setNameFormat("xrpl4j-async-retry-%d").setDaemon(true).build()
+  );
+
+  private final HttpUrl rippledUrl;
+  private final OkHttpClient okHttpClient;
+  private final ObjectMapper objectMapper;
+
+  /**
+   * Construct a client that allows up to {@link #DEFAULT_MAX_IN_FLIGHT_REQUESTS} requests in flight at once.
+   *
+   * @param rippledUrl The {@link HttpUrl} of the rippled node to connect to.
+   */
+  public AsyncXrplClient(final HttpUrl rippledUrl) {
+    this(rippledUrl, DEFAULT_MAX_IN_FLIGHT_REQUESTS);
+  }
+
+  /**
+   * Construct a client that allows up to {@code maxInFlightRequests} requests in flight at once.
+   *
+   * @param rippledUrl          The {@link HttpUrl} of the rippled node to connect to.
+   * @param maxInFlightRequests The maximum number of requests to have in flight at once.
+   */
+  public AsyncXrplClient(final HttpUrl rippledUrl, final int maxInFlightRequests) {
+    this(rippledUrl, newOkHttpClient(maxInFlightRequests));
+  }
+
+  /**
+   * Construct a client that sends requests with {@code okHttpClient}, whose {@link Dispatcher} bounds the number of
+   * requests in flight.
+   *
+   * @param rippledUrl   The {@link HttpUrl} of the rippled node to connect to.
+   * @param okHttpClient The {@link OkHttpClient} to send requests with.
+   */
+  public AsyncXrplClient(final HttpUrl rippledUrl, final OkHttpClient okHttpClient) {
+    this.rippledUrl = Objects.requireNonNull(rippledUrl);
+    this.okHttpClient = Objects.requireNonNull(okHttpClient);
+    this.objectMapper = ObjectMapperFactory.create();
+  }
+
+  private static OkHttpClient newOkHttpClient(final int maxInFlightRequests) {
+    Preconditions.checkArgument(maxInFlightRequests > 0, "maxInFlightRequests must be positive");
+    final Dispatcher dispatcher = new Dispatcher();
+    dispatcher.setMaxRequests(maxInFlightRequests);
+    // Every request goes to the same host, so the per-host limit is the effective window.
+    dispatcher.setMaxRequestsPerHost(maxInFlightRequests);
+    return new OkHttpClient.Builder().dispatcher(dispatcher).build();
+  }
+
+  /**
+   * Send a given request to rippled.
+   *
+   * @param request    The {@link JsonRpcRequest} to send to the server.
+   * @param resultType The type of {@link XrplResult} that should be returned.
+   * @param <T>        The extension of {@link XrplResult} corresponding to the request method.
+   *
+   * @return A {@link CompletableFuture} of the {@link T} representing the result of the request, which completes
+   *   exceptionally with a {@link JsonRpcClientErrorException} if rippled returns an error message, or if the response
+   *   could not be sent or deserialized.
+   */
+  public <T extends XrplResult> CompletableFuture<T> send(final JsonRpcRequest request, final Class<T> resultType) {
+    Objects.requireNonNull(resultType);
+    return send(request, objectMapper.constructType(resultType));
+  }
+
+  /**
+   * Send a given request to rippled. Unlike {@link #send(JsonRpcRequest, Class)}, this override requires a
+   * {@link JavaType} as the resultType, which can be useful when expecting a {@link XrplResult} with type parameters.
+   *
+   * @param request    The {@link JsonRpcRequest} to send to the server.
+   * @param resultType The type of {@link XrplResult} that should be returned, converted to a {@link JavaType}.
+   * @param <T>        The extension of {@link XrplResult} corresponding to the request method.
+   *
+   * @return A {@link CompletableFuture} of the {@link T} representing the result of the request, which completes
+   *   exceptionally with a {@link JsonRpcClientErrorException} if rippled returns an error message, or if the response
+   *   could not be sent or deserialized.
+   */
+  public <T extends XrplResult> CompletableFuture<T> send(final JsonRpcRequest request, final JavaType resultType) {
+    Objects.requireNonNull(request);
+    Objects.requireNonNull(resultType);
+
+    final CompletableFuture<T> future = new CompletableFuture<>();
+    final Request httpRequest;
+    try {
+      httpRequest = new Request.Builder()
+        .url(rippledUrl)
+        .header(JsonRpcClient.HEADER_ACCEPT, JsonRpcClient.APPLICATION_JSON)
+        .post(RequestBody.create(objectMapper.writeValueAsBytes(request), APPLICATION_JSON))
+        .build();
+    } catch (IOException e) {
+      future.completeExceptionally(new JsonRpcClientErrorException(e));
+      return future;
+    }
+
+    final AtomicReference<Call> currentCall = new AtomicReference<>();
+    enqueue(httpRequest, resultType, future, currentCall, 1);
+    future.whenComplete(($, throwable) -> {
+      if (future.isCancelled()) {
+        Optional.ofNullable(currentCall.get()).ifPresent(Call::cancel);
+      }
+    });
+    return future;
+  }
+
+  private <T extends XrplResult> void enqueue(
+    final Request httpRequest,
+    final JavaType resultType,
+    final CompletableFuture<T> future,
+    final AtomicReference<Call> currentCall,
+    final int attempt
+  ) {
+    if (future.isDone()) {
+      return;
+    }
+    final Call call = okHttpClient.newCall(httpRequest);
+    currentCall.set(call);
+    call.enqueue(new Callback() {
+      @Override
+      public void onFailure(final Call call, final IOException exception) {
+        future.completeExceptionally(new JsonRpcClientErrorException(exception));
+      }
+
+      @Override
+      public void onResponse(final Call call, final Response response) {
+        try (ResponseBody body = response.body()) {
+          if (response.code() == JsonRpcClient.SERVICE_UNAVAILABLE_STATUS && attempt < MAX_ATTEMPTS) {
+            LOGGER.warn("Got {} response from {}; retrying", response.code(), rippledUrl);
+            RETRY_SCHEDULER.schedule(
+              () -> enqueue(httpRequest, resultType, future, currentCall, attempt + 1),
+              JsonRpcClient.RETRY_INTERVAL.toMillis(),
+              TimeUnit.MILLISECONDS
+            );
+            return;
+          }
+          if (!response.isSuccessful() || body == null) {
+            future.completeExceptionally(new JsonRpcClientErrorException(
+              String.format("Unexpected HTTP status %s from %s", response.code(), rippledUrl)
+            ));
+            return;
+          }
+          future.complete(decode(body, resultType));
+        } catch (JsonRpcClientErrorException e) {
+          future.completeExceptionally(e);
+        } catch (IOException | RuntimeException e) {
+          future.completeExceptionally(new JsonRpcClientErrorException(e));
+        }
+      }
+    });
+  }
+
+  private <T extends XrplResult> T decode(final ResponseBody body, final JavaType resultType)
+    throws IOException, JsonRpcClientErrorException {
+    // Parse the body once into tokens, and bind the result straight from them.
+    return JsonRpcResultDecoder.decode(
+      objectMapper, objectMapper.readValue(body.byteStream(), TokenBuffer.class), resultType
+    );
+  }
+
+  /**
+   * Submit a {@link SingleSignedTransaction} to the XRP Ledger.
+   *
+   * @param <T>               The type of signed {@link Transaction} that is being submitted.
+   * @param signedTransaction A {@link SingleSignedTransaction} to submit.
+   *
+   * @return A {@link CompletableFuture} of the {@link SubmitResult} resulting from the submission request.
+   * @see "https://xrpl.org/submit.html"
+   */
+  public <T extends Transaction> CompletableFuture<SubmitResult<T>> submit(
+    final SingleSignedTransaction<T> signedTransaction
+  ) {
+    Objects.requireNonNull(signedTransaction);
+
+    JsonRpcRequest request = JsonRpcRequest.builder()
+      .method(XrplMethods.SUBMIT)
+      .addParams(SubmitRequestParams.of(signedTransaction.signedTransactionBytes().hexValue()))
+      .build();
+    JavaType resultType = objectMapper.getTypeFactory()
+      .constructParametricType(SubmitResult.class, signedTransaction.unsignedTransaction().getClass());
+    return send(request, resultType);
+  }
+
+  /**
+   * Submit a multisigned {@link Transaction} to the ledger.
+   *
+   * @param transaction A {@link MultiSignedTransaction}.
+   * @param <T>         A type parameter for the type of {@link Transaction} being submitted.
+   *
+   * @return A {@link CompletableFuture} of a {@link SubmitMultiSignedResult} of type {@link T}.
+   */
+  public <T extends Transaction> CompletableFuture<SubmitMultiSignedResult<T>> submitMultisigned(
+    final MultiSignedTransaction<T> transaction
+  ) {
+    Objects.requireNonNull(transaction);
+
+    JsonRpcRequest request = JsonRpcRequest.builder()
+      .method(XrplMethods.SUBMIT_MULTISIGNED)
+      .addParams(SubmitMultiSignedRequestParams.of(transaction.signedTransaction()))
+      .build();
+    JavaType resultType = objectMapper.getTypeFactory().constructParametricType(
+      SubmitMultiSignedResult.class, transaction.getClass()
+    );
+    return send(request, resultType);
+  }
+
+  /**
+   * Get the current state of the open-ledger requirements for transaction costs.
+   *
+   * @return A {@link CompletableFuture} of a {@link FeeResult} containing information about current transaction costs.
+   * @see "https://xrpl.org/fee.html"
+   */
+  public CompletableFuture<FeeResult> fee() {
+    return send(JsonRpcRequest.builder().method(XrplMethods.FEE).build(), FeeResult.class);
+  }
+
+  /**
+   * Get the "server_info" for the rippled node.
+   *
+   * @return A {@link CompletableFuture} of a {@link ServerInfoResult} containing information about the server.
+   * @see "https://xrpl.org/server_info.html"
+   */
+  public CompletableFuture<ServerInfoResult> serverInformation() {
+    return send(JsonRpcRequest.builder().method(XrplMethods.SERVER_INFO).build(), ServerInfoResult.class);
+  }
+
+  /**
+   * Get the {@link AccountChannelsResult} for the account specified in {@code params} by making an account_channels
+   * method call.
+   *
+   * @param params The {@link AccountChannelsRequestParams} to send in the request.
+   *
+   * @return A {@link CompletableFuture} of the {@link AccountChannelsResult}.
+   */
+  public CompletableFuture<AccountChannelsResult> accountChannels(final AccountChannelsRequestParams params) {
+    return send(request(XrplMethods.ACCOUNT_CHANNELS, params), AccountChannelsResult.class);
+  }
+
+  /**
+   * Get the {@link AccountCurrenciesResult} for the account specified in {@code params} by making an account_currencies
+   * method call.
+   *
+   * @param params The {@link AccountCurrenciesRequestParams} to send in the request.
+   *
+   * @return A {@link CompletableFuture} of the {@link AccountCurrenciesResult}.
+   */
+  public CompletableFuture<AccountCurrenciesResult> accountCurrencies(final AccountCurrenciesRequestParams params) {
+    return send(request(XrplMethods.ACCOUNT_CURRENCIES, params), AccountCurrenciesResult.class);
+  }
+
+  /**
+   * Get the {@link AccountInfoResult} for the account specified in {@code params} by making an account_info method
+   * call.
+   *
+   * @param params The {@link AccountInfoRequestParams} to send in the request.
+   *
+   * @return A {@link CompletableFuture} of the {@link AccountInfoResult}.
+   */
+  public CompletableFuture<AccountInfoResult> accountInfo(final AccountInfoRequestParams params) {
+    return send(request(XrplMethods.ACCOUNT_INFO, params), AccountInfoResult.class);
+  }
+
+  /**
+   * Get the NFTs owned by {@code account}.
+   *
+   * @param account The {@link Address} of the account to get the NFTs for.
+   *
+   * @return A {@link CompletableFuture} of the {@link AccountNftsResult}.
+   */
+  public CompletableFuture<AccountNftsResult> accountNfts(final Address account) {
+    Objects.requireNonNull(account);
+    return accountNfts(AccountNftsRequestParams.builder().account(account).build());
+  }
+
+  /**
+   * Get the {@link AccountNftsResult} for the account specified in {@code params} by making an account_nfts method
+   * call.
+   *
+   * @param params The {@link AccountNftsRequestParams} to send in the request.
+   *
+   * @return A {@link CompletableFuture} of the {@link AccountNftsResult}.
+   */
+  public CompletableFuture<AccountNftsResult> accountNfts(final AccountNftsRequestParams params) {
+    return send(request(XrplMethods.ACCOUNT_NFTS, params), AccountNftsResult.class);
+  }
+
+  /**
+   * Get the buy offers for the NFT specified in {@code params} by making an nft_buy_offers method call.
+   *
+   * @param params The {@link NftBuyOffersRequestParams} to send in the request.
+   *
+   * @return A {@link CompletableFuture} of the {@link NftBuyOffersResult}.
+   */
+  public CompletableFuture<NftBuyOffersResult> nftBuyOffers(final NftBuyOffersRequestParams params) {
+    return send(request(XrplMethods.NFT_BUY_OFFERS, params), NftBuyOffersResult.class);
+  }
+
+  /**
+   * Get the sell offers for the NFT specified in {@code params} by making an nft_sell_offers method call.
+   *
+   * @param params The {@link NftSellOffersRequestParams} to send in the request.
+   *
+   * @return A {@link CompletableFuture} of the {@link NftSellOffersResult}.
+   */
+  public CompletableFuture<NftSellOffersResult> nftSellOffers(final NftSellOffersRequestParams params) {
+    return send(request(XrplMethods.NFT_SELL_OFFERS, params), NftSellOffersResult.class);
+  }
+
+  /**
+   * Get the {@link AccountObjectsResult} for the account specified in {@code params} by making an account_objects
+   * method call.
+   *
+   * @param params The {@link AccountObjectsRequestParams} to send in the request.
+   *
+   * @return A {@link CompletableFuture} of the {@link AccountObjectsResult}.
+   */
+  public CompletableFuture<AccountObjectsResult> accountObjects(final AccountObjectsRequestParams params) {
+    return send(request(XrplMethods.ACCOUNT_OBJECTS, params), AccountObjectsResult.class);
+  }
+
+  /**
+   * Get the {@link AccountOffersResult} for the account specified in {@code params} by making an account_offers method
+   * call.
+   *
+   * @param params The {@link AccountOffersRequestParams} to send in the request.
+   *
+   * @return A {@link CompletableFuture} of the {@link AccountOffersResult}.
+   */
+  public CompletableFuture<AccountOffersResult> accountOffers(final AccountOffersRequestParams params) {
+    return send(request(XrplMethods.ACCOUNT_OFFERS, params), AccountOffersResult.class);
+  }
+
+  /**
+   * Indicates whether one account is authorized to send payments directly to another.
+   *
+   * @param params A {@link DepositAuthorizedRequestParams} to send in the request.
+   *
+   * @return A {@link CompletableFuture} of the {@link DepositAuthorizedResult}.
+   */
+  public CompletableFuture<DepositAuthorizedResult> depositAuthorized(final DepositAuthorizedRequestParams params) {
+    return send(request(XrplMethods.DEPOSIT_AUTHORIZED, params), DepositAuthorizedResult.class);
+  }
+
+  /**
+   * Get the {@link AccountTransactionsResult} for the specified {@code address} by making an account_tx method call.
+   *
+   * @param address The {@link Address} of the account to request.
+   *
+   * @return A {@link CompletableFuture} of the {@link AccountTransactionsResult}.
+   */
+  public CompletableFuture<AccountTransactionsResult> accountTransactions(final Address address) {
+    Objects.requireNonNull(address);
+    return accountTransactions(AccountTransactionsRequestParams.unboundedBuilder().account(address).build());
+  }
+
+  /**
+   * Get the {@link AccountTransactionsResult} for the account specified in {@code params} by making an account_tx
+   * method call.
+   *
+   * @param params The {@link AccountTransactionsRequestParams} to send in the request.
+   *
+   * @return A {@link CompletableFuture} of the {@link AccountTransactionsResult}.
+   */
+  public CompletableFuture<AccountTransactionsResult> accountTransactions(
+    final AccountTransactionsRequestParams params
+  ) {
+    return send(request(XrplMethods.ACCOUNT_TX, params), AccountTransactionsResult.class);
+  }
+
+  /**
+   * Get a transaction from the ledger by sending a tx method request.
+   *
+   * @param params          The {@link TransactionRequestParams} to send in the request.
+   * @param transactionType The {@link Transaction} type of the transaction with the hash {@code params.transaction()}.
+   * @param <T>             Type parameter for the type of {@link Transaction} that the {@link TransactionResult} will
+   *                        contain.
+   *
+   * @return A {@link CompletableFuture} of a {@link TransactionResult} containing the requested transaction.
+   */
+  public <T extends Transaction> CompletableFuture<TransactionResult<T>> transaction(
+    final TransactionRequestParams params,
+    final Class<T> transactionType
+  ) {
+    Objects.requireNonNull(transactionType);
+    JavaType resultType = objectMapper.getTypeFactory()
+      .constructParametricType(TransactionResult.class, transactionType);
+    return send(request(XrplMethods.TX, params), resultType);
+  }
+
+  /**
+   * Get the contents of a ledger by sending a ledger method request.
+   *
+   * @param params The {@link LedgerRequestParams} to send in the request.
+   *
+   * @return A {@link CompletableFuture} of a {@link LedgerResult} containing the ledger details.
+   */
+  public CompletableFuture<LedgerResult> ledger(final LedgerRequestParams params) {
+    return send(request(XrplMethods.LEDGER, params), LedgerResult.class);
+  }
+
+  /**
+   * Try to find a payment path for a rippling payment by sending a ripple_path_find method request.
+   *
+   * @param params The {@link RipplePathFindRequestParams} to send in the request.
+   *
+   * @return A {@link CompletableFuture} of a {@link RipplePathFindResult} containing possible paths.
+   */
+  public CompletableFuture<RipplePathFindResult> ripplePathFind(final RipplePathFindRequestParams params) {
+    return send(request(XrplMethods.RIPPLE_PATH_FIND, params), RipplePathFindResult.class);
+  }
+
+  /**
+   * Get the trust lines for a given account by sending an account_lines method request.
+   *
+   * @param params The {@link AccountLinesRequestParams} to send in the request.
+   *
+   * @return A {@link CompletableFuture} of the {@link AccountLinesResult} containing the requested trust lines.
+   */
+  public CompletableFuture<AccountLinesResult> accountLines(final AccountLinesRequestParams params) {
+    return send(request(XrplMethods.ACCOUNT_LINES, params), AccountLinesResult.class);
+  }
+
+  /**
+   * Verify a payment channel claim signature by making a "channel_verify" rippled API method call.
+   *
+   * @param params The {@link ChannelVerifyRequestParams} to send in the request.
+   *
+   * @return A {@link CompletableFuture} of the {@link ChannelVerifyResult}.
+   */
+  public CompletableFuture<ChannelVerifyResult> channelVerify(final ChannelVerifyRequestParams params) {
+    return send(request(XrplMethods.CHANNEL_VERIFY, params), ChannelVerifyResult.class);
+  }
+
+  /**
+   * Get the issued currency balances of an issuing account by making a "gateway_balances" rippled API method call.
+   *
+   * @param params The {@link GatewayBalancesRequestParams} to send in the request.
+   *
+   * @return A {@link CompletableFuture} of the {@link GatewayBalancesResult}.
+   */
+  public CompletableFuture<GatewayBalancesResult> gatewayBalances(final GatewayBalancesRequestParams params) {
+    return send(request(XrplMethods.GATEWAY_BALANCES, params), GatewayBalancesResult.class);
+  }
+
+  private static JsonRpcRequest request(final String method, final XrplRequestParams params) {
+    Objects.requireNonNull(params);
+    return JsonRpcRequest.builder()
+      .method(method)
+      .addParams(params)
+      .build();
+  }
+}
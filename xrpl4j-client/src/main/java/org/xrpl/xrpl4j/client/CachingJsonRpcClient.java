@@ -0,0 +1,186 @@
+package org.xrpl.xrpl4j.client;
+
+/*-
+ * ========================LICENSE_START=================================
+ * xrpl4j :: client
+ * %%
+ * Copyright (C) 2020 - 2022 XRPL Foundation and its contributors
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * =========================LICENSE_END==================================
+ */
+
+import com.fasterxml.jackson.databind.JavaType;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.util.TokenBuffer;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+import com.google.common.collect.ImmutableSet;
+import com.google.common.primitives.Ints;
+import org.xrpl.xrpl4j.model.client.XrplMethods;
+import org.xrpl.xrpl4j.model.client.XrplResult;
+
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
+
+/**
+ * A {@link JsonRpcClient} that remembers results which can never change, so that reading them again does not need a
+ * round trip to rippled. It backs {@link CachingXrplClient}; see there for which results are cached.
+ */
+class CachingJsonRpcClient implements JsonRpcClient {
+
+  /**
+   * Methods whose result depends only on their parameters and the ledger they are run against.
+   */
+  private static final Set<String> LEDGER_METHODS = ImmutableSet.of(
+    XrplMethods.ACCOUNT_CHANNELS,
+    XrplMethods.ACCOUNT_CURRENCIES,
+    XrplMethods.ACCOUNT_INFO,
+    XrplMethods.ACCOUNT_LINES,
+    XrplMethods.ACCOUNT_NFTS,
+    XrplMethods.ACCOUNT_OBJECTS,
+    XrplMethods.ACCOUNT_OFFERS,
+    XrplMethods.BOOK_OFFERS,
+    XrplMethods.DEPOSIT_AUTHORIZED,
+    XrplMethods.GATEWAY_BALANCES,
+    XrplMethods.LEDGER,
+    XrplMethods.LEDGER_DATA,
+    XrplMethods.LEDGER_ENTRY,
+    XrplMethods.TRANSACTION_ENTRY
+  );
+
+  private final FeignJsonRpcClient delegate;
+  private final Cache<String, CachedResult> results;
+
+  /**
+   * Required-args Constructor.
+   *
+   * @param delegate The {@link FeignJsonRpcClient} to send requests with. It buffers responses as tokens, which lets a
+   *                 result be bound and weighed without parsing or writing it more than once.
+   * @param settings The {@link ResponseCacheSettings} to use.
+   */
+  CachingJsonRpcClient(final FeignJsonRpcClient delegate, final ResponseCacheSettings settings) {
+    this.delegate = Objects.requireNonNull(delegate);
+    Objects.requireNonNull(settings);
+    // Evict on the calling thread so that the bounds hold as soon as a request returns.
+    final Caffeine<Object, Object> builder = Caffeine.newBuilder().executor(Runnable::run).recordStats();
+    if (settings.maximumSize().isPresent()) {
+      this.results = builder.maximumSize(settings.maximumSize().get()).build();
+    } else {
+      this.results = builder
+        .maximumWeight(settings.maximumWeight().orElse(ResponseCacheSettings.DEFAULT_MAXIMUM_WEIGHT))
+        .weigher((String key, CachedResult cached) -> cached.weight)
+        .build();
+    }
+  }
+
+  @Override
+  public JsonNode postRpcRequest(final JsonRpcRequest rpcRequest) {
+    return delegate.postRpcRequest(rpcRequest);
+  }
+
+  @Override
+  public <T extends XrplResult> T send(
+    final JsonRpcRequest request,
+    final JavaType resultType
+  ) throws JsonRpcClientErrorException {
+    Objects.requireNonNull(request);
+    Objects.requireNonNull(resultType);
+    final Optional<JsonNode> params = request.params().size() == 1 ?
+      Optional.of(objectMapper.valueToTree(request.params().get(0))) :
+      Optional.empty();
+    if (!isCacheable(request.method(), params)) {
+      return delegate.send(request, resultType);
+    }
+
+    final String key = request.method() + params.get() + resultType.toCanonical();
+    final CachedResult cached = results.getIfPresent(key);
+    if (cached != null) {
+      @SuppressWarnings("unchecked") final T result = (T) cached.result;
+      return result;
+    }
+
+    // The typed result may not expose "validated", so look at the buffered response to decide whether to keep it.
+    final TokenBuffer response = delegate.postRpcRequestForTokens(request);
+    final JsonRpcResultDecoder.ResultScan scan = JsonRpcResultDecoder.scan(objectMapper, response);
+    final T result = JsonRpcResultDecoder.bind(objectMapper, response, resultType);
+    // A result is final only once rippled reports it validated. Until then a different ledger or outcome can still take
+    // its place, even for a ledger hash, which may name a closed ledger on a fork that never validates.
+    if (scan.validated()) {
+      results.put(key, new CachedResult(result, Ints.saturatedCast(key.length() + scan.approximateLength())));
+    }
+    return result;
+  }
+
+  /**
+   * Hit, miss and eviction counts for this cache. Only requests that could be cached are counted.
+   *
+   * @return A {@link CacheStats}.
+   */
+  CacheStats stats() {
+    return results.stats();
+  }
+
+  /**
+   * The approximate number of results currently held.
+   *
+   * @return A long.
+   */
+  long estimatedSize() {
+    return results.estimatedSize();
+  }
+
+  /**
+   * Discard all cached results. Statistics are not reset.
+   */
+  void invalidateAll() {
+    results.invalidateAll();
+  }
+
+  /**
+   * Whether a request could have a result that never changes: a "tx" request, or a request for a specific ledger.
+   */
+  private static boolean isCacheable(final String method, final Optional<JsonNode> params) {
+    if (!params.isPresent()) {
+      return false;
+    }
+    if (XrplMethods.TX.equals(method)) {
+      return true;
+    }
+    return LEDGER_METHODS.contains(method) && (ledgerHash(params.get()).isPresent() ||
+      LoadBalancingJsonRpcClient.ledgerIndex(params.get().get("ledger_index")).isPresent());
+  }
+
+  private static Optional<String> ledgerHash(final JsonNode params) {
+    return Optional.ofNullable(params.get("ledger_hash"))
+      .filter(JsonNode::isTextual)
+      .map(JsonNode::asText)
+      .filter(hash -> !hash.isEmpty());
+  }
+
+  /**
+   * A result, and its weight for eviction.
+   */
+  private static final class CachedResult {
+
+    private final XrplResult result;
+    private final int weight;
+
+    private CachedResult(final XrplResult result, final int weight) {
+      this.result = result;
+      this.weight = weight;
+    }
+  }
+}
@@ -0,0 +1,105 @@
+package org.xrpl.xrpl4j.client;
+
+/*-
+ * ========================LICENSE_START=================================
+ * xrpl4j :: client
+ * %%
+ * Copyright (C) 2020 - 2022 XRPL Foundation and its contributors
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * =========================LICENSE_END==================================
+ */
+
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+import com.google.common.annotations.Beta;
+import com.google.common.annotations.VisibleForTesting;
+import okhttp3.HttpUrl;
+
+/**
+ * <p>An {@link XrplClient} that remembers results which can never change, for applications that read the same
+ * validated data many times.</p>
+ *
+ * <p>Only results that are provably final are cached:</p>
+ * <ul>
+ *   <li>{@link #transaction} results once they are validated, and</li>
+ *   <li>results of requests, such as {@link #ledger}, {@link #accountInfo}, {@link #accountLines} or
+ *   {@link #accountObjects}, that name a specific ledger, by hash or by index, once that ledger is validated.</li>
+ * </ul>
+ *
+ * <p>Requests for the "current", "closed" or "validated" ledger always go to rippled, since their answer changes as
+ * new ledgers close. Results are cached by method, parameters and result type, and evicted according to
+ * {@link ResponseCacheSettings}.</p>
+ *
+ * <p>Note: This client is currently marked as {@link Beta}, and should be used as a reference implementation ONLY.</p>
+ */
+@Beta
+public class CachingXrplClient extends XrplClient {
+
+  private final CachingJsonRpcClient jsonRpcClient;
+
+  /**
+   * Construct a client for the rippled node at {@code rippledUrl}, using the default {@link ResponseCacheSettings}.
+   *
+   * @param rippledUrl The {@link HttpUrl} of the rippled node to connect to.
+   */
+  public CachingXrplClient(final HttpUrl rippledUrl) {
+    this(rippledUrl, ResponseCacheSettings.builder().build());
+  }
+
+  /**
+   * Construct a client for the rippled node at {@code rippledUrl}.
+   *
+   * @param rippledUrl The {@link HttpUrl} of the rippled node to connect to.
+   * @param settings   The {@link ResponseCacheSettings} to use.
+   */
+  public CachingXrplClient(final HttpUrl rippledUrl, final ResponseCacheSettings settings) {
+    this(new CachingJsonRpcClient(new FeignJsonRpcClient(rippledUrl), settings));
+  }
+
+  /**
+   * Required-args constructor (exists for testing purposes only).
+   *
+   * @param jsonRpcClient A {@link CachingJsonRpcClient}.
+   */
+  @VisibleForTesting
+  CachingXrplClient(final CachingJsonRpcClient jsonRpcClient) {
+    super(jsonRpcClient);
+    this.jsonRpcClient = jsonRpcClient;
+  }
+
+  /**
+   * Hit, miss and eviction counts for the cache. Only requests whose result could be cached are counted, so
+   * {@link CacheStats#hitRate()} is the share of those requests that did not need a round trip to rippled.
+   *
+   * @return A {@link CacheStats}.
+   */
+  public CacheStats cacheStats() {
+    return jsonRpcClient.stats();
+  }
+
+  /**
+   * The approximate number of results currently cached.
+   *
+   * @return A long.
+   */
+  public long estimatedCacheSize() {
+    return jsonRpcClient.estimatedSize();
+  }
+
+  /**
+   * Discard all cached results. Statistics are not reset.
+   */
+  public void invalidateCache() {
+    jsonRpcClient.invalidateAll();
+  }
+}
@@ -0,0 +1,109 @@
+package org.xrpl.xrpl4j.client;
+
+/*-
+ * ========================LICENSE_START=================================
+ * xrpl4j :: client
+ * %%
+ * Copyright (C) 2020 - 2022 XRPL Foundation and its contributors
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * =========================LICENSE_END==================================
+ */
+
+import com.fasterxml.jackson.databind.JavaType;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.util.TokenBuffer;
+import feign.Feign;
+import feign.Headers;
+import feign.RequestLine;
+import feign.jackson.JacksonDecoder;
+import feign.jackson.JacksonEncoder;
+import feign.optionals.OptionalDecoder;
+import okhttp3.HttpUrl;
+import org.xrpl.xrpl4j.model.client.XrplResult;
+
+import java.util.Objects;
+
+/**
+ * The {@link JsonRpcClient} returned by {@link JsonRpcClient#construct(HttpUrl)}, which sends requests with feign.
+ *
+ * <p>Feign's decoder reads each response into a {@link TokenBuffer} rather than a {@link JsonNode}, and
+ * {@link #send(JsonRpcRequest, JavaType)} binds the {@code result} straight from the buffered tokens, so a large
+ * response, such as a {@code ledger} with expanded transactions or a page of {@code account_tx}, is parsed only once.
+ * Decoding still happens inside feign, so a {@code 503} response is retried by the {@link RetryStatusDecoder}.</p>
+ */
+class FeignJsonRpcClient implements JsonRpcClient {
+
+  private final Transport transport;
+
+  /**
+   * Construct a client for the given url.
+   *
+   * @param rippledUrl The {@link HttpUrl} of the rippled node to send requests to.
+   */
+  FeignJsonRpcClient(final HttpUrl rippledUrl) {
+    Objects.requireNonNull(rippledUrl);
+    this.transport = Feign.builder()
+      .encoder(new JacksonEncoder(objectMapper))
+      // rate limiting will return a 503 status that can be retried
+      .errorDecoder(new RetryStatusDecoder(RETRY_INTERVAL, SERVICE_UNAVAILABLE_STATUS))
+      .decode404()
+      .decoder(new OptionalDecoder(new JacksonDecoder(objectMapper)))
+      .target(Transport.class, rippledUrl.toString());
+  }
+
+  @Override
+  public JsonNode postRpcRequest(final JsonRpcRequest rpcRequest) {
+    return transport.postRpcRequest(rpcRequest);
+  }
+
+  @Override
+  public <T extends XrplResult> T send(
+    final JsonRpcRequest request,
+    final JavaType resultType
+  ) throws JsonRpcClientErrorException {
+    return JsonRpcResultDecoder.decode(objectMapper, postRpcRequestForTokens(request), resultType);
+  }
+
+  /**
+   * Send a POST request to the rippled server with {@code rpcRequest} in the request body, and buffer the response
+   * without binding it, for callers that decode it with {@link JsonRpcResultDecoder} themselves.
+   *
+   * @param rpcRequest A rippled JSON RPC API request object.
+   *
+   * @return A {@link TokenBuffer} holding the whole response, or {@code null} if the node answered with a 404.
+   */
+  TokenBuffer postRpcRequestForTokens(final JsonRpcRequest rpcRequest) {
+    return transport.postRpcRequestForTokens(rpcRequest);
+  }
+
+  /**
+   * The feign target, which has one method per representation of the response.
+   */
+  interface Transport {
+
+    @RequestLine("POST /")
+    @Headers( {
+      HEADER_ACCEPT + ": " + APPLICATION_JSON,
+      HEADER_CONTENT_TYPE + ": " + APPLICATION_JSON,
+    })
+    JsonNode postRpcRequest(JsonRpcRequest rpcRequest);
+
+    @RequestLine("POST /")
+    @Headers( {
+      HEADER_ACCEPT + ": " + APPLICATION_JSON,
+      HEADER_CONTENT_TYPE + ": " + APPLICATION_JSON,
+    })
+    TokenBuffer postRpcRequestForTokens(JsonRpcRequest rpcRequest);
+  }
+}
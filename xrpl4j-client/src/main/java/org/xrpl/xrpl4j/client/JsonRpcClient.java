@@ -20,23 +20,19 @@ package org.xrpl.xrpl4j.client;
  * =========================LICENSE_END==================================
  */
 
-import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.JavaType;
 import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.google.common.annotations.Beta;
-import feign.Feign;
 import feign.Headers;
 import feign.RequestLine;
-import feign.jackson.JacksonDecoder;
-import feign.jackson.JacksonEncoder;
-import feign.optionals.OptionalDecoder;
 import okhttp3.HttpUrl;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.xrpl.xrpl4j.model.client.XrplResult;
 import org.xrpl.xrpl4j.model.jackson.ObjectMapperFactory;
 
+import java.io.IOException;
 import java.time.Duration;
 import java.util.Objects;
 import java.util.Optional;
@@ -71,13 +67,7 @@ public interface JsonRpcClient {
   static JsonRpcClient construct(final HttpUrl rippledUrl) {
     Objects.requireNonNull(rippledUrl);
 
-    return Feign.builder()
-      .encoder(new JacksonEncoder(objectMapper))
-      // rate limiting will return a 503 status that can be retried
-      .errorDecoder(new RetryStatusDecoder(RETRY_INTERVAL, SERVICE_UNAVAILABLE_STATUS))
-      .decode404()
-      .decoder(new OptionalDecoder(new JacksonDecoder(objectMapper)))
-      .target(JsonRpcClient.class, rippledUrl.toString());
+    return new FeignJsonRpcClient(rippledUrl);
   }
 
   /**
@@ -136,9 +126,13 @@ public interface JsonRpcClient {
     JsonNode response = postRpcRequest(request);
     JsonNode result = response.get("result");
     checkForError(response);
+    if (result == null) {
+      throw new JsonRpcClientErrorException("Response did not contain a result.");
+    }
     try {
-      return objectMapper.readValue(result.toString(), resultType);
-    } catch (JsonProcessingException e) {
+      // Bind the tree directly rather than writing it out to a String and parsing that again.
+      return objectMapper.readValue(objectMapper.treeAsTokens(result), resultType);
+    } catch (IOException e) {
       throw new JsonRpcClientErrorException(e);
     }
   }
@@ -20,16 +20,54 @@ package org.xrpl.xrpl4j.client;
  * =========================LICENSE_END==================================
  */
 
+import com.fasterxml.jackson.databind.JsonNode;
+
+import java.util.Objects;
+import java.util.Optional;
+
 /**
  * Wrapper for errors related to calling rippled JSON RPC API.
  */
 public class JsonRpcClientErrorException extends Exception {
 
+  private final JsonNode errorResult;
+
   public JsonRpcClientErrorException(String error) {
     super(error);
+    this.errorResult = null;
   }
 
   public JsonRpcClientErrorException(Throwable cause) {
     super(cause);
+    this.errorResult = null;
+  }
+
+  /**
+   * Construct an exception for an error response from rippled.
+   *
+   * @param error       The error message.
+   * @param errorResult The {@code result} of the error response, which contains the rippled {@code error} code.
+   */
+  public JsonRpcClientErrorException(String error, JsonNode errorResult) {
+    super(error);
+    this.errorResult = Objects.requireNonNull(errorResult);
+  }
+
+  /**
+   * The rippled error code, such as {@code actNotFound} or {@code lgrNotFound}, if rippled answered with an error.
+   *
+   * @return An optionally-present {@link String}.
+   */
+  public Optional<String> errorCode() {
+    return errorResult().map(result -> result.get("error")).filter(JsonNode::isTextual).map(JsonNode::asText);
+  }
+
+  /**
+   * The {@code result} of the error response, if rippled answered with an error.
+   *
+   * @return An optionally-present {@link JsonNode}.
+   */
+  public Optional<JsonNode> errorResult() {
+    return Optional.ofNullable(errorResult);
   }
 }
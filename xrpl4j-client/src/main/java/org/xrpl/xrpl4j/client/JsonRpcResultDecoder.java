@@ -0,0 +1,240 @@
+package org.xrpl.xrpl4j.client;
+
+/*-
+ * ========================LICENSE_START=================================
+ * xrpl4j :: client
+ * %%
+ * Copyright (C) 2020 - 2022 XRPL Foundation and its contributors
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * =========================LICENSE_END==================================
+ */
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.JavaType;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.util.TokenBuffer;
+import org.xrpl.xrpl4j.model.client.XrplResult;
+
+import java.io.IOException;
+import java.util.Objects;
+import java.util.Optional;
+
+/**
+ * Decodes the {@code result} of a rippled JSON RPC response that has been read into a {@link TokenBuffer}, so that the
+ * response text is only parsed once. The buffered tokens are first scanned for an error, and the {@code result} is
+ * then bound directly from them to the requested type, without building a {@link JsonNode} tree or writing the
+ * {@code result} back out to a {@link String}.
+ */
+final class JsonRpcResultDecoder {
+
+  private static final String RESULT = "result";
+  private static final String ERROR = "error";
+  private static final String VALIDATED = "validated";
+
+  private JsonRpcResultDecoder() {
+  }
+
+  /**
+   * Decode the {@code result} of {@code response}.
+   *
+   * @param objectMapper The {@link ObjectMapper} to bind the result with. Several of our deserializers expect the
+   *                     parser's codec to be an {@link ObjectMapper}, so an {@code ObjectReader} won't do.
+   * @param response     A {@link TokenBuffer} holding the whole JSON RPC response.
+   * @param resultType   The type of {@link XrplResult} that should be returned, converted to a {@link JavaType}.
+   * @param <T>          The extension of {@link XrplResult} corresponding to the request method.
+   *
+   * @return The {@link T} representing the result of the request.
+   *
+   * @throws JsonRpcClientErrorException If rippled returns an error message, or if the response could not be
+   *                                     deserialized to {@code resultType}.
+   */
+  static <T extends XrplResult> T decode(
+    final ObjectMapper objectMapper,
+    final TokenBuffer response,
+    final JavaType resultType
+  ) throws JsonRpcClientErrorException {
+    scan(objectMapper, response);
+    return bind(objectMapper, response, resultType);
+  }
+
+  /**
+   * Scan the {@code result} of {@code response} without binding it, throwing if it is an error.
+   *
+   * @param objectMapper The {@link ObjectMapper} to read the result with.
+   * @param response     A {@link TokenBuffer} holding the whole JSON RPC response.
+   *
+   * @return A {@link ResultScan} describing the result.
+   *
+   * @throws JsonRpcClientErrorException If rippled returns an error message, or if the response has no result.
+   */
+  static ResultScan scan(
+    final ObjectMapper objectMapper,
+    final TokenBuffer response
+  ) throws JsonRpcClientErrorException {
+    Objects.requireNonNull(objectMapper);
+    if (response == null) {
+      throw new JsonRpcClientErrorException("Response did not contain a result.");
+    }
+
+    try {
+      // Only the field names and values at the top level of the result are inspected, but every token is counted.
+      boolean hasError = false;
+      boolean validated = false;
+      long length = 1;
+      try (JsonParser parser = response.asParser(objectMapper)) {
+        moveToResult(parser);
+        String field = null;
+        int depth = 1;
+        while (depth > 0) {
+          final JsonToken token = parser.nextToken();
+          if (token == null) {
+            throw new JsonRpcClientErrorException("Response ended inside its result.");
+          }
+          if (token.isStructStart()) {
+            depth++;
+          } else if (token.isStructEnd()) {
+            depth--;
+          } else if (depth == 1 && token == JsonToken.FIELD_NAME) {
+            field = parser.currentName();
+            hasError |= ERROR.equals(field);
+          } else if (depth == 1 && VALIDATED.equals(field)) {
+            validated = token == JsonToken.VALUE_TRUE;
+          }
+          length += approximateLength(parser, token);
+        }
+      }
+      if (hasError) {
+        throw error(objectMapper, response);
+      }
+      return new ResultScan(validated, length);
+    } catch (IOException e) {
+      throw new JsonRpcClientErrorException(e);
+    }
+  }
+
+  /**
+   * Bind the {@code result} of {@code response}, which has already been {@link #scan(ObjectMapper, TokenBuffer)
+   * scanned}, to {@code resultType}.
+   *
+   * @param objectMapper The {@link ObjectMapper} to bind the result with.
+   * @param response     A {@link TokenBuffer} holding the whole JSON RPC response.
+   * @param resultType   The type of {@link XrplResult} that should be returned, converted to a {@link JavaType}.
+   * @param <T>          The extension of {@link XrplResult} corresponding to the request method.
+   *
+   * @return The {@link T} representing the result of the request.
+   *
+   * @throws JsonRpcClientErrorException If the response could not be deserialized to {@code resultType}.
+   */
+  static <T extends XrplResult> T bind(
+    final ObjectMapper objectMapper,
+    final TokenBuffer response,
+    final JavaType resultType
+  ) throws JsonRpcClientErrorException {
+    Objects.requireNonNull(objectMapper);
+    Objects.requireNonNull(response);
+    Objects.requireNonNull(resultType);
+    try (JsonParser parser = response.asParser(objectMapper)) {
+      moveToResult(parser);
+      return objectMapper.readValue(parser, resultType);
+    } catch (IOException e) {
+      throw new JsonRpcClientErrorException(e);
+    }
+  }
+
+  private static JsonRpcClientErrorException error(final ObjectMapper objectMapper, final TokenBuffer response)
+    throws IOException, JsonRpcClientErrorException {
+    // Error responses are small, so read the whole result to find the most specific message.
+    final JsonNode result;
+    try (JsonParser parser = response.asParser(objectMapper)) {
+      moveToResult(parser);
+      result = objectMapper.readTree(parser);
+    }
+    return new JsonRpcClientErrorException(
+      Optional.ofNullable(result.get("error_exception"))
+        .map(JsonNode::asText)
+        .orElseGet(() -> result.path("error_message").asText(result.get(ERROR).asText())),
+      result
+    );
+  }
+
+  /**
+   * Roughly how many characters {@code token} takes up in JSON text, without converting numbers back to text.
+   */
+  private static int approximateLength(final JsonParser parser, final JsonToken token) throws IOException {
+    switch (token) {
+      case FIELD_NAME:
+      case VALUE_STRING:
+        // The quotes, and the colon or comma that follows.
+        return parser.getTextLength() + 3;
+      case VALUE_NUMBER_INT:
+      case VALUE_NUMBER_FLOAT:
+      case VALUE_TRUE:
+      case VALUE_FALSE:
+      case VALUE_NULL:
+        return 6;
+      default:
+        return 1;
+    }
+  }
+
+  /**
+   * Advance {@code parser} to the start of the {@code result} object.
+   */
+  private static void moveToResult(final JsonParser parser) throws IOException, JsonRpcClientErrorException {
+    if (parser.nextToken() == JsonToken.START_OBJECT) {
+      while (parser.nextToken() == JsonToken.FIELD_NAME) {
+        final boolean isResult = RESULT.equals(parser.currentName());
+        if (parser.nextToken() == JsonToken.START_OBJECT && isResult) {
+          return;
+        }
+        parser.skipChildren();
+      }
+    }
+    throw new JsonRpcClientErrorException("Response did not contain a result.");
+  }
+
+  /**
+   * What {@link #scan(ObjectMapper, TokenBuffer)} learned about a {@code result} that is not an error.
+   */
+  static final class ResultScan {
+
+    private final boolean validated;
+    private final long approximateLength;
+
+    private ResultScan(final boolean validated, final long approximateLength) {
+      this.validated = validated;
+      this.approximateLength = approximateLength;
+    }
+
+    /**
+     * Whether the result has a top-level {@code validated} field that is {@code true}.
+     *
+     * @return A boolean.
+     */
+    boolean validated() {
+      return validated;
+    }
+
+    /**
+     * Roughly how many characters the result takes up as JSON text.
+     *
+     * @return A long.
+     */
+    long approximateLength() {
+      return approximateLength;
+    }
+  }
+}
@@ -0,0 +1,505 @@
+package org.xrpl.xrpl4j.client;
+
+/*-
+ * ========================LICENSE_START=================================
+ * xrpl4j :: client
+ * %%
+ * Copyright (C) 2020 - 2022 XRPL Foundation and its contributors
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * =========================LICENSE_END==================================
+ */
+
+import com.fasterxml.jackson.databind.JavaType;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.google.common.annotations.VisibleForTesting;
+import com.google.common.base.Preconditions;
+import com.google.common.collect.ImmutableSet;
+import com.google.common.collect.Range;
+import com.google.common.primitives.UnsignedLong;
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
+import okhttp3.HttpUrl;
+import org.xrpl.xrpl4j.model.client.XrplMethods;
+import org.xrpl.xrpl4j.model.client.XrplResult;
+import org.xrpl.xrpl4j.model.client.serverinfo.ServerInfo;
+import org.xrpl.xrpl4j.model.client.serverinfo.ServerInfoResult;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionService;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorCompletionService;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.SynchronousQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.stream.Collectors;
+
+/**
+ * A {@link JsonRpcClient} that spreads requests over several rippled or Clio nodes. It backs
+ * {@link MultiNodeXrplClient}; see there for how requests are routed.
+ */
+class LoadBalancingJsonRpcClient implements JsonRpcClient, AutoCloseable {
+
+  // Submitting the same transaction to several nodes makes its outcome harder to reason about, so these go to one node.
+  private static final Set<String> PINNED_METHODS = ImmutableSet.of(
+    XrplMethods.SUBMIT, XrplMethods.SUBMIT_MULTISIGNED
+  );
+
+  // Errors that say more about the node than the request: it lacks the ledger, or is out of sync or overloaded.
+  private static final Set<String> NODE_ERRORS = ImmutableSet.of(
+    "amendmentBlocked", "lgrNotFound", "noClosed", "noCurrent", "noNetwork", "notSynced", "slowDown", "tooBusy"
+  );
+
+  private static final Set<String> HEALTHY_SERVER_STATES = ImmutableSet.of("full", "proposing", "validating");
+
+  private static final JsonRpcRequest SERVER_INFO_REQUEST = JsonRpcRequest.builder()
+    .method(XrplMethods.SERVER_INFO)
+    .build();
+
+  private final List<Node> nodes;
+  private final MultiNodeSettings settings;
+  private final ExecutorService executor;
+  private final ScheduledExecutorService healthChecker;
+  private final AtomicReference<Node> submitNode = new AtomicReference<>();
+
+  /**
+   * Construct a client for the nodes at {@code nodeUrls}, and start checking their health.
+   *
+   * @param nodeUrls The {@link HttpUrl}s of the nodes.
+   * @param settings The {@link MultiNodeSettings} to use.
+   */
+  LoadBalancingJsonRpcClient(final List<HttpUrl> nodeUrls, final MultiNodeSettings settings) {
+    Objects.requireNonNull(nodeUrls);
+    Preconditions.checkArgument(!nodeUrls.isEmpty(), "At least one node URL is required");
+    this.settings = Objects.requireNonNull(settings);
+    this.nodes = nodeUrls.stream()
+      .map(url -> new Node(url, JsonRpcClient.construct(url)))
+      .collect(Collectors.toList());
+    // A blocked read can't be interrupted, so a hedge that loses the race may hold its thread until the read times out.
+    // Bounding the pool keeps such threads from piling up when a node stalls; see sendWithHedging.
+    this.executor = new ThreadPoolExecutor(
+      0, settings.maximumThreads(), 60, TimeUnit.SECONDS, new SynchronousQueue<>(),
+      new ThreadFactoryBuilder().setNameFormat("xrpl4j-multi-node-%d").setDaemon(true).build()
+    );
+    this.healthChecker = Executors.newSingleThreadScheduledExecutor(
+      new ThreadFactoryBuilder().setNameFormat("xrpl4j-multi-node-health-%d").setDaemon(true).build()
+    );
+    this.healthChecker.scheduleWithFixedDelay(
+      this::checkNodes, 0, settings.healthCheckInterval().toMillis(), TimeUnit.MILLISECONDS
+    );
+  }
+
+  @Override
+  public JsonNode postRpcRequest(final JsonRpcRequest rpcRequest) {
+    try {
+      return route(rpcRequest, client -> client.postRpcRequest(rpcRequest));
+    } catch (JsonRpcClientErrorException e) {
+      // postRpcRequest doesn't inspect the response, so only a transport failure can get here.
+      throw new IllegalStateException(e);
+    }
+  }
+
+  @Override
+  public <T extends XrplResult> T send(
+    final JsonRpcRequest request,
+    final JavaType resultType
+  ) throws JsonRpcClientErrorException {
+    Objects.requireNonNull(resultType);
+    return route(request, client -> client.send(request, resultType));
+  }
+
+  /**
+   * Send "server_info" to every node, and wait for the responses.
+   */
+  void checkNodes() {
+    CompletableFuture.allOf(nodes.stream()
+      .map(node -> CompletableFuture.runAsync(node::checkHealth, this::executeOrRun))
+      .toArray(CompletableFuture[]::new)
+    ).join();
+  }
+
+  /**
+   * Get a snapshot of what is known about every node.
+   *
+   * @return A {@link List} of {@link NodeStatus}, in the order the nodes were given.
+   */
+  List<NodeStatus> nodeStatuses() {
+    return nodes.stream().map(Node::status).collect(Collectors.toList());
+  }
+
+  @Override
+  public void close() {
+    healthChecker.shutdownNow();
+    executor.shutdownNow();
+  }
+
+  private <R> R route(final JsonRpcRequest request, final NodeCall<R> call) throws JsonRpcClientErrorException {
+    Objects.requireNonNull(request);
+    if (PINNED_METHODS.contains(request.method())) {
+      return sendPinned(call);
+    }
+    return sendWithHedging(rank(requiredLedgers(request)), call);
+  }
+
+  private <R> R sendPinned(final NodeCall<R> call) throws JsonRpcClientErrorException {
+    final Node node = submitNode.updateAndGet(
+      current -> current != null && current.isAvailable() ? current : rank(Optional.empty()).get(0)
+    );
+    try {
+      return node.call(call);
+    } catch (RuntimeException e) {
+      // Don't resend, because the node may have relayed the transaction; pin the next submission to another node.
+      submitNode.compareAndSet(node, null);
+      throw e;
+    }
+  }
+
+  /**
+   * Send a request to the first of {@code candidates}. If it has not answered within its usual response time, also
+   * send it to the next candidate, and take whichever response arrives first. If a node fails to answer at all, or
+   * answers with an error that another node might not give (see {@link #isNodeError}), move on to the next candidate.
+   * When every thread is busy, requests are sent on the calling thread and are not hedged.
+   */
+  private <R> R sendWithHedging(final List<Node> candidates, final NodeCall<R> call)
+    throws JsonRpcClientErrorException {
+    // Both services put finished attempts on the same queue, so either can be polled for whichever finishes first.
+    final BlockingQueue<Future<R>> finished = new LinkedBlockingQueue<>();
+    final CompletionService<R> completion = new ExecutorCompletionService<>(this::executeOrRun, finished);
+    final CompletionService<R> hedging = new ExecutorCompletionService<>(executor, finished);
+    final List<Future<R>> attempts = new ArrayList<>();
+    final long hedgeDelayNanos = candidates.get(0).hedgeDelay().toNanos();
+    boolean hedged = !settings.hedgingEnabled();
+    int next = 0;
+    Exception lastFailure = null;
+
+    attempts.add(completion.submit(callable(candidates.get(next++), call)));
+    try {
+      int inFlight = 1;
+      while (inFlight > 0) {
+        final Future<R> done;
+        if (!hedged && next < candidates.size()) {
+          done = completion.poll(hedgeDelayNanos, TimeUnit.NANOSECONDS);
+          if (done == null) {
+            hedged = true;
+            try {
+              attempts.add(hedging.submit(callable(candidates.get(next), call)));
+              next++;
+              inFlight++;
+            } catch (RejectedExecutionException e) {
+              logger.debug("Not hedging a read because every thread is busy.");
+            }
+            continue;
+          }
+        } else {
+          done = completion.take();
+        }
+        inFlight--;
+
+        try {
+          return done.get();
+        } catch (ExecutionException e) {
+          if (e.getCause() instanceof JsonRpcClientErrorException) {
+            final JsonRpcClientErrorException error = (JsonRpcClientErrorException) e.getCause();
+            if (!isNodeError(error)) {
+              // The request itself was rejected, so another node would give the same answer.
+              throw error;
+            }
+            lastFailure = error;
+          } else {
+            lastFailure = e.getCause() instanceof RuntimeException ?
+              (RuntimeException) e.getCause() :
+              new IllegalStateException(e.getCause());
+          }
+          if (next < candidates.size()) {
+            attempts.add(completion.submit(callable(candidates.get(next++), call)));
+            inFlight++;
+          }
+        }
+      }
+      if (lastFailure instanceof JsonRpcClientErrorException) {
+        throw (JsonRpcClientErrorException) lastFailure;
+      }
+      throw (RuntimeException) lastFailure;
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      throw new JsonRpcClientErrorException(e);
+    } finally {
+      attempts.forEach(attempt -> attempt.cancel(true));
+    }
+  }
+
+  /**
+   * Run {@code task} on the executor, or on the calling thread if every thread of the executor is busy.
+   */
+  private void executeOrRun(final Runnable task) {
+    try {
+      executor.execute(task);
+    } catch (RejectedExecutionException e) {
+      task.run();
+    }
+  }
+
+  /**
+   * Whether {@code error} depends on the node that answered, so that another node may well succeed. A "txnNotFound"
+   * counts unless the node says it searched every ledger in the requested range, because a node with less history
+   * can't tell whether the transaction exists.
+   */
+  @VisibleForTesting
+  static boolean isNodeError(final JsonRpcClientErrorException error) {
+    return error.errorCode()
+      .map(code -> NODE_ERRORS.contains(code) || ("txnNotFound".equals(code) &&
+        !error.errorResult().map(result -> result.path("searched_all").asBoolean(false)).orElse(false)))
+      .orElse(false);
+  }
+
+  private static <R> Callable<R> callable(final Node node, final NodeCall<R> call) {
+    return () -> node.call(call);
+  }
+
+  /**
+   * Order the nodes from most to least suitable for a request that needs {@code requiredLedgers}: available nodes that
+   * are known to have the ledgers, then available nodes that have not reported their ledgers yet, then unavailable
+   * nodes, and finally nodes known not to have the ledgers. Within each group, faster nodes come first.
+   */
+  @VisibleForTesting
+  List<Node> rank(final Optional<Range<UnsignedLong>> requiredLedgers) {
+    return nodes.stream()
+      .sorted(Comparator.comparingInt((Node node) -> node.tier(requiredLedgers)).thenComparingDouble(Node::score))
+      .collect(Collectors.toList());
+  }
+
+  /**
+   * Find the ledgers a request needs from its {@code ledger_index}, or from its {@code ledger_index_min} and
+   * {@code ledger_index_max} as used by "account_tx". Requests for the validated, closed or current ledger, or for a
+   * ledger hash, can be served by any node.
+   */
+  @VisibleForTesting
+  static Optional<Range<UnsignedLong>> requiredLedgers(final JsonRpcRequest request) {
+    if (request.params().isEmpty()) {
+      return Optional.empty();
+    }
+    final JsonNode params = objectMapper.valueToTree(request.params().get(0));
+    final Optional<UnsignedLong> ledgerIndex = ledgerIndex(params.get("ledger_index"));
+    if (ledgerIndex.isPresent()) {
+      return ledgerIndex.map(Range::singleton);
+    }
+    final Optional<UnsignedLong> minimum = ledgerIndex(params.get("ledger_index_min"));
+    final Optional<UnsignedLong> maximum = ledgerIndex(params.get("ledger_index_max"));
+    if (minimum.isPresent() && maximum.isPresent() && minimum.get().compareTo(maximum.get()) <= 0) {
+      return Optional.of(Range.closed(minimum.get(), maximum.get()));
+    }
+    return Optional.empty();
+  }
+
+  /**
+   * Read a specific ledger index from a {@code ledger_index} style parameter, which rippled accepts as either a number
+   * or a string of digits. Shortcuts such as "validated" are not specific ledgers.
+   *
+   * @param value The parameter's value, or {@code null} if it was absent.
+   *
+   * @return An optionally-present {@link UnsignedLong}.
+   */
+  static Optional<UnsignedLong> ledgerIndex(final JsonNode value) {
+    if (value == null) {
+      return Optional.empty();
+    }
+    // Negative values, such as the -1 that leaves an account_tx bound open, don't name a ledger.
+    if (value.isIntegralNumber()) {
+      return value.asLong() >= 0 ? Optional.of(UnsignedLong.valueOf(value.asLong())) : Optional.empty();
+    }
+    if (value.isTextual() && !value.asText().isEmpty() && value.asText().chars().allMatch(Character::isDigit)) {
+      return Optional.of(UnsignedLong.valueOf(value.asText()));
+    }
+    return Optional.empty();
+  }
+
+  /**
+   * Makes a call on the {@link JsonRpcClient} of a node.
+   */
+  private interface NodeCall<R> {
+
+    R call(JsonRpcClient client) throws JsonRpcClientErrorException;
+  }
+
+  /**
+   * One node, and what has been learned about it from health checks and requests.
+   */
+  @VisibleForTesting
+  class Node {
+
+    private static final int LATENCY_SAMPLES = 128;
+    // The number of response times needed before hedgePercentile is trusted over initialHedgeDelay.
+    private static final int MINIMUM_HEDGE_SAMPLES = 16;
+    private static final double SMOOTHING = 0.1;
+
+    private final HttpUrl url;
+    private final JsonRpcClient client;
+    private final AtomicLong requestCount = new AtomicLong();
+
+    // Guarded by this.
+    private final long[] latencies = new long[LATENCY_SAMPLES];
+    private long responseCount;
+    private double averageLatencyNanos;
+    private double errorRate;
+
+    private volatile ServerInfo serverInfo;
+    private volatile boolean reachable = true;
+
+    Node(final HttpUrl url, final JsonRpcClient client) {
+      this(url, client, 0);
+    }
+
+    @VisibleForTesting
+    Node(final HttpUrl url, final JsonRpcClient client, final long responseCount) {
+      this.url = url;
+      this.client = client;
+      this.responseCount = responseCount;
+    }
+
+    <R> R call(final NodeCall<R> call) throws JsonRpcClientErrorException {
+      requestCount.incrementAndGet();
+      final long start = System.nanoTime();
+      try {
+        final R result = call.call(client);
+        recordResponse(System.nanoTime() - start);
+        return result;
+      } catch (JsonRpcClientErrorException e) {
+        if (isNodeError(e)) {
+          // The node answered, but can't serve the request; count it against the node without marking it unreachable.
+          recordError();
+        } else {
+          // rippled rejected the request, which says nothing bad about the node.
+          recordResponse(System.nanoTime() - start);
+        }
+        throw e;
+      } catch (RuntimeException e) {
+        recordFailure();
+        throw e;
+      }
+    }
+
+    void checkHealth() {
+      try {
+        serverInfo = call(jsonRpcClient -> jsonRpcClient.send(SERVER_INFO_REQUEST, ServerInfoResult.class)).info();
+        reachable = true;
+      } catch (JsonRpcClientErrorException | RuntimeException e) {
+        logger.warn("Health check of {} failed: {}", url, e.getMessage());
+        reachable = false;
+      }
+    }
+
+    boolean isAvailable() {
+      final boolean stateHealthy = serverState().map(HEALTHY_SERVER_STATES::contains).orElse(true);
+      synchronized (this) {
+        return reachable && stateHealthy && errorRate <= settings.maximumErrorRate();
+      }
+    }
+
+    int tier(final Optional<Range<UnsignedLong>> requiredLedgers) {
+      final Optional<Boolean> hasLedgers = requiredLedgers.map(this::hasLedgers).orElse(Optional.of(true));
+      if (!hasLedgers.orElse(true)) {
+        return 3;
+      }
+      if (!isAvailable()) {
+        return 2;
+      }
+      return hasLedgers.isPresent() ? 0 : 1;
+    }
+
+    /**
+     * Whether the node has every ledger in {@code requiredLedgers}, or empty if it has not reported its ledgers yet.
+     */
+    private Optional<Boolean> hasLedgers(final Range<UnsignedLong> requiredLedgers) {
+      return Optional.ofNullable(serverInfo)
+        .map(info -> info.completeLedgers().stream().anyMatch(range -> range.encloses(requiredLedgers)));
+    }
+
+    synchronized double score() {
+      return averageLatencyNanos * (1 + errorRate);
+    }
+
+    synchronized Duration hedgeDelay() {
+      if (responseCount < MINIMUM_HEDGE_SAMPLES) {
+        return settings.initialHedgeDelay();
+      }
+      final long[] sorted = Arrays.copyOf(latencies, (int) Math.min(responseCount, LATENCY_SAMPLES));
+      Arrays.sort(sorted);
+      final int index = (int) Math.ceil(settings.hedgePercentile() * sorted.length) - 1;
+      final Duration percentile = Duration.ofNanos(sorted[Math.max(index, 0)]);
+      return percentile.compareTo(settings.minimumHedgeDelay()) > 0 ? percentile : settings.minimumHedgeDelay();
+    }
+
+    @VisibleForTesting
+    synchronized void recordResponse(final long latencyNanos) {
+      latencies[(int) Math.floorMod(responseCount, (long) LATENCY_SAMPLES)] = latencyNanos;
+      responseCount++;
+      averageLatencyNanos = responseCount == 1 ?
+        latencyNanos :
+        averageLatencyNanos + SMOOTHING * (latencyNanos - averageLatencyNanos);
+      errorRate -= SMOOTHING * errorRate;
+    }
+
+    private synchronized void recordFailure() {
+      // Avoid the node until the next health check reaches it.
+      reachable = false;
+      recordError();
+    }
+
+    private synchronized void recordError() {
+      errorRate += SMOOTHING * (1 - errorRate);
+    }
+
+    private Optional<String> serverState() {
+      return Optional.ofNullable(serverInfo).flatMap(info -> info.map(
+        rippled -> Optional.of(rippled.serverState()),
+        clio -> Optional.<String>empty(),
+        reporting -> Optional.of(reporting.serverState())
+      ));
+    }
+
+    synchronized NodeStatus status() {
+      return NodeStatus.builder()
+        .url(url)
+        .healthy(isAvailable())
+        .serverState(serverState())
+        .completeLedgers(Optional.ofNullable(serverInfo).map(ServerInfo::completeLedgers)
+          .orElse(Collections.emptyList()))
+        .averageLatency(Duration.ofNanos((long) averageLatencyNanos))
+        .errorRate(errorRate)
+        .requestCount(requestCount.get())
+        .build();
+    }
+
+    HttpUrl url() {
+      return url;
+    }
+  }
+}
@@ -0,0 +1,134 @@
+package org.xrpl.xrpl4j.client;
+
+/*-
+ * ========================LICENSE_START=================================
+ * xrpl4j :: client
+ * %%
+ * Copyright (C) 2020 - 2022 XRPL Foundation and its contributors
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * =========================LICENSE_END==================================
+ */
+
+import com.google.common.base.Preconditions;
+import org.immutables.value.Value;
+
+import java.time.Duration;
+
+/**
+ * Settings for how a {@link MultiNodeXrplClient} checks the health of its nodes and hedges slow reads.
+ */
+@Value.Immutable
+public interface MultiNodeSettings {
+
+  /**
+   * Construct a builder for this class.
+   *
+   * @return An {@link ImmutableMultiNodeSettings.Builder}.
+   */
+  static ImmutableMultiNodeSettings.Builder builder() {
+    return ImmutableMultiNodeSettings.builder();
+  }
+
+  /**
+   * How often to send a "server_info" request to every node, to learn its server state and the ledgers it has.
+   * Defaults to 5 seconds.
+   *
+   * @return A {@link Duration}.
+   */
+  @Value.Default
+  default Duration healthCheckInterval() {
+    return Duration.ofSeconds(5);
+  }
+
+  /**
+   * Whether a read that is slower than usual should also be sent to a second node, taking whichever response arrives
+   * first. Defaults to {@code true}.
+   *
+   * @return {@code true} if slow reads are hedged, otherwise {@code false}.
+   */
+  @Value.Default
+  default boolean hedgingEnabled() {
+    return true;
+  }
+
+  /**
+   * The percentile of a node's recent response times after which a read sent to it is hedged. Defaults to 0.95, so
+   * about one in twenty reads is sent to a second node.
+   *
+   * @return A double between 0 (exclusive) and 1 (inclusive).
+   */
+  @Value.Default
+  default double hedgePercentile() {
+    return 0.95;
+  }
+
+  /**
+   * The shortest time to wait before hedging a read, however fast a node has been recently. Defaults to 20
+   * milliseconds.
+   *
+   * @return A {@link Duration}.
+   */
+  @Value.Default
+  default Duration minimumHedgeDelay() {
+    return Duration.ofMillis(20);
+  }
+
+  /**
+   * The time to wait before hedging a read sent to a node that has not yet answered enough requests to compute
+   * {@link #hedgePercentile()}. Defaults to 500 milliseconds.
+   *
+   * @return A {@link Duration}.
+   */
+  @Value.Default
+  default Duration initialHedgeDelay() {
+    return Duration.ofMillis(500);
+  }
+
+  /**
+   * The recent error rate above which a node is only used if no other node can serve a request. Defaults to 0.5.
+   *
+   * @return A double between 0 and 1.
+   */
+  @Value.Default
+  default double maximumErrorRate() {
+    return 0.5;
+  }
+
+  /**
+   * The most threads used to send requests to the nodes, and so the most requests that can be hedged at once. A request
+   * that arrives while every thread is busy is sent on the calling thread and is not hedged. Defaults to 16.
+   *
+   * @return A positive int.
+   */
+  @Value.Default
+  default int maximumThreads() {
+    return 16;
+  }
+
+  /**
+   * Validates the settings.
+   */
+  @Value.Check
+  default void check() {
+    Preconditions.checkArgument(!healthCheckInterval().isNegative() && !healthCheckInterval().isZero(),
+      "healthCheckInterval must be positive");
+    Preconditions.checkArgument(hedgePercentile() > 0 && hedgePercentile() <= 1,
+      "hedgePercentile must be greater than 0 and at most 1");
+    Preconditions.checkArgument(!minimumHedgeDelay().isNegative(), "minimumHedgeDelay must not be negative");
+    Preconditions.checkArgument(!initialHedgeDelay().isNegative(), "initialHedgeDelay must not be negative");
+    Preconditions.checkArgument(maximumErrorRate() >= 0 && maximumErrorRate() <= 1,
+      "maximumErrorRate must be between 0 and 1");
+    Preconditions.checkArgument(maximumThreads() > 0, "maximumThreads must be positive");
+  }
+}
@@ -0,0 +1,98 @@
+package org.xrpl.xrpl4j.client;
+
+/*-
+ * ========================LICENSE_START=================================
+ * xrpl4j :: client
+ * %%
+ * Copyright (C) 2020 - 2022 XRPL Foundation and its contributors
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * =========================LICENSE_END==================================
+ */
+
+import com.google.common.annotations.Beta;
+import okhttp3.HttpUrl;
+
+import java.util.List;
+
+/**
+ * <p>An {@link XrplClient} that spreads requests over several rippled or Clio nodes.</p>
+ *
+ * <p>Each node is sent a "server_info" request every {@link MultiNodeSettings#healthCheckInterval()}, to learn its
+ * server state and which ledgers it has. Requests for a specific ledger index, or range of ledgers, go to the fastest
+ * healthy node that has those ledgers; other requests go to the fastest healthy node. If a node cannot be reached, or
+ * answers with an error that depends on the node rather than the request, such as "lgrNotFound" or "tooBusy", the
+ * request is retried on the next node. If a node takes longer than its usual response time to answer a read, the read
+ * is also sent to the next node, and whichever response arrives first is used.</p>
+ *
+ * <p>Transaction submissions are always sent to the same node while it stays healthy, and are never retried or hedged
+ * on another node, because the first node may already have relayed the transaction.</p>
+ *
+ * <p>Note: This client is currently marked as {@link Beta}, and should be used as a reference implementation ONLY.</p>
+ */
+@Beta
+public class MultiNodeXrplClient extends XrplClient implements AutoCloseable {
+
+  private final LoadBalancingJsonRpcClient jsonRpcClient;
+
+  /**
+   * Construct a client for the nodes at {@code nodeUrls}, using the default {@link MultiNodeSettings}.
+   *
+   * @param nodeUrls The {@link HttpUrl}s of the rippled or Clio nodes to connect to.
+   */
+  public MultiNodeXrplClient(final List<HttpUrl> nodeUrls) {
+    this(nodeUrls, MultiNodeSettings.builder().build());
+  }
+
+  /**
+   * Construct a client for the nodes at {@code nodeUrls}.
+   *
+   * @param nodeUrls The {@link HttpUrl}s of the rippled or Clio nodes to connect to.
+   * @param settings The {@link MultiNodeSettings} to use.
+   */
+  public MultiNodeXrplClient(final List<HttpUrl> nodeUrls, final MultiNodeSettings settings) {
+    this(new LoadBalancingJsonRpcClient(nodeUrls, settings));
+  }
+
+  private MultiNodeXrplClient(final LoadBalancingJsonRpcClient jsonRpcClient) {
+    super(jsonRpcClient);
+    this.jsonRpcClient = jsonRpcClient;
+  }
+
+  /**
+   * Get what is currently known about each node, as of its last health check and the requests sent to it.
+   *
+   * @return A {@link List} of {@link NodeStatus}, in the order the node URLs were given.
+   */
+  public List<NodeStatus> nodeStatuses() {
+    return jsonRpcClient.nodeStatuses();
+  }
+
+  /**
+   * Check the health of every node now, rather than waiting for the next scheduled check.
+   *
+   * @return A {@link List} of {@link NodeStatus}, in the order the node URLs were given.
+   */
+  public List<NodeStatus> refreshNodeStatuses() {
+    jsonRpcClient.checkNodes();
+    return jsonRpcClient.nodeStatuses();
+  }
+
+  /**
+   * Stop checking the health of the nodes, and cancel any hedged requests still in flight.
+   */
+  @Override
+  public void close() {
+    jsonRpcClient.close();
+  }
+}
@@ -0,0 +1,98 @@
+package org.xrpl.xrpl4j.client;
+
+/*-
+ * ========================LICENSE_START=================================
+ * xrpl4j :: client
+ * %%
+ * Copyright (C) 2020 - 2022 XRPL Foundation and its contributors
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * =========================LICENSE_END==================================
+ */
+
+import com.google.common.collect.Range;
+import com.google.common.primitives.UnsignedLong;
+import okhttp3.HttpUrl;
+import org.immutables.value.Value;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * A snapshot of what a {@link MultiNodeXrplClient} knows about one of its nodes.
+ */
+@Value.Immutable
+public interface NodeStatus {
+
+  /**
+   * Construct a builder for this class.
+   *
+   * @return An {@link ImmutableNodeStatus.Builder}.
+   */
+  static ImmutableNodeStatus.Builder builder() {
+    return ImmutableNodeStatus.builder();
+  }
+
+  /**
+   * The URL of the node.
+   *
+   * @return An {@link HttpUrl}.
+   */
+  HttpUrl url();
+
+  /**
+   * Whether the node is used for requests ahead of unhealthy nodes. A node is healthy if its last health check
+   * succeeded, it reported a server state of {@code full}, {@code proposing} or {@code validating} (or none, as Clio
+   * servers do), and its recent error rate is acceptable.
+   *
+   * @return {@code true} if the node is healthy, otherwise {@code false}.
+   */
+  boolean healthy();
+
+  /**
+   * The server state the node reported in its last health check.
+   *
+   * @return An optionally-present {@link String}, which is empty if the node has not been checked yet or did not report
+   *   a server state.
+   */
+  Optional<String> serverState();
+
+  /**
+   * The ledgers the node reported having in its last health check.
+   *
+   * @return A {@link List} of {@link Range}s of ledger indexes, which is empty if the node has not been checked yet.
+   */
+  List<Range<UnsignedLong>> completeLedgers();
+
+  /**
+   * An exponentially weighted moving average of the node's response times.
+   *
+   * @return A {@link Duration}.
+   */
+  Duration averageLatency();
+
+  /**
+   * An exponentially weighted moving average of the share of requests to the node that failed to get a response.
+   *
+   * @return A double between 0 and 1.
+   */
+  double errorRate();
+
+  /**
+   * The number of requests sent to the node, including health checks.
+   *
+   * @return A long.
+   */
+  long requestCount();
+}
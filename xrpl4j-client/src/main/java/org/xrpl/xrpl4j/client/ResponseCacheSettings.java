@@ -0,0 +1,75 @@
+package org.xrpl.xrpl4j.client;
+
+/*-
+ * ========================LICENSE_START=================================
+ * xrpl4j :: client
+ * %%
+ * Copyright (C) 2020 - 2022 XRPL Foundation and its contributors
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * =========================LICENSE_END==================================
+ */
+
+import com.google.common.base.Preconditions;
+import org.immutables.value.Value;
+
+import java.util.Optional;
+
+/**
+ * Settings for how many responses a {@link CachingXrplClient} holds.
+ */
+@Value.Immutable
+public interface ResponseCacheSettings {
+
+  /**
+   * The maximum weight used when neither {@link #maximumSize()} nor {@link #maximumWeight()} is set: 64 MiB.
+   */
+  long DEFAULT_MAXIMUM_WEIGHT = 64L * 1024 * 1024;
+
+  /**
+   * Construct a builder for this class.
+   *
+   * @return An {@link ImmutableResponseCacheSettings.Builder}.
+   */
+  static ImmutableResponseCacheSettings.Builder builder() {
+    return ImmutableResponseCacheSettings.builder();
+  }
+
+  /**
+   * The maximum number of responses to hold, regardless of their size. Cannot be combined with
+   * {@link #maximumWeight()}.
+   *
+   * @return An optionally-present long.
+   */
+  Optional<Long> maximumSize();
+
+  /**
+   * The maximum total weight of the responses to hold, where each response weighs roughly as many bytes as its
+   * request and result take up as JSON. Cannot be combined with {@link #maximumSize()}. If neither is set, the cache is
+   * bounded by a weight of {@link #DEFAULT_MAXIMUM_WEIGHT}.
+   *
+   * @return An optionally-present long.
+   */
+  Optional<Long> maximumWeight();
+
+  /**
+   * Validates the settings.
+   */
+  @Value.Check
+  default void check() {
+    Preconditions.checkArgument(!(maximumSize().isPresent() && maximumWeight().isPresent()),
+      "only one of maximumSize and maximumWeight may be set");
+    Preconditions.checkArgument(maximumSize().orElse(0L) >= 0, "maximumSize must not be negative");
+    Preconditions.checkArgument(maximumWeight().orElse(0L) >= 0, "maximumWeight must not be negative");
+  }
+}
@@ -0,0 +1,61 @@
+package org.xrpl.xrpl4j.client;
+
+/*-
+ * ========================LICENSE_START=================================
+ * xrpl4j :: client
+ * %%
+ * Copyright (C) 2020 - 2022 XRPL Foundation and its contributors
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * =========================LICENSE_END==================================
+ */
+
+import org.xrpl.xrpl4j.model.client.subscriptions.LedgerClosedMessage;
+import org.xrpl.xrpl4j.model.client.transactions.TransactionResult;
+import org.xrpl.xrpl4j.model.transactions.Transaction;
+
+/**
+ * Receives the stream messages of the subscriptions made with an {@link XrplWebSocketClient}. Every method has an
+ * empty default implementation, so implementations only need to override the callbacks for the streams they use.
+ *
+ * <p>Callbacks are invoked one at a time, on the thread that reads from the WebSocket, so implementations should
+ * return quickly and hand any heavy work off to another thread.</p>
+ */
+public interface StreamListener {
+
+  /**
+   * Called when the server closes a ledger, and for every ledger that closed while the client was reconnecting.
+   *
+   * @param ledgerClosed The {@link LedgerClosedMessage} describing the closed ledger.
+   */
+  default void onLedgerClosed(final LedgerClosedMessage ledgerClosed) {
+  }
+
+  /**
+   * Called for every transaction message of the {@code transactions}, {@code transactions_proposed},
+   * {@code accounts} and {@code books} streams, and for every validated transaction affecting a subscribed account
+   * that was missed while the client was reconnecting.
+   *
+   * @param transaction A {@link TransactionResult} containing the transaction, and its metadata if it was validated.
+   */
+  default void onTransaction(final TransactionResult<Transaction> transaction) {
+  }
+
+  /**
+   * Called when the connection is lost, or when a stream message could not be handled.
+   *
+   * @param error The {@link Throwable} describing the problem.
+   */
+  default void onError(final Throwable error) {
+  }
+}
@@ -24,7 +24,6 @@ import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.JavaType;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.google.common.annotations.Beta;
-import com.google.common.annotations.VisibleForTesting;
 import com.google.common.collect.Range;
 import com.google.common.primitives.UnsignedInteger;
 import com.google.common.primitives.UnsignedLong;
@@ -32,7 +31,6 @@ import okhttp3.HttpUrl;
 import org.immutables.value.Value;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
-import org.xrpl.xrpl4j.codec.binary.XrplBinaryCodec;
 import org.xrpl.xrpl4j.crypto.signing.MultiSignedTransaction;
 import org.xrpl.xrpl4j.crypto.signing.SingleSignedTransaction;
 import org.xrpl.xrpl4j.model.client.Finality;
@@ -129,7 +127,6 @@ public class XrplClient {
   private static final Logger LOGGER = LoggerFactory.getLogger(XrplClient.class);
 
   private final ObjectMapper objectMapper;
-  private final XrplBinaryCodec binaryCodec;
   private final JsonRpcClient jsonRpcClient;
 
   /**
@@ -142,15 +139,14 @@ public class XrplClient {
   }
 
   /**
-   * Required-args constructor (exists for testing purposes only).
+   * Construct a client that sends every request through {@code jsonRpcClient}. Subclasses use this to route or cache
+   * requests, as {@link MultiNodeXrplClient} and {@link CachingXrplClient} do.
    *
    * @param jsonRpcClient A {@link JsonRpcClient}.
    */
-  @VisibleForTesting
-  XrplClient(final JsonRpcClient jsonRpcClient) {
+  protected XrplClient(final JsonRpcClient jsonRpcClient) {
     this.jsonRpcClient = Objects.requireNonNull(jsonRpcClient);
     this.objectMapper = ObjectMapperFactory.create();
-    this.binaryCodec = XrplBinaryCodec.getInstance();
   }
 
   /**
@@ -172,8 +168,9 @@ public class XrplClient {
       LOGGER.debug("About to submit signedTransaction: {}", signedTransaction);
     }
 
-    String signedJson = objectMapper.writeValueAsString(signedTransaction.signedTransaction());
-    String signedBlob = binaryCodec.encode(signedJson); // <-- txBlob must be binary-encoded.
+    // txBlob must be binary-encoded. The signed transaction encodes itself at most once, so this reuses any encoding
+    // that was already done to compute its hash.
+    String signedBlob = signedTransaction.signedTransactionBytes().hexValue();
     JsonRpcRequest request = JsonRpcRequest.builder()
       .method(XrplMethods.SUBMIT)
       .addParams(SubmitRequestParams.of(signedBlob))
@@ -0,0 +1,793 @@
+package org.xrpl.xrpl4j.client;
+
+/*-
+ * ========================LICENSE_START=================================
+ * xrpl4j :: client
+ * %%
+ * Copyright (C) 2020 - 2022 XRPL Foundation and its contributors
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * =========================LICENSE_END==================================
+ */
+
+import com.fasterxml.jackson.databind.JavaType;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import com.google.common.annotations.Beta;
+import com.google.common.annotations.VisibleForTesting;
+import com.google.common.primitives.UnsignedInteger;
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
+import okhttp3.OkHttpClient;
+import okhttp3.Request;
+import okhttp3.Response;
+import okhttp3.WebSocket;
+import okhttp3.WebSocketListener;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.xrpl.xrpl4j.model.client.XrplMethods;
+import org.xrpl.xrpl4j.model.client.XrplRequestParams;
+import org.xrpl.xrpl4j.model.client.XrplResult;
+import org.xrpl.xrpl4j.model.client.accounts.AccountInfoRequestParams;
+import org.xrpl.xrpl4j.model.client.accounts.AccountInfoResult;
+import org.xrpl.xrpl4j.model.client.accounts.AccountTransactionsRequestParams;
+import org.xrpl.xrpl4j.model.client.accounts.AccountTransactionsResult;
+import org.xrpl.xrpl4j.model.client.accounts.AccountTransactionsTransaction;
+import org.xrpl.xrpl4j.model.client.accounts.AccountTransactionsTransactionResult;
+import org.xrpl.xrpl4j.model.client.common.LedgerIndex;
+import org.xrpl.xrpl4j.model.client.common.LedgerIndexBound;
+import org.xrpl.xrpl4j.model.client.common.LedgerSpecifier;
+import org.xrpl.xrpl4j.model.client.fees.FeeResult;
+import org.xrpl.xrpl4j.model.client.ledger.LedgerRequestParams;
+import org.xrpl.xrpl4j.model.client.ledger.LedgerResult;
+import org.xrpl.xrpl4j.model.client.serverinfo.ServerInfoResult;
+import org.xrpl.xrpl4j.model.client.subscriptions.LedgerClosedMessage;
+import org.xrpl.xrpl4j.model.client.subscriptions.OrderBook;
+import org.xrpl.xrpl4j.model.client.subscriptions.StreamType;
+import org.xrpl.xrpl4j.model.client.subscriptions.SubscribeRequestParams;
+import org.xrpl.xrpl4j.model.client.transactions.TransactionResult;
+import org.xrpl.xrpl4j.model.jackson.ObjectMapperFactory;
+import org.xrpl.xrpl4j.model.ledger.LedgerHeader;
+import org.xrpl.xrpl4j.model.transactions.Address;
+import org.xrpl.xrpl4j.model.transactions.Marker;
+import org.xrpl.xrpl4j.model.transactions.Transaction;
+
+import java.io.IOException;
+import java.net.URI;
+import java.time.Duration;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Queue;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Collectors;
+import java.util.stream.LongStream;
+
+/**
+ * <p>A client that talks to rippled over a single WebSocket connection. Besides request/response calls, which are
+ * multiplexed over the connection by their {@code id}, this client supports the "subscribe" and "unsubscribe"
+ * methods for the {@code ledger}, {@code transactions}, {@code transactions_proposed}, {@code accounts} and
+ * {@code books} streams, and delivers stream messages to a {@link StreamListener}. This avoids polling the "ledger" and
+ * "account_tx" methods to detect activity.</p>
+ *
+ * <p>If the connection is lost, the client reconnects with an exponential backoff, resubscribes to every stream it was
+ * subscribed to, and backfills what was missed in the meantime: every ledger that closed (up to
+ * {@link #MAX_BACKFILL_LEDGERS}) is delivered from the "ledger" method, and every validated transaction affecting a
+ * subscribed account is delivered from the "account_tx" method. Stream messages that arrive during the backfill are
+ * held back until it completes, and messages that were already delivered are not delivered twice. Transactions that
+ * only match the {@code transactions} or {@code books} streams are not backfilled.</p>
+ *
+ * <p>Note: This client is currently marked as {@link Beta}, and should be used as a reference implementation ONLY.</p>
+ */
+@Beta
+public class XrplWebSocketClient implements AutoCloseable {
+
+  /**
+   * The maximum number of ledgers that are backfilled after reconnecting. If more ledgers than this closed while the
+   * client was disconnected, only the most recent ones are delivered.
+   */
+  public static final int MAX_BACKFILL_LEDGERS = 256;
+
+  /**
+   * The delay before the first reconnection attempt. The delay doubles after every failed attempt, up to
+   * {@link #MAX_RECONNECT_DELAY}.
+   */
+  public static final Duration INITIAL_RECONNECT_DELAY = Duration.ofSeconds(1);
+
+  /**
+   * The maximum delay between two reconnection attempts.
+   */
+  public static final Duration MAX_RECONNECT_DELAY = Duration.ofSeconds(30);
+
+  private static final Logger LOGGER = LoggerFactory.getLogger(XrplWebSocketClient.class);
+
+  private static final int NORMAL_CLOSURE_STATUS = 1000;
+
+  // How many validated transaction hashes to remember, so that backfilled transactions aren't delivered twice.
+  private static final int RECENT_TRANSACTIONS_CAPACITY = 4096;
+
+  private static final ScheduledExecutorService RECONNECT_SCHEDULER = Executors.newSingleThreadScheduledExecutor(
+    new ThreadFactoryBuilder().setNameFormat("xrpl4j-websocket-reconnect-%d").setDaemon(true).build()
+  );
+
+  private final Request handshakeRequest;
+  private final StreamListener listener;
+  private final OkHttpClient okHttpClient;
+  private final ObjectMapper objectMapper;
+  private final JavaType transactionResultType;
+  private final Duration initialReconnectDelay;
+
+  private final AtomicLong nextRequestId = new AtomicLong();
+  private final ConcurrentMap<Long, CompletableFuture<JsonNode>> pendingRequests = new ConcurrentHashMap<>();
+
+  private final Set<StreamType> streams = ConcurrentHashMap.newKeySet();
+  private final Set<Address> accounts = ConcurrentHashMap.newKeySet();
+  private final Set<OrderBook> books = ConcurrentHashMap.newKeySet();
+
+  // Guards the delivery state below, so that stream messages are delivered one at a time and in order.
+  private final Object deliveryLock = new Object();
+  private final Queue<JsonNode> heldMessages = new ArrayDeque<>();
+  private final Set<String> recentTransactions = Collections.newSetFromMap(
+    new LinkedHashMap<String, Boolean>() {
+      @Override
+      protected boolean removeEldestEntry(final Map.Entry<String, Boolean> eldest) {
+        return size() > RECENT_TRANSACTIONS_CAPACITY;
+      }
+    }
+  );
+  private boolean holdMessages;
+  // The index of the last ledger delivered to onLedgerClosed, or the ledger current when subscribing.
+  private long lastLedgerClosedIndex = -1;
+  // The lowest ledger index from which account transactions may have been missed when the connection is lost.
+  private long accountsBaselineIndex = -1;
+
+  // Replaced, along with webSocket, when the opening handshake fails, so that connect() can try again.
+  private volatile CompletableFuture<Void> connected = new CompletableFuture<>();
+  private volatile WebSocket webSocket;
+  private volatile boolean closed;
+  private volatile Duration reconnectDelay;
+
+  /**
+   * Construct a client for the rippled node at {@code serverUri}.
+   *
+   * @param serverUri The {@link URI} of the WebSocket endpoint of the rippled node, such as
+   *                  {@code wss://s1.ripple.com:443}.
+   * @param listener  The {@link StreamListener} to deliver stream messages to.
+   */
+  public XrplWebSocketClient(final URI serverUri, final StreamListener listener) {
+    this(serverUri, listener, new OkHttpClient());
+  }
+
+  /**
+   * Construct a client for the rippled node at {@code serverUri} that connects with {@code okHttpClient}.
+   *
+   * @param serverUri    The {@link URI} of the WebSocket endpoint of the rippled node, such as
+   *                     {@code wss://s1.ripple.com:443}.
+   * @param listener     The {@link StreamListener} to deliver stream messages to.
+   * @param okHttpClient The {@link OkHttpClient} to open WebSocket connections with.
+   */
+  public XrplWebSocketClient(final URI serverUri, final StreamListener listener, final OkHttpClient okHttpClient) {
+    this(serverUri, listener, okHttpClient, INITIAL_RECONNECT_DELAY);
+  }
+
+  @VisibleForTesting
+  XrplWebSocketClient(
+    final URI serverUri,
+    final StreamListener listener,
+    final OkHttpClient okHttpClient,
+    final Duration initialReconnectDelay
+  ) {
+    this.handshakeRequest = new Request.Builder().url(Objects.requireNonNull(serverUri).toString()).build();
+    this.listener = Objects.requireNonNull(listener);
+    this.okHttpClient = Objects.requireNonNull(okHttpClient);
+    this.initialReconnectDelay = Objects.requireNonNull(initialReconnectDelay);
+    this.reconnectDelay = initialReconnectDelay;
+    this.objectMapper = ObjectMapperFactory.create();
+    this.transactionResultType = objectMapper.getTypeFactory()
+      .constructParametricType(TransactionResult.class, Transaction.class);
+  }
+
+  /**
+   * Open the WebSocket connection. This must be called, and the returned future must complete, before any request can
+   * be sent. If the connection could not be opened, calling this method again makes a new attempt; otherwise, calling
+   * it again has no further effect.
+   *
+   * @return A {@link CompletableFuture} that completes when the connection is open, or completes exceptionally with a
+   *   {@link JsonRpcClientErrorException} if it could not be opened.
+   */
+  public synchronized CompletableFuture<Void> connect() {
+    if (webSocket == null && !closed) {
+      webSocket = okHttpClient.newWebSocket(handshakeRequest, new ConnectionListener(false));
+    }
+    return connected;
+  }
+
+  /**
+   * Send a given request to rippled over the WebSocket connection.
+   *
+   * @param request    The {@link JsonRpcRequest} to send to the server.
+   * @param resultType The type of {@link XrplResult} that should be returned.
+   * @param <T>        The extension of {@link XrplResult} corresponding to the request method.
+   *
+   * @return A {@link CompletableFuture} of the {@link T} representing the result of the request, which completes
+   *   exceptionally with a {@link JsonRpcClientErrorException} if rippled returns an error message, if the response
+   *   could not be deserialized, or if the connection is lost before the response arrives.
+   */
+  public <T extends XrplResult> CompletableFuture<T> send(final JsonRpcRequest request, final Class<T> resultType) {
+    Objects.requireNonNull(resultType);
+    return send(request, objectMapper.constructType(resultType));
+  }
+
+  /**
+   * Send a given request to rippled over the WebSocket connection. Unlike {@link #send(JsonRpcRequest, Class)}, this
+   * override requires a {@link JavaType} as the resultType, which can be useful when expecting a {@link XrplResult}
+   * with type parameters.
+   *
+   * @param request    The {@link JsonRpcRequest} to send to the server.
+   * @param resultType The type of {@link XrplResult} that should be returned, converted to a {@link JavaType}.
+   * @param <T>        The extension of {@link XrplResult} corresponding to the request method.
+   *
+   * @return A {@link CompletableFuture} of the {@link T} representing the result of the request, which completes
+   *   exceptionally with a {@link JsonRpcClientErrorException} if rippled returns an error message, if the response
+   *   could not be deserialized, or if the connection is lost before the response arrives.
+   */
+  public <T extends XrplResult> CompletableFuture<T> send(final JsonRpcRequest request, final JavaType resultType) {
+    Objects.requireNonNull(resultType);
+    return sendCommand(request).thenApply(result -> {
+      try {
+        return objectMapper.<T>readValue(objectMapper.treeAsTokens(result), resultType);
+      } catch (IOException e) {
+        throw new CompletionException(new JsonRpcClientErrorException(e));
+      }
+    });
+  }
+
+  /**
+   * Subscribe to the streams in {@code params}. The subscription is renewed whenever the client reconnects.
+   *
+   * @param params The {@link SubscribeRequestParams} describing the streams to subscribe to.
+   *
+   * @return A {@link CompletableFuture} that completes when rippled has accepted the subscription.
+   * @see "https://xrpl.org/subscribe.html"
+   */
+  public CompletableFuture<Void> subscribe(final SubscribeRequestParams params) {
+    Objects.requireNonNull(params);
+    return sendCommand(request(XrplMethods.SUBSCRIBE, params))
+      .thenCompose(result -> {
+        streams.addAll(params.streams());
+        accounts.addAll(params.accounts());
+        books.addAll(params.books());
+        return updateBaselines(result, !params.accounts().isEmpty());
+      });
+  }
+
+  /**
+   * Unsubscribe from the streams in {@code params}.
+   *
+   * @param params The {@link SubscribeRequestParams} describing the streams to unsubscribe from.
+   *
+   * @return A {@link CompletableFuture} that completes when rippled has removed the subscription.
+   * @see "https://xrpl.org/unsubscribe.html"
+   */
+  public CompletableFuture<Void> unsubscribe(final SubscribeRequestParams params) {
+    Objects.requireNonNull(params);
+    streams.removeAll(params.streams());
+    accounts.removeAll(params.accounts());
+    books.removeAll(params.books());
+    return sendCommand(request(XrplMethods.UNSUBSCRIBE, params)).thenApply($ -> null);
+  }
+
+  /**
+   * Get the "server_info" for the rippled node.
+   *
+   * @return A {@link CompletableFuture} of a {@link ServerInfoResult} containing information about the server.
+   * @see "https://xrpl.org/server_info.html"
+   */
+  public CompletableFuture<ServerInfoResult> serverInformation() {
+    return send(JsonRpcRequest.builder().method(XrplMethods.SERVER_INFO).build(), ServerInfoResult.class);
+  }
+
+  /**
+   * Get the current state of the open-ledger requirements for the transaction cost.
+   *
+   * @return A {@link CompletableFuture} of a {@link FeeResult} containing information about current transaction costs.
+   * @see "https://xrpl.org/fee.html"
+   */
+  public CompletableFuture<FeeResult> fee() {
+    return send(JsonRpcRequest.builder().method(XrplMethods.FEE).build(), FeeResult.class);
+  }
+
+  /**
+   * Get the {@link AccountInfoResult} for the account specified in {@code params} by making an account_info method
+   * call.
+   *
+   * @param params The {@link AccountInfoRequestParams} to send in the request.
+   *
+   * @return A {@link CompletableFuture} of the {@link AccountInfoResult}.
+   */
+  public CompletableFuture<AccountInfoResult> accountInfo(final AccountInfoRequestParams params) {
+    return send(request(XrplMethods.ACCOUNT_INFO, params), AccountInfoResult.class);
+  }
+
+  /**
+   * Get the {@link AccountTransactionsResult} for the account specified in {@code params} by making an account_tx
+   * method call.
+   *
+   * @param params The {@link AccountTransactionsRequestParams} to send in the request.
+   *
+   * @return A {@link CompletableFuture} of the {@link AccountTransactionsResult}.
+   */
+  public CompletableFuture<AccountTransactionsResult> accountTransactions(
+    final AccountTransactionsRequestParams params
+  ) {
+    return send(request(XrplMethods.ACCOUNT_TX, params), AccountTransactionsResult.class);
+  }
+
+  /**
+   * Get the contents of a ledger by sending a ledger method request.
+   *
+   * @param params The {@link LedgerRequestParams} to send in the request.
+   *
+   * @return A {@link CompletableFuture} of a {@link LedgerResult} containing the ledger details.
+   */
+  public CompletableFuture<LedgerResult> ledger(final LedgerRequestParams params) {
+    return send(request(XrplMethods.LEDGER, params), LedgerResult.class);
+  }
+
+  /**
+   * Close the WebSocket connection. Requests that are still waiting for a response complete exceptionally, and the
+   * client does not reconnect.
+   */
+  @Override
+  public void close() {
+    closed = true;
+    final WebSocket current;
+    final CompletableFuture<Void> connecting;
+    synchronized (this) {
+      current = webSocket;
+      connecting = connected;
+    }
+    if (current != null) {
+      current.close(NORMAL_CLOSURE_STATUS, null);
+    }
+    connecting.completeExceptionally(new JsonRpcClientErrorException("The client was closed."));
+    failPendingRequests(new JsonRpcClientErrorException("The client was closed."));
+  }
+
+  private CompletableFuture<JsonNode> sendCommand(final JsonRpcRequest request) {
+    Objects.requireNonNull(request);
+    final CompletableFuture<JsonNode> future = new CompletableFuture<>();
+    final WebSocket current = webSocket;
+    if (current == null || closed) {
+      future.completeExceptionally(new JsonRpcClientErrorException("The client is not connected."));
+      return future;
+    }
+
+    // rippled's WebSocket API takes the request parameters at the top level, next to the command and id.
+    final ObjectNode command = request.params().isEmpty() ?
+      objectMapper.createObjectNode() :
+      objectMapper.valueToTree(request.params().get(0));
+    final long id = nextRequestId.incrementAndGet();
+    command.put("id", id);
+    command.put("command", request.method());
+
+    pendingRequests.put(id, future);
+    final boolean enqueued;
+    try {
+      enqueued = current.send(objectMapper.writeValueAsString(command));
+    } catch (IOException e) {
+      pendingRequests.remove(id);
+      future.completeExceptionally(new JsonRpcClientErrorException(e));
+      return future;
+    }
+    if (!enqueued) {
+      pendingRequests.remove(id);
+      future.completeExceptionally(new JsonRpcClientErrorException("The connection is closing."));
+    }
+    return future;
+  }
+
+  private void handleMessage(final String text) {
+    final JsonNode message;
+    try {
+      message = objectMapper.readTree(text);
+    } catch (IOException e) {
+      listener.onError(new JsonRpcClientErrorException(e));
+      return;
+    }
+
+    if (message.has("id") && "response".equals(message.path("type").asText())) {
+      handleResponse(message);
+      return;
+    }
+
+    synchronized (deliveryLock) {
+      if (holdMessages) {
+        heldMessages.add(message);
+      } else {
+        deliver(message);
+      }
+    }
+  }
+
+  private void handleResponse(final JsonNode response) {
+    final CompletableFuture<JsonNode> future = pendingRequests.remove(response.get("id").asLong());
+    if (future == null) {
+      LOGGER.debug("Ignoring response to unknown request {}", response.get("id"));
+      return;
+    }
+    final JsonNode result = response.path("result");
+    final JsonNode error = "error".equals(response.path("status").asText()) ? response : result;
+    if (error.has("error")) {
+      future.completeExceptionally(new JsonRpcClientErrorException(
+        Optional.ofNullable(error.get("error_exception"))
+          .map(JsonNode::asText)
+          .orElseGet(() -> error.path("error_message").asText(error.get("error").asText()))
+      ));
+    } else if (result.isMissingNode()) {
+      future.completeExceptionally(new JsonRpcClientErrorException("Response did not contain a result."));
+    } else {
+      future.complete(result);
+    }
+  }
+
+  /**
+   * Deliver a stream message to the listener. Must be called while holding {@link #deliveryLock}.
+   */
+  private void deliver(final JsonNode message) {
+    try {
+      switch (message.path("type").asText()) {
+        case "ledgerClosed":
+          deliverLedgerClosed(objectMapper.treeToValue(message, LedgerClosedMessage.class));
+          break;
+        case "transaction":
+          deliverTransaction(toTransactionResult(message));
+          break;
+        default:
+          LOGGER.debug("Ignoring stream message of type {}", message.path("type").asText());
+      }
+    } catch (IOException | RuntimeException e) {
+      listener.onError(e);
+    }
+  }
+
+  private void deliverLedgerClosed(final LedgerClosedMessage ledgerClosed) {
+    final long index = ledgerClosed.ledgerIndex().unsignedIntegerValue().longValue();
+    if (index <= lastLedgerClosedIndex) {
+      return;
+    }
+    lastLedgerClosedIndex = index;
+    accountsBaselineIndex = Math.max(accountsBaselineIndex, index);
+    listener.onLedgerClosed(ledgerClosed);
+  }
+
+  private void deliverTransaction(final TransactionResult<Transaction> transaction) {
+    // Only validated transactions are de-duplicated, because transactions_proposed delivers a transaction once when
+    // it is proposed and again when it is validated.
+    if (transaction.validated()) {
+      if (!recentTransactions.add(transaction.hash().value())) {
+        return;
+      }
+      transaction.ledgerIndex().ifPresent(ledgerIndex -> accountsBaselineIndex = Math.max(
+        accountsBaselineIndex, ledgerIndex.unsignedIntegerValue().longValue()
+      ));
+    }
+    listener.onTransaction(transaction);
+  }
+
+  private TransactionResult<Transaction> toTransactionResult(final JsonNode message) throws IOException {
+    // Stream messages carry the metadata and ledger index next to the transaction rather than inside it, so move them
+    // into the transaction to give it the shape of a "tx" result.
+    final ObjectNode transaction = message.path("transaction").deepCopy();
+    Optional.ofNullable(message.get("meta")).ifPresent(meta -> transaction.set("meta", meta));
+    Optional.ofNullable(message.get("ledger_index")).ifPresent(index -> transaction.set("ledger_index", index));
+    transaction.put("validated", message.path("validated").asBoolean(false));
+    // Several of our deserializers expect an ObjectMapper codec, so this can't go through an ObjectReader.
+    return objectMapper.readValue(objectMapper.treeAsTokens(transaction), transactionResultType);
+  }
+
+  private TransactionResult<Transaction> toTransactionResult(
+    final AccountTransactionsTransactionResult<? extends Transaction> result
+  ) {
+    final AccountTransactionsTransaction<? extends Transaction> transaction = result.resultTransaction();
+    return TransactionResult.<Transaction>builder()
+      .transaction(transaction.transaction())
+      .hash(transaction.hash())
+      .ledgerIndex(transaction.ledgerIndex())
+      .closeDate(transaction.closeDate())
+      .metadata(result.metadata())
+      .validated(result.validated())
+      .build();
+  }
+
+  /**
+   * Record the ledger from which messages could be missed, from a subscribe response or else from the last validated
+   * ledger.
+   */
+  private CompletableFuture<Void> updateBaselines(final JsonNode subscribeResult, final boolean needsAccountsBaseline) {
+    if (subscribeResult.has("ledger_index")) {
+      final long index = subscribeResult.get("ledger_index").asLong();
+      synchronized (deliveryLock) {
+        lastLedgerClosedIndex = Math.max(lastLedgerClosedIndex, index);
+        accountsBaselineIndex = Math.max(accountsBaselineIndex, index);
+      }
+      return CompletableFuture.completedFuture(null);
+    }
+    final boolean baselineKnown;
+    synchronized (deliveryLock) {
+      baselineKnown = accountsBaselineIndex >= 0;
+    }
+    if (!needsAccountsBaseline || baselineKnown) {
+      return CompletableFuture.completedFuture(null);
+    }
+    return validatedLedgerIndex().thenAccept(index -> {
+      synchronized (deliveryLock) {
+        accountsBaselineIndex = Math.max(accountsBaselineIndex, index);
+      }
+    });
+  }
+
+  private CompletableFuture<Long> validatedLedgerIndex() {
+    return ledger(LedgerRequestParams.builder().ledgerSpecifier(LedgerSpecifier.VALIDATED).build())
+      .thenApply(result -> result.ledgerIndexSafe().unsignedIntegerValue().longValue());
+  }
+
+  private void handleDisconnect(final WebSocket socket, final Throwable cause) {
+    final boolean wasOpen;
+    final CompletableFuture<Void> connecting;
+    synchronized (this) {
+      if (socket != webSocket) {
+        return;
+      }
+      connecting = connected;
+      wasOpen = connecting.isDone();
+      if (!wasOpen && !closed) {
+        // The opening handshake failed, so let the next call to connect() start over.
+        webSocket = null;
+        connected = new CompletableFuture<>();
+      }
+    }
+    final JsonRpcClientErrorException error = cause == null ?
+      new JsonRpcClientErrorException("The connection was closed by the server.") :
+      new JsonRpcClientErrorException(cause);
+    failPendingRequests(error);
+    if (closed) {
+      return;
+    }
+    if (!wasOpen) {
+      connecting.completeExceptionally(error);
+      return;
+    }
+
+    synchronized (deliveryLock) {
+      holdMessages = true;
+    }
+    listener.onError(error);
+    final Duration delay = reconnectDelay;
+    reconnectDelay = delay.multipliedBy(2).compareTo(MAX_RECONNECT_DELAY) > 0 ? MAX_RECONNECT_DELAY :
+      delay.multipliedBy(2);
+    LOGGER.warn("Lost connection to {}; reconnecting in {}", handshakeRequest.url(), delay);
+    RECONNECT_SCHEDULER.schedule(this::reconnect, delay.toMillis(), TimeUnit.MILLISECONDS);
+  }
+
+  private synchronized void reconnect() {
+    if (!closed) {
+      webSocket = okHttpClient.newWebSocket(handshakeRequest, new ConnectionListener(true));
+    }
+  }
+
+  private void failPendingRequests(final JsonRpcClientErrorException error) {
+    for (Long id : new ArrayList<>(pendingRequests.keySet())) {
+      Optional.ofNullable(pendingRequests.remove(id)).ifPresent(future -> future.completeExceptionally(error));
+    }
+  }
+
+  /**
+   * Resubscribe to every stream after reconnecting, deliver what was missed while disconnected, and then release the
+   * stream messages that were held back in the meantime.
+   */
+  private void recover() {
+    final SubscribeRequestParams subscription = SubscribeRequestParams.builder()
+      .streams(streams)
+      .accounts(accounts)
+      .books(books)
+      .build();
+    final CompletableFuture<Void> resubscribed = subscription.streams().isEmpty() &&
+      subscription.accounts().isEmpty() && subscription.books().isEmpty() ?
+      CompletableFuture.completedFuture(null) :
+      sendCommand(request(XrplMethods.SUBSCRIBE, subscription)).thenApply($ -> null);
+
+    // Backfilling ledgers advances the accounts baseline, so it is read first.
+    final long accountsBaseline;
+    synchronized (deliveryLock) {
+      accountsBaseline = accountsBaselineIndex;
+    }
+
+    resubscribed
+      .thenCompose($ -> validatedLedgerIndex())
+      .thenCompose(validatedIndex -> backfillLedgers(validatedIndex)
+        .thenCompose($ -> backfillAccountTransactions(subscription.accounts(), accountsBaseline, validatedIndex)))
+      .whenComplete(($, error) -> {
+        if (error != null) {
+          LOGGER.warn("Could not backfill stream messages after reconnecting", error);
+          listener.onError(error instanceof CompletionException ? error.getCause() : error);
+        } else {
+          reconnectDelay = initialReconnectDelay;
+        }
+        synchronized (deliveryLock) {
+          holdMessages = false;
+          while (!heldMessages.isEmpty()) {
+            deliver(heldMessages.poll());
+          }
+        }
+      });
+  }
+
+  private CompletableFuture<Void> backfillLedgers(final long validatedIndex) {
+    final long lastDelivered;
+    synchronized (deliveryLock) {
+      lastDelivered = lastLedgerClosedIndex;
+    }
+    if (!streams.contains(StreamType.LEDGER) || lastDelivered < 0 || lastDelivered >= validatedIndex) {
+      return CompletableFuture.completedFuture(null);
+    }
+
+    // Request the missed ledgers concurrently, but deliver them in order.
+    final long firstIndex = Math.max(lastDelivered + 1, validatedIndex - MAX_BACKFILL_LEDGERS + 1);
+    final List<CompletableFuture<LedgerResult>> ledgers = LongStream.rangeClosed(firstIndex, validatedIndex)
+      .mapToObj(index -> ledger(LedgerRequestParams.builder()
+        .ledgerSpecifier(LedgerSpecifier.of(LedgerIndex.of(UnsignedInteger.valueOf(index))))
+        .build()))
+      .collect(Collectors.toList());
+    return CompletableFuture.allOf(ledgers.toArray(new CompletableFuture[0]))
+      .thenRun(() -> {
+        synchronized (deliveryLock) {
+          ledgers.forEach(ledger -> deliverLedgerClosed(toLedgerClosedMessage(ledger.join().ledger())));
+        }
+      });
+  }
+
+  private LedgerClosedMessage toLedgerClosedMessage(final LedgerHeader ledger) {
+    return LedgerClosedMessage.builder()
+      .ledgerHash(ledger.ledgerHash()
+        .orElseThrow(() -> new IllegalStateException("Ledger did not contain a ledger_hash.")))
+      .ledgerIndex(ledger.ledgerIndex())
+      .ledgerTime(ledger.closeTime()
+        .orElseThrow(() -> new IllegalStateException("Ledger did not contain a close_time.")))
+      .build();
+  }
+
+  private CompletableFuture<Void> backfillAccountTransactions(
+    final List<Address> addresses,
+    final long baselineIndex,
+    final long validatedIndex
+  ) {
+    if (addresses.isEmpty() || baselineIndex < 0 || baselineIndex > validatedIndex) {
+      return CompletableFuture.completedFuture(null);
+    }
+
+    // The baseline ledger may have been only partly delivered, so it is included and duplicates are dropped.
+    final List<CompletableFuture<List<TransactionResult<Transaction>>>> transactions = addresses.stream()
+      .map(address -> accountTransactionsSince(address, baselineIndex, validatedIndex, Optional.empty(),
+        new ArrayList<>()))
+      .collect(Collectors.toList());
+    return CompletableFuture.allOf(transactions.toArray(new CompletableFuture[0]))
+      .thenRun(() -> {
+        final List<TransactionResult<Transaction>> missed = transactions.stream()
+          .flatMap(future -> future.join().stream())
+          .sorted(Comparator
+            .comparing((TransactionResult<Transaction> transaction) -> transaction.ledgerIndexSafe()
+              .unsignedIntegerValue())
+            .thenComparing(transaction -> transaction.metadata()
+              .map(metadata -> metadata.transactionIndex())
+              .orElse(UnsignedInteger.ZERO)))
+          .collect(Collectors.toList());
+        synchronized (deliveryLock) {
+          missed.forEach(this::deliverTransaction);
+        }
+      });
+  }
+
+  private CompletableFuture<List<TransactionResult<Transaction>>> accountTransactionsSince(
+    final Address address,
+    final long minimumIndex,
+    final long maximumIndex,
+    final Optional<Marker> marker,
+    final List<TransactionResult<Transaction>> collected
+  ) {
+    final AccountTransactionsRequestParams params = AccountTransactionsRequestParams
+      .builder(LedgerIndexBound.of(minimumIndex), LedgerIndexBound.of(maximumIndex))
+      .account(address)
+      .forward(true)
+      .marker(marker)
+      .build();
+    return accountTransactions(params).thenCompose(result -> {
+      result.transactions().stream()
+        .map(this::toTransactionResult)
+        .forEach(collected::add);
+      return result.marker().isPresent() ?
+        accountTransactionsSince(address, minimumIndex, maximumIndex, result.marker(), collected) :
+        CompletableFuture.completedFuture(collected);
+    });
+  }
+
+  private static JsonRpcRequest request(final String method, final XrplRequestParams params) {
+    Objects.requireNonNull(params);
+    return JsonRpcRequest.builder()
+      .method(method)
+      .addParams(params)
+      .build();
+  }
+
+  /**
+   * Receives the events of one WebSocket connection.
+   */
+  private class ConnectionListener extends WebSocketListener {
+
+    private final boolean reconnecting;
+
+    ConnectionListener(final boolean reconnecting) {
+      this.reconnecting = reconnecting;
+    }
+
+    @Override
+    public void onOpen(final WebSocket socket, final Response response) {
+      // Wait for connect() or reconnect() to publish the socket before sending anything on it.
+      synchronized (XrplWebSocketClient.this) {
+        if (socket != webSocket) {
+          return;
+        }
+      }
+      if (reconnecting) {
+        LOGGER.info("Reconnected to {}", handshakeRequest.url());
+        recover();
+      } else {
+        connected.complete(null);
+      }
+    }
+
+    @Override
+    public void onMessage(final WebSocket socket, final String text) {
+      handleMessage(text);
+    }
+
+    @Override
+    public void onClosing(final WebSocket socket, final int code, final String reason) {
+      socket.close(NORMAL_CLOSURE_STATUS, null);
+    }
+
+    @Override
+    public void onClosed(final WebSocket socket, final int code, final String reason) {
+      handleDisconnect(socket, null);
+    }
+
+    @Override
+    public void onFailure(final WebSocket socket, final Throwable throwable, final Response response) {
+      handleDisconnect(socket, throwable);
+    }
+  }
+}
@@ -0,0 +1,202 @@
+package org.xrpl.xrpl4j.client;
+
+/*-
+ * ========================LICENSE_START=================================
+ * xrpl4j :: integration-tests
+ * %%
+ * Copyright (C) 2020 - 2022 XRPL Foundation and its contributors
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * =========================LICENSE_END==================================
+ */
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.xrpl.xrpl4j.client.ClientTestFixtures.ACCOUNT;
+import static org.xrpl.xrpl4j.client.ClientTestFixtures.TRANSACTION_HASH;
+import static org.xrpl.xrpl4j.client.ClientTestFixtures.accountInfoResult;
+
+import com.google.common.primitives.UnsignedInteger;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.xrpl.xrpl4j.client.MockRippledServer.Reply;
+import org.xrpl.xrpl4j.model.client.XrplMethods;
+import org.xrpl.xrpl4j.model.client.accounts.AccountInfoRequestParams;
+import org.xrpl.xrpl4j.model.client.accounts.AccountInfoResult;
+import org.xrpl.xrpl4j.model.client.common.LedgerIndex;
+import org.xrpl.xrpl4j.model.client.fees.FeeResult;
+import org.xrpl.xrpl4j.model.client.transactions.TransactionRequestParams;
+import org.xrpl.xrpl4j.model.client.transactions.TransactionResult;
+import org.xrpl.xrpl4j.model.transactions.Address;
+import org.xrpl.xrpl4j.model.transactions.Payment;
+import org.xrpl.xrpl4j.model.transactions.XrpCurrencyAmount;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Unit and load tests for {@link AsyncXrplClient} against a local {@link MockRippledServer}.
+ */
+class AsyncXrplClientTest {
+
+  private MockRippledServer server;
+
+  @BeforeEach
+  void setUp() throws Exception {
+    server = new MockRippledServer();
+  }
+
+  @AfterEach
+  void tearDown() {
+    server.close();
+  }
+
+  @Test
+  void accountInfo() throws Exception {
+    server.setHandler(request -> {
+      assertThat(request.get("method").asText()).isEqualTo(XrplMethods.ACCOUNT_INFO);
+      return Reply.result(accountInfoResult(Address.of(request.get("params").get(0).get("account").asText())));
+    });
+    final AsyncXrplClient client = new AsyncXrplClient(server.url());
+
+    final AccountInfoResult result = client.accountInfo(AccountInfoRequestParams.of(ACCOUNT)).get(5, TimeUnit.SECONDS);
+    assertThat(result).isEqualTo(accountInfoResult(ACCOUNT));
+  }
+
+  @Test
+  void transaction() throws Exception {
+    final TransactionResult<Payment> transaction = TransactionResult.<Payment>builder()
+      .transaction(Payment.builder()
+        .account(ACCOUNT)
+        .destination(Address.of("rN7n7otQDd6FczFgLdSqtcsAUxDkw6fzRH"))
+        .fee(XrpCurrencyAmount.ofDrops(12))
+        .sequence(UnsignedInteger.ONE)
+        .amount(XrpCurrencyAmount.ofDrops(1000))
+        .build())
+      .hash(TRANSACTION_HASH)
+      .ledgerIndex(LedgerIndex.of(UnsignedInteger.valueOf(4)))
+      .validated(true)
+      .build();
+    server.setHandler(request -> Reply.result(transaction));
+    final AsyncXrplClient client = new AsyncXrplClient(server.url());
+
+    // TransactionResult has a custom deserializer, which needs the ObjectMapper as its codec.
+    assertThat(client.transaction(TransactionRequestParams.of(transaction.hash()), Payment.class)
+      .get(5, TimeUnit.SECONDS)).isEqualTo(transaction);
+  }
+
+  @Test
+  void errorResponseCompletesExceptionally() {
+    server.setHandler(request -> Reply.error("actNotFound"));
+    final AsyncXrplClient client = new AsyncXrplClient(server.url());
+
+    final ExecutionException exception = assertThrows(ExecutionException.class,
+      () -> client.accountInfo(AccountInfoRequestParams.of(ACCOUNT)).get(5, TimeUnit.SECONDS));
+    assertThat(exception.getCause()).isInstanceOf(JsonRpcClientErrorException.class)
+      .hasMessage("actNotFound message");
+  }
+
+  @Test
+  void unexpectedStatusCompletesExceptionally() {
+    server.setHandler(request -> Reply.of(500, "oops"));
+    final AsyncXrplClient client = new AsyncXrplClient(server.url());
+
+    final ExecutionException exception = assertThrows(ExecutionException.class,
+      () -> client.fee().get(5, TimeUnit.SECONDS));
+    assertThat(exception.getCause()).isInstanceOf(JsonRpcClientErrorException.class)
+      .hasMessageContaining("500");
+  }
+
+  @Test
+  void unavailableResponseIsRetried() throws Exception {
+    final AtomicInteger attempts = new AtomicInteger();
+    server.setHandler(request -> attempts.incrementAndGet() == 1 ?
+      Reply.of(JsonRpcClient.SERVICE_UNAVAILABLE_STATUS, "") :
+      Reply.result(accountInfoResult(ACCOUNT)));
+    final AsyncXrplClient client = new AsyncXrplClient(server.url());
+
+    assertThat(client.accountInfo(AccountInfoRequestParams.of(ACCOUNT)).get(10, TimeUnit.SECONDS))
+      .isEqualTo(accountInfoResult(ACCOUNT));
+    assertThat(attempts).hasValue(2);
+  }
+
+  @Test
+  void connectionFailureCompletesExceptionally() {
+    final AsyncXrplClient client = new AsyncXrplClient(server.url());
+    server.close();
+
+    final ExecutionException exception = assertThrows(ExecutionException.class,
+      () -> client.fee().get(5, TimeUnit.SECONDS));
+    assertThat(exception.getCause()).isInstanceOf(JsonRpcClientErrorException.class);
+  }
+
+  @Test
+  void inFlightRequestsAreBounded() throws Exception {
+    final CountDownLatch release = new CountDownLatch(1);
+    server.setHandler(request -> {
+      release.await(10, TimeUnit.SECONDS);
+      return Reply.result(accountInfoResult(ACCOUNT));
+    });
+    final AsyncXrplClient client = new AsyncXrplClient(server.url(), 4);
+
+    final List<CompletableFuture<AccountInfoResult>> futures = new ArrayList<>();
+    for (int i = 0; i < 20; i++) {
+      futures.add(client.accountInfo(AccountInfoRequestParams.of(ACCOUNT)));
+    }
+    // None of the calls above blocked, even though only 4 requests can be in flight.
+    assertThat(futures).noneMatch(CompletableFuture::isDone);
+    release.countDown();
+
+    CompletableFuture.allOf(futures.toArray(new CompletableFuture[0])).get(10, TimeUnit.SECONDS);
+    assertThat(server.requestCount()).isEqualTo(20);
+    assertThat(server.maxInFlight()).isLessThanOrEqualTo(4);
+  }
+
+  @Test
+  void loadTest() throws Exception {
+    server.setHandler(request -> Reply.result(
+      accountInfoResult(Address.of(request.get("params").get(0).get("account").asText()))
+    ));
+    final AsyncXrplClient client = new AsyncXrplClient(server.url(), 16);
+
+    final List<Address> accounts = new ArrayList<>();
+    final List<CompletableFuture<AccountInfoResult>> futures = new ArrayList<>();
+    for (int i = 0; i < 1000; i++) {
+      final Address account = i % 2 == 0 ? ACCOUNT : Address.of("rN7n7otQDd6FczFgLdSqtcsAUxDkw6fzRH");
+      accounts.add(account);
+      futures.add(client.accountInfo(AccountInfoRequestParams.of(account)));
+    }
+
+    CompletableFuture.allOf(futures.toArray(new CompletableFuture[0])).get(60, TimeUnit.SECONDS);
+    for (int i = 0; i < futures.size(); i++) {
+      assertThat(futures.get(i).join().accountData().account()).isEqualTo(accounts.get(i));
+    }
+    assertThat(server.requestCount()).isEqualTo(1000);
+    assertThat(server.maxInFlight()).isLessThanOrEqualTo(16);
+  }
+
+  @Test
+  void constructorWithInvalidArguments() {
+    assertThrows(NullPointerException.class, () -> new AsyncXrplClient(null));
+    assertThrows(IllegalArgumentException.class, () -> new AsyncXrplClient(server.url(), 0));
+    final AsyncXrplClient client = new AsyncXrplClient(server.url());
+    assertThrows(NullPointerException.class, () -> client.send(null, FeeResult.class));
+    assertThrows(NullPointerException.class, () -> client.accountInfo(null));
+  }
+}
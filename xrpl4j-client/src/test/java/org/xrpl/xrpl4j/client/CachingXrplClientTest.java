@@ -0,0 +1,271 @@
+package org.xrpl.xrpl4j.client;
+
+/*-
+ * ========================LICENSE_START=================================
+ * xrpl4j :: integration-tests
+ * %%
+ * Copyright (C) 2020 - 2022 XRPL Foundation and its contributors
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * =========================LICENSE_END==================================
+ */
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.within;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.xrpl.xrpl4j.client.ClientTestFixtures.ACCOUNT;
+import static org.xrpl.xrpl4j.client.ClientTestFixtures.TRANSACTION_HASH;
+import static org.xrpl.xrpl4j.client.ClientTestFixtures.accountRoot;
+
+import com.google.common.primitives.UnsignedInteger;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.xrpl.xrpl4j.client.MockRippledServer.Reply;
+import org.xrpl.xrpl4j.model.client.accounts.AccountInfoRequestParams;
+import org.xrpl.xrpl4j.model.client.accounts.AccountInfoResult;
+import org.xrpl.xrpl4j.model.client.accounts.AccountLinesRequestParams;
+import org.xrpl.xrpl4j.model.client.common.LedgerIndex;
+import org.xrpl.xrpl4j.model.client.common.LedgerSpecifier;
+import org.xrpl.xrpl4j.model.client.transactions.TransactionRequestParams;
+import org.xrpl.xrpl4j.model.client.transactions.TransactionResult;
+import org.xrpl.xrpl4j.model.transactions.Address;
+import org.xrpl.xrpl4j.model.transactions.Hash256;
+import org.xrpl.xrpl4j.model.transactions.Payment;
+import org.xrpl.xrpl4j.model.transactions.XrpCurrencyAmount;
+
+/**
+ * Unit tests for {@link CachingXrplClient}, against a local {@link MockRippledServer}.
+ */
+class CachingXrplClientTest {
+
+  private static final Hash256 LEDGER_HASH =
+    Hash256.of("5BC50C9B11E9C4D8B8A8D8F4E5A1B2C3D4E5F60718293A4B5C6D7E8F90A1B2C3");
+
+  private MockRippledServer server;
+  private CachingXrplClient client;
+
+  @BeforeEach
+  void setUp() throws Exception {
+    server = new MockRippledServer();
+    client = new CachingXrplClient(server.url());
+  }
+
+  @AfterEach
+  void tearDown() {
+    server.close();
+  }
+
+  @Test
+  void cachesValidatedTransaction() throws Exception {
+    server.setHandler(request -> Reply.result(transactionResult(true)));
+
+    for (int i = 0; i < 4; i++) {
+      assertThat(client.transaction(TransactionRequestParams.of(TRANSACTION_HASH), Payment.class))
+        .isEqualTo(transactionResult(true));
+    }
+
+    assertThat(server.requestCount()).isEqualTo(1);
+    assertThat(client.cacheStats().hitCount()).isEqualTo(3);
+    assertThat(client.cacheStats().missCount()).isEqualTo(1);
+    assertThat(client.cacheStats().hitRate()).isCloseTo(0.75, within(1e-9));
+    assertThat(client.estimatedCacheSize()).isEqualTo(1);
+  }
+
+  @Test
+  void doesNotCacheUnvalidatedTransaction() throws Exception {
+    server.setHandler(request -> Reply.result(transactionResult(false)));
+
+    client.transaction(TransactionRequestParams.of(TRANSACTION_HASH), Payment.class);
+    client.transaction(TransactionRequestParams.of(TRANSACTION_HASH), Payment.class);
+
+    assertThat(server.requestCount()).isEqualTo(2);
+    assertThat(client.estimatedCacheSize()).isZero();
+  }
+
+  @Test
+  void cachesValidatedLedgerIndex() throws Exception {
+    server.setHandler(request -> Reply.result(accountInfoResult(true)));
+
+    client.accountInfo(accountInfoParams(LedgerSpecifier.of(4)));
+    assertThat(client.accountInfo(accountInfoParams(LedgerSpecifier.of(4)))).isEqualTo(accountInfoResult(true));
+    assertThat(server.requestCount()).isEqualTo(1);
+
+    // A different ledger is a different request.
+    client.accountInfo(accountInfoParams(LedgerSpecifier.of(5)));
+    assertThat(server.requestCount()).isEqualTo(2);
+  }
+
+  @Test
+  void doesNotCacheUnvalidatedLedgerIndex() throws Exception {
+    server.setHandler(request -> Reply.result(accountInfoResult(false)));
+
+    client.accountInfo(accountInfoParams(LedgerSpecifier.of(4)));
+    client.accountInfo(accountInfoParams(LedgerSpecifier.of(4)));
+
+    assertThat(server.requestCount()).isEqualTo(2);
+  }
+
+  @Test
+  void doesNotCacheLedgerShortcuts() throws Exception {
+    server.setHandler(request -> Reply.result(accountInfoResult(true)));
+
+    for (LedgerSpecifier ledgerSpecifier : new LedgerSpecifier[] {
+      LedgerSpecifier.CURRENT, LedgerSpecifier.CLOSED, LedgerSpecifier.VALIDATED
+    }) {
+      client.accountInfo(accountInfoParams(ledgerSpecifier));
+      client.accountInfo(accountInfoParams(ledgerSpecifier));
+    }
+
+    assertThat(server.requestCount()).isEqualTo(6);
+    // Requests that can't be cached don't count as misses.
+    assertThat(client.cacheStats().requestCount()).isZero();
+  }
+
+  @Test
+  void cachesValidatedLedgerHash() throws Exception {
+    server.setHandler(request -> Reply.result(accountInfoResult(true)));
+
+    client.accountInfo(accountInfoParams(LedgerSpecifier.of(LEDGER_HASH)));
+    assertThat(client.accountInfo(accountInfoParams(LedgerSpecifier.of(LEDGER_HASH))))
+      .isEqualTo(accountInfoResult(true));
+
+    assertThat(server.requestCount()).isEqualTo(1);
+  }
+
+  @Test
+  void doesNotCacheUnvalidatedLedgerHash() throws Exception {
+    // A closed ledger on a fork that loses is never validated, so its results aren't final.
+    server.setHandler(request -> Reply.result(accountInfoResult(false)));
+
+    client.accountInfo(accountInfoParams(LedgerSpecifier.of(LEDGER_HASH)));
+    client.accountInfo(accountInfoParams(LedgerSpecifier.of(LEDGER_HASH)));
+
+    assertThat(server.requestCount()).isEqualTo(2);
+    assertThat(client.estimatedCacheSize()).isZero();
+  }
+
+  @Test
+  void cachesValidatedFieldTheResultDoesNotModel() throws Exception {
+    server.setHandler(request -> Reply.of(200, "{\"result\":{\"account\":\"" + ACCOUNT + "\",\"lines\":[]," +
+      "\"ledger_index\":4,\"status\":\"success\",\"validated\":true}}"));
+    final AccountLinesRequestParams params = AccountLinesRequestParams.builder()
+      .account(ACCOUNT)
+      .ledgerSpecifier(LedgerSpecifier.of(4))
+      .build();
+
+    client.accountLines(params);
+    client.accountLines(params);
+
+    assertThat(server.requestCount()).isEqualTo(1);
+  }
+
+  @Test
+  void doesNotCacheErrors() {
+    server.setHandler(request -> Reply.error("txnNotFound"));
+
+    for (int i = 0; i < 2; i++) {
+      assertThrows(JsonRpcClientErrorException.class,
+        () -> client.transaction(TransactionRequestParams.of(TRANSACTION_HASH), Payment.class));
+    }
+
+    assertThat(server.requestCount()).isEqualTo(2);
+  }
+
+  @Test
+  void reportsErrorsWithoutErrorMessage() {
+    server.setHandler(request -> Reply.of(200, "{\"result\":{\"error\":\"txnNotFound\",\"status\":\"error\"}}"));
+
+    final JsonRpcClientErrorException error = assertThrows(JsonRpcClientErrorException.class,
+      () -> client.transaction(TransactionRequestParams.of(TRANSACTION_HASH), Payment.class));
+
+    assertThat(error.getMessage()).isEqualTo("txnNotFound");
+  }
+
+  @Test
+  void evictsBySize() throws Exception {
+    server.setHandler(request -> Reply.result(accountInfoResult(true)));
+    final CachingXrplClient bounded = new CachingXrplClient(
+      server.url(), ResponseCacheSettings.builder().maximumSize(1L).build()
+    );
+
+    bounded.accountInfo(accountInfoParams(LedgerSpecifier.of(4)));
+    bounded.accountInfo(accountInfoParams(LedgerSpecifier.of(5)));
+
+    assertThat(bounded.estimatedCacheSize()).isEqualTo(1);
+    assertThat(bounded.cacheStats().evictionCount()).isEqualTo(1);
+  }
+
+  @Test
+  void evictsByWeight() throws Exception {
+    server.setHandler(request -> Reply.result(accountInfoResult(true)));
+    // Smaller than a single account_info result.
+    final CachingXrplClient bounded = new CachingXrplClient(
+      server.url(), ResponseCacheSettings.builder().maximumWeight(100L).build()
+    );
+
+    bounded.accountInfo(accountInfoParams(LedgerSpecifier.of(4)));
+    bounded.accountInfo(accountInfoParams(LedgerSpecifier.of(4)));
+
+    assertThat(server.requestCount()).isEqualTo(2);
+    assertThat(bounded.estimatedCacheSize()).isZero();
+  }
+
+  @Test
+  void invalidateCache() throws Exception {
+    server.setHandler(request -> Reply.result(transactionResult(true)));
+
+    client.transaction(TransactionRequestParams.of(TRANSACTION_HASH), Payment.class);
+    client.invalidateCache();
+    client.transaction(TransactionRequestParams.of(TRANSACTION_HASH), Payment.class);
+
+    assertThat(server.requestCount()).isEqualTo(2);
+  }
+
+  @Test
+  void rejectsBothBounds() {
+    assertThrows(IllegalArgumentException.class,
+      () -> ResponseCacheSettings.builder().maximumSize(1L).maximumWeight(1L).build());
+  }
+
+  private static AccountInfoRequestParams accountInfoParams(final LedgerSpecifier ledgerSpecifier) {
+    return AccountInfoRequestParams.builder()
+      .account(ACCOUNT)
+      .ledgerSpecifier(ledgerSpecifier)
+      .build();
+  }
+
+  private static TransactionResult<Payment> transactionResult(final boolean validated) {
+    return TransactionResult.<Payment>builder()
+      .transaction(Payment.builder()
+        .account(ACCOUNT)
+        .destination(Address.of("rN7n7otQDd6FczFgLdSqtcsAUxDkw6fzRH"))
+        .fee(XrpCurrencyAmount.ofDrops(12))
+        .sequence(UnsignedInteger.ONE)
+        .amount(XrpCurrencyAmount.ofDrops(1000))
+        .build())
+      .hash(TRANSACTION_HASH)
+      .ledgerIndex(LedgerIndex.of(UnsignedInteger.valueOf(4)))
+      .validated(validated)
+      .build();
+  }
+
+  private static AccountInfoResult accountInfoResult(final boolean validated) {
+    return AccountInfoResult.builder()
+      .accountData(accountRoot(ACCOUNT))
+      .ledgerIndex(LedgerIndex.of(UnsignedInteger.valueOf(4)))
+      .status("success")
+      .validated(validated)
+      .build();
+  }
+}
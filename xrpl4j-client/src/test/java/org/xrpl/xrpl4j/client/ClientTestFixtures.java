@@ -0,0 +1,92 @@
+package org.xrpl.xrpl4j.client;
+
+/*-
+ * ========================LICENSE_START=================================
+ * xrpl4j :: integration-tests
+ * %%
+ * Copyright (C) 2020 - 2022 XRPL Foundation and its contributors
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * =========================LICENSE_END==================================
+ */
+
+import com.google.common.primitives.UnsignedInteger;
+import org.xrpl.xrpl4j.model.client.accounts.AccountInfoResult;
+import org.xrpl.xrpl4j.model.client.common.LedgerIndex;
+import org.xrpl.xrpl4j.model.flags.AccountRootFlags;
+import org.xrpl.xrpl4j.model.ledger.AccountRootObject;
+import org.xrpl.xrpl4j.model.transactions.Address;
+import org.xrpl.xrpl4j.model.transactions.Hash256;
+import org.xrpl.xrpl4j.model.transactions.XrpCurrencyAmount;
+
+/**
+ * Results shared by the tests that run clients against a {@link MockRippledServer}.
+ */
+final class ClientTestFixtures {
+
+  static final Address ACCOUNT = Address.of("rG1QQv2nh2gr7RCZ1P8YYcBUKCCN633jCn");
+
+  static final Hash256 TRANSACTION_HASH =
+    Hash256.of("4294BEBE5B569A18C0A2702387C9B1E7146DC3A5850C1E87204951C6FDAA4C42");
+
+  static final Hash256 ACCOUNT_ROOT_INDEX =
+    Hash256.of("92FA6A9FC8EA6018D5D16532D7795C91BFB0831355BDFDA177E86C8BF997985F");
+
+  private ClientTestFixtures() {
+  }
+
+  /**
+   * An {@link AccountRootObject} for {@code account}, last modified by {@link #TRANSACTION_HASH}.
+   *
+   * @param account The {@link Address} of the account.
+   *
+   * @return An {@link AccountRootObject}.
+   */
+  static AccountRootObject accountRoot(final Address account) {
+    return AccountRootObject.builder()
+      .account(account)
+      .balance(XrpCurrencyAmount.ofDrops(999999999960L))
+      .flags(AccountRootFlags.of(8388608))
+      .ownerCount(UnsignedInteger.ZERO)
+      .previousTransactionId(TRANSACTION_HASH)
+      .previousTransactionLedgerSequence(UnsignedInteger.valueOf(3))
+      .sequence(UnsignedInteger.valueOf(6))
+      .index(ACCOUNT_ROOT_INDEX)
+      .build();
+  }
+
+  /**
+   * An "account_info" result for {@link #ACCOUNT} in the current, unvalidated ledger.
+   *
+   * @return An {@link AccountInfoResult}.
+   */
+  static AccountInfoResult accountInfoResult() {
+    return accountInfoResult(ACCOUNT);
+  }
+
+  /**
+   * An "account_info" result for {@code account} in the current, unvalidated ledger.
+   *
+   * @param account The {@link Address} of the account.
+   *
+   * @return An {@link AccountInfoResult}.
+   */
+  static AccountInfoResult accountInfoResult(final Address account) {
+    return AccountInfoResult.builder()
+      .accountData(accountRoot(account))
+      .ledgerCurrentIndex(LedgerIndex.of(UnsignedInteger.valueOf(4)))
+      .status("success")
+      .validated(false)
+      .build();
+  }
+}
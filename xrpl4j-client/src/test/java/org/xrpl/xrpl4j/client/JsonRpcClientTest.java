@@ -0,0 +1,170 @@
+package org.xrpl.xrpl4j.client;
+
+/*-
+ * ========================LICENSE_START=================================
+ * xrpl4j :: integration-tests
+ * %%
+ * Copyright (C) 2020 - 2022 XRPL Foundation and its contributors
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * =========================LICENSE_END==================================
+ */
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.xrpl.xrpl4j.client.ClientTestFixtures.ACCOUNT;
+import static org.xrpl.xrpl4j.client.ClientTestFixtures.TRANSACTION_HASH;
+import static org.xrpl.xrpl4j.client.ClientTestFixtures.accountInfoResult;
+import static org.xrpl.xrpl4j.client.MockRippledServer.OBJECT_MAPPER;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.google.common.primitives.UnsignedInteger;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.xrpl.xrpl4j.client.MockRippledServer.Reply;
+import org.xrpl.xrpl4j.model.client.XrplMethods;
+import org.xrpl.xrpl4j.model.client.accounts.AccountInfoRequestParams;
+import org.xrpl.xrpl4j.model.client.accounts.AccountInfoResult;
+import org.xrpl.xrpl4j.model.client.common.LedgerIndex;
+import org.xrpl.xrpl4j.model.client.transactions.TransactionRequestParams;
+import org.xrpl.xrpl4j.model.client.transactions.TransactionResult;
+import org.xrpl.xrpl4j.model.transactions.Address;
+import org.xrpl.xrpl4j.model.transactions.Payment;
+import org.xrpl.xrpl4j.model.transactions.XrpCurrencyAmount;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Unit tests for decoding responses in {@link JsonRpcClient#send(JsonRpcRequest, Class)}, against a local
+ * {@link MockRippledServer}.
+ */
+class JsonRpcClientTest {
+
+  private static final JsonRpcRequest ACCOUNT_INFO_REQUEST = JsonRpcRequest.builder()
+    .method(XrplMethods.ACCOUNT_INFO)
+    .addParams(AccountInfoRequestParams.of(ACCOUNT))
+    .build();
+
+  private MockRippledServer server;
+  private JsonRpcClient client;
+
+  @BeforeEach
+  void setUp() throws Exception {
+    server = new MockRippledServer();
+    client = JsonRpcClient.construct(server.url());
+  }
+
+  @AfterEach
+  void tearDown() {
+    server.close();
+  }
+
+  @Test
+  void sendBindsResult() throws Exception {
+    server.setHandler(request -> Reply.result(accountInfoResult()));
+
+    assertThat(client.send(ACCOUNT_INFO_REQUEST, AccountInfoResult.class)).isEqualTo(accountInfoResult());
+  }
+
+  @Test
+  void sendBindsResultAfterOtherFields() throws Exception {
+    server.setHandler(request -> Reply.of(200, "{\"warnings\":[{\"id\":1001,\"message\":\"warning\"}]," +
+      "\"forwarded\":true,\"result\":" + OBJECT_MAPPER.writeValueAsString(accountInfoResult()) + "}"));
+
+    assertThat(client.send(ACCOUNT_INFO_REQUEST, AccountInfoResult.class)).isEqualTo(accountInfoResult());
+  }
+
+  @Test
+  void sendBindsResultWithCustomDeserializer() throws Exception {
+    final TransactionResult<Payment> transaction = TransactionResult.<Payment>builder()
+      .transaction(Payment.builder()
+        .account(ACCOUNT)
+        .destination(Address.of("rN7n7otQDd6FczFgLdSqtcsAUxDkw6fzRH"))
+        .fee(XrpCurrencyAmount.ofDrops(12))
+        .sequence(UnsignedInteger.ONE)
+        .amount(XrpCurrencyAmount.ofDrops(1000))
+        .build())
+      .hash(TRANSACTION_HASH)
+      .ledgerIndex(LedgerIndex.of(UnsignedInteger.valueOf(4)))
+      .validated(true)
+      .build();
+    server.setHandler(request -> Reply.result(transaction));
+    final JsonRpcRequest request = JsonRpcRequest.builder()
+      .method(XrplMethods.TX)
+      .addParams(TransactionRequestParams.of(transaction.hash()))
+      .build();
+
+    final TransactionResult<Payment> result = client.send(request,
+      OBJECT_MAPPER.getTypeFactory().constructParametricType(TransactionResult.class, Payment.class));
+    assertThat(result).isEqualTo(transaction);
+  }
+
+  @Test
+  void sendThrowsErrorMessage() {
+    server.setHandler(request -> Reply.error("actNotFound"));
+
+    final JsonRpcClientErrorException exception = assertThrows(JsonRpcClientErrorException.class,
+      () -> client.send(ACCOUNT_INFO_REQUEST, AccountInfoResult.class));
+    assertThat(exception).hasMessage("actNotFound message");
+  }
+
+  @Test
+  void sendThrowsErrorException() {
+    server.setHandler(request -> Reply.of(200, "{\"result\":{\"error\":\"internal\"," +
+      "\"error_exception\":\"Unexpected exception\",\"error_message\":\"Internal error.\",\"status\":\"error\"}}"));
+
+    final JsonRpcClientErrorException exception = assertThrows(JsonRpcClientErrorException.class,
+      () -> client.send(ACCOUNT_INFO_REQUEST, AccountInfoResult.class));
+    assertThat(exception).hasMessage("Unexpected exception");
+  }
+
+  @Test
+  void sendThrowsWithoutResult() {
+    server.setHandler(request -> Reply.of(200, "{\"status\":\"success\"}"));
+
+    final JsonRpcClientErrorException exception = assertThrows(JsonRpcClientErrorException.class,
+      () -> client.send(ACCOUNT_INFO_REQUEST, AccountInfoResult.class));
+    assertThat(exception).hasMessage("Response did not contain a result.");
+  }
+
+  @Test
+  void sendRetriesUnavailableResponse() throws Exception {
+    final AtomicInteger attempts = new AtomicInteger();
+    server.setHandler(request -> attempts.incrementAndGet() == 1 ?
+      Reply.of(JsonRpcClient.SERVICE_UNAVAILABLE_STATUS, "") :
+      Reply.result(accountInfoResult()));
+
+    assertThat(client.send(ACCOUNT_INFO_REQUEST, AccountInfoResult.class)).isEqualTo(accountInfoResult());
+    assertThat(attempts).hasValue(2);
+  }
+
+  @Test
+  void postRpcRequestReturnsTree() throws Exception {
+    server.setHandler(request -> Reply.result(accountInfoResult()));
+
+    final JsonNode response = client.postRpcRequest(ACCOUNT_INFO_REQUEST);
+    assertThat(response.get("result").get("account_data").get("Account").asText()).isEqualTo(ACCOUNT.value());
+  }
+
+  @Test
+  void defaultSendBindsTree() throws Exception {
+    // Implementations that only provide postRpcRequest use the default send method.
+    final JsonNode response = OBJECT_MAPPER.readTree(
+      "{\"result\":" + OBJECT_MAPPER.writeValueAsString(accountInfoResult()) + "}"
+    );
+    final JsonRpcClient treeClient = rpcRequest -> response;
+
+    assertThat(treeClient.send(ACCOUNT_INFO_REQUEST, AccountInfoResult.class)).isEqualTo(accountInfoResult());
+  }
+}
@@ -0,0 +1,150 @@
+package org.xrpl.xrpl4j.client;
+
+/*-
+ * ========================LICENSE_START=================================
+ * xrpl4j :: integration-tests
+ * %%
+ * Copyright (C) 2020 - 2022 XRPL Foundation and its contributors
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * =========================LICENSE_END==================================
+ */
+
+import com.fasterxml.jackson.databind.JavaType;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.util.TokenBuffer;
+import org.xrpl.xrpl4j.model.client.accounts.AccountTransactionsResult;
+import org.xrpl.xrpl4j.model.jackson.ObjectMapperFactory;
+
+import java.io.IOException;
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadMXBean;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Paths;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * A simple benchmark comparing how {@link JsonRpcClient} used to decode responses, by parsing the body into a
+ * {@link JsonNode}, writing the {@code result} back out to a {@link String} and parsing that again, with the single
+ * pass of {@link JsonRpcResultDecoder}. It is not run as part of the test suite; run {@link #main(String[])} from the
+ * test classpath, e.g.
+ *
+ * <pre>
+ *   java -cp target/classes:target/test-classes:$(dependency classpath) \
+ *     org.xrpl.xrpl4j.client.JsonRpcDecodingBenchmark 5 account_tx.json
+ * </pre>
+ *
+ * <p>The optional arguments are the number of seconds to measure each decoder for (default 3), and the path of a
+ * recorded {@code account_tx} response to decode. Without a path, the benchmark decodes a full 400 transaction page
+ * built from two {@code account_tx} entries recorded on mainnet.</p>
+ */
+public class JsonRpcDecodingBenchmark {
+
+  private static final ObjectMapper OBJECT_MAPPER = ObjectMapperFactory.create();
+
+  private static final int PAGE_SIZE = 400;
+
+  private static final String[] RECORDED_TRANSACTIONS = {
+    "{\"meta\":{\"TransactionIndex\":12,\"TransactionResult\":\"tesSUCCESS\",\"delivered_amount\":\"455643030\"}," +
+      "\"tx\":{\"Account\":\"rLNaPoKeeBjZe2qs6x52yVPZpZ8td4dc6w\",\"Amount\":\"455643030\"," +
+      "\"Destination\":\"raLPjTYeGezfdb6crXZzcC8RkLBEwbBHJ5\",\"DestinationTag\":18240312,\"Fee\":\"40\"," +
+      "\"Flags\":2147483648,\"LastLedgerSequence\":57112037,\"Sequence\":702819," +
+      "\"SigningPubKey\":\"020A46D8D02AC780C59853ACA309EAA92E7D8E02DD72A0B6AC315A7D18A6C3276A\"," +
+      "\"TransactionType\":\"Payment\",\"TxnSignature\":\"30450221008602B2E390C0C7B65182C6DBC86292052C1961B2BEFB" +
+      "79C2C8431722C0ADB911022024B74DCF910A4C8C95572CF662EB7F5FF67E1AC4D7B9B7BFE2A8EE851EC16576\"," +
+      "\"hash\":\"08EF5BDA2825D7A28099219621CDBECCDECB828FEA202DEB6C7ACD5222D36C2C\",\"date\":666212460," +
+      "\"ledger_index\":57112015},\"validated\":true}",
+    "{\"meta\":{\"TransactionIndex\":33,\"TransactionResult\":\"tesSUCCESS\",\"delivered_amount\":\"499500387\"}," +
+      "\"tx\":{\"Account\":\"rw2ciyaNshpHe7bCHo4bRWq6pqqynnWKQg\",\"Amount\":\"499500387\"," +
+      "\"Destination\":\"rLNaPoKeeBjZe2qs6x52yVPZpZ8td4dc6w\",\"DestinationTag\":1,\"Fee\":\"40\"," +
+      "\"Flags\":2147483648,\"LastLedgerSequence\":57112032,\"Sequence\":466334," +
+      "\"SigningPubKey\":\"0381575032E254BF4D699C3D8D6EFDB63B3A71F97475C6F6885BC7DAEEE55D9A01\"," +
+      "\"TransactionType\":\"Payment\",\"TxnSignature\":\"3045022100C7EA1701FE48C75508EEBADBC9864CD3FFEDCEB4" +
+      "8AB99AEA960BFA360AE163ED0220453C9577502924C9E1A9A450D4B950A44016813BC70E1F16A65A402528D730B7\"," +
+      "\"hash\":\"7C031FD5B710E3C048EEF31254089BEEC505900BCC9A842257A0319453333998\",\"date\":666212450," +
+      "\"ledger_index\":57112010},\"validated\":true}"
+  };
+
+  /**
+   * Run the benchmark.
+   *
+   * @param args An optional number of seconds to measure each decoder for, and an optional path to a recorded
+   *             {@code account_tx} response.
+   *
+   * @throws Exception if the response could not be read or decoded.
+   */
+  public static void main(String[] args) throws Exception {
+    final long seconds = args.length > 0 ? Long.parseLong(args[0]) : 3;
+    final byte[] response = args.length > 1 ? Files.readAllBytes(Paths.get(args[1])) : recordedPage();
+    final JavaType resultType = OBJECT_MAPPER.constructType(AccountTransactionsResult.class);
+    System.out.printf("response size=%,d bytes%n", response.length);
+
+    final Decoder reparse = body -> {
+      final JsonNode result = OBJECT_MAPPER.readTree(body).get("result");
+      return OBJECT_MAPPER.readValue(result.toString(), resultType);
+    };
+    final Decoder singlePass = body -> JsonRpcResultDecoder.decode(
+      OBJECT_MAPPER, OBJECT_MAPPER.readValue(body, TokenBuffer.class), resultType
+    );
+
+    // Warm up the JIT before measuring.
+    run(reparse, response, 1);
+    run(singlePass, response, 1);
+
+    report("tree+reparse", run(reparse, response, seconds));
+    report("single-pass", run(singlePass, response, seconds));
+  }
+
+  private static byte[] recordedPage() {
+    final StringBuilder page = new StringBuilder("{\"result\":{\"account\":\"rLNaPoKeeBjZe2qs6x52yVPZpZ8td4dc6w\"," +
+      "\"ledger_index_max\":57112019,\"ledger_index_min\":56248229,\"limit\":" + PAGE_SIZE +
+      ",\"marker\":{\"ledger\":57112007,\"seq\":13},\"status\":\"success\",\"transactions\":[");
+    for (int i = 0; i < PAGE_SIZE; i++) {
+      page.append(i == 0 ? "" : ",").append(RECORDED_TRANSACTIONS[i % RECORDED_TRANSACTIONS.length]);
+    }
+    return page.append("],\"validated\":true}}").toString().getBytes(StandardCharsets.UTF_8);
+  }
+
+  private static double[] run(final Decoder decoder, final byte[] response, final long seconds) throws Exception {
+    final ThreadMXBean threads = ManagementFactory.getThreadMXBean();
+    final boolean measureAllocation = threads instanceof com.sun.management.ThreadMXBean;
+    final long threadId = Thread.currentThread().getId();
+    final long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(seconds);
+    final long allocatedBefore = measureAllocation ?
+      ((com.sun.management.ThreadMXBean) threads).getThreadAllocatedBytes(threadId) : 0;
+    final long start = System.nanoTime();
+    long operations = 0;
+    while (System.nanoTime() < deadline) {
+      decoder.decode(response);
+      operations++;
+    }
+    final long elapsed = System.nanoTime() - start;
+    final long allocated = measureAllocation ?
+      ((com.sun.management.ThreadMXBean) threads).getThreadAllocatedBytes(threadId) - allocatedBefore : -1;
+    return new double[] {elapsed / 1e6 / operations, allocated / (double) operations};
+  }
+
+  private static void report(final String name, final double[] result) {
+    System.out.printf("%-14s ms/op=%8.3f allocated/op=%,14.0f bytes%n", name, result[0], result[1]);
+  }
+
+  /**
+   * Decodes the result of a response body.
+   */
+  private interface Decoder {
+
+    Object decode(byte[] body) throws IOException, JsonRpcClientErrorException;
+  }
+}
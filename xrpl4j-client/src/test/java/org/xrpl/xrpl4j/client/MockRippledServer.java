@@ -0,0 +1,149 @@
+package org.xrpl.xrpl4j.client;
+
+/*-
+ * ========================LICENSE_START=================================
+ * xrpl4j :: integration-tests
+ * %%
+ * Copyright (C) 2020 - 2022 XRPL Foundation and its contributors
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * =========================LICENSE_END==================================
+ */
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import okhttp3.HttpUrl;
+import org.xrpl.xrpl4j.model.client.XrplResult;
+import org.xrpl.xrpl4j.model.jackson.ObjectMapperFactory;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * A stand-in for a rippled JSON-RPC endpoint, backed by the JDK's built-in HTTP server, for testing clients against
+ * real HTTP traffic. Each request body is parsed and passed to a {@link Handler}, which decides the reply.
+ */
+class MockRippledServer implements AutoCloseable {
+
+  static final ObjectMapper OBJECT_MAPPER = ObjectMapperFactory.create();
+
+  private final HttpServer server;
+  private final ExecutorService executor;
+  private final AtomicInteger requestCount = new AtomicInteger();
+  private final AtomicInteger inFlight = new AtomicInteger();
+  private final AtomicInteger maxInFlight = new AtomicInteger();
+  private volatile Handler handler = request -> Reply.error("unknownCmd");
+
+  /**
+   * Start a server on an ephemeral port of the loopback interface.
+   *
+   * @throws IOException if the server could not be started.
+   */
+  MockRippledServer() throws IOException {
+    this.server = HttpServer.create(new InetSocketAddress(InetAddress.getLoopbackAddress(), 0), 0);
+    this.executor = Executors.newCachedThreadPool();
+    this.server.setExecutor(executor);
+    this.server.createContext("/", this::handle);
+    this.server.start();
+  }
+
+  HttpUrl url() {
+    return new HttpUrl.Builder()
+      .scheme("http")
+      .host(server.getAddress().getHostString())
+      .port(server.getAddress().getPort())
+      .build();
+  }
+
+  void setHandler(final Handler handler) {
+    this.handler = handler;
+  }
+
+  int requestCount() {
+    return requestCount.get();
+  }
+
+  int maxInFlight() {
+    return maxInFlight.get();
+  }
+
+  private void handle(final HttpExchange exchange) throws IOException {
+    requestCount.incrementAndGet();
+    maxInFlight.accumulateAndGet(inFlight.incrementAndGet(), Math::max);
+    try {
+      Reply reply;
+      try {
+        reply = handler.handle(OBJECT_MAPPER.readTree(exchange.getRequestBody()));
+      } catch (Exception e) {
+        reply = Reply.of(500, e.toString());
+      }
+      final byte[] body = reply.body.getBytes(StandardCharsets.UTF_8);
+      exchange.getResponseHeaders().add("Content-Type", "application/json");
+      exchange.sendResponseHeaders(reply.status, body.length);
+      try (OutputStream responseBody = exchange.getResponseBody()) {
+        responseBody.write(body);
+      }
+    } finally {
+      inFlight.decrementAndGet();
+    }
+  }
+
+  @Override
+  public void close() {
+    server.stop(0);
+    executor.shutdownNow();
+  }
+
+  /**
+   * Decides the {@link Reply} to a JSON-RPC request.
+   */
+  interface Handler {
+
+    Reply handle(JsonNode request) throws Exception;
+  }
+
+  /**
+   * An HTTP status and response body.
+   */
+  static final class Reply {
+
+    private final int status;
+    private final String body;
+
+    private Reply(final int status, final String body) {
+      this.status = status;
+      this.body = body;
+    }
+
+    static Reply of(final int status, final String body) {
+      return new Reply(status, body);
+    }
+
+    static Reply result(final XrplResult result) throws IOException {
+      return new Reply(200, "{\"result\":" + OBJECT_MAPPER.writeValueAsString(result) + "}");
+    }
+
+    static Reply error(final String error) {
+      return new Reply(200, "{\"result\":{\"error\":\"" + error + "\",\"status\":\"error\"," +
+        "\"error_message\":\"" + error + " message\"}}");
+    }
+  }
+}
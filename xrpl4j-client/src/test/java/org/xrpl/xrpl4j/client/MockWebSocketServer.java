@@ -0,0 +1,335 @@
+package org.xrpl.xrpl4j.client;
+
+/*-
+ * ========================LICENSE_START=================================
+ * xrpl4j :: integration-tests
+ * %%
+ * Copyright (C) 2020 - 2022 XRPL Foundation and its contributors
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * =========================LICENSE_END==================================
+ */
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.google.common.io.BaseEncoding;
+import org.xrpl.xrpl4j.model.client.XrplResult;
+import org.xrpl.xrpl4j.model.jackson.ObjectMapperFactory;
+
+import java.io.DataInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.InetAddress;
+import java.net.ServerSocket;
+import java.net.Socket;
+import java.net.URI;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * A stand-in for a rippled WebSocket endpoint, for testing clients against real WebSocket traffic. It implements just
+ * enough of RFC 6455 for unfragmented text messages: each request is parsed and passed to a {@link Handler}, which
+ * may reply on the {@link Connection} right away or later, and stream messages can be pushed to every open connection
+ * with {@link #broadcast(String)}.
+ */
+class MockWebSocketServer implements AutoCloseable {
+
+  static final ObjectMapper OBJECT_MAPPER = ObjectMapperFactory.create();
+
+  private static final String WEBSOCKET_GUID = "258EAFA5-E914-47DA-95CA-C5AB0DC85B11";
+  private static final int OPCODE_TEXT = 0x1;
+  private static final int OPCODE_CLOSE = 0x8;
+  private static final int OPCODE_PING = 0x9;
+  private static final int OPCODE_PONG = 0xA;
+
+  private final ServerSocket serverSocket;
+  private final ExecutorService executor;
+  private final List<Connection> connections = new CopyOnWriteArrayList<>();
+  private final List<JsonNode> requests = new CopyOnWriteArrayList<>();
+  private final AtomicInteger connectionCount = new AtomicInteger();
+  private volatile Handler handler = (request, connection) -> connection.send(error(request, "unknownCmd"));
+  private volatile boolean refusingHandshakes;
+
+  /**
+   * Start a server on an ephemeral port of the loopback interface.
+   *
+   * @throws IOException if the server could not be started.
+   */
+  MockWebSocketServer() throws IOException {
+    this.serverSocket = new ServerSocket(0, 50, InetAddress.getLoopbackAddress());
+    this.executor = Executors.newCachedThreadPool();
+    this.executor.execute(this::accept);
+  }
+
+  URI uri() {
+    return URI.create("ws://" + serverSocket.getInetAddress().getHostAddress() + ":" + serverSocket.getLocalPort());
+  }
+
+  void setHandler(final Handler handler) {
+    this.handler = handler;
+  }
+
+  /**
+   * The requests received so far, over every connection.
+   *
+   * @return A {@link List} of {@link JsonNode}s.
+   */
+  List<JsonNode> requests() {
+    return requests;
+  }
+
+  /**
+   * Whether to close new connections before their opening handshake, as a node that is restarting would.
+   *
+   * @param refusingHandshakes {@code true} to refuse handshakes, {@code false} to accept them again.
+   */
+  void setRefusingHandshakes(final boolean refusingHandshakes) {
+    this.refusingHandshakes = refusingHandshakes;
+  }
+
+  int connectionCount() {
+    return connectionCount.get();
+  }
+
+  /**
+   * Send a message to every open connection.
+   *
+   * @param message The text of the message.
+   */
+  void broadcast(final String message) {
+    connections.forEach(connection -> connection.send(message));
+  }
+
+  /**
+   * Abruptly close every open connection, without a closing handshake, as a lost network connection would.
+   */
+  void dropConnections() {
+    connections.forEach(Connection::drop);
+  }
+
+  private void accept() {
+    while (!serverSocket.isClosed()) {
+      try {
+        final Socket socket = serverSocket.accept();
+        executor.execute(() -> serve(socket));
+      } catch (IOException e) {
+        return;
+      }
+    }
+  }
+
+  private void serve(final Socket socket) {
+    final Connection connection = new Connection(socket);
+    try {
+      if (refusingHandshakes) {
+        return;
+      }
+      handshake(socket);
+      connections.add(connection);
+      connectionCount.incrementAndGet();
+      final DataInputStream input = new DataInputStream(socket.getInputStream());
+      while (true) {
+        final int first = input.readUnsignedByte();
+        final int second = input.readUnsignedByte();
+        long length = second & 0x7F;
+        if (length == 126) {
+          length = input.readUnsignedShort();
+        } else if (length == 127) {
+          length = input.readLong();
+        }
+        // Frames sent by clients are always masked.
+        final byte[] mask = new byte[4];
+        input.readFully(mask);
+        final byte[] payload = new byte[(int) length];
+        input.readFully(payload);
+        for (int i = 0; i < payload.length; i++) {
+          payload[i] ^= mask[i % 4];
+        }
+
+        final int opcode = first & 0x0F;
+        if (opcode == OPCODE_CLOSE) {
+          connection.write(OPCODE_CLOSE, payload);
+          return;
+        } else if (opcode == OPCODE_PING) {
+          connection.write(OPCODE_PONG, payload);
+        } else if (opcode == OPCODE_TEXT) {
+          final JsonNode request = OBJECT_MAPPER.readTree(payload);
+          requests.add(request);
+          try {
+            handler.handle(request, connection);
+          } catch (Exception e) {
+            connection.send(error(request, e.toString()));
+          }
+        }
+      }
+    } catch (IOException e) {
+      // The connection was closed.
+    } finally {
+      connections.remove(connection);
+      connection.drop();
+    }
+  }
+
+  private static void handshake(final Socket socket) throws IOException {
+    // Read one byte at a time, so that nothing after the headers is buffered away from the frame reader.
+    final InputStream input = socket.getInputStream();
+    String key = null;
+    final StringBuilder line = new StringBuilder();
+    int character;
+    while ((character = input.read()) != -1) {
+      if (character == '\n') {
+        final String header = line.toString().trim();
+        if (header.isEmpty()) {
+          break;
+        }
+        if (header.toLowerCase(Locale.ROOT).startsWith("sec-websocket-key:")) {
+          key = header.substring(header.indexOf(':') + 1).trim();
+        }
+        line.setLength(0);
+      } else {
+        line.append((char) character);
+      }
+    }
+    if (key == null) {
+      throw new IOException("Missing Sec-WebSocket-Key header");
+    }
+
+    final String accept;
+    try {
+      accept = BaseEncoding.base64().encode(MessageDigest.getInstance("SHA-1")
+        .digest((key + WEBSOCKET_GUID).getBytes(StandardCharsets.ISO_8859_1)));
+    } catch (NoSuchAlgorithmException e) {
+      throw new IOException(e);
+    }
+    final OutputStream output = socket.getOutputStream();
+    output.write(("HTTP/1.1 101 Switching Protocols\r\n" +
+      "Upgrade: websocket\r\n" +
+      "Connection: Upgrade\r\n" +
+      "Sec-WebSocket-Accept: " + accept + "\r\n\r\n").getBytes(StandardCharsets.ISO_8859_1));
+    output.flush();
+  }
+
+  @Override
+  public void close() throws IOException {
+    serverSocket.close();
+    dropConnections();
+    executor.shutdownNow();
+  }
+
+  /**
+   * A successful response to {@code request}.
+   *
+   * @param request The request {@link JsonNode} being answered.
+   * @param result  The {@link XrplResult} to respond with.
+   *
+   * @return The text of the response.
+   * @throws IOException if {@code result} could not be serialized.
+   */
+  static String response(final JsonNode request, final XrplResult result) throws IOException {
+    return response(request, OBJECT_MAPPER.writeValueAsString(result));
+  }
+
+  /**
+   * A successful response to {@code request}.
+   *
+   * @param request The request {@link JsonNode} being answered.
+   * @param result  The JSON text of the result to respond with.
+   *
+   * @return The text of the response.
+   */
+  static String response(final JsonNode request, final String result) {
+    return "{\"id\":" + request.get("id") + ",\"status\":\"success\",\"type\":\"response\",\"result\":" + result + "}";
+  }
+
+  /**
+   * An error response to {@code request}, in the shape rippled uses for WebSocket connections.
+   *
+   * @param request The request {@link JsonNode} being answered.
+   * @param error   The error code.
+   *
+   * @return The text of the response.
+   */
+  static String error(final JsonNode request, final String error) {
+    return "{\"id\":" + request.get("id") + ",\"status\":\"error\",\"type\":\"response\",\"error\":\"" + error +
+      "\",\"error_message\":\"" + error + " message\"}";
+  }
+
+  /**
+   * Decides how to reply to a request.
+   */
+  interface Handler {
+
+    void handle(JsonNode request, Connection connection) throws Exception;
+  }
+
+  /**
+   * One open WebSocket connection.
+   */
+  static final class Connection {
+
+    private final Socket socket;
+
+    private Connection(final Socket socket) {
+      this.socket = socket;
+    }
+
+    /**
+     * Send a text message, ignoring failures because the connection was closed.
+     *
+     * @param message The text of the message.
+     */
+    void send(final String message) {
+      try {
+        write(OPCODE_TEXT, message.getBytes(StandardCharsets.UTF_8));
+      } catch (IOException e) {
+        // The connection was closed.
+      }
+    }
+
+    private synchronized void write(final int opcode, final byte[] payload) throws IOException {
+      // Frames sent by servers are never masked.
+      final OutputStream output = socket.getOutputStream();
+      output.write(0x80 | opcode);
+      if (payload.length < 126) {
+        output.write(payload.length);
+      } else if (payload.length < 65536) {
+        output.write(126);
+        output.write(payload.length >>> 8);
+        output.write(payload.length & 0xFF);
+      } else {
+        output.write(127);
+        for (int shift = 56; shift >= 0; shift -= 8) {
+          output.write((int) ((long) payload.length >>> shift) & 0xFF);
+        }
+      }
+      output.write(payload);
+      output.flush();
+    }
+
+    private void drop() {
+      try {
+        socket.close();
+      } catch (IOException e) {
+        // Already closed.
+      }
+    }
+  }
+}
@@ -0,0 +1,398 @@
+package org.xrpl.xrpl4j.client;
+
+/*-
+ * ========================LICENSE_START=================================
+ * xrpl4j :: integration-tests
+ * %%
+ * Copyright (C) 2020 - 2022 XRPL Foundation and its contributors
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * =========================LICENSE_END==================================
+ */
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.xrpl.xrpl4j.client.ClientTestFixtures.ACCOUNT;
+import static org.xrpl.xrpl4j.client.ClientTestFixtures.accountInfoResult;
+
+import com.google.common.collect.Range;
+import com.google.common.primitives.UnsignedInteger;
+import com.google.common.primitives.UnsignedLong;
+import okhttp3.HttpUrl;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.xrpl.xrpl4j.client.MockRippledServer.Reply;
+import org.xrpl.xrpl4j.model.client.XrplMethods;
+import org.xrpl.xrpl4j.model.client.accounts.AccountInfoRequestParams;
+import org.xrpl.xrpl4j.model.client.accounts.AccountTransactionsRequestParams;
+import org.xrpl.xrpl4j.model.client.common.LedgerIndex;
+import org.xrpl.xrpl4j.model.client.common.LedgerIndexBound;
+import org.xrpl.xrpl4j.model.client.common.LedgerSpecifier;
+import org.xrpl.xrpl4j.model.client.transactions.SubmitRequestParams;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Unit tests for {@link MultiNodeXrplClient}, against several local {@link MockRippledServer}s.
+ */
+class MultiNodeXrplClientTest {
+
+  private static final String SERVER_INFO = "{\"result\":{\"info\":{\"build_version\":\"1.9.4\"," +
+    "\"complete_ledgers\":\"%s\",\"hostid\":\"node\",\"io_latency_ms\":1,\"jq_trans_overflow\":\"0\"," +
+    "\"last_close\":{\"converge_time_s\":2.0,\"proposers\":34}," +
+    "\"pubkey_node\":\"n9KUjqxCr5FKThSNXdzb7oqN8rYwScB2dUnNqxQxbEA17JkaWy5x\",\"server_state\":\"%s\"," +
+    "\"server_state_duration_us\":\"1\",\"time\":\"2020-Mar-24 01:27:42.147330 UTC\",\"uptime\":1984," +
+    "\"validation_quorum\":28},\"status\":\"success\"}}";
+
+  // The first health check runs when the client is constructed; the tests trigger any later ones themselves.
+  private static final MultiNodeSettings SETTINGS = MultiNodeSettings.builder()
+    .healthCheckInterval(Duration.ofHours(1))
+    .build();
+
+  private MockRippledServer first;
+  private MockRippledServer second;
+  private final Map<MockRippledServer, AtomicInteger> reads = new ConcurrentHashMap<>();
+
+  @BeforeEach
+  void setUp() throws Exception {
+    first = new MockRippledServer();
+    second = new MockRippledServer();
+  }
+
+  @AfterEach
+  void tearDown() {
+    first.close();
+    second.close();
+  }
+
+  @Test
+  void routesReadsForOldLedgersToNodesThatHaveThem() throws Exception {
+    serve(first, "100-200", "full", Duration.ZERO);
+    serve(second, "1-200", "full", Duration.ZERO);
+
+    try (MultiNodeXrplClient client = new MultiNodeXrplClient(urls(), SETTINGS)) {
+      client.refreshNodeStatuses();
+      for (int i = 0; i < 5; i++) {
+        assertThat(client.accountInfo(accountInfoParams(50))).isEqualTo(accountInfoResult());
+      }
+    }
+
+    assertThat(readCount(first)).isZero();
+    assertThat(readCount(second)).isEqualTo(5);
+  }
+
+  @Test
+  void avoidsNodesThatAreNotInSync() throws Exception {
+    serve(first, "1-200", "connected", Duration.ZERO);
+    serve(second, "1-200", "full", Duration.ZERO);
+
+    try (MultiNodeXrplClient client = new MultiNodeXrplClient(urls(), SETTINGS)) {
+      client.refreshNodeStatuses();
+      for (int i = 0; i < 5; i++) {
+        client.accountInfo(AccountInfoRequestParams.of(ACCOUNT));
+      }
+    }
+
+    assertThat(readCount(first)).isZero();
+    assertThat(readCount(second)).isEqualTo(5);
+  }
+
+  @Test
+  void failsOverWhenNodeIsUnreachable() throws Exception {
+    // Only the first node claims to have ledger 50, so reads go to it first.
+    serve(first, "1-200", "full", Duration.ZERO);
+    serve(second, "100-200", "full", Duration.ZERO);
+    final MultiNodeSettings settings = MultiNodeSettings.builder().from(SETTINGS).hedgingEnabled(false).build();
+
+    try (MultiNodeXrplClient client = new MultiNodeXrplClient(urls(), settings)) {
+      client.refreshNodeStatuses();
+      first.close();
+      for (int i = 0; i < 3; i++) {
+        assertThat(client.accountInfo(accountInfoParams(50))).isEqualTo(accountInfoResult());
+      }
+
+      final NodeStatus firstStatus = client.nodeStatuses().get(0);
+      assertThat(firstStatus.healthy()).isFalse();
+      assertThat(firstStatus.errorRate()).isPositive();
+    }
+
+    assertThat(readCount(second)).isEqualTo(3);
+  }
+
+  @Test
+  void doesNotFailOverOnErrorResponses() throws Exception {
+    serve(first, "1-200", "full", Duration.ZERO);
+    serve(second, "1-200", "full", Duration.ZERO);
+    final AtomicInteger errors = new AtomicInteger();
+    final MockRippledServer.Handler actNotFound = request -> {
+      if (request.get("method").asText().equals(XrplMethods.SERVER_INFO)) {
+        return Reply.of(200, String.format(SERVER_INFO, "1-200", "full"));
+      }
+      errors.incrementAndGet();
+      return Reply.error("actNotFound");
+    };
+    first.setHandler(actNotFound);
+    second.setHandler(actNotFound);
+
+    try (MultiNodeXrplClient client = new MultiNodeXrplClient(urls(), SETTINGS)) {
+      client.refreshNodeStatuses();
+      final JsonRpcClientErrorException error = assertThrows(
+        JsonRpcClientErrorException.class,
+        () -> client.accountInfo(AccountInfoRequestParams.of(ACCOUNT))
+      );
+      assertThat(error.getMessage()).isEqualTo("actNotFound message");
+    }
+
+    assertThat(errors).hasValue(1);
+  }
+
+  @Test
+  void failsOverOnNodeErrorResponses() throws Exception {
+    // Only the first node claims to have ledger 50, so reads go to it first, but it has lost that ledger since.
+    serve(second, "100-200", "full", Duration.ZERO);
+    reads.put(first, new AtomicInteger());
+    first.setHandler(request -> {
+      if (request.get("method").asText().equals(XrplMethods.SERVER_INFO)) {
+        return Reply.of(200, String.format(SERVER_INFO, "1-200", "full"));
+      }
+      reads.get(first).incrementAndGet();
+      return Reply.error("lgrNotFound");
+    });
+    final MultiNodeSettings settings = MultiNodeSettings.builder().from(SETTINGS).hedgingEnabled(false).build();
+
+    try (MultiNodeXrplClient client = new MultiNodeXrplClient(urls(), settings)) {
+      client.refreshNodeStatuses();
+      assertThat(client.accountInfo(accountInfoParams(50))).isEqualTo(accountInfoResult());
+
+      final NodeStatus firstStatus = client.nodeStatuses().get(0);
+      assertThat(firstStatus.errorRate()).isPositive();
+    }
+
+    assertThat(readCount(first)).isEqualTo(1);
+    assertThat(readCount(second)).isEqualTo(1);
+  }
+
+  @Test
+  void isNodeError() {
+    assertThat(LoadBalancingJsonRpcClient.isNodeError(error("{\"error\":\"lgrNotFound\"}"))).isTrue();
+    assertThat(LoadBalancingJsonRpcClient.isNodeError(error("{\"error\":\"tooBusy\"}"))).isTrue();
+    assertThat(LoadBalancingJsonRpcClient.isNodeError(error("{\"error\":\"txnNotFound\"}"))).isTrue();
+    assertThat(LoadBalancingJsonRpcClient.isNodeError(
+      error("{\"error\":\"txnNotFound\",\"searched_all\":false}"))).isTrue();
+    assertThat(LoadBalancingJsonRpcClient.isNodeError(
+      error("{\"error\":\"txnNotFound\",\"searched_all\":true}"))).isFalse();
+    assertThat(LoadBalancingJsonRpcClient.isNodeError(error("{\"error\":\"actNotFound\"}"))).isFalse();
+    assertThat(LoadBalancingJsonRpcClient.isNodeError(new JsonRpcClientErrorException("No error code"))).isFalse();
+  }
+
+  @Test
+  void hedgesSlowReads() throws Exception {
+    // Only the first node claims to have ledger 50, so reads go to it first, and the second node is the hedge.
+    serve(first, "1-200", "full", Duration.ofSeconds(5));
+    serve(second, "100-200", "full", Duration.ZERO);
+    final MultiNodeSettings settings = MultiNodeSettings.builder()
+      .from(SETTINGS)
+      .initialHedgeDelay(Duration.ofMillis(50))
+      .build();
+
+    try (MultiNodeXrplClient client = new MultiNodeXrplClient(urls(), settings)) {
+      client.refreshNodeStatuses();
+      final long start = System.nanoTime();
+      assertThat(client.accountInfo(accountInfoParams(50))).isEqualTo(accountInfoResult());
+      assertThat(Duration.ofNanos(System.nanoTime() - start)).isLessThan(Duration.ofSeconds(4));
+    }
+
+    assertThat(readCount(first)).isEqualTo(1);
+    assertThat(readCount(second)).isEqualTo(1);
+  }
+
+  @Test
+  void doesNotHedgeWhenDisabled() throws Exception {
+    serve(first, "1-200", "full", Duration.ofMillis(200));
+    serve(second, "100-200", "full", Duration.ZERO);
+    final MultiNodeSettings settings = MultiNodeSettings.builder()
+      .from(SETTINGS)
+      .hedgingEnabled(false)
+      .initialHedgeDelay(Duration.ofMillis(50))
+      .build();
+
+    try (MultiNodeXrplClient client = new MultiNodeXrplClient(urls(), settings)) {
+      client.refreshNodeStatuses();
+      assertThat(client.accountInfo(accountInfoParams(50))).isEqualTo(accountInfoResult());
+    }
+
+    assertThat(readCount(first)).isEqualTo(1);
+    assertThat(readCount(second)).isZero();
+  }
+
+  @Test
+  void doesNotHedgeWhenEveryThreadIsBusy() throws Exception {
+    serve(first, "1-200", "full", Duration.ofMillis(500));
+    serve(second, "100-200", "full", Duration.ZERO);
+    final MultiNodeSettings settings = MultiNodeSettings.builder()
+      .from(SETTINGS)
+      .initialHedgeDelay(Duration.ofMillis(50))
+      .maximumThreads(1)
+      .build();
+
+    try (MultiNodeXrplClient client = new MultiNodeXrplClient(urls(), settings)) {
+      client.refreshNodeStatuses();
+      assertThat(client.accountInfo(accountInfoParams(50))).isEqualTo(accountInfoResult());
+    }
+
+    assertThat(readCount(first)).isEqualTo(1);
+    assertThat(readCount(second)).isZero();
+  }
+
+  @Test
+  void pinsSubmissionsToOneNode() throws Exception {
+    serve(first, "1-200", "full", Duration.ZERO);
+    serve(second, "1-200", "full", Duration.ZERO);
+    final JsonRpcRequest submit = JsonRpcRequest.builder()
+      .method(XrplMethods.SUBMIT)
+      .addParams(SubmitRequestParams.of("1200"))
+      .build();
+
+    try (LoadBalancingJsonRpcClient client = new LoadBalancingJsonRpcClient(urls(), SETTINGS)) {
+      client.checkNodes();
+      for (int i = 0; i < 4; i++) {
+        client.postRpcRequest(submit);
+      }
+      final MockRippledServer pinned = readCount(first) > 0 ? first : second;
+      final MockRippledServer other = pinned == first ? second : first;
+      assertThat(readCount(pinned)).isEqualTo(4);
+      assertThat(readCount(other)).isZero();
+
+      // A submission that fails in transit is not resent, but the next one goes to another node.
+      pinned.close();
+      assertThrows(RuntimeException.class, () -> client.postRpcRequest(submit));
+      client.postRpcRequest(submit);
+      assertThat(readCount(other)).isEqualTo(1);
+    }
+  }
+
+  @Test
+  void requiredLedgers() {
+    assertThat(LoadBalancingJsonRpcClient.requiredLedgers(accountInfoRequest(AccountInfoRequestParams.of(ACCOUNT))))
+      .isEmpty();
+    assertThat(LoadBalancingJsonRpcClient.requiredLedgers(accountInfoRequest(accountInfoParams(50))))
+      .hasValue(Range.singleton(UnsignedLong.valueOf(50)));
+    assertThat(LoadBalancingJsonRpcClient.requiredLedgers(accountTransactionsRequest(10, -1))).isEmpty();
+    assertThat(LoadBalancingJsonRpcClient.requiredLedgers(accountTransactionsRequest(10, 20)))
+      .hasValue(Range.closed(UnsignedLong.valueOf(10), UnsignedLong.valueOf(20)));
+    assertThat(LoadBalancingJsonRpcClient.requiredLedgers(accountTransactionsRequest(-1, -1))).isEmpty();
+  }
+
+  @Test
+  void nodeStatuses() throws Exception {
+    serve(first, "1-5,10-200", "full", Duration.ZERO);
+    serve(second, "1-200", "syncing", Duration.ZERO);
+
+    try (MultiNodeXrplClient client = new MultiNodeXrplClient(urls(), SETTINGS)) {
+      final List<NodeStatus> statuses = client.refreshNodeStatuses();
+
+      assertThat(statuses).hasSize(2);
+      assertThat(statuses.get(0).url()).isEqualTo(first.url());
+      assertThat(statuses.get(0).healthy()).isTrue();
+      assertThat(statuses.get(0).serverState()).hasValue("full");
+      assertThat(statuses.get(0).completeLedgers()).containsExactly(
+        Range.closed(UnsignedLong.ONE, UnsignedLong.valueOf(5)),
+        Range.closed(UnsignedLong.valueOf(10), UnsignedLong.valueOf(200))
+      );
+      assertThat(statuses.get(0).requestCount()).isPositive();
+      assertThat(statuses.get(0).errorRate()).isZero();
+      assertThat(statuses.get(1).url()).isEqualTo(second.url());
+      assertThat(statuses.get(1).healthy()).isFalse();
+      assertThat(statuses.get(1).serverState()).hasValue("syncing");
+    }
+  }
+
+  @Test
+  void recordsResponsesPastIntegerMaxValue() throws Exception {
+    try (LoadBalancingJsonRpcClient client = new LoadBalancingJsonRpcClient(urls(), SETTINGS)) {
+      final LoadBalancingJsonRpcClient.Node node =
+        client.new Node(first.url(), JsonRpcClient.construct(first.url()), Integer.MAX_VALUE - 1L);
+      final long latencyNanos = Duration.ofMillis(30).toNanos();
+      for (int i = 0; i < 200; i++) {
+        node.recordResponse(latencyNanos);
+      }
+
+      assertThat(node.hedgeDelay()).isEqualTo(Duration.ofMillis(30));
+      assertThat(node.status().errorRate()).isZero();
+    }
+  }
+
+  private void serve(
+    final MockRippledServer server,
+    final String completeLedgers,
+    final String serverState,
+    final Duration readDelay
+  ) {
+    reads.put(server, new AtomicInteger());
+    server.setHandler(request -> {
+      if (request.get("method").asText().equals(XrplMethods.SERVER_INFO)) {
+        return Reply.of(200, String.format(SERVER_INFO, completeLedgers, serverState));
+      }
+      reads.get(server).incrementAndGet();
+      Thread.sleep(readDelay.toMillis());
+      return Reply.result(accountInfoResult());
+    });
+  }
+
+  private static JsonRpcClientErrorException error(final String result) {
+    try {
+      return new JsonRpcClientErrorException("error", MockRippledServer.OBJECT_MAPPER.readTree(result));
+    } catch (IOException e) {
+      throw new UncheckedIOException(e);
+    }
+  }
+
+  private int readCount(final MockRippledServer server) {
+    return reads.get(server).get();
+  }
+
+  private List<HttpUrl> urls() {
+    return Arrays.asList(first.url(), second.url());
+  }
+
+  private static JsonRpcRequest accountTransactionsRequest(final long minimum, final long maximum) {
+    return JsonRpcRequest.builder()
+      .method(XrplMethods.ACCOUNT_TX)
+      .addParams(AccountTransactionsRequestParams.builder(LedgerIndexBound.of(minimum), LedgerIndexBound.of(maximum))
+        .account(ACCOUNT)
+        .build())
+      .build();
+  }
+
+  private static JsonRpcRequest accountInfoRequest(final AccountInfoRequestParams params) {
+    return JsonRpcRequest.builder()
+      .method(XrplMethods.ACCOUNT_INFO)
+      .addParams(params)
+      .build();
+  }
+
+  private static AccountInfoRequestParams accountInfoParams(final int ledgerIndex) {
+    return AccountInfoRequestParams.builder()
+      .account(ACCOUNT)
+      .ledgerSpecifier(LedgerSpecifier.of(LedgerIndex.of(UnsignedInteger.valueOf(ledgerIndex))))
+      .build();
+  }
+}
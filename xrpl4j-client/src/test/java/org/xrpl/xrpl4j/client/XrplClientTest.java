@@ -92,6 +92,7 @@ import org.xrpl.xrpl4j.model.client.serverinfo.ServerInfo.LastClose;
 import org.xrpl.xrpl4j.model.client.serverinfo.ServerInfo.ValidatedLedger;
 import org.xrpl.xrpl4j.model.client.serverinfo.ServerInfoResult;
 import org.xrpl.xrpl4j.model.client.transactions.SubmitMultiSignedResult;
+import org.xrpl.xrpl4j.model.client.transactions.SubmitRequestParams;
 import org.xrpl.xrpl4j.model.client.transactions.SubmitResult;
 import org.xrpl.xrpl4j.model.client.transactions.TransactionRequestParams;
 import org.xrpl.xrpl4j.model.client.transactions.TransactionResult;
@@ -108,6 +109,8 @@ import org.xrpl.xrpl4j.model.transactions.XrpCurrencyAmount;
 
 import java.math.BigDecimal;
 import java.time.ZonedDateTime;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Optional;
 import java.util.Set;
 import java.util.concurrent.atomic.AtomicReference;
@@ -587,6 +590,7 @@ public class XrplClientTest {
   @Test
   public void submitSingleSignedTransaction() {
     BcSignatureService bcSignatureService = new BcSignatureService();
+    List<JsonRpcRequest> sentRequests = new ArrayList<>();
     jsonRpcClientMock = new JsonRpcClient() {
 
       @Override
@@ -599,6 +603,7 @@ public class XrplClientTest {
         JsonRpcRequest request,
         JavaType resultType
       ) {
+        sentRequests.add(request);
         return (T) mock(SubmitResult.class);
       }
     };
@@ -615,6 +620,12 @@ public class XrplClientTest {
     SingleSignedTransaction<Payment> paymentSignedTransaction = bcSignatureService.sign(keyPair.privateKey(), payment);
     xrplClient = new XrplClient(jsonRpcClientMock);
     assertDoesNotThrow(() -> xrplClient.submit(paymentSignedTransaction));
+
+    // The submitted blob is the one the signed transaction already encoded for its hash.
+    assertThat(sentRequests).hasSize(1);
+    assertThat(sentRequests.get(0).params()).containsExactly(
+      SubmitRequestParams.of(paymentSignedTransaction.signedTransactionBytes().hexValue())
+    );
   }
 
   @Test
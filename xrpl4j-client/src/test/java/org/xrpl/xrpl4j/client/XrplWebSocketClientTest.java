@@ -0,0 +1,412 @@
+package org.xrpl.xrpl4j.client;
+
+/*-
+ * ========================LICENSE_START=================================
+ * xrpl4j :: integration-tests
+ * %%
+ * Copyright (C) 2020 - 2022 XRPL Foundation and its contributors
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * =========================LICENSE_END==================================
+ */
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.xrpl.xrpl4j.client.MockWebSocketServer.OBJECT_MAPPER;
+import static org.xrpl.xrpl4j.client.MockWebSocketServer.error;
+import static org.xrpl.xrpl4j.client.MockWebSocketServer.response;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import com.google.common.primitives.UnsignedInteger;
+import com.google.common.primitives.UnsignedLong;
+import okhttp3.OkHttpClient;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.xrpl.xrpl4j.model.client.XrplMethods;
+import org.xrpl.xrpl4j.model.client.accounts.AccountTransactionsResult;
+import org.xrpl.xrpl4j.model.client.accounts.AccountTransactionsTransaction;
+import org.xrpl.xrpl4j.model.client.accounts.AccountTransactionsTransactionResult;
+import org.xrpl.xrpl4j.model.client.accounts.ImmutableAccountTransactionsResult;
+import org.xrpl.xrpl4j.model.client.common.LedgerIndex;
+import org.xrpl.xrpl4j.model.client.common.LedgerIndexBound;
+import org.xrpl.xrpl4j.model.client.common.LedgerSpecifier;
+import org.xrpl.xrpl4j.model.client.ledger.LedgerRequestParams;
+import org.xrpl.xrpl4j.model.client.ledger.LedgerResult;
+import org.xrpl.xrpl4j.model.client.subscriptions.LedgerClosedMessage;
+import org.xrpl.xrpl4j.model.client.subscriptions.StreamType;
+import org.xrpl.xrpl4j.model.client.subscriptions.SubscribeRequestParams;
+import org.xrpl.xrpl4j.model.client.transactions.TransactionResult;
+import org.xrpl.xrpl4j.model.ledger.LedgerHeader;
+import org.xrpl.xrpl4j.model.transactions.Address;
+import org.xrpl.xrpl4j.model.transactions.Hash256;
+import org.xrpl.xrpl4j.model.transactions.Payment;
+import org.xrpl.xrpl4j.model.transactions.Transaction;
+import org.xrpl.xrpl4j.model.transactions.TransactionMetadata;
+import org.xrpl.xrpl4j.model.transactions.TransactionResultCodes;
+import org.xrpl.xrpl4j.model.transactions.XrpCurrencyAmount;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+/**
+ * Unit tests for {@link XrplWebSocketClient} against a local {@link MockWebSocketServer}.
+ */
+class XrplWebSocketClientTest {
+
+  private static final Address ACCOUNT = Address.of("rG1QQv2nh2gr7RCZ1P8YYcBUKCCN633jCn");
+
+  private static final Payment PAYMENT = Payment.builder()
+    .account(ACCOUNT)
+    .destination(Address.of("rN7n7otQDd6FczFgLdSqtcsAUxDkw6fzRH"))
+    .fee(XrpCurrencyAmount.ofDrops(12))
+    .sequence(UnsignedInteger.ONE)
+    .amount(XrpCurrencyAmount.ofDrops(1000))
+    .build();
+
+  private MockWebSocketServer server;
+  private RecordingListener listener;
+  private XrplWebSocketClient client;
+
+  @BeforeEach
+  void setUp() throws Exception {
+    server = new MockWebSocketServer();
+    listener = new RecordingListener();
+    client = new XrplWebSocketClient(server.uri(), listener, new OkHttpClient(), Duration.ofMillis(10));
+  }
+
+  @AfterEach
+  void tearDown() throws Exception {
+    client.close();
+    server.close();
+  }
+
+  @Test
+  void requestsAreMultiplexedById() throws Exception {
+    // Hold the responses until every request has arrived, then answer them in reverse order.
+    final List<JsonNode> received = new ArrayList<>();
+    server.setHandler((request, connection) -> {
+      synchronized (received) {
+        received.add(request);
+        if (received.size() == 3) {
+          for (int i = received.size() - 1; i >= 0; i--) {
+            final JsonNode held = received.get(i);
+            connection.send(response(held, ledgerResult(held.get("ledger_index").asLong())));
+          }
+        }
+      }
+    });
+    client.connect().get(5, TimeUnit.SECONDS);
+
+    final List<CompletableFuture<LedgerResult>> results = new ArrayList<>();
+    for (int index = 1; index <= 3; index++) {
+      results.add(client.ledger(LedgerRequestParams.builder().ledgerSpecifier(LedgerSpecifier.of(index)).build()));
+    }
+
+    for (int index = 1; index <= 3; index++) {
+      assertThat(results.get(index - 1).get(5, TimeUnit.SECONDS)).isEqualTo(ledgerResult(index));
+    }
+    final JsonNode request = server.requests().get(0);
+    assertThat(request.get("command").asText()).isEqualTo(XrplMethods.LEDGER);
+    assertThat(request.has("id")).isTrue();
+    assertThat(request.has("params")).isFalse();
+  }
+
+  @Test
+  void errorResponseCompletesExceptionally() throws Exception {
+    server.setHandler((request, connection) -> connection.send(error(request, "lgrNotFound")));
+    client.connect().get(5, TimeUnit.SECONDS);
+
+    final ExecutionException exception = assertThrows(ExecutionException.class,
+      () -> client.ledger(LedgerRequestParams.builder().ledgerSpecifier(LedgerSpecifier.VALIDATED).build())
+        .get(5, TimeUnit.SECONDS));
+    assertThat(exception.getCause()).isInstanceOf(JsonRpcClientErrorException.class)
+      .hasMessage("lgrNotFound message");
+  }
+
+  @Test
+  void connectFailureCompletesExceptionally() throws Exception {
+    server.close();
+
+    final ExecutionException exception = assertThrows(ExecutionException.class,
+      () -> client.connect().get(5, TimeUnit.SECONDS));
+    assertThat(exception.getCause()).isInstanceOf(JsonRpcClientErrorException.class);
+  }
+
+  @Test
+  void connectRetriesAfterFailedHandshake() throws Exception {
+    server.setRefusingHandshakes(true);
+    final ExecutionException exception = assertThrows(ExecutionException.class,
+      () -> client.connect().get(5, TimeUnit.SECONDS));
+    assertThat(exception.getCause()).isInstanceOf(JsonRpcClientErrorException.class);
+
+    server.setRefusingHandshakes(false);
+    server.setHandler((request, connection) -> connection.send(response(request, ledgerResult(4))));
+    client.connect().get(5, TimeUnit.SECONDS);
+
+    assertThat(client.ledger(LedgerRequestParams.builder().ledgerSpecifier(LedgerSpecifier.of(4)).build())
+      .get(5, TimeUnit.SECONDS)).isEqualTo(ledgerResult(4));
+  }
+
+  @Test
+  void sendBeforeConnectCompletesExceptionally() {
+    final ExecutionException exception = assertThrows(ExecutionException.class,
+      () -> client.serverInformation().get(5, TimeUnit.SECONDS));
+    assertThat(exception.getCause()).isInstanceOf(JsonRpcClientErrorException.class)
+      .hasMessage("The client is not connected.");
+  }
+
+  @Test
+  void subscribeDeliversStreamMessagesOnce() throws Exception {
+    server.setHandler(subscriptionHandler(100, 100));
+    client.connect().get(5, TimeUnit.SECONDS);
+    client.subscribe(SubscribeRequestParams.builder()
+      .addStreams(StreamType.LEDGER)
+      .addAccounts(ACCOUNT)
+      .build()
+    ).get(5, TimeUnit.SECONDS);
+
+    final JsonNode subscribe = server.requests().get(0);
+    assertThat(subscribe.get("command").asText()).isEqualTo(XrplMethods.SUBSCRIBE);
+    assertThat(subscribe.get("streams").get(0).asText()).isEqualTo("ledger");
+    assertThat(subscribe.get("accounts").get(0).asText()).isEqualTo(ACCOUNT.value());
+    assertThat(subscribe.has("books")).isFalse();
+
+    server.broadcast(ledgerClosed(100));
+    server.broadcast(ledgerClosed(101));
+    server.broadcast(ledgerClosed(101));
+    server.broadcast(transaction(hash(1), 102, false));
+    server.broadcast(transaction(hash(1), 102, true));
+    server.broadcast(transaction(hash(1), 102, true));
+    server.broadcast(ledgerClosed(102));
+
+    assertThat(listener.nextLedger().ledgerIndex()).isEqualTo(ledgerIndex(101));
+    final TransactionResult<Transaction> proposed = listener.nextTransaction();
+    assertThat(proposed.validated()).isFalse();
+    assertThat(proposed.metadata()).isEmpty();
+    assertThat(proposed.transaction()).isEqualTo(PAYMENT);
+    final TransactionResult<Transaction> validated = listener.nextTransaction();
+    assertThat(validated.validated()).isTrue();
+    assertThat(validated.hash()).isEqualTo(hash(1));
+    assertThat(validated.ledgerIndex()).hasValue(ledgerIndex(102));
+    assertThat(validated.metadata()).hasValue(metadata());
+    assertThat(listener.nextLedger().ledgerIndex()).isEqualTo(ledgerIndex(102));
+
+    assertThat(listener.ledgers).isEmpty();
+    assertThat(listener.transactions).isEmpty();
+    assertThat(listener.errors).isEmpty();
+  }
+
+  @Test
+  void unsubscribeSendsUnsubscribe() throws Exception {
+    server.setHandler(subscriptionHandler(100, 100));
+    client.connect().get(5, TimeUnit.SECONDS);
+
+    client.unsubscribe(SubscribeRequestParams.builder().addStreams(StreamType.TRANSACTIONS).build())
+      .get(5, TimeUnit.SECONDS);
+
+    final JsonNode unsubscribe = server.requests().get(0);
+    assertThat(unsubscribe.get("command").asText()).isEqualTo(XrplMethods.UNSUBSCRIBE);
+    assertThat(unsubscribe.get("streams").get(0).asText()).isEqualTo("transactions");
+  }
+
+  @Test
+  void reconnectResubscribesAndBackfills() throws Exception {
+    server.setHandler(subscriptionHandler(100, 100));
+    client.connect().get(5, TimeUnit.SECONDS);
+    client.subscribe(SubscribeRequestParams.builder()
+      .addStreams(StreamType.LEDGER)
+      .addAccounts(ACCOUNT)
+      .build()
+    ).get(5, TimeUnit.SECONDS);
+    server.broadcast(ledgerClosed(101));
+    assertThat(listener.nextLedger().ledgerIndex()).isEqualTo(ledgerIndex(101));
+
+    // Ledgers 102 through 104 close while the client is disconnected, and the account sends a payment in 103.
+    server.setHandler(subscriptionHandler(104, 104));
+    server.requests().clear();
+    server.dropConnections();
+
+    assertThat(listener.errors.poll(5, TimeUnit.SECONDS)).isInstanceOf(JsonRpcClientErrorException.class);
+    for (int index = 102; index <= 104; index++) {
+      assertThat(listener.nextLedger().ledgerIndex()).isEqualTo(ledgerIndex(index));
+    }
+    final TransactionResult<Transaction> missed = listener.nextTransaction();
+    assertThat(missed.hash()).isEqualTo(hash(103));
+    assertThat(missed.validated()).isTrue();
+
+    final List<String> commands = server.requests().stream()
+      .map(request -> request.get("command").asText())
+      .collect(Collectors.toList());
+    assertThat(commands.get(0)).isEqualTo(XrplMethods.SUBSCRIBE);
+    assertThat(commands).containsOnlyOnce(XrplMethods.ACCOUNT_TX);
+    final JsonNode accountTransactions = server.requests().stream()
+      .filter(request -> request.get("command").asText().equals(XrplMethods.ACCOUNT_TX))
+      .findFirst()
+      .get();
+    assertThat(accountTransactions.get("ledger_index_min").asLong()).isEqualTo(101);
+    assertThat(accountTransactions.get("ledger_index_max").asLong()).isEqualTo(104);
+    assertThat(accountTransactions.get("forward").asBoolean()).isTrue();
+
+    // Stream messages for ledgers that were backfilled are not delivered again.
+    server.broadcast(ledgerClosed(104));
+    server.broadcast(transaction(hash(103), 103, true));
+    server.broadcast(ledgerClosed(105));
+    assertThat(listener.nextLedger().ledgerIndex()).isEqualTo(ledgerIndex(105));
+    assertThat(listener.transactions).isEmpty();
+    assertThat(server.connectionCount()).isEqualTo(2);
+  }
+
+  /**
+   * Answers subscribe, ledger and account_tx requests for a ledger stream whose current ledger is
+   * {@code currentIndex}, and whose subscribed account sent one payment in ledger 103.
+   */
+  private MockWebSocketServer.Handler subscriptionHandler(final long currentIndex, final long validatedIndex) {
+    return (request, connection) -> {
+      switch (request.get("command").asText()) {
+        case XrplMethods.SUBSCRIBE:
+          connection.send(response(request, request.has("streams") ?
+            "{\"ledger_index\":" + currentIndex + ",\"ledger_hash\":\"" + hash(currentIndex).value() + "\"}" : "{}"));
+          break;
+        case XrplMethods.UNSUBSCRIBE:
+          connection.send(response(request, "{}"));
+          break;
+        case XrplMethods.LEDGER:
+          final String ledgerIndex = request.get("ledger_index").asText();
+          connection.send(response(request,
+            ledgerResult("validated".equals(ledgerIndex) ? validatedIndex : Long.parseLong(ledgerIndex))));
+          break;
+        case XrplMethods.ACCOUNT_TX:
+          final long minimum = request.get("ledger_index_min").asLong();
+          final long maximum = request.get("ledger_index_max").asLong();
+          final ImmutableAccountTransactionsResult.Builder result = AccountTransactionsResult.builder()
+            .account(ACCOUNT)
+            .ledgerIndexMinimum(LedgerIndexBound.of(minimum))
+            .ledgerIndexMaximum(LedgerIndexBound.of(maximum))
+            .validated(true);
+          if (minimum <= 103 && 103 <= maximum) {
+            result.addTransactions(AccountTransactionsTransactionResult.<Payment>builder()
+              .resultTransaction(AccountTransactionsTransaction.<Payment>builder()
+                .transaction(PAYMENT)
+                .hash(hash(103))
+                .ledgerIndex(ledgerIndex(103))
+                .build())
+              .metadata(metadata())
+              .validated(true)
+              .build());
+          }
+          connection.send(response(request, result.build()));
+          break;
+        default:
+          connection.send(error(request, "unknownCmd"));
+      }
+    };
+  }
+
+  private static LedgerResult ledgerResult(final long index) {
+    return LedgerResult.builder()
+      .ledger(LedgerHeader.builder()
+        .ledgerIndex(ledgerIndex(index))
+        .ledgerHash(hash(index))
+        .parentHash(hash(index - 1))
+        .closeTime(UnsignedLong.valueOf(index * 10))
+        .closed(true)
+        .build())
+      .ledgerIndex(ledgerIndex(index))
+      .validated(true)
+      .build();
+  }
+
+  private static String ledgerClosed(final long index) {
+    return "{\"type\":\"ledgerClosed\",\"fee_base\":10,\"fee_ref\":10,\"ledger_hash\":\"" + hash(index).value() +
+      "\",\"ledger_index\":" + index + ",\"ledger_time\":" + index * 10 + ",\"reserve_base\":10000000," +
+      "\"reserve_inc\":2000000,\"txn_count\":0,\"validated_ledgers\":\"32570-" + index + "\"}";
+  }
+
+  private static String transaction(final Hash256 hash, final long ledgerIndex, final boolean validated) {
+    final ObjectNode transaction = OBJECT_MAPPER.valueToTree(PAYMENT);
+    transaction.put("hash", hash.value());
+    final ObjectNode message = OBJECT_MAPPER.createObjectNode()
+      .put("type", "transaction")
+      .put("engine_result", TransactionResultCodes.TES_SUCCESS)
+      .put("ledger_index", ledgerIndex)
+      .put("validated", validated);
+    if (validated) {
+      message.set("meta", OBJECT_MAPPER.valueToTree(metadata()));
+    }
+    message.set("transaction", transaction);
+    return message.toString();
+  }
+
+  private static TransactionMetadata metadata() {
+    return TransactionMetadata.builder()
+      .transactionIndex(UnsignedInteger.ZERO)
+      .transactionResult(TransactionResultCodes.TES_SUCCESS)
+      .deliveredAmount(XrpCurrencyAmount.ofDrops(1000))
+      .build();
+  }
+
+  private static LedgerIndex ledgerIndex(final long index) {
+    return LedgerIndex.of(UnsignedInteger.valueOf(index));
+  }
+
+  private static Hash256 hash(final long index) {
+    return Hash256.of(String.format("%064X", index));
+  }
+
+  /**
+   * Records every callback, so that tests can wait for them.
+   */
+  private static class RecordingListener implements StreamListener {
+
+    private final BlockingQueue<LedgerClosedMessage> ledgers = new LinkedBlockingQueue<>();
+    private final BlockingQueue<TransactionResult<Transaction>> transactions = new LinkedBlockingQueue<>();
+    private final BlockingQueue<Throwable> errors = new LinkedBlockingQueue<>();
+
+    @Override
+    public void onLedgerClosed(final LedgerClosedMessage ledgerClosed) {
+      ledgers.add(ledgerClosed);
+    }
+
+    @Override
+    public void onTransaction(final TransactionResult<Transaction> transaction) {
+      transactions.add(transaction);
+    }
+
+    @Override
+    public void onError(final Throwable error) {
+      errors.add(error);
+    }
+
+    LedgerClosedMessage nextLedger() throws InterruptedException {
+      final LedgerClosedMessage ledger = ledgers.poll(5, TimeUnit.SECONDS);
+      assertThat(ledger).as("ledgerClosed message").isNotNull();
+      return ledger;
+    }
+
+    TransactionResult<Transaction> nextTransaction() throws InterruptedException {
+      final TransactionResult<Transaction> transaction = transactions.poll(5, TimeUnit.SECONDS);
+      assertThat(transaction).as("transaction message").isNotNull();
+      return transaction;
+    }
+  }
+}
@@ -27,7 +27,6 @@ import org.xrpl.xrpl4j.codec.addresses.exceptions.EncodeException;
 import org.xrpl.xrpl4j.codec.addresses.exceptions.EncodingFormatException;
 
 import java.util.ArrayList;
-import java.util.Arrays;
 import java.util.List;
 import java.util.Objects;
 import java.util.Optional;
@@ -55,11 +54,17 @@ public class AddressBase58 extends Base58 {
     Objects.requireNonNull(versions);
     Objects.requireNonNull(expectedLength);
 
-    if (expectedLength.intValue() != bytes.getUnsignedBytes().size()) {
+    if (expectedLength.intValue() != bytes.length()) {
       throw new EncodeException("Length of bytes does not match expectedLength.");
     }
 
-    return encodeChecked(bytes.toByteArray(), versions);
+    final int versionsLength = versionsLength(versions);
+    final byte[] buffer = newCheckedBuffer(versionsLength + bytes.length());
+    writeVersions(versions, buffer);
+    for (int i = 0; i < bytes.length(); i++) {
+      buffer[versionsLength + i] = bytes.getByte(i);
+    }
+    return encodeCheckedBuffer(buffer, versionsLength + bytes.length());
   }
 
   /**
@@ -74,22 +79,28 @@ public class AddressBase58 extends Base58 {
     Objects.requireNonNull(bytes);
     Objects.requireNonNull(versions);
 
+    final int versionsLength = versionsLength(versions);
+    final byte[] buffer = newCheckedBuffer(versionsLength + bytes.length);
+    writeVersions(versions, buffer);
+    System.arraycopy(bytes, 0, buffer, versionsLength, bytes.length);
+    return encodeCheckedBuffer(buffer, versionsLength + bytes.length);
+  }
+
+  private static int versionsLength(final List<Version> versions) {
     int versionsLength = 0;
     for (Version version : versions) {
       versionsLength += version.getValues().length;
     }
-    byte[] versionsBytes = new byte[versionsLength];
-    for (int i = 0; i < versions.size(); i++) {
-      for (int j = 0; j < versions.get(i).getValues().length; j++) {
-        versionsBytes[i + j] = (byte) versions.get(i).getValues()[j];
+    return versionsLength;
+  }
+
+  private static void writeVersions(final List<Version> versions, final byte[] buffer) {
+    int index = 0;
+    for (Version version : versions) {
+      for (int value : version.getValues()) {
+        buffer[index++] = (byte) value;
       }
     }
-
-    byte[] bytesAndVersions = new byte[bytes.length + versionsLength];
-    System.arraycopy(versionsBytes, 0, bytesAndVersions, 0, versionsLength);
-    System.arraycopy(bytes, 0, bytesAndVersions, versionsLength, bytes.length);
-
-    return encodeChecked(bytesAndVersions);
   }
 
   /**
@@ -157,7 +168,8 @@ public class AddressBase58 extends Base58 {
     Objects.requireNonNull(versions);
     Objects.requireNonNull(expectedLength);
 
-    byte[] withoutSum = decodeChecked(base58Value);
+    final byte[] decoded = decode(base58Value);
+    final int withoutSumLength = verifyChecksum(decoded);
 
     if (versions.size() > 1 && !expectedLength.isPresent()) {
       throw new DecodeException("expectedLength is required because there are >= 2 possible versions");
@@ -166,26 +178,15 @@ public class AddressBase58 extends Base58 {
     int versionLengthGuess = versions.get(0).getValues().length;
     int payloadLength = expectedLength
       .map(UnsignedInteger::intValue)
-      .orElse(withoutSum.length - versionLengthGuess);
-
-    byte[] versionBytes = Arrays.copyOfRange(
-      withoutSum,
-      0,
-      withoutSum.length - payloadLength
-    );
-
-    byte[] payload = Arrays.copyOfRange(
-      withoutSum,
-      withoutSum.length - payloadLength,
-      withoutSum.length
-    );
+      .orElse(withoutSumLength - versionLengthGuess);
+    final int versionLength = withoutSumLength - payloadLength;
 
     for (int i = 0; i < versions.size(); i++) {
       Version version = versions.get(i);
-      if (Arrays.equals(versionBytes, version.getValuesAsBytes())) {
+      if (versionMatches(decoded, versionLength, version)) {
         return Decoded.builder()
           .version(version)
-          .bytes(UnsignedByteArray.of(payload))
+          .bytes(UnsignedByteArray.of(decoded, versionLength, payloadLength))
           .type(i < keyTypes.size() ? Optional.of(keyTypes.get(i)) : Optional.empty())
           .build();
       }
@@ -194,4 +195,17 @@ public class AddressBase58 extends Base58 {
     throw new DecodeException("Version is invalid. Version bytes do not match any of the provided versions.");
   }
 
+  private static boolean versionMatches(final byte[] decoded, final int versionLength, final Version version) {
+    final int[] values = version.getValues();
+    if (versionLength != values.length) {
+      return false;
+    }
+    for (int i = 0; i < versionLength; i++) {
+      if (decoded[i] != (byte) values[i]) {
+        return false;
+      }
+    }
+    return true;
+  }
+
 }
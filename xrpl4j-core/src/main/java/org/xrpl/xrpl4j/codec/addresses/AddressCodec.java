@@ -188,7 +188,7 @@ public class AddressCodec {
     Objects.requireNonNull(accountId);
     Objects.requireNonNull(tag);
 
-    if (accountId.getUnsignedBytes().size() != 20) {
+    if (accountId.length() != 20) {
       throw new EncodeException("AccountID must be 20 bytes.");
     }
 
@@ -22,10 +22,11 @@ package org.xrpl.xrpl4j.codec.addresses;
 
 import static java.util.Arrays.copyOfRange;
 
+import com.google.common.base.Preconditions;
 import org.xrpl.xrpl4j.codec.addresses.exceptions.EncodingFormatException;
 
-import java.nio.charset.StandardCharsets;
 import java.util.Arrays;
+import java.util.Objects;
 
 /**
  * Utility class for encoding and decoding in Base58.  Includes methods for encoding and decoding with a 4 byte
@@ -36,6 +37,12 @@ public class Base58 {
 
   private static final int[] INDEXES = new int[255];
 
+  /**
+   * The number of Base58 digits that fit in a single 32-bit limb; 58^5 is the largest power of 58 below 2^32.
+   */
+  private static final int DIGITS_PER_LIMB = 5;
+  private static final long BASE58_POWER = 58L * 58 * 58 * 58 * 58;
+
   static {
     Arrays.fill(INDEXES, -1);
     for (int i = 0; i < ALPHABET.length; i++) {
@@ -51,91 +58,144 @@ public class Base58 {
    * @return The bytes encoded to a Base58 {@link String}
    */
   public static String encode(byte[] input) {
-    if (input.length == 0) {
+    return encode(input, 0, input.length);
+  }
+
+  /**
+   * Encodes a range of the given bytes to a Base58 {@link String}. The input is not copied or modified.
+   *
+   * <p>Rather than dividing the whole input by 58 one byte at a time for every output character, the input is
+   * treated as a big-endian number made of 32-bit limbs and divided by 58<sup>5</sup>, which yields five output
+   * characters per pass over the limbs.</p>
+   *
+   * @param input  A byte array to encode.
+   * @param offset The index of the first byte to encode.
+   * @param length The number of bytes to encode.
+   *
+   * @return The bytes encoded to a Base58 {@link String}
+   */
+  public static String encode(byte[] input, int offset, int length) {
+    Objects.requireNonNull(input);
+    Preconditions.checkPositionIndexes(offset, offset + length, input.length);
+    if (length == 0) {
       return "";
     }
-    input = copyOfRange(input, 0, input.length);
+    final int end = offset + length;
     // Count leading zeroes.
     int zeroCount = 0;
-    while (zeroCount < input.length && input[zeroCount] == 0) {
+    while (zeroCount < length && input[offset + zeroCount] == 0) {
       ++zeroCount;
     }
-    // The actual encoding.
-    byte[] temp = new byte[input.length * 2];
-    int tempIndex = temp.length;
 
-    int startAt = zeroCount;
-    while (startAt < input.length) {
-      byte mod = divmod58(input, startAt);
-      if (input[startAt] == 0) {
+    // Load the remaining bytes into big-endian 32-bit limbs; the first limb holds any leftover high-order bytes.
+    final int significantLength = length - zeroCount;
+    final int[] limbs = new int[(significantLength + 3) / 4];
+    int byteIndex = offset + zeroCount;
+    final int firstLimbBytes = significantLength - (limbs.length - 1) * 4;
+    for (int i = 0; i < limbs.length; i++) {
+      final int limbBytes = i == 0 ? firstLimbBytes : 4;
+      int limb = 0;
+      for (int j = 0; j < limbBytes; j++) {
+        limb = (limb << 8) | (input[byteIndex++] & 0xFF);
+      }
+      limbs[i] = limb;
+    }
+
+    // Each byte needs at most log(256) / log(58) ~= 1.37 characters, plus room for a final partial group of five.
+    final char[] output = new char[zeroCount + significantLength * 138 / 100 + 1 + DIGITS_PER_LIMB];
+    int outputIndex = output.length;
+    int startAt = 0;
+    while (startAt < limbs.length) {
+      long remainder = 0;
+      for (int i = startAt; i < limbs.length; i++) {
+        final long current = (remainder << 32) | (limbs[i] & 0xFFFFFFFFL);
+        limbs[i] = (int) (current / BASE58_POWER);
+        remainder = current % BASE58_POWER;
+      }
+      while (startAt < limbs.length && limbs[startAt] == 0) {
         ++startAt;
       }
-      temp[--tempIndex] = (byte) ALPHABET[mod];
+      for (int i = 0; i < DIGITS_PER_LIMB; i++) {
+        output[--outputIndex] = ALPHABET[(int) (remainder % 58)];
+        remainder /= 58;
+      }
     }
 
     // Strip extra '1' if there are some after decoding.
-    while (tempIndex < temp.length && temp[tempIndex] == ALPHABET[0]) {
-      ++tempIndex;
+    while (outputIndex < output.length && output[outputIndex] == ALPHABET[0]) {
+      ++outputIndex;
     }
     // Add as many leading '1' as there were leading zeros.
     while (--zeroCount >= 0) {
-      temp[--tempIndex] = (byte) ALPHABET[0];
+      output[--outputIndex] = ALPHABET[0];
     }
 
-    byte[] output = copyOfRange(temp, tempIndex, temp.length);
-    return new String(output, StandardCharsets.US_ASCII);
+    return new String(output, outputIndex, output.length - outputIndex);
   }
 
   /**
    * Decodes a Base58 encoded {@link String} to a byte array.
    *
+   * <p>Characters are consumed in groups of up to five, and each group is folded into a little-endian array of 32-bit
+   * limbs with a single multiply-and-add pass, rather than one pass per character.</p>
+   *
    * @param input The Base58 {@link String}.
    *
    * @return A byte array containing the decoded Base58 {@link String}.
    */
   public static byte[] decode(String input) {
-    if (input.length() == 0) {
+    final int length = input.length();
+    if (length == 0) {
       return new byte[0];
     }
-    byte[] input58 = new byte[input.length()];
-    // Transform the String to a base58 byte sequence
-    for (int i = 0; i < input.length(); ++i) {
-      char charAtIndex = input.charAt(i);
-
-      int digit58 = -1;
-      if (charAtIndex < INDEXES.length) {
-        digit58 = INDEXES[charAtIndex];
-      }
-      if (digit58 < 0) {
-        throw new EncodingFormatException("Illegal character " + charAtIndex + " at " + i);
-      }
-
-      input58[i] = (byte) digit58;
-    }
-    // Count leading zeroes
+    // Count leading zeroes, validating characters as we go.
     int zeroCount = 0;
-    while (zeroCount < input58.length && input58[zeroCount] == 0) {
+    while (zeroCount < length && digit58(input, zeroCount) == 0) {
       ++zeroCount;
     }
-    // The encoding
-    byte[] temp = new byte[input.length()];
-    int tempIndex = temp.length;
 
-    int startAt = zeroCount;
-    while (startAt < input58.length) {
-      byte mod = divmod256(input58, startAt);
-      if (input58[startAt] == 0) {
-        ++startAt;
+    // Each character carries at most log(58) / log(256) ~= 0.733 bytes.
+    final int maxSignificantBytes = (length - zeroCount) * 733 / 1000 + 1;
+    final int[] limbs = new int[(maxSignificantBytes + 3) / 4 + 1];
+    int usedLimbs = 0;
+    int index = zeroCount;
+    while (index < length) {
+      final int groupEnd = Math.min(index + DIGITS_PER_LIMB, length);
+      long group = 0;
+      long multiplier = 1;
+      for (; index < groupEnd; index++) {
+        group = group * 58 + digit58(input, index);
+        multiplier *= 58;
       }
 
-      temp[--tempIndex] = mod;
-    }
-    // Do no add extra leading zeroes, move tempIndex to first non null byte.
-    while (tempIndex < temp.length && temp[tempIndex] == 0) {
-      ++tempIndex;
+      long carry = group;
+      for (int i = 0; i < usedLimbs; i++) {
+        final long current = (limbs[i] & 0xFFFFFFFFL) * multiplier + carry;
+        limbs[i] = (int) current;
+        carry = current >>> 32;
+      }
+      while (carry != 0) {
+        limbs[usedLimbs++] = (int) carry;
+        carry >>>= 32;
+      }
     }
 
-    return copyOfRange(temp, tempIndex - zeroCount, temp.length);
+    // Write the limbs out big-endian, skipping leading zero bytes of the number itself.
+    int significantBytes = usedLimbs * 4;
+    if (usedLimbs > 0) {
+      final int topLimb = limbs[usedLimbs - 1];
+      significantBytes -= Integer.numberOfLeadingZeros(topLimb) / 8;
+    }
+    final byte[] output = new byte[zeroCount + significantBytes];
+    int outputIndex = output.length;
+    for (int i = 0; i < usedLimbs; i++) {
+      int limb = limbs[i];
+      for (int j = 0; j < 4 && outputIndex > zeroCount; j++) {
+        output[--outputIndex] = (byte) limb;
+        limb >>>= 8;
+      }
+    }
+    return output;
   }
 
   /**
@@ -146,13 +206,37 @@ public class Base58 {
    * @return A {@link String} containing the Base58Check encoded bytes.
    */
   public static String encodeChecked(byte[] bytes) {
+    Objects.requireNonNull(bytes);
+    byte[] buffer = newCheckedBuffer(bytes.length);
+    System.arraycopy(bytes, 0, buffer, 0, bytes.length);
+    return encodeCheckedBuffer(buffer, bytes.length);
+  }
 
-    byte[] checkSum = copyOfRange(Utils.doubleDigest(bytes), 0, 4);
-    byte[] output = new byte[bytes.length + checkSum.length];
-    System.arraycopy(bytes, 0, output, 0, bytes.length);
-    System.arraycopy(checkSum, 0, output, bytes.length, checkSum.length);
+  /**
+   * Allocates a buffer that can hold a payload of {@code payloadLength} bytes followed by its double SHA-256 digest,
+   * for use with {@link #encodeCheckedBuffer(byte[], int)}.
+   *
+   * @param payloadLength The number of payload bytes the buffer must hold.
+   *
+   * @return A zero-filled byte array.
+   */
+  protected static byte[] newCheckedBuffer(int payloadLength) {
+    return new byte[payloadLength + Utils.SHA256_LENGTH];
+  }
 
-    return encode(output);
+  /**
+   * Appends a 4 byte checksum to the payload at the start of {@code buffer} and Base58 encodes the result, without
+   * copying the payload. The digest is written directly after the payload, so {@code buffer} must have been allocated
+   * by {@link #newCheckedBuffer(int)}.
+   *
+   * @param buffer        A buffer whose first {@code payloadLength} bytes hold the payload.
+   * @param payloadLength The number of payload bytes in {@code buffer}.
+   *
+   * @return A {@link String} containing the Base58Check encoded payload.
+   */
+  protected static String encodeCheckedBuffer(byte[] buffer, int payloadLength) {
+    Utils.doubleDigest(buffer, 0, payloadLength, buffer, payloadLength);
+    return encode(buffer, 0, payloadLength + 4);
   }
 
   /**
@@ -165,46 +249,41 @@ public class Base58 {
    */
   public static byte[] decodeChecked(String input) throws EncodingFormatException {
     byte[] tmp = decode(input);
-    if (tmp.length < 4) {
+    final int payloadLength = verifyChecksum(tmp);
+    return copyOfRange(tmp, 0, payloadLength);
+  }
+
+  /**
+   * Validates the 4 byte checksum at the end of a decoded Base58Check value, in place.
+   *
+   * @param decoded The output of {@link #decode(String)} for a Base58Check encoded value.
+   *
+   * @return The number of payload bytes preceding the checksum.
+   * @throws EncodingFormatException If the value is too short or the checksum does not validate.
+   */
+  protected static int verifyChecksum(byte[] decoded) throws EncodingFormatException {
+    if (decoded.length < 4) {
       throw new EncodingFormatException("Input must be longer than 3 characters.");
     }
-    byte[] bytes = copyOfRange(tmp, 0, tmp.length - 4);
-    byte[] checksum = copyOfRange(tmp, tmp.length - 4, tmp.length);
-
-    tmp = Utils.doubleDigest(bytes);
-    byte[] hash = copyOfRange(tmp, 0, 4);
-    if (!Arrays.equals(checksum, hash)) {
-      throw new EncodingFormatException("Checksum does not validate");
+    final int payloadLength = decoded.length - 4;
+    byte[] hash = Utils.doubleDigest(decoded, 0, payloadLength);
+    for (int i = 0; i < 4; i++) {
+      if (decoded[payloadLength + i] != hash[i]) {
+        throw new EncodingFormatException("Checksum does not validate");
+      }
     }
-
-    return bytes;
+    return payloadLength;
   }
 
-  private static byte divmod58(byte[] number, int startAt) {
-    int remainder = 0;
-    for (int i = startAt; i < number.length; i++) {
-      int digit256 = (int) number[i] & 0xFF;
-      int temp = remainder * 256 + digit256;
-
-      number[i] = (byte) (temp / 58);
-
-      remainder = temp % 58;
+  private static int digit58(String input, int index) {
+    final char charAtIndex = input.charAt(index);
+    int digit58 = -1;
+    if (charAtIndex < INDEXES.length) {
+      digit58 = INDEXES[charAtIndex];
     }
-
-    return (byte) remainder;
-  }
-
-  private static byte divmod256(byte[] number58, int startAt) {
-    int remainder = 0;
-    for (int i = startAt; i < number58.length; i++) {
-      int digit58 = (int) number58[i] & 0xFF;
-      int temp = remainder * 58 + digit58;
-
-      number58[i] = (byte) (temp / 256);
-
-      remainder = temp % 256;
+    if (digit58 < 0) {
+      throw new EncodingFormatException("Illegal character " + charAtIndex + " at " + index);
     }
-
-    return (byte) remainder;
+    return digit58;
   }
 }
@@ -20,8 +20,11 @@ package org.xrpl.xrpl4j.codec.addresses;
  * =========================LICENSE_END==================================
  */
 
+import com.google.common.base.Preconditions;
+import com.google.common.io.BaseEncoding;
+
 import java.util.ArrayList;
-import java.util.Collections;
+import java.util.Arrays;
 import java.util.List;
 import java.util.Locale;
 import java.util.Objects;
@@ -31,16 +34,46 @@ import javax.security.auth.Destroyable;
  * <p>Wrapper for holding unsigned bytes since unsigned bytes are hard in Java and XRPL ledger does many operations on
  * arrays on unsigned bytes.</p>
  *
+ * <p>Values are stored in a primitive {@code byte[]} that grows by doubling as bytes are appended. Instances returned
+ * by {@link #slice(int, int)} are views that share the backing array of their parent, so calls to
+ * {@link #set(int, UnsignedByte)} on either are visible in both. Appending to a slice copies the slice into its own
+ * backing array first, so it never overwrites bytes of the parent.</p>
+ *
  * <p>Note: several of the methods in this class mutate the underlying value.</p>
  */
 public class UnsignedByteArray implements Destroyable {
 
-  private final List<UnsignedByte> unsignedBytes;
+  private static final int DEFAULT_CAPACITY = 16;
+  private static final byte[] EMPTY = new byte[0];
+
+  private byte[] bytes;
+  private int offset;
+  private int length;
+  // true if this instance is a view into a backing array that another instance may also read or write.
+  private boolean shared;
   private boolean destroyed;
 
+  /**
+   * Creates an {@link UnsignedByteArray} containing a copy of the given {@link UnsignedByte}s.
+   *
+   * @param unsignedBytes A {@link List} of {@link UnsignedByte}.
+   */
   public UnsignedByteArray(final List<UnsignedByte> unsignedBytes) {
     Objects.requireNonNull(unsignedBytes);
-    this.unsignedBytes = unsignedBytes;
+    this.bytes = new byte[unsignedBytes.size()];
+    for (int i = 0; i < bytes.length; i++) {
+      this.bytes[i] = unsignedBytes.get(i).asByte();
+    }
+    this.offset = 0;
+    this.length = bytes.length;
+    this.shared = false;
+  }
+
+  private UnsignedByteArray(final byte[] bytes, final int offset, final int length, final boolean shared) {
+    this.bytes = bytes;
+    this.offset = offset;
+    this.length = length;
+    this.shared = shared;
   }
 
   /**
@@ -52,12 +85,24 @@ public class UnsignedByteArray implements Destroyable {
    */
   public static UnsignedByteArray of(final byte[] bytes) {
     Objects.requireNonNull(bytes);
+    return of(bytes, 0, bytes.length);
+  }
 
-    List<UnsignedByte> unsignedBytes = new ArrayList<>(bytes.length);
-    for (int i = 0; i < bytes.length; i++) {
-      unsignedBytes.add(i, UnsignedByte.of(bytes[i]));
-    }
-    return new UnsignedByteArray(unsignedBytes);
+  /**
+   * Creates an {@link UnsignedByteArray} from a range of a byte array. The bytes are copied, so later changes to
+   * {@code bytes} are not reflected in the result.
+   *
+   * @param bytes  The byte array to copy from.
+   * @param offset The index of the first byte to copy.
+   * @param length The number of bytes to copy.
+   *
+   * @return An {@link UnsignedByteArray} containing {@code length} bytes of {@code bytes}, starting at
+   *   {@code offset}.
+   */
+  public static UnsignedByteArray of(final byte[] bytes, final int offset, final int length) {
+    Objects.requireNonNull(bytes);
+    Preconditions.checkPositionIndexes(offset, offset + length, bytes.length);
+    return new UnsignedByteArray(Arrays.copyOfRange(bytes, offset, offset + length), 0, length, false);
   }
 
   /**
@@ -69,10 +114,12 @@ public class UnsignedByteArray implements Destroyable {
    * @return An {@link UnsignedByteArray} with the given {@link UnsignedByte}s.
    */
   public static UnsignedByteArray of(UnsignedByte first, UnsignedByte... rest) {
-    List<UnsignedByte> unsignedBytes = new ArrayList<>();
-    unsignedBytes.add(first);
-    Collections.addAll(unsignedBytes, rest);
-    return new UnsignedByteArray(unsignedBytes);
+    byte[] bytes = new byte[rest.length + 1];
+    bytes[0] = first.asByte();
+    for (int i = 0; i < rest.length; i++) {
+      bytes[i + 1] = rest[i].asByte();
+    }
+    return new UnsignedByteArray(bytes, 0, bytes.length, false);
   }
 
   /**
@@ -81,7 +128,7 @@ public class UnsignedByteArray implements Destroyable {
    * @return An empty {@link UnsignedByteArray}.
    */
   public static UnsignedByteArray empty() {
-    return new UnsignedByteArray(new ArrayList<>());
+    return new UnsignedByteArray(EMPTY, 0, 0, false);
   }
 
   /**
@@ -92,7 +139,7 @@ public class UnsignedByteArray implements Destroyable {
    * @return An {@link UnsignedByteArray} of the requested size with all 0 {@link UnsignedByte}s
    */
   public static UnsignedByteArray ofSize(int size) {
-    return new UnsignedByteArray(fill(size));
+    return new UnsignedByteArray(new byte[size], 0, size, false);
   }
 
   /**
@@ -104,8 +151,8 @@ public class UnsignedByteArray implements Destroyable {
    */
   public static UnsignedByteArray fromHex(String hex) {
     Objects.requireNonNull(hex);
-    List<UnsignedByte> unsignedBytes = ByteUtils.parse(hex.toUpperCase(Locale.ENGLISH));
-    return new UnsignedByteArray(unsignedBytes);
+    byte[] bytes = decodeHex(hex);
+    return new UnsignedByteArray(bytes, 0, bytes.length, false);
   }
 
   protected static List<UnsignedByte> fill(int amount) {
@@ -117,27 +164,56 @@ public class UnsignedByteArray implements Destroyable {
   }
 
   /**
-   * Get the underlying {@link List} of {@link UnsignedByte}s for this {@link UnsignedByteArray}.
+   * Decodes a hex {@link String} into bytes. Odd-length input is treated as if it were left-padded with a single
+   * {@code 0}, matching {@link ByteUtils#padded(String)}.
    *
-   * @return The underlying {@link List} of {@link UnsignedByte}s.
+   * @param hex A hexadecimal encoded {@link String}, in either case.
+   *
+   * @return The decoded bytes.
+   */
+  private static byte[] decodeHex(String hex) {
+    final int pad = hex.length() % 2;
+    final byte[] bytes = new byte[(hex.length() + pad) / 2];
+    int charIndex = 0;
+    for (int i = 0; i < bytes.length; i++) {
+      int high = (i == 0 && pad == 1) ? 0 : hexDigit(hex.charAt(charIndex++));
+      int low = hexDigit(hex.charAt(charIndex++));
+      bytes[i] = (byte) ((high << 4) | low);
+    }
+    return bytes;
+  }
+
+  private static int hexDigit(char character) {
+    int digit = Character.digit(character, 16);
+    if (digit < 0) {
+      throw new NumberFormatException("Invalid hex character: " + character);
+    }
+    return digit;
+  }
+
+  /**
+   * Get the bytes of this {@link UnsignedByteArray}.
+   *
+   * <p>Bytes are not stored as {@link UnsignedByte}s, so this method allocates a new {@link List} on every call.
+   * Prefer {@link #toByteArray()}, {@link #getByte(int)} or {@link #length()}.</p>
+   *
+   * @return A copy of the bytes in this {@link UnsignedByteArray} as a {@link List} of {@link UnsignedByte}s.
    */
   public List<UnsignedByte> getUnsignedBytes() {
+    List<UnsignedByte> unsignedBytes = new ArrayList<>(length);
+    for (int i = 0; i < length; i++) {
+      unsignedBytes.add(UnsignedByte.of(bytes[offset + i]));
+    }
     return unsignedBytes;
   }
 
   /**
    * Converts this {@link UnsignedByteArray} to a byte array.
    *
-   * @return This {@link UnsignedByteArray} as a byte array.
+   * @return A copy of this {@link UnsignedByteArray} as a byte array.
    */
   public byte[] toByteArray() {
-    byte[] bytes = new byte[unsignedBytes.size()];
-
-    for (int i = 0; i < unsignedBytes.size(); i++) {
-      bytes[i] = unsignedBytes.get(i).asByte();
-    }
-
-    return bytes;
+    return Arrays.copyOfRange(bytes, offset, offset + length);
   }
 
   /**
@@ -146,7 +222,7 @@ public class UnsignedByteArray implements Destroyable {
    * @return This {@link UnsignedByteArray} as a hex encoded {@link String}.
    */
   public String hexValue() {
-    return ByteUtils.toHex(unsignedBytes).toUpperCase(Locale.ENGLISH);
+    return BaseEncoding.base16().encode(bytes, offset, length).toUpperCase(Locale.ENGLISH);
   }
 
   /**
@@ -155,7 +231,7 @@ public class UnsignedByteArray implements Destroyable {
    * @return The length of this {@link UnsignedByteArray}, as an int.
    */
   public int length() {
-    return unsignedBytes.size();
+    return length;
   }
 
   /**
@@ -166,7 +242,19 @@ public class UnsignedByteArray implements Destroyable {
    * @return The {@link UnsignedByte} at the given index.
    */
   public UnsignedByte get(int index) {
-    return unsignedBytes.get(index);
+    return UnsignedByte.of(getByte(index));
+  }
+
+  /**
+   * Gets the raw byte at a given index without allocating an {@link UnsignedByte}.
+   *
+   * @param index The index of the byte to get.
+   *
+   * @return The byte at the given index. Use {@code & 0xFF} to obtain its unsigned value.
+   */
+  public byte getByte(int index) {
+    Preconditions.checkElementIndex(index, length);
+    return bytes[offset + index];
   }
 
   /**
@@ -177,7 +265,20 @@ public class UnsignedByteArray implements Destroyable {
    * @return This {@link UnsignedByteArray}, with the given {@link UnsignedByte} appended.
    */
   public UnsignedByteArray append(UnsignedByte unsignedByte) {
-    unsignedBytes.add(unsignedByte);
+    return append(unsignedByte.asByte());
+  }
+
+  /**
+   * Appends a raw byte to this {@link UnsignedByteArray}.
+   *
+   * @param value A byte to append.
+   *
+   * @return This {@link UnsignedByteArray}, with the given byte appended.
+   */
+  public UnsignedByteArray append(byte value) {
+    ensureWritable(1);
+    bytes[offset + length] = value;
+    length++;
     return this;
   }
 
@@ -190,7 +291,26 @@ public class UnsignedByteArray implements Destroyable {
    * @return the same instance.
    */
   public UnsignedByteArray append(UnsignedByteArray array) {
-    unsignedBytes.addAll(array.getUnsignedBytes());
+    return append(array.bytes, array.offset, array.length);
+  }
+
+  /**
+   * Appends a range of a byte array to the end of this array. Note: this method mutates the instance and returns the
+   * same instance (mainly for call chaining convenience).
+   *
+   * @param source       The byte array to copy from.
+   * @param sourceOffset The index of the first byte in {@code source} to append.
+   * @param sourceLength The number of bytes to append.
+   *
+   * @return the same instance.
+   */
+  public UnsignedByteArray append(byte[] source, int sourceOffset, int sourceLength) {
+    Objects.requireNonNull(source);
+    Preconditions.checkPositionIndexes(sourceOffset, sourceOffset + sourceLength, source.length);
+    ensureWritable(sourceLength);
+    // System.arraycopy handles the case where source is this instance's own backing array.
+    System.arraycopy(source, sourceOffset, bytes, offset + length, sourceLength);
+    length += sourceLength;
     return this;
   }
 
@@ -201,11 +321,13 @@ public class UnsignedByteArray implements Destroyable {
    * @param value The {@link UnsignedByte} to set at the given index.
    */
   public void set(int index, UnsignedByte value) {
-    unsignedBytes.set(index, value);
+    Preconditions.checkElementIndex(index, length);
+    bytes[offset + index] = value.asByte();
   }
 
   /**
-   * Returns a slice of the underlying byte array from the given start to the end index (exclusive).
+   * Returns a slice of the underlying byte array from the given start to the end index (exclusive). The slice shares
+   * the backing array of this instance, so no bytes are copied.
    *
    * @param startIndex start index (inclusive)
    * @param endIndex   end index (exclusive)
@@ -213,7 +335,35 @@ public class UnsignedByteArray implements Destroyable {
    * @return An {@link UnsignedByteArray} containing the sliced elements.
    */
   public UnsignedByteArray slice(int startIndex, int endIndex) {
-    return new UnsignedByteArray(unsignedBytes.subList(startIndex, endIndex));
+    Preconditions.checkPositionIndexes(startIndex, endIndex, length);
+    return new UnsignedByteArray(bytes, offset + startIndex, endIndex - startIndex, true);
+  }
+
+  /**
+   * Makes sure there is room for {@code additional} more bytes after the end of this array, growing the backing
+   * array by doubling if necessary. Views created by {@link #slice(int, int)} are always copied to a new backing
+   * array before being written past their end.
+   *
+   * @param additional The number of bytes that are about to be appended.
+   */
+  private void ensureWritable(int additional) {
+    final int required = length + additional;
+    if (!shared && offset + required <= bytes.length) {
+      return;
+    }
+    int capacity = Math.max(bytes.length - offset, DEFAULT_CAPACITY);
+    while (capacity < required) {
+      capacity = capacity << 1;
+      if (capacity <= 0) {
+        capacity = required;
+        break;
+      }
+    }
+    byte[] grown = new byte[capacity];
+    System.arraycopy(bytes, offset, grown, 0, length);
+    this.bytes = grown;
+    this.offset = 0;
+    this.shared = false;
   }
 
   @Override
@@ -225,25 +375,42 @@ public class UnsignedByteArray implements Destroyable {
       return false;
     }
     UnsignedByteArray that = (UnsignedByteArray) object;
-    return getUnsignedBytes().equals(that.getUnsignedBytes());
+    if (length != that.length) {
+      return false;
+    }
+    for (int i = 0; i < length; i++) {
+      if (bytes[offset + i] != that.bytes[that.offset + i]) {
+        return false;
+      }
+    }
+    return true;
   }
 
   @Override
   public int hashCode() {
-    return Objects.hash(getUnsignedBytes());
+    // Equivalent to Objects.hash(List<UnsignedByte>), which was the hash code of this class when it was backed by a
+    // List, so hash codes are stable across versions.
+    int listHash = 1;
+    for (int i = 0; i < length; i++) {
+      listHash = 31 * listHash + (31 + (bytes[offset + i] & 0xFF));
+    }
+    return 31 + listHash;
   }
 
   @Override
   public String toString() {
     return "UnsignedByteArray{" +
-      "unsignedBytes=List(size=" + unsignedBytes.size() + ")" +
+      "unsignedBytes=List(size=" + length + ")" +
       '}';
   }
 
   @Override
   public void destroy() {
-    this.unsignedBytes.forEach(UnsignedByte::destroy);
-    this.unsignedBytes.clear();
+    Arrays.fill(bytes, offset, offset + length, (byte) 0);
+    this.bytes = EMPTY;
+    this.offset = 0;
+    this.length = 0;
+    this.shared = false;
     this.destroyed = true;
   }
 
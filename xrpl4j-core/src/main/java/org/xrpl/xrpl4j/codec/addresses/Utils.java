@@ -20,20 +20,31 @@ package org.xrpl.xrpl4j.codec.addresses;
  * =========================LICENSE_END==================================
  */
 
+import com.google.common.base.Preconditions;
+
+import java.security.DigestException;
 import java.security.MessageDigest;
 import java.security.NoSuchAlgorithmException;
+import java.util.Objects;
 
 public class Utils {
 
-  private static final MessageDigest digest;
+  /**
+   * The length, in bytes, of a SHA-256 hash.
+   */
+  public static final int SHA256_LENGTH = 32;
 
-  static {
+  /**
+   * {@link MessageDigest}s are not thread-safe, so each thread gets its own rather than every Base58Check encode or
+   * decode in the JVM contending for a single shared instance.
+   */
+  private static final ThreadLocal<MessageDigest> digest = ThreadLocal.withInitial(() -> {
     try {
-      digest = MessageDigest.getInstance("SHA-256");
+      return MessageDigest.getInstance("SHA-256");
     } catch (NoSuchAlgorithmException e) {
       throw new RuntimeException(e);  // Can't happen.
     }
-  }
+  });
 
   /**
    * See {@link Utils#doubleDigest(byte[], int, int)}.
@@ -57,11 +68,39 @@ public class Utils {
    * @return The SHA-256 hash of the SHA-256 hash of the given input.
    */
   public static byte[] doubleDigest(byte[] input, int offset, int length) {
-    synchronized (digest) {
-      digest.reset();
-      digest.update(input, offset, length);
-      byte[] first = digest.digest();
-      return digest.digest(first);
+    byte[] output = new byte[SHA256_LENGTH];
+    doubleDigest(input, offset, length, output, 0);
+    return output;
+  }
+
+  /**
+   * Calculates the SHA-256 hash of the given byte range, hashes the resulting hash again, and writes the
+   * {@link #SHA256_LENGTH} byte result into {@code output} starting at {@code outputOffset}. No intermediate arrays are
+   * allocated, and callers on different threads never block one another.
+   *
+   * @param input        A byte array to double digest.
+   * @param offset       The beginning index of the input to digest.
+   * @param length       The length of the input to digest.
+   * @param output       The byte array to write the hash to.
+   * @param outputOffset The index in {@code output} to start writing at.
+   *
+   * @throws IndexOutOfBoundsException if either range falls outside of its array.
+   */
+  public static void doubleDigest(byte[] input, int offset, int length, byte[] output, int outputOffset) {
+    Objects.requireNonNull(input);
+    Objects.requireNonNull(output);
+    Preconditions.checkPositionIndexes(offset, offset + length, input.length);
+    Preconditions.checkPositionIndexes(outputOffset, outputOffset + SHA256_LENGTH, output.length);
+
+    final MessageDigest sha256 = digest.get();
+    sha256.reset();
+    sha256.update(input, offset, length);
+    try {
+      sha256.digest(output, outputOffset, SHA256_LENGTH);
+      sha256.update(output, outputOffset, SHA256_LENGTH);
+      sha256.digest(output, outputOffset, SHA256_LENGTH);
+    } catch (DigestException e) {
+      throw new IllegalStateException(e);  // Can't happen; the output range was checked above.
     }
   }
 
@@ -0,0 +1,146 @@
+package org.xrpl.xrpl4j.codec.binary;
+
+/*-
+ * ========================LICENSE_START=================================
+ * xrpl4j :: binary-codec
+ * %%
+ * Copyright (C) 2020 - 2022 XRPL Foundation and its contributors
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * =========================LICENSE_END==================================
+ */
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.xrpl.xrpl4j.codec.addresses.UnsignedByteArray;
+import org.xrpl.xrpl4j.model.jackson.ObjectMapperFactory;
+import org.xrpl.xrpl4j.model.transactions.Transaction;
+import org.xrpl.xrpl4j.model.transactions.TransactionType;
+
+import java.util.Objects;
+
+/**
+ * Decodes canonical XRPL binary directly into xrpl4j model objects (e.g. {@link Transaction}s or ledger objects).
+ *
+ * <p>Unlike {@code objectMapper.readValue(binaryCodec.decode(hex), type)}, this decoder never renders or re-parses
+ * an intermediate JSON {@link String}: the binary is parsed once into a {@link JsonNode} tree by
+ * {@link XrplBinaryCodec#decodeToJson(byte[])}, and that tree is bound straight onto the concrete model type. For
+ * {@link Transaction}s, the concrete type is resolved from the {@code TransactionType} field up front, which avoids
+ * the additional tree copy performed by the polymorphic {@link Transaction} deserializer.</p>
+ */
+public class BinaryModelDecoder {
+
+  private static final String TRANSACTION_TYPE_FIELD_NAME = "TransactionType";
+
+  private static final BinaryModelDecoder INSTANCE = new BinaryModelDecoder(
+    ObjectMapperFactory.create(),
+    XrplBinaryCodec.getInstance()
+  );
+
+  /**
+   * Obtain the singleton instance of {@link BinaryModelDecoder}.
+   *
+   * @return A {@link BinaryModelDecoder}.
+   */
+  public static BinaryModelDecoder getInstance() {
+    return INSTANCE;
+  }
+
+  private final ObjectMapper objectMapper;
+  private final XrplBinaryCodec binaryCodec;
+
+  /**
+   * Required-args constructor.
+   *
+   * @param objectMapper An {@link ObjectMapper} configured for the xrpl4j model (see {@link ObjectMapperFactory}).
+   * @param binaryCodec  A {@link XrplBinaryCodec}.
+   */
+  public BinaryModelDecoder(final ObjectMapper objectMapper, final XrplBinaryCodec binaryCodec) {
+    this.objectMapper = Objects.requireNonNull(objectMapper);
+    this.binaryCodec = Objects.requireNonNull(binaryCodec);
+  }
+
+  /**
+   * Decode canonical XRPL binary into the concrete {@link Transaction} type named by its {@code TransactionType}
+   * field.
+   *
+   * @param encodedTransaction The canonical binary bytes of a transaction.
+   *
+   * @return The decoded {@link Transaction}.
+   *
+   * @throws JsonProcessingException  if the decoded fields cannot be bound to the transaction's model type.
+   * @throws IllegalArgumentException if the binary does not contain a known {@code TransactionType}.
+   */
+  public Transaction decodeTransaction(final byte[] encodedTransaction) throws JsonProcessingException {
+    final JsonNode transactionJson = binaryCodec.decodeToJson(encodedTransaction);
+    final JsonNode transactionTypeNode = transactionJson.get(TRANSACTION_TYPE_FIELD_NAME);
+    if (transactionTypeNode == null) {
+      throw new IllegalArgumentException("Encoded transaction does not contain a TransactionType field.");
+    }
+    final TransactionType transactionType = TransactionType.forValue(transactionTypeNode.asText());
+    final Class<? extends Transaction> transactionClass = Transaction.typeMap.inverse().get(transactionType);
+    if (transactionClass == null) {
+      throw new IllegalArgumentException("No Transaction model type registered for " + transactionType);
+    }
+    return objectMapper.treeToValue(transactionJson, transactionClass);
+  }
+
+  /**
+   * Decode canonical XRPL binary into the concrete {@link Transaction} type named by its {@code TransactionType}
+   * field.
+   *
+   * @param encodedTransaction The canonical binary bytes of a transaction, as an {@link UnsignedByteArray}.
+   *
+   * @return The decoded {@link Transaction}.
+   *
+   * @throws JsonProcessingException  if the decoded fields cannot be bound to the transaction's model type.
+   * @throws IllegalArgumentException if the binary does not contain a known {@code TransactionType}.
+   */
+  public Transaction decodeTransaction(final UnsignedByteArray encodedTransaction) throws JsonProcessingException {
+    Objects.requireNonNull(encodedTransaction);
+    return decodeTransaction(encodedTransaction.toByteArray());
+  }
+
+  /**
+   * Decode canonical XRPL binary into the given model type.
+   *
+   * @param encoded The canonical binary bytes to decode.
+   * @param type    The model type to bind the decoded fields to.
+   * @param <T>     The model type.
+   *
+   * @return An instance of {@code type}.
+   *
+   * @throws JsonProcessingException if the decoded fields cannot be bound to {@code type}.
+   */
+  public <T> T decode(final byte[] encoded, final Class<T> type) throws JsonProcessingException {
+    Objects.requireNonNull(type);
+    return objectMapper.treeToValue(binaryCodec.decodeToJson(encoded), type);
+  }
+
+  /**
+   * Decode canonical XRPL binary into the given model type.
+   *
+   * @param encoded The canonical binary bytes to decode, as an {@link UnsignedByteArray}.
+   * @param type    The model type to bind the decoded fields to.
+   * @param <T>     The model type.
+   *
+   * @return An instance of {@code type}.
+   *
+   * @throws JsonProcessingException if the decoded fields cannot be bound to {@code type}.
+   */
+  public <T> T decode(final UnsignedByteArray encoded, final Class<T> type) throws JsonProcessingException {
+    Objects.requireNonNull(encoded);
+    return decode(encoded.toByteArray(), type);
+  }
+}
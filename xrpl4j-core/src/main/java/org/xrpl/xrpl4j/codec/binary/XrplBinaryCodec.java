@@ -50,6 +50,13 @@ public class XrplBinaryCodec {
   public static final String CHANNEL_FIELD_NAME = "Channel";
   public static final String AMOUNT_FIELD_NAME = "Amount";
 
+  private static final byte[] TRX_SIGNATURE_PREFIX_BYTES =
+    UnsignedByteArray.fromHex(TRX_SIGNATURE_PREFIX).toByteArray();
+  private static final byte[] TRX_MULTI_SIGNATURE_PREFIX_BYTES =
+    UnsignedByteArray.fromHex(TRX_MULTI_SIGNATURE_PREFIX).toByteArray();
+  private static final byte[] PAYMENT_CHANNEL_CLAIM_SIGNATURE_PREFIX_BYTES =
+    UnsignedByteArray.fromHex(PAYMENT_CHANNEL_CLAIM_SIGNATURE_PREFIX).toByteArray();
+
   private static final DefinitionsService definitionsService = DefinitionsService.getInstance();
   private static final ObjectMapper objectMapper = BinaryCodecObjectMapperFactory.getObjectMapper();
 
@@ -75,22 +82,24 @@ public class XrplBinaryCodec {
   public String encode(String json) throws JsonProcessingException {
     Objects.requireNonNull(json);
     JsonNode node = BinaryCodecObjectMapperFactory.getObjectMapper().readTree(json);
-    return encode(node);
+    return encodeToBytes(node).hexValue();
   }
 
   /**
-   * Encodes JSON to canonical XRPL binary as a hex string.
+   * Encodes JSON to canonical XRPL binary.
+   *
+   * <p>Callers that hold a model object should convert it with {@link ObjectMapper#valueToTree(Object)} and use this
+   * method, which avoids writing the object to a JSON {@link String} and parsing it back again.</p>
    *
    * @param jsonNode A {@link JsonNode} containing JSON to be encoded.
    *
-   * @return A {@link String} containing the hex-encoded representation of {@code jsonNode}.
-   * @throws JsonProcessingException if {@code jsonNode} is not valid JSON.
+   * @return An {@link UnsignedByteArray} containing the canonical binary representation of {@code jsonNode}.
    */
-  private String encode(final JsonNode jsonNode) {
+  public UnsignedByteArray encodeToBytes(final JsonNode jsonNode) {
     Objects.requireNonNull(jsonNode);
     UnsignedByteArray byteList = UnsignedByteArray.empty();
     new STObjectType().fromJson(jsonNode).toBytesSink(byteList);
-    return byteList.hexValue();
+    return byteList;
   }
 
   /**
@@ -103,7 +112,22 @@ public class XrplBinaryCodec {
    */
   public String encodeForSigning(String json) throws JsonProcessingException {
     JsonNode node = BinaryCodecObjectMapperFactory.getObjectMapper().readTree(json);
-    return TRX_SIGNATURE_PREFIX + encode(removeNonSigningFields(node));
+    return encodeForSigningToBytes(node).hexValue();
+  }
+
+  /**
+   * Encodes JSON to canonical XRPL binary, prefixed with the single-signing hash prefix and omitting any fields that
+   * are not signing fields.
+   *
+   * @param jsonNode A {@link JsonNode} containing JSON to be encoded. This node is not modified.
+   *
+   * @return An {@link UnsignedByteArray} containing the bytes to sign.
+   */
+  public UnsignedByteArray encodeForSigningToBytes(final JsonNode jsonNode) {
+    Objects.requireNonNull(jsonNode);
+    UnsignedByteArray byteList = UnsignedByteArray.of(TRX_SIGNATURE_PREFIX_BYTES);
+    new STObjectType().fromJson(removeNonSigningFields(jsonNode)).toBytesSink(byteList);
+    return byteList;
   }
 
   /**
@@ -117,13 +141,47 @@ public class XrplBinaryCodec {
    */
   public String encodeForMultiSigning(String json, String xrpAccountId) throws JsonProcessingException {
     JsonNode node = BinaryCodecObjectMapperFactory.getObjectMapper().readTree(json);
-    if (!node.isObject()) {
+    return encodeForMultiSigningToBytes(node, xrpAccountId).hexValue();
+  }
+
+  /**
+   * Encodes JSON to canonical XRPL binary for multi-signing purposes. The result is prefixed with the multi-signing
+   * hash prefix, omits any fields that are not signing fields, and is suffixed with the signer's AccountID.
+   *
+   * @param jsonNode     A {@link JsonNode} containing JSON to be encoded. This node is not modified.
+   * @param xrpAccountId A {@link String} containing the XRPL AccountId.
+   *
+   * @return An {@link UnsignedByteArray} containing the bytes to sign.
+   */
+  public UnsignedByteArray encodeForMultiSigningToBytes(final JsonNode jsonNode, final String xrpAccountId) {
+    Objects.requireNonNull(xrpAccountId);
+    UnsignedByteArray byteList = encodeForMultiSigningPayloadToBytes(jsonNode);
+    new AccountIdType().fromJson(new TextNode(xrpAccountId)).toBytesSink(byteList);
+    return byteList;
+  }
+
+  /**
+   * Encodes JSON to the part of the canonical XRPL multi-signing bytes that is common to every signer: the
+   * multi-signing hash prefix followed by the signing fields. Appending a signer's 20-byte AccountID to the result
+   * yields the same bytes as {@link #encodeForMultiSigningToBytes(JsonNode, String)}, so a transaction can be encoded
+   * once and then signed by many signers.
+   *
+   * @param jsonNode A {@link JsonNode} containing JSON to be encoded. This node is not modified.
+   *
+   * @return An {@link UnsignedByteArray} containing the bytes to sign, less the signer's AccountID.
+   */
+  public UnsignedByteArray encodeForMultiSigningPayloadToBytes(final JsonNode jsonNode) {
+    Objects.requireNonNull(jsonNode);
+    if (!jsonNode.isObject()) {
       throw new IllegalArgumentException("JSON object required for signing");
     }
+    ObjectNode signingNode = (ObjectNode) removeNonSigningFields(jsonNode);
     // any existing signing keys should not also be signed
-    ((ObjectNode) node).set("SigningPubKey", new TextNode(""));
-    String suffix = new AccountIdType().fromJson(new TextNode(xrpAccountId)).toHex();
-    return TRX_MULTI_SIGNATURE_PREFIX + encode(removeNonSigningFields(node)) + suffix;
+    signingNode.set("SigningPubKey", new TextNode(""));
+
+    UnsignedByteArray byteList = UnsignedByteArray.of(TRX_MULTI_SIGNATURE_PREFIX_BYTES);
+    new STObjectType().fromJson(signingNode).toBytesSink(byteList);
+    return byteList;
   }
 
   /**
@@ -137,22 +195,35 @@ public class XrplBinaryCodec {
    */
   public String encodeForSigningClaim(String json) throws JsonProcessingException {
     JsonNode node = BinaryCodecObjectMapperFactory.getObjectMapper().readTree(json);
-    if (!node.isObject()) {
+    return encodeForSigningClaimToBytes(node).hexValue();
+  }
+
+  /**
+   * Encodes JSON to canonical XRPL binary for signing payment channel claims. The only JSON fields which will be
+   * encoded are "Channel" and "Amount".
+   *
+   * @param jsonNode A {@link JsonNode} containing the claim to be encoded.
+   *
+   * @return An {@link UnsignedByteArray} containing the bytes to sign.
+   */
+  public UnsignedByteArray encodeForSigningClaimToBytes(final JsonNode jsonNode) {
+    Objects.requireNonNull(jsonNode);
+    if (!jsonNode.isObject()) {
       throw new IllegalArgumentException("JSON object required for signing");
     }
 
-    if (!node.has("Channel") || !node.has("Amount")) {
+    if (!jsonNode.has("Channel") || !jsonNode.has("Amount")) {
       throw new IllegalArgumentException("Unsigned claims must have Channel and Amount fields.");
     }
-    UnsignedByteArray channel = UnsignedByteArray.fromHex(node.get(CHANNEL_FIELD_NAME).asText());
+    UnsignedByteArray channel = UnsignedByteArray.fromHex(jsonNode.get(CHANNEL_FIELD_NAME).asText());
     UnsignedByteArray amount = UnsignedByteArray.of(
-      new UInt64Type(UnsignedLong.valueOf(node.get(AMOUNT_FIELD_NAME).asText())).toBytes()
+      new UInt64Type(UnsignedLong.valueOf(jsonNode.get(AMOUNT_FIELD_NAME).asText())).toBytes()
     );
 
-    UnsignedByteArray byteArray = UnsignedByteArray.empty();
+    UnsignedByteArray byteArray = UnsignedByteArray.of(PAYMENT_CHANNEL_CLAIM_SIGNATURE_PREFIX_BYTES);
     byteArray.append(channel);
     byteArray.append(amount);
-    return PAYMENT_CHANNEL_CLAIM_SIGNATURE_PREFIX + byteArray.hexValue();
+    return byteArray;
   }
 
   /**
@@ -163,21 +234,62 @@ public class XrplBinaryCodec {
    * @return A JSON {@link String} representing the decoded encodedTransaction.
    */
   public String decode(String encodedTransaction) {
-    final String nonSignPrefixHex;
-    if (encodedTransaction.startsWith(TRX_SIGNATURE_PREFIX)) {
-      nonSignPrefixHex = encodedTransaction.substring(TRX_SIGNATURE_PREFIX.length());
-    } else if (encodedTransaction.startsWith(TRX_MULTI_SIGNATURE_PREFIX)) {
-      // The suffix is always a Hash160, which is 160 bits/20 bytes, which is 40 HEX chars.
-      final int suffixLength = 40;
-      nonSignPrefixHex = encodedTransaction.substring(
-        TRX_MULTI_SIGNATURE_PREFIX.length(), encodedTransaction.length() - suffixLength
+    Objects.requireNonNull(encodedTransaction);
+    return decode(UnsignedByteArray.fromHex(encodedTransaction).toByteArray());
+  }
+
+  /**
+   * Decodes canonical XRPL binary transaction bytes to JSON. Any single-signing or multi-signing prefix (and, for
+   * multi-signing, the trailing AccountID suffix) is stripped before decoding.
+   *
+   * @param encodedTransaction The canonical binary bytes to decode to JSON.
+   *
+   * @return A JSON {@link String} representing the decoded encodedTransaction.
+   */
+  public String decode(byte[] encodedTransaction) {
+    return decodeToJson(encodedTransaction).toString();
+  }
+
+  /**
+   * Decodes canonical XRPL binary transaction bytes to a {@link JsonNode} tree, without ever rendering an
+   * intermediate JSON {@link String}. The returned tree can be bound to a model type directly (e.g. via
+   * {@link ObjectMapper#treeToValue}). Prefixes and suffixes are handled as in {@link #decode(byte[])}.
+   *
+   * @param encodedTransaction The canonical binary bytes to decode.
+   *
+   * @return A {@link JsonNode} representing the decoded encodedTransaction.
+   */
+  public JsonNode decodeToJson(byte[] encodedTransaction) {
+    Objects.requireNonNull(encodedTransaction);
+    final BinaryParser parser;
+    if (startsWith(encodedTransaction, TRX_SIGNATURE_PREFIX_BYTES)) {
+      parser = new BinaryParser(
+        encodedTransaction, TRX_SIGNATURE_PREFIX_BYTES.length,
+        encodedTransaction.length - TRX_SIGNATURE_PREFIX_BYTES.length
+      );
+    } else if (startsWith(encodedTransaction, TRX_MULTI_SIGNATURE_PREFIX_BYTES)) {
+      // The suffix is always a Hash160, which is 160 bits/20 bytes.
+      final int suffixLength = 20;
+      parser = new BinaryParser(
+        encodedTransaction, TRX_MULTI_SIGNATURE_PREFIX_BYTES.length,
+        encodedTransaction.length - TRX_MULTI_SIGNATURE_PREFIX_BYTES.length - suffixLength
       );
     } else {
-      nonSignPrefixHex = encodedTransaction;
+      parser = new BinaryParser(encodedTransaction);
+    }
+    return parser.readType(STObjectType.class).toJson();
+  }
+
+  private static boolean startsWith(byte[] bytes, byte[] prefix) {
+    if (bytes.length < prefix.length) {
+      return false;
+    }
+    for (int i = 0; i < prefix.length; i++) {
+      if (bytes[i] != prefix[i]) {
+        return false;
+      }
     }
-    return new BinaryParser(nonSignPrefixHex).readType(STObjectType.class)
-      .toJson()
-      .toString();
+    return true;
   }
 
   /**
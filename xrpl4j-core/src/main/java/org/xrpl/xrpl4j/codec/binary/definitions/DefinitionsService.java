@@ -27,6 +27,8 @@ import com.google.common.collect.ImmutableMap;
 import org.xrpl.xrpl4j.codec.binary.BinaryCodecObjectMapperFactory;
 import org.xrpl.xrpl4j.codec.binary.FieldHeader;
 
+import java.util.Arrays;
+import java.util.Collection;
 import java.util.HashMap;
 import java.util.Map;
 import java.util.Optional;
@@ -46,6 +48,14 @@ public class DefinitionsService {
 
   private final Map<FieldHeader, String> fieldIdNameMap;
 
+  private final Map<String, FieldInstance> fieldInstanceMap;
+
+  /**
+   * Every {@link FieldInstance} whose type code fits in a binary field header, indexed first by type code and then by
+   * field code. Rows and columns that do not correspond to a defined field are {@code null}.
+   */
+  private final FieldInstance[][] fieldInstancesByCode;
+
   private final Map<String, Integer> typeOrdinalMap;
 
   private final Map<Integer, String> transactionTypeReverseLookupMap;
@@ -66,6 +76,7 @@ public class DefinitionsService {
 
     Map<String, FieldInfo> tempFieldInfoMap = new HashMap<>();
     Map<FieldHeader, String> tempFieldIdNameMap = new HashMap<>();
+    Map<String, FieldInstance> tempFieldInstanceMap = new HashMap<>();
     this.definitions.fields().forEach(field -> {
       try {
         String fieldName = field.get(0).textValue();
@@ -75,12 +86,23 @@ public class DefinitionsService {
           .build();
         tempFieldInfoMap.put(fieldName, metadata);
         tempFieldIdNameMap.put(fieldHeader, fieldName);
+        tempFieldInstanceMap.put(fieldName, FieldInstance.builder()
+          .header(fieldHeader)
+          .isSerialized(metadata.isSerialized())
+          .isSigningField(metadata.isSigningField())
+          .isVariableLengthEncoded(metadata.isVariableLengthEncoded())
+          .nth(metadata.nth())
+          .name(fieldName)
+          .type(metadata.type())
+          .build());
       } catch (JsonProcessingException e) {
         throw new IllegalArgumentException("invalid json", e);
       }
     });
     this.fieldInfoMap = ImmutableMap.copyOf(tempFieldInfoMap);
     this.fieldIdNameMap = ImmutableMap.copyOf(tempFieldIdNameMap);
+    this.fieldInstanceMap = ImmutableMap.copyOf(tempFieldInstanceMap);
+    this.fieldInstancesByCode = indexByCode(fieldInstanceMap.values());
     this.transactionTypeReverseLookupMap = inverse(definitions.transactionTypes());
     this.transactionResultReverseLookupNap = inverse(definitions.transactionResults());
     this.ledgerEntryTypeReverseLookupMap = inverse(definitions.ledgerEntryTypes());
@@ -144,25 +166,47 @@ public class DefinitionsService {
   }
 
   /**
-   * Obtain an optionally-present field instance with the specified field header name.
+   * Obtain an optionally-present field instance for the specified type code and field code, as read from a binary
+   * field header. This is a constant-time array lookup against instances built once, when this service was
+   * constructed.
+   *
+   * @param typeCode  The type code of the field header.
+   * @param fieldCode The field code of the field header.
+   *
+   * @return An {@link Optional} of type {@link FieldInstance}.
+   */
+  public Optional<FieldInstance> getFieldInstance(int typeCode, int fieldCode) {
+    if (typeCode < 0 || typeCode >= fieldInstancesByCode.length) {
+      return Optional.empty();
+    }
+    final FieldInstance[] fieldInstancesOfType = fieldInstancesByCode[typeCode];
+    if (fieldInstancesOfType == null || fieldCode < 0 || fieldCode >= fieldInstancesOfType.length) {
+      return Optional.empty();
+    }
+    return Optional.ofNullable(fieldInstancesOfType[fieldCode]);
+  }
+
+  /**
+   * Obtain an optionally-present field instance for the specified field header.
+   *
+   * @param fieldHeader A {@link FieldHeader}.
+   *
+   * @return An {@link Optional} of type {@link FieldInstance}.
+   */
+  public Optional<FieldInstance> getFieldInstance(FieldHeader fieldHeader) {
+    return getFieldInstance(fieldHeader.typeCode(), fieldHeader.fieldCode());
+  }
+
+  /**
+   * Obtain an optionally-present field instance with the specified field header name. Instances are built once, when
+   * this service is constructed, so repeated lookups return the same object.
    *
    * @param fieldName A {@link String} for the field instance to obtain.
    *
    * @return An {@link Optional} of type {@link FieldInstance}.
    */
   public Optional<FieldInstance> getFieldInstance(String fieldName) {
-    return DefinitionsService.getInstance().getFieldInfo(fieldName)
-      .flatMap(info -> getFieldHeader(fieldName)
-        .map(header ->
-          FieldInstance.builder()
-            .header(header)
-            .isSerialized(info.isSerialized())
-            .isSigningField(info.isSigningField())
-            .isVariableLengthEncoded(info.isVariableLengthEncoded())
-            .nth(info.nth())
-            .name(fieldName)
-            .type(info.type())
-            .build()));
+    return Optional.ofNullable(fieldInstanceMap.get(fieldName));
   }
 
   /**
@@ -213,6 +257,34 @@ public class DefinitionsService {
     }
   }
 
+  private FieldInstance[][] indexByCode(Collection<FieldInstance> fieldInstances) {
+    // Type codes outside of a single byte (e.g. Transaction, LedgerEntry or the negative sentinels) can never appear in
+    // a binary field header, so they are only reachable by name.
+    final int maxTypeCode = fieldInstances.stream()
+      .mapToInt(instance -> instance.header().typeCode())
+      .filter(DefinitionsService::isHeaderCode)
+      .max()
+      .orElse(-1);
+    final FieldInstance[][] byCode = new FieldInstance[maxTypeCode + 1][];
+    fieldInstances.stream()
+      .filter(instance -> isHeaderCode(instance.header().typeCode()) && isHeaderCode(instance.header().fieldCode()))
+      .forEach(instance -> {
+        final int typeCode = instance.header().typeCode();
+        final int fieldCode = instance.header().fieldCode();
+        FieldInstance[] row = byCode[typeCode];
+        if (row == null || row.length <= fieldCode) {
+          row = row == null ? new FieldInstance[fieldCode + 1] : Arrays.copyOf(row, fieldCode + 1);
+          byCode[typeCode] = row;
+        }
+        row[fieldCode] = instance;
+      });
+    return byCode;
+  }
+
+  private static boolean isHeaderCode(int code) {
+    return code >= 0 && code <= 0xFF;
+  }
+
   private Map<Integer, String> inverse(Map<String, Integer> map) {
     return map.entrySet()
       .stream()
@@ -0,0 +1,431 @@
+package org.xrpl.xrpl4j.codec.binary.serdes;
+
+/*-
+ * ========================LICENSE_START=================================
+ * xrpl4j :: binary-codec
+ * %%
+ * Copyright (C) 2020 - 2022 XRPL Foundation and its contributors
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * =========================LICENSE_END==================================
+ */
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.node.TextNode;
+import com.google.common.base.Preconditions;
+import org.xrpl.xrpl4j.codec.addresses.UnsignedByteArray;
+import org.xrpl.xrpl4j.codec.binary.definitions.DefinitionsService;
+import org.xrpl.xrpl4j.codec.binary.definitions.FieldInstance;
+import org.xrpl.xrpl4j.codec.binary.types.SerializedType;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+
+/**
+ * A lazy, random-access view over a serialized STObject (e.g. a transaction or ledger entry in canonical XRPL binary).
+ *
+ * <p>Constructing a view scans the field headers of the object exactly once and records where each field's value
+ * starts and ends, skipping over fixed-width values, length-prefixed values, and nested objects, arrays and path sets
+ * without decoding them. Individual values are then decoded only when asked for, so reading two or three fields (e.g.
+ * {@code TransactionType}, {@code Account} and {@code Sequence}) does not pay for decoding the rest of the object
+ * into JSON as {@link org.xrpl.xrpl4j.codec.binary.types.STObjectType#toJson()} does.</p>
+ *
+ * <p>Nested {@code STObject} fields are exposed as views via {@link #getObject(String)}, and the elements of
+ * {@code STArray} fields via {@link #getArray(String)}. Views share the supplied byte array rather than copying it, so
+ * callers must not modify that array while a view over it is in use. Instances are immutable and thread-safe.</p>
+ */
+public final class BinaryObjectView {
+
+  private static final String OBJECT_END_MARKER = "ObjectEndMarker";
+  private static final String ARRAY_END_MARKER = "ArrayEndMarker";
+  private static final String ST_OBJECT = "STObject";
+  private static final String ST_ARRAY = "STArray";
+
+  private static final int PATHSET_END_BYTE = 0x00;
+  private static final int PATH_SEPARATOR_BYTE = 0xFF;
+  private static final int HOP_TYPE_ACCOUNT = 0x01;
+  private static final int HOP_TYPE_CURRENCY = 0x10;
+  private static final int HOP_TYPE_ISSUER = 0x20;
+  private static final int HOP_ELEMENT_WIDTH = 20;
+
+  private static final int NATIVE_AMOUNT_WIDTH = 8;
+  private static final int ISSUED_AMOUNT_WIDTH = 48;
+
+  private static final DefinitionsService definitionsService = DefinitionsService.getInstance();
+
+  private final byte[] bytes;
+  private final int offset;
+  private final int length;
+
+  private final FieldInstance[] fields;
+  // The start (inclusive) and end (exclusive) of each field's value. Length prefixes are excluded, as are the end
+  // markers of nested objects and arrays.
+  private final int[] valueStarts;
+  private final int[] valueEnds;
+
+  private BinaryObjectView(final byte[] bytes, final int offset, final int length) {
+    this.bytes = bytes;
+    this.offset = offset;
+    this.length = length;
+
+    final int limit = offset + length;
+    final List<FieldInstance> fieldList = new ArrayList<>();
+    int[] starts = new int[16];
+    int[] ends = new int[16];
+
+    final BinaryParser parser = new BinaryParser(bytes, offset, length);
+    while (parser.hasMore()) {
+      final FieldInstance field = readField(parser);
+      if (field.name().equals(OBJECT_END_MARKER)) {
+        break;
+      }
+
+      final int valueStart;
+      final int valueEnd;
+      if (field.isVariableLengthEncoded()) {
+        final int valueLength = parser.readVariableLengthLength();
+        valueStart = parser.position();
+        parser.skip(valueLength);
+        valueEnd = parser.position();
+      } else {
+        valueStart = parser.position();
+        valueEnd = skipValue(parser, field);
+      }
+      if (parser.position() > limit) {
+        throw new IllegalArgumentException(String.format("Field %s extends past the end of the object", field.name()));
+      }
+
+      final int index = fieldList.size();
+      if (index == starts.length) {
+        starts = Arrays.copyOf(starts, index * 2);
+        ends = Arrays.copyOf(ends, index * 2);
+      }
+      fieldList.add(field);
+      starts[index] = valueStart;
+      ends[index] = valueEnd;
+    }
+
+    this.fields = fieldList.toArray(new FieldInstance[0]);
+    this.valueStarts = starts;
+    this.valueEnds = ends;
+  }
+
+  /**
+   * Construct a view over an STObject serialized in {@code bytes}. The array is not copied.
+   *
+   * @param bytes The canonical binary bytes of an STObject, without any signing prefix.
+   *
+   * @return A {@link BinaryObjectView}.
+   *
+   * @throws IllegalArgumentException if the bytes are not a well-formed STObject.
+   */
+  public static BinaryObjectView of(final byte[] bytes) {
+    Objects.requireNonNull(bytes);
+    return new BinaryObjectView(bytes, 0, bytes.length);
+  }
+
+  /**
+   * Construct a view over an STObject serialized in a range of {@code bytes}. The array is not copied.
+   *
+   * @param bytes  A byte array containing the canonical binary bytes of an STObject.
+   * @param offset The index of the first byte of the object.
+   * @param length The number of bytes in the object.
+   *
+   * @return A {@link BinaryObjectView}.
+   *
+   * @throws IllegalArgumentException if the bytes are not a well-formed STObject.
+   */
+  public static BinaryObjectView of(final byte[] bytes, final int offset, final int length) {
+    Objects.requireNonNull(bytes);
+    Preconditions.checkPositionIndexes(offset, offset + length, bytes.length);
+    return new BinaryObjectView(bytes, offset, length);
+  }
+
+  /**
+   * Construct a view over an STObject serialized in {@code bytes}.
+   *
+   * @param bytes An {@link UnsignedByteArray} containing the canonical binary bytes of an STObject.
+   *
+   * @return A {@link BinaryObjectView}.
+   *
+   * @throws IllegalArgumentException if the bytes are not a well-formed STObject.
+   */
+  public static BinaryObjectView of(final UnsignedByteArray bytes) {
+    Objects.requireNonNull(bytes);
+    return of(bytes.toByteArray());
+  }
+
+  /**
+   * The number of fields in this object.
+   *
+   * @return An int.
+   */
+  public int size() {
+    return fields.length;
+  }
+
+  /**
+   * The fields of this object, in the order they appear in the binary.
+   *
+   * @return An unmodifiable {@link List} of {@link FieldInstance}.
+   */
+  public List<FieldInstance> fields() {
+    return Collections.unmodifiableList(Arrays.asList(fields));
+  }
+
+  /**
+   * Whether this object contains the named field.
+   *
+   * @param fieldName The name of a field, e.g. {@code Account}.
+   *
+   * @return {@code true} if the field is present; {@code false} otherwise.
+   */
+  public boolean hasField(final String fieldName) {
+    return indexOf(fieldName) >= 0;
+  }
+
+  /**
+   * Decode the value of the named field.
+   *
+   * @param fieldName The name of a field, e.g. {@code Sequence}.
+   *
+   * @return The decoded {@link SerializedType}, or empty if the field is not present.
+   */
+  public Optional<SerializedType<?>> getValue(final String fieldName) {
+    final int index = indexOf(fieldName);
+    if (index < 0) {
+      return Optional.empty();
+    }
+    final FieldInstance field = fields[index];
+    final SerializedType<?> type = SerializedType.getTypeByName(field.type());
+    final int valueLength = valueEnds[index] - valueStarts[index];
+    final BinaryParser parser = new BinaryParser(bytes, valueStarts[index], valueLength);
+    final SerializedType<?> value = field.isVariableLengthEncoded() ?
+      type.fromParser(parser, valueLength) :
+      type.fromParser(parser);
+    return Optional.of(value);
+  }
+
+  /**
+   * Decode the value of the named field to JSON. Fields such as {@code TransactionType} are mapped to their names, so
+   * the result is the same as the corresponding entry of
+   * {@link org.xrpl.xrpl4j.codec.binary.types.STObjectType#toJson()}.
+   *
+   * @param fieldName The name of a field, e.g. {@code TransactionType}.
+   *
+   * @return The value as a {@link JsonNode}, or empty if the field is not present.
+   */
+  public Optional<JsonNode> getJson(final String fieldName) {
+    return getValue(fieldName).map(value -> {
+      final JsonNode json = value.toJson();
+      return definitionsService.mapFieldRawValueToSpecialization(fieldName, json.asText())
+        .map(TextNode::new)
+        .map(JsonNode.class::cast)
+        .orElse(json);
+    });
+  }
+
+  /**
+   * The raw bytes of the value of the named field, without decoding it. Length prefixes of variable-length fields and
+   * the end markers of nested objects and arrays are not included.
+   *
+   * @param fieldName The name of a field, e.g. {@code SigningPubKey}.
+   *
+   * @return A copy of the value's bytes, or empty if the field is not present.
+   */
+  public Optional<UnsignedByteArray> getRawValue(final String fieldName) {
+    final int index = indexOf(fieldName);
+    if (index < 0) {
+      return Optional.empty();
+    }
+    return Optional.of(UnsignedByteArray.of(bytes, valueStarts[index], valueEnds[index] - valueStarts[index]));
+  }
+
+  /**
+   * A view over the nested {@code STObject} held by the named field.
+   *
+   * @param fieldName The name of an {@code STObject} field, e.g. {@code CreatedNode}.
+   *
+   * @return A {@link BinaryObjectView}, or empty if the field is not present.
+   *
+   * @throws IllegalArgumentException if the field is not an {@code STObject}.
+   */
+  public Optional<BinaryObjectView> getObject(final String fieldName) {
+    final int index = indexOf(fieldName);
+    if (index < 0) {
+      return Optional.empty();
+    }
+    Preconditions.checkArgument(fields[index].type().equals(ST_OBJECT), "%s is not an STObject field", fieldName);
+    return Optional.of(new BinaryObjectView(bytes, valueStarts[index], valueEnds[index] - valueStarts[index]));
+  }
+
+  /**
+   * Views over the elements of the {@code STArray} held by the named field. As in JSON, each element is an object
+   * with a single field wrapping the inner object (e.g. {@code {"Memo": {...}}}).
+   *
+   * @param fieldName The name of an {@code STArray} field, e.g. {@code Memos}.
+   *
+   * @return A {@link List} of {@link BinaryObjectView}, or empty if the field is not present.
+   *
+   * @throws IllegalArgumentException if the field is not an {@code STArray}.
+   */
+  public Optional<List<BinaryObjectView>> getArray(final String fieldName) {
+    final int index = indexOf(fieldName);
+    if (index < 0) {
+      return Optional.empty();
+    }
+    Preconditions.checkArgument(fields[index].type().equals(ST_ARRAY), "%s is not an STArray field", fieldName);
+
+    final List<BinaryObjectView> elements = new ArrayList<>();
+    final BinaryParser parser = new BinaryParser(bytes, valueStarts[index], valueEnds[index] - valueStarts[index]);
+    while (parser.hasMore()) {
+      final int elementStart = parser.position();
+      readField(parser);
+      skipObject(parser);
+      elements.add(new BinaryObjectView(bytes, elementStart, parser.position() - elementStart));
+    }
+    return Optional.of(Collections.unmodifiableList(elements));
+  }
+
+  /**
+   * The serialized bytes of this object.
+   *
+   * @return A copy of the bytes this view covers.
+   */
+  public UnsignedByteArray toBytes() {
+    return UnsignedByteArray.of(bytes, offset, length);
+  }
+
+  private int indexOf(final String fieldName) {
+    Objects.requireNonNull(fieldName);
+    final Optional<FieldInstance> target = definitionsService.getFieldInstance(fieldName);
+    if (!target.isPresent()) {
+      return -1;
+    }
+    final int ordinal = target.get().ordinal();
+    for (int i = 0; i < fields.length; i++) {
+      if (fields[i].ordinal() == ordinal) {
+        return i;
+      }
+    }
+    return -1;
+  }
+
+  private static FieldInstance readField(final BinaryParser parser) {
+    return parser.readField().orElseThrow(() -> new IllegalArgumentException("bad field encountered"));
+  }
+
+  /**
+   * Skip over the value of a field that is not variable-length encoded.
+   *
+   * @param parser A {@link BinaryParser} positioned at the start of the value.
+   * @param field  The {@link FieldInstance} whose value is being skipped.
+   *
+   * @return The end of the value, excluding any trailing end marker.
+   */
+  private static int skipValue(final BinaryParser parser, final FieldInstance field) {
+    switch (field.type()) {
+      case "UInt8":
+        parser.skip(1);
+        break;
+      case "UInt16":
+        parser.skip(2);
+        break;
+      case "UInt32":
+        parser.skip(4);
+        break;
+      case "UInt64":
+        parser.skip(8);
+        break;
+      case "Hash128":
+        parser.skip(16);
+        break;
+      case "Hash160":
+      case "Currency":
+        parser.skip(20);
+        break;
+      case "Hash256":
+        parser.skip(32);
+        break;
+      case "Amount":
+        parser.skip((parser.peekUInt8() & 0x80) == 0 ? NATIVE_AMOUNT_WIDTH : ISSUED_AMOUNT_WIDTH);
+        break;
+      case ST_OBJECT:
+        return skipObject(parser);
+      case ST_ARRAY:
+        return skipArray(parser);
+      case "PathSet":
+        skipPathSet(parser);
+        break;
+      default:
+        parser.readFieldValue(field);
+        break;
+    }
+    return parser.position();
+  }
+
+  private static int skipObject(final BinaryParser parser) {
+    while (parser.hasMore()) {
+      final int fieldStart = parser.position();
+      final FieldInstance field = readField(parser);
+      if (field.name().equals(OBJECT_END_MARKER)) {
+        return fieldStart;
+      }
+      if (field.isVariableLengthEncoded()) {
+        parser.skip(parser.readVariableLengthLength());
+      } else {
+        skipValue(parser, field);
+      }
+    }
+    return parser.position();
+  }
+
+  private static int skipArray(final BinaryParser parser) {
+    while (parser.hasMore()) {
+      final int fieldStart = parser.position();
+      final FieldInstance field = readField(parser);
+      if (field.name().equals(ARRAY_END_MARKER)) {
+        return fieldStart;
+      }
+      skipObject(parser);
+    }
+    return parser.position();
+  }
+
+  private static void skipPathSet(final BinaryParser parser) {
+    while (parser.hasMore()) {
+      final int hopType = parser.readUInt8();
+      if (hopType == PATHSET_END_BYTE) {
+        return;
+      }
+      if (hopType == PATH_SEPARATOR_BYTE) {
+        continue;
+      }
+      int hopLength = 0;
+      if ((hopType & HOP_TYPE_ACCOUNT) > 0) {
+        hopLength += HOP_ELEMENT_WIDTH;
+      }
+      if ((hopType & HOP_TYPE_CURRENCY) > 0) {
+        hopLength += HOP_ELEMENT_WIDTH;
+      }
+      if ((hopType & HOP_TYPE_ISSUER) > 0) {
+        hopLength += HOP_ELEMENT_WIDTH;
+      }
+      parser.skip(hopLength);
+    }
+  }
+}
@@ -20,8 +20,7 @@ package org.xrpl.xrpl4j.codec.binary.serdes;
  * =========================LICENSE_END==================================
  */
 
-import com.google.common.primitives.UnsignedLong;
-import org.xrpl.xrpl4j.codec.addresses.ByteUtils;
+import com.google.common.base.Preconditions;
 import org.xrpl.xrpl4j.codec.addresses.UnsignedByte;
 import org.xrpl.xrpl4j.codec.addresses.UnsignedByteArray;
 import org.xrpl.xrpl4j.codec.binary.FieldHeader;
@@ -30,13 +29,15 @@ import org.xrpl.xrpl4j.codec.binary.definitions.FieldInstance;
 import org.xrpl.xrpl4j.codec.binary.types.FieldWithValue;
 import org.xrpl.xrpl4j.codec.binary.types.SerializedType;
 
-import java.util.ArrayList;
-import java.util.List;
+import java.nio.ByteBuffer;
 import java.util.Objects;
 import java.util.Optional;
 
 /**
- * Parser for XRPL binary hex values.
+ * Parser for XRPL binary values.
+ *
+ * <p>The parser reads from a {@code byte[]} using an int cursor. Input supplied as a {@code byte[]} or
+ * {@link ByteBuffer} is not copied, so it must not be modified while it is being parsed.</p>
  */
 public class BinaryParser {
 
@@ -50,22 +51,92 @@ public class BinaryParser {
   public static final int MAX_BYTE_VALUE = 256;
   // max value that can be represented in using two 8-bit bytes
   public static final int MAX_DOUBLE_BYTE_VALUE = 65536;
-  // 1 byte encodes to 2 characters in hex
-  private static final int BYTE_HEX_LENGTH = 2;
-  private final String hex;
 
-  private int cursor = 0;
+  private final byte[] bytes;
+  private final int start;
+  private final int end;
 
+  private int cursor;
+
+  /**
+   * Construct a parser over hex-encoded binary. The hex is decoded once, up front.
+   *
+   * @param hex A hex-encoded {@link String}.
+   */
   public BinaryParser(String hex) {
-    this.hex = hex;
+    this(UnsignedByteArray.fromHex(Objects.requireNonNull(hex)).toByteArray());
+  }
+
+  /**
+   * Construct a parser over the given bytes.
+   *
+   * @param bytes The bytes to parse.
+   */
+  public BinaryParser(byte[] bytes) {
+    this(bytes, 0, Objects.requireNonNull(bytes).length);
+  }
+
+  /**
+   * Construct a parser over a range of the given bytes.
+   *
+   * @param bytes  The bytes to parse.
+   * @param offset The index of the first byte to parse.
+   * @param length The number of bytes to parse.
+   */
+  public BinaryParser(byte[] bytes, int offset, int length) {
+    Objects.requireNonNull(bytes);
+    Preconditions.checkPositionIndexes(offset, offset + length, bytes.length);
+    this.bytes = bytes;
+    this.start = offset;
+    this.cursor = offset;
+    this.end = offset + length;
+  }
+
+  /**
+   * Construct a parser over the remaining bytes of a {@link ByteBuffer}. The position of {@code buffer} is not
+   * changed. Heap buffers are read in place; direct buffers are copied.
+   *
+   * @param buffer A {@link ByteBuffer}.
+   */
+  public BinaryParser(ByteBuffer buffer) {
+    Objects.requireNonNull(buffer);
+    if (buffer.hasArray()) {
+      this.bytes = buffer.array();
+      this.cursor = buffer.arrayOffset() + buffer.position();
+    } else {
+      this.bytes = new byte[buffer.remaining()];
+      buffer.duplicate().get(this.bytes);
+      this.cursor = 0;
+    }
+    this.start = this.cursor;
+    this.end = this.cursor + buffer.remaining();
+  }
+
+  /**
+   * Construct a parser over the bytes of an {@link UnsignedByteArray}.
+   *
+   * @param bytes An {@link UnsignedByteArray}.
+   */
+  public BinaryParser(UnsignedByteArray bytes) {
+    this(Objects.requireNonNull(bytes).toByteArray());
   }
 
   public UnsignedByte peek() {
-    return UnsignedByte.of(hex.substring(cursor, cursor + BYTE_HEX_LENGTH));
+    return UnsignedByte.of(peekUInt8());
+  }
+
+  /**
+   * Get the unsigned value of the next byte without advancing the cursor.
+   *
+   * @return The next byte, as an int between 0 and 255.
+   */
+  public int peekUInt8() {
+    checkAvailable(1);
+    return bytes[cursor] & 0xFF;
   }
 
   public void skip(int bytesToSkip) {
-    cursor += bytesToSkip * BYTE_HEX_LENGTH;
+    cursor += bytesToSkip;
   }
 
   /**
@@ -76,39 +147,69 @@ public class BinaryParser {
    * @return An {@link UnsignedByteArray}.
    */
   public UnsignedByteArray read(int bytesToRead) {
-    if (cursor >= hex.length()) {
+    if (cursor >= end) {
       throw new IndexOutOfBoundsException("cursor moved past end of buffer");
     }
-    List<UnsignedByte> result = new ArrayList<>();
-    for (int i = 0; i < bytesToRead; i++) {
-      result.add(peek());
-      skip(1);
-    }
-    return new UnsignedByteArray(result);
+    checkAvailable(bytesToRead);
+    UnsignedByteArray result = UnsignedByteArray.of(bytes, cursor, bytesToRead);
+    cursor += bytesToRead;
+    return result;
   }
 
-  public UnsignedLong readUInt8() {
-    return readUInt(1);
+  /**
+   * Read a single unsigned byte.
+   *
+   * @return The byte, as an int between 0 and 255.
+   */
+  public int readUInt8() {
+    checkAvailable(1);
+    return bytes[cursor++] & 0xFF;
   }
 
-  public UnsignedLong readUInt16() {
-    return readUInt(2);
+  /**
+   * Read a big-endian unsigned 16-bit integer.
+   *
+   * @return The value, as an int between 0 and 65535.
+   */
+  public int readUInt16() {
+    return (int) readUInt(2);
   }
 
-  public UnsignedLong readUInt32() {
+  /**
+   * Read a big-endian unsigned 32-bit integer.
+   *
+   * @return The value, as a non-negative long.
+   */
+  public long readUInt32() {
     return readUInt(4);
   }
 
-  public UnsignedLong readUInt64() {
+  /**
+   * Read a big-endian unsigned 64-bit integer.
+   *
+   * @return The raw bits of the value. Values greater than {@link Long#MAX_VALUE} are negative, so use
+   *   {@link com.google.common.primitives.UnsignedLong#fromLongBits(long)} or {@link Long#toUnsignedString(long)}
+   *   to interpret them.
+   */
+  public long readUInt64() {
     return readUInt(8);
   }
 
   public int size() {
-    return hex.length() / BYTE_HEX_LENGTH;
+    return end - start;
   }
 
   public boolean hasMore() {
-    return cursor < hex.length();
+    return cursor < end;
+  }
+
+  /**
+   * The absolute index, into the backing byte array, of the next byte this parser will read.
+   *
+   * @return The current read position.
+   */
+  int position() {
+    return cursor;
   }
 
   /**
@@ -117,15 +218,15 @@ public class BinaryParser {
    * @return The length of the variable length encoded bytes.
    */
   public int readVariableLengthLength() {
-    int firstByte = this.readUInt8().intValue();
+    int firstByte = this.readUInt8();
     if (firstByte <= MAX_SINGLE_BYTE_LENGTH) {
       return firstByte;
     } else if (firstByte <= MAX_SECOND_BYTE_VALUE) {
-      int b2 = this.readUInt8().intValue();
-      return MAX_SECOND_BYTE_VALUE - 1 + (firstByte - MAX_SECOND_BYTE_VALUE - 1) * MAX_BYTE_VALUE + b2;
+      int b2 = this.readUInt8();
+      return MAX_SINGLE_BYTE_LENGTH + 1 + (firstByte - MAX_SINGLE_BYTE_LENGTH - 1) * MAX_BYTE_VALUE + b2;
     } else if (firstByte <= 254) {
-      int b2 = this.readUInt8().intValue();
-      int b3 = this.readUInt8().intValue();
+      int b2 = this.readUInt8();
+      int b3 = this.readUInt8();
       return MAX_DOUBLE_BYTE_LENGTH + (firstByte - MAX_SECOND_BYTE_VALUE - 1) * MAX_DOUBLE_BYTE_VALUE +
         b2 * MAX_BYTE_VALUE +
         b3;
@@ -139,36 +240,46 @@ public class BinaryParser {
    * @return Field ordinal.
    */
   public FieldHeader readFieldHeader() {
-    int type = this.readUInt8().intValue();
+    final int fieldCodes = readFieldCodes();
+    return FieldHeader.builder().fieldCode(fieldCodes & 0xFFFF).typeCode(fieldCodes >>> 16).build();
+  }
+
+  /**
+   * Read the field from the BinaryParser.
+   *
+   * @return The field represented by the bytes at the head of the BinaryParser.
+   */
+  public Optional<FieldInstance> readField() {
+    final int fieldCodes = readFieldCodes();
+    return DefinitionsService.getInstance().getFieldInstance(fieldCodes >>> 16, fieldCodes & 0xFFFF);
+  }
+
+  /**
+   * Read a field header, returning its type code in the upper 16 bits and its field code in the lower 16 bits so that
+   * no {@link FieldHeader} needs to be built on the parsing hot path.
+   *
+   * @return The packed type code and field code.
+   */
+  private int readFieldCodes() {
+    int type = this.readUInt8();
     int nth = type & 15;
     type >>= 4;
 
     if (type == 0) {
-      type = this.readUInt8().intValue();
+      type = this.readUInt8();
       if (type == 0 || type < 16) {
         throw new Error("Cannot read FieldOrdinal, type_code out of range");
       }
     }
 
     if (nth == 0) {
-      nth = this.readUInt8().intValue();
+      nth = this.readUInt8();
       if (nth == 0 || nth < 16) {
         throw new Error("Cannot read FieldOrdinal, field_code out of range");
       }
     }
 
-    return FieldHeader.builder().fieldCode(nth).typeCode(type).build();
-  }
-
-  /**
-   * Read the field from the BinaryParser.
-   *
-   * @return The field represented by the bytes at the head of the BinaryParser.
-   */
-  public Optional<FieldInstance> readField() {
-    FieldHeader header = readFieldHeader();
-    String fieldName = DefinitionsService.getInstance().getFieldName(header);
-    return DefinitionsService.getInstance().getFieldInstance(fieldName);
+    return (type << 16) | nth;
   }
 
   /**
@@ -239,8 +350,19 @@ public class BinaryParser {
           .build());
   }
 
-  private UnsignedLong readUInt(int bytes) {
-    return ByteUtils.toUnsignedLong(read(bytes));
+  private long readUInt(int numBytes) {
+    checkAvailable(numBytes);
+    long value = 0;
+    for (int i = 0; i < numBytes; i++) {
+      value = (value << 8) | (bytes[cursor++] & 0xFF);
+    }
+    return value;
+  }
+
+  private void checkAvailable(int numBytes) {
+    if (numBytes < 0 || numBytes > end - cursor) {
+      throw new IndexOutOfBoundsException("cursor moved past end of buffer");
+    }
   }
 
 }
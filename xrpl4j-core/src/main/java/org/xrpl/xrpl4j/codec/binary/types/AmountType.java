@@ -23,6 +23,7 @@ package org.xrpl.xrpl4j.codec.binary.types;
 import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ObjectNode;
 import com.fasterxml.jackson.databind.node.TextNode;
 import org.xrpl.xrpl4j.codec.addresses.ByteUtils;
 import org.xrpl.xrpl4j.codec.addresses.UnsignedByte;
@@ -48,6 +49,29 @@ class AmountType extends SerializedType<AmountType> {
   public static final int CURRENCY_AMOUNT_BYTE_LENGTH = 48;
   private static final int MAX_IOU_PRECISION = 16;
 
+  private static final long NOT_XRP_BIT = 0x8000000000000000L;
+  private static final long POSITIVE_BIT = 0x4000000000000000L;
+  private static final long XRP_DROPS_MASK = 0x3FFFFFFFFFFFFFFFL;
+  private static final long IOU_MANTISSA_MASK = 0x003FFFFFFFFFFFFFL;
+  private static final int IOU_EXPONENT_SHIFT = 54;
+  private static final int IOU_EXPONENT_BIAS = 97;
+  private static final long MAX_DROPS_LONG = 100_000_000_000_000_000L;
+  private static final int MAX_DROPS_DIGITS = 18;
+  /**
+   * Exponents with more digits than this are far outside of the representable range, and are left to
+   * {@link BigDecimal} so that errors for such values are unchanged.
+   */
+  private static final int MAX_EXPONENT_DIGITS = 4;
+
+  private static final long[] POWERS_OF_TEN = new long[MAX_IOU_PRECISION + 1];
+
+  static {
+    POWERS_OF_TEN[0] = 1;
+    for (int i = 1; i < POWERS_OF_TEN.length; i++) {
+      POWERS_OF_TEN[i] = POWERS_OF_TEN[i - 1] * 10;
+    }
+  }
+
   /**
    * According to <a href=https://xrpl.org/currency-formats.html#currency-formats>xrpl.org</a>,
    * the minimum token value exponent is -96. However, because the value field is converted from a {@link String}
@@ -93,42 +117,6 @@ class AmountType extends SerializedType<AmountType> {
     }
   }
 
-  /**
-   * Validate IOU.value amount
-   *
-   * @param decimal Decimal.js object representing IOU.value
-   *
-   * @throws IllegalArgumentException if invalid amount
-   */
-  private static void assertIouIsValid(BigDecimal decimal) {
-    if (!decimal.equals(BigDecimal.ZERO)) {
-      int precision = decimal.precision();
-      int exponent = MathUtils.getExponent(decimal);
-      if (precision > MAX_IOU_PRECISION ||
-        exponent > MAX_IOU_EXPONENT ||
-        exponent < MIN_IOU_EXPONENT
-      ) {
-        throw new Error("Decimal precision out of range");
-      }
-      verifyNoDecimal(decimal);
-    }
-  }
-
-  /**
-   * Ensure that the value after being multiplied by the exponent does not contain a decimal.
-   *
-   * @param decimal a Decimal object
-   *
-   * @throws IllegalArgumentException if invalid amount
-   */
-  private static void verifyNoDecimal(BigDecimal decimal) {
-    BigDecimal exponent = new BigDecimal("1e" + -(MathUtils.getExponent(decimal) - 15));
-    String integerNumberString = decimal.multiply(exponent).toPlainString();
-    if (integerNumberString.indexOf(".") > 0) {
-      throw new Error("Decimal place found in integerNumberString");
-    }
-  }
-
   @Override
   public AmountType fromParser(BinaryParser parser) {
     boolean isXrp = !parser.peek().isNthBitSet(1);
@@ -139,6 +127,10 @@ class AmountType extends SerializedType<AmountType> {
   @Override
   public AmountType fromJson(JsonNode value) throws JsonProcessingException {
     if (value.isValueNode()) {
+      final long drops = parseDrops(value.asText());
+      if (drops >= 0) {
+        return new AmountType(UnsignedByteArray.of(toBytes(drops | POSITIVE_BIT)));
+      }
       assertXrpIsValid(value.asText());
       UInt64Type number = new UInt64Type().fromJson(value.asText());
       byte[] rawBytes = number.toBytes();
@@ -146,12 +138,26 @@ class AmountType extends SerializedType<AmountType> {
       return new AmountType(UnsignedByteArray.of(rawBytes));
     }
 
-    Amount amount = objectMapper.treeToValue(value, Amount.class);
-    BigDecimal number = new BigDecimal(amount.value());
+    final JsonNode valueNode = value.get("value");
+    final String amountValue;
+    if (valueNode == null || !valueNode.isValueNode() || valueNode.isNull() ||
+      value.get("currency") == null || value.get("issuer") == null) {
+      // Let Jackson report what is wrong with a malformed amount.
+      amountValue = objectMapper.treeToValue(value, Amount.class).value();
+    } else {
+      amountValue = valueNode.asText();
+    }
 
-    UnsignedByteArray result = number.unscaledValue().equals(BigInteger.ZERO) ?
-      UnsignedByteArray.fromHex(ZERO_CURRENCY_AMOUNT_HEX) :
-      getAmountBytes(number);
+    final long encodedValue = encodeIouValue(amountValue);
+    final UnsignedByteArray result;
+    if (encodedValue != 0) {
+      result = UnsignedByteArray.of(toBytes(encodedValue));
+    } else {
+      BigDecimal number = new BigDecimal(amountValue);
+      result = number.unscaledValue().equals(BigInteger.ZERO) ?
+        UnsignedByteArray.fromHex(ZERO_CURRENCY_AMOUNT_HEX) :
+        getAmountBytes(number);
+    }
 
     UnsignedByteArray currency = new CurrencyType().fromJson(value.get("currency")).value();
     UnsignedByteArray issuer = new AccountIdType().fromJson(value.get("issuer")).value();
@@ -183,44 +189,233 @@ class AmountType extends SerializedType<AmountType> {
 
   @Override
   public JsonNode toJson() {
+    final long amountBits = amountBits();
     if (this.isNative()) {
-      byte[] rawBytes = toBytes();
-      rawBytes[0] &= 0x3f;
-      BigInteger value = new BigInteger(rawBytes);
-      if (!this.isPositive()) {
-        value = value.negate();
-      }
-      return new TextNode(value.toString());
+      final long drops = amountBits & XRP_DROPS_MASK;
+      return new TextNode(this.isPositive() || drops == 0 ? Long.toString(drops) : "-" + drops);
     } else {
-      BinaryParser parser = new BinaryParser(this.toHex());
-      UnsignedByteArray mantissa = parser.read(8);
-      final SerializedType<?> currency = new CurrencyType().fromParser(parser);
-      final SerializedType<?> issuer = new AccountIdType().fromParser(parser);
+      final String amountValue = formatIouValue(
+        this.isPositive(),
+        amountBits & IOU_MANTISSA_MASK,
+        (int) ((amountBits >>> IOU_EXPONENT_SHIFT) & 0xFF) - IOU_EXPONENT_BIAS
+      );
+      final int issuerOffset = NATIVE_AMOUNT_BYTE_LENGTH + CurrencyType.WIDTH;
+      final CurrencyType currency = new CurrencyType(value().slice(NATIVE_AMOUNT_BYTE_LENGTH, issuerOffset));
+      final AccountIdType issuer = new AccountIdType(value().slice(issuerOffset, CURRENCY_AMOUNT_BYTE_LENGTH));
+
+      final ObjectNode amount = objectMapper.createObjectNode();
+      amount.set("currency", currency.toJson());
+      amount.put("value", amountValue);
+      amount.set("issuer", issuer.toJson());
+      return amount;
+    }
+  }
 
-      UnsignedByte b1 = mantissa.get(0);
-      UnsignedByte b2 = mantissa.get(1);
+  /**
+   * Parse a plain, non-negative integer number of drops (as accepted by {@link #fromJson(JsonNode)}) without
+   * allocating.
+   *
+   * @param text The JSON text of an XRP amount.
+   *
+   * @return The number of drops, or {@code -1} if {@code text} is not a plain integer in range, in which case the
+   *   general validation path decides how to handle it.
+   */
+  private static long parseDrops(final String text) {
+    final int length = text.length();
+    if (length == 0 || length > MAX_DROPS_DIGITS || (length > 1 && text.charAt(0) == '0')) {
+      return -1;
+    }
+    long drops = 0;
+    for (int i = 0; i < length; i++) {
+      final char c = text.charAt(i);
+      if (c < '0' || c > '9') {
+        return -1;
+      }
+      drops = drops * 10 + (c - '0');
+    }
+    return drops <= MAX_DROPS_LONG ? drops : -1;
+  }
 
-      boolean isPositive = b1.isNthBitSet(2);
-      String sign = isPositive ? "" : "-";
+  /**
+   * Encode the decimal {@code value} of an issued currency amount to its 64-bit XRPL representation using only
+   * {@code long} arithmetic. The mantissa is stripped of leading and trailing zeros, normalized to 16 digits and stored
+   * alongside the (biased) exponent, exactly as {@link #getAmountBytes(BigDecimal)} does.
+   *
+   * @param value The decimal value of an amount, e.g. {@code "-1.25e3"}.
+   *
+   * @return The encoded amount, or {@code 0} if {@code value} is not a decimal this method handles (such as one with
+   *   more than 16 significant digits or an unusual format). {@code 0} is never a valid encoding because the
+   *   "not XRP" bit is always set.
+   *
+   * @throws IllegalArgumentException if the exponent of {@code value} is out of range.
+   */
+  private static long encodeIouValue(final String value) {
+    final int length = value.length();
+    int index = 0;
+    boolean negative = false;
+    if (index < length && (value.charAt(index) == '-' || value.charAt(index) == '+')) {
+      negative = value.charAt(index) == '-';
+      index++;
+    }
 
-      int exponent = ((b1.asInt() & 0x3f) << 2) + ((b2.asInt() & 0xff) >> 6) - 97;
-      mantissa.set(0, UnsignedByte.of(0));
-      mantissa.set(1, UnsignedByte.of(b2.asInt() & 0x3f));
+    long mantissa = 0;
+    int significantDigits = 0;
+    int pendingZeros = 0;
+    int fractionDigits = 0;
+    boolean seenPoint = false;
+    boolean seenDigit = false;
+    for (; index < length; index++) {
+      final char c = value.charAt(index);
+      if (c == '.') {
+        if (seenPoint) {
+          return 0;
+        }
+        seenPoint = true;
+        continue;
+      }
+      if (c < '0' || c > '9') {
+        break;
+      }
+      seenDigit = true;
+      if (seenPoint) {
+        fractionDigits++;
+      }
+      if (c == '0') {
+        // Leading zeros are dropped; zeros after a significant digit only count if another one follows.
+        if (significantDigits > 0) {
+          pendingZeros++;
+        }
+        continue;
+      }
+      significantDigits += pendingZeros + 1;
+      if (significantDigits > MAX_IOU_PRECISION) {
+        return 0;
+      }
+      mantissa = mantissa * POWERS_OF_TEN[pendingZeros + 1] + (c - '0');
+      pendingZeros = 0;
+    }
+    if (!seenDigit) {
+      return 0;
+    }
+
+    int exponent = 0;
+    if (index < length) {
+      final char marker = value.charAt(index++);
+      if (marker != 'e' && marker != 'E') {
+        return 0;
+      }
+      boolean negativeExponent = false;
+      if (index < length && (value.charAt(index) == '-' || value.charAt(index) == '+')) {
+        negativeExponent = value.charAt(index) == '-';
+        index++;
+      }
+      final int exponentDigits = length - index;
+      if (exponentDigits == 0 || exponentDigits > MAX_EXPONENT_DIGITS) {
+        return 0;
+      }
+      for (; index < length; index++) {
+        final char c = value.charAt(index);
+        if (c < '0' || c > '9') {
+          return 0;
+        }
+        exponent = exponent * 10 + (c - '0');
+      }
+      if (negativeExponent) {
+        exponent = -exponent;
+      }
+    }
 
-      BigDecimal value = new BigDecimal(new BigInteger(sign + mantissa.hexValue(), 16))
-        .multiply(new BigDecimal("1e" + exponent))
-        .stripTrailingZeros();
+    if (mantissa == 0) {
+      return NOT_XRP_BIT;
+    }
 
-      assertIouIsValid(value);
+    // value == mantissa * 10^(pendingZeros - fractionDigits + exponent); this is its exponent in scientific notation.
+    final int scientificExponent = significantDigits - 1 + pendingZeros - fractionDigits + exponent;
+    if (scientificExponent > MAX_IOU_EXPONENT || scientificExponent < MIN_IOU_EXPONENT) {
+      throw new IllegalArgumentException("exponent out of range");
+    }
+    final long normalizedMantissa = mantissa * POWERS_OF_TEN[MAX_IOU_PRECISION - significantDigits];
+    final long exponentBits = IOU_EXPONENT_BIAS + scientificExponent - (MAX_IOU_PRECISION - 1);
 
-      Amount amount = Amount.builder()
-        .currency(currency.toJson().asText())
-        .issuer(issuer.toJson().asText())
-        .value(value.toPlainString())
-        .build();
+    long amountBits = NOT_XRP_BIT | (exponentBits << IOU_EXPONENT_SHIFT) | normalizedMantissa;
+    if (!negative) {
+      amountBits |= POSITIVE_BIT;
+    }
+    return amountBits;
+  }
 
-      return objectMapper.valueToTree(amount);
+  /**
+   * Render an issued currency amount as a plain decimal string (the equivalent of
+   * {@link BigDecimal#toPlainString()} on the stripped value) without using {@link BigDecimal}.
+   *
+   * @param isPositive Whether the amount is positive.
+   * @param mantissa   The mantissa of the amount.
+   * @param exponent   The unbiased exponent of the amount.
+   *
+   * @return A {@link String} such as {@code "-0.0125"}.
+   */
+  private static String formatIouValue(final boolean isPositive, final long mantissa, final int exponent) {
+    if (mantissa == 0) {
+      return "0";
+    }
+    long strippedMantissa = mantissa;
+    int strippedExponent = exponent;
+    while (strippedMantissa % 10 == 0) {
+      strippedMantissa /= 10;
+      strippedExponent++;
+    }
+
+    final String digits = Long.toString(strippedMantissa);
+    final int precision = digits.length();
+    final int scientificExponent = precision - 1 + strippedExponent;
+    if (precision > MAX_IOU_PRECISION ||
+      scientificExponent > MAX_IOU_EXPONENT ||
+      scientificExponent < MIN_IOU_EXPONENT
+    ) {
+      throw new Error("Decimal precision out of range");
+    }
+
+    final StringBuilder builder = new StringBuilder(precision + Math.abs(strippedExponent) + 3);
+    if (!isPositive) {
+      builder.append('-');
+    }
+    if (strippedExponent >= 0) {
+      builder.append(digits);
+      for (int i = 0; i < strippedExponent; i++) {
+        builder.append('0');
+      }
+    } else if (precision + strippedExponent > 0) {
+      final int point = precision + strippedExponent;
+      builder.append(digits, 0, point).append('.').append(digits, point, precision);
+    } else {
+      builder.append("0.");
+      for (int i = 0; i < -(precision + strippedExponent); i++) {
+        builder.append('0');
+      }
+      builder.append(digits);
+    }
+    return builder.toString();
+  }
+
+  private static byte[] toBytes(final long amountBits) {
+    final byte[] bytes = new byte[NATIVE_AMOUNT_BYTE_LENGTH];
+    for (int i = NATIVE_AMOUNT_BYTE_LENGTH - 1; i >= 0; i--) {
+      bytes[i] = (byte) (amountBits >>> (8 * (NATIVE_AMOUNT_BYTE_LENGTH - 1 - i)));
+    }
+    return bytes;
+  }
+
+  /**
+   * The first 8 bytes of this amount (the whole of an XRP amount, or the value of an issued currency amount).
+   *
+   * @return A long.
+   */
+  private long amountBits() {
+    long amountBits = 0;
+    for (int i = 0; i < NATIVE_AMOUNT_BYTE_LENGTH; i++) {
+      amountBits = (amountBits << 8) | (value().getByte(i) & 0xFF);
     }
+    return amountBits;
   }
 
   /**
@@ -230,7 +425,7 @@ class AmountType extends SerializedType<AmountType> {
    */
   private boolean isNative() {
     // 1st bit in 1st byte is set to 0 for native XRP
-    return (toBytes()[0] & 0x80) == 0;
+    return (value().getByte(0) & 0x80) == 0;
   }
 
   /**
@@ -240,7 +435,7 @@ class AmountType extends SerializedType<AmountType> {
    */
   private boolean isPositive() {
     // 2nd bit in 1st byte is set to 1 for positive amounts
-    return (toBytes()[0] & 0x40) > 0;
+    return (value().getByte(0) & 0x40) > 0;
   }
 
 }
@@ -52,7 +52,7 @@ public class HopType extends SerializedType<HopType> {
 
   @Override
   public HopType fromParser(BinaryParser parser) {
-    int type = parser.readUInt8().intValue();
+    int type = parser.readUInt8();
     UnsignedByteArray byteArray = UnsignedByteArray.of(UnsignedByte.of(type));
 
     if ((type & TYPE_ACCOUNT) > 0) {
@@ -100,8 +100,8 @@ public class HopType extends SerializedType<HopType> {
 
   @Override
   public JsonNode toJson() {
-    BinaryParser parser = new BinaryParser(this.toHex());
-    int type = parser.readUInt8().intValue();
+    BinaryParser parser = new BinaryParser(this.toBytes());
+    int type = parser.readUInt8();
 
     ImmutableHop.Builder builder = Hop.builder();
 
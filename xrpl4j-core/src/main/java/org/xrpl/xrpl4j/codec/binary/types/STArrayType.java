@@ -90,7 +90,7 @@ public class STArrayType extends SerializedType<STArrayType> {
 
   @Override
   public JsonNode toJson() {
-    BinaryParser parser = new BinaryParser(this.toString());
+    BinaryParser parser = new BinaryParser(this.toBytes());
     List<JsonNode> values = new ArrayList<>();
     while (parser.hasMore()) {
       FieldInstance field = parser.readField().orElseThrow(() -> new IllegalArgumentException("bad field encountered"));
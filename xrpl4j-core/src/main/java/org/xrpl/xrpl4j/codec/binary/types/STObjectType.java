@@ -174,7 +174,7 @@ public class STObjectType extends SerializedType<STObjectType> {
    * @return A {@link JsonNode}.
    */
   public JsonNode toJson() {
-    BinaryParser parser = new BinaryParser(this.toString());
+    BinaryParser parser = new BinaryParser(this.toBytes());
     Map<String, JsonNode> objectMap = new LinkedHashMap<>();
     while (parser.hasMore()) {
       FieldInstance field = parser.readField().orElseThrow(() -> new IllegalArgumentException("bad field encountered"));
@@ -40,7 +40,7 @@ public class UInt32Type extends UIntType<UInt32Type> {
 
   @Override
   public UInt32Type fromParser(BinaryParser parser) {
-    return new UInt32Type(parser.readUInt32());
+    return new UInt32Type(UnsignedLong.valueOf(parser.readUInt32()));
   }
 
   @Override
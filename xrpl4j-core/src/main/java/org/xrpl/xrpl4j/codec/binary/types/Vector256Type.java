@@ -76,7 +76,7 @@ public class Vector256Type extends SerializedType<Vector256Type> {
 
   @Override
   public JsonNode toJson() {
-    BinaryParser parser = new BinaryParser(this.toString());
+    BinaryParser parser = new BinaryParser(this.toBytes());
     List<JsonNode> values = new ArrayList<>();
     while (parser.hasMore()) {
       UnsignedByteArray bytes = parser.read(32);
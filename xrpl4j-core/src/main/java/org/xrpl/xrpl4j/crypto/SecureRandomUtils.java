@@ -33,6 +33,10 @@ package org.xrpl.xrpl4j.crypto;
  * specific language governing permissions and limitations under the License.
  */
 
+import org.bouncycastle.crypto.digests.SHA512Digest;
+import org.bouncycastle.crypto.prng.SP800SecureRandomBuilder;
+
+import java.nio.ByteBuffer;
 import java.security.SecureRandom;
 
 /**
@@ -48,6 +52,11 @@ public final class SecureRandomUtils {
   // src/main/java/org/bitcoinj/core/Utils.java#L573
   private static int isAndroid = -1;
 
+  // Length, in bytes, of the nonce each per-thread DRBG is instantiated with (half the 256-bit security strength).
+  private static final int DRBG_NONCE_LENGTH = 16;
+  private static final ThreadLocal<SecureRandom> THREAD_LOCAL_SECURE_RANDOM =
+    ThreadLocal.withInitial(SecureRandomUtils::newHashDrbg);
+
   static {
     if (isAndroidRuntime()) {
       new LinuxSecureRandom();
@@ -70,6 +79,39 @@ public final class SecureRandomUtils {
     return SECURE_RANDOM;
   }
 
+  /**
+   * Accessor for a {@link SecureRandom} that belongs to the calling thread. Each thread has its own NIST SP 800-90A
+   * Hash_DRBG (SHA-512), seeded from {@link #secureRandom()} and reseeded from it as the standard requires, so that
+   * threads generating many keys at once do not contend on the shared instance. The returned instance must not be
+   * shared with other threads.
+   *
+   * <p>This method can be used as a {@code Supplier<SecureRandom>}, e.g. with
+   * {@link org.xrpl.xrpl4j.crypto.keys.BulkKeyPairs}.</p>
+   *
+   * @return A {@link SecureRandom} for use by the calling thread only.
+   */
+  public static SecureRandom threadLocalSecureRandom() {
+    return THREAD_LOCAL_SECURE_RANDOM.get();
+  }
+
+  /**
+   * Construct a new Hash_DRBG whose entropy comes from the shared {@link SecureRandom}. The personalization string
+   * distinguishes the instances of different threads even if the entropy source were to repeat itself.
+   *
+   * @return A new {@link SecureRandom}.
+   */
+  private static SecureRandom newHashDrbg() {
+    final byte[] nonce = new byte[DRBG_NONCE_LENGTH];
+    SECURE_RANDOM.nextBytes(nonce);
+    final byte[] personalization = ByteBuffer.allocate(2 * Long.BYTES)
+      .putLong(Thread.currentThread().getId())
+      .putLong(System.nanoTime())
+      .array();
+    return new SP800SecureRandomBuilder(SECURE_RANDOM, false)
+      .setPersonalizationString(personalization)
+      .buildHash(new SHA512Digest(), nonce, false);
+  }
+
   static boolean isAndroidRuntime() {
     if (isAndroid == -1) {
       final String runtime = System.getProperty("java.runtime.name");
@@ -0,0 +1,257 @@
+package org.xrpl.xrpl4j.crypto.keys;
+
+/*-
+ * ========================LICENSE_START=================================
+ * xrpl4j :: core
+ * %%
+ * Copyright (C) 2020 - 2023 XRPL Foundation and its contributors
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * =========================LICENSE_END==================================
+ */
+
+import com.google.common.base.Preconditions;
+import org.xrpl.xrpl4j.codec.addresses.AddressCodec;
+import org.xrpl.xrpl4j.codec.addresses.Decoded;
+import org.xrpl.xrpl4j.codec.addresses.KeyType;
+import org.xrpl.xrpl4j.crypto.SecureRandomUtils;
+import org.xrpl.xrpl4j.model.transactions.Address;
+
+import java.security.SecureRandom;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ForkJoinPool;
+import java.util.function.IntFunction;
+import java.util.function.Supplier;
+
+/**
+ * Generates or derives many {@link KeyPair}s and {@link Address}es at once, e.g. to provision deposit accounts, by
+ * spreading the work across the threads of an {@link Executor}. Each worker thread reuses its own message digests
+ * across derivations.
+ */
+public final class BulkKeyPairs {
+
+  // Large enough to amortize task overhead, small enough to balance load across threads.
+  private static final int CHUNK_SIZE = 32;
+
+  private static final ThreadLocal<KeyDerivationDigests> DIGESTS = ThreadLocal.withInitial(KeyDerivationDigests::new);
+
+  /**
+   * No-args constructor, to prevent instantiation.
+   */
+  private BulkKeyPairs() {
+  }
+
+  /**
+   * Generate {@code count} new random {@link KeyPair}s on the {@link ForkJoinPool#commonPool()}, drawing entropy
+   * from each worker thread's {@link SecureRandomUtils#threadLocalSecureRandom()}.
+   *
+   * @param count   The number of key pairs to generate.
+   * @param keyType The {@link KeyType} of the key pairs.
+   *
+   * @return A {@link List} of {@code count} {@link KeyPair}s.
+   */
+  public static List<KeyPair> generate(final int count, final KeyType keyType) {
+    return generate(count, keyType, SecureRandomUtils::threadLocalSecureRandom, ForkJoinPool.commonPool());
+  }
+
+  /**
+   * Generate {@code count} new random {@link KeyPair}s on {@code executor}.
+   *
+   * @param count                The number of key pairs to generate.
+   * @param keyType              The {@link KeyType} of the key pairs.
+   * @param secureRandomSupplier Supplies the {@link SecureRandom} to draw entropy from. It is called on the worker
+   *                             threads, and must return an instance that is safe to use from the calling thread.
+   * @param executor             The {@link Executor} to generate the key pairs on.
+   *
+   * @return A {@link List} of {@code count} {@link KeyPair}s.
+   */
+  public static List<KeyPair> generate(
+    final int count,
+    final KeyType keyType,
+    final Supplier<SecureRandom> secureRandomSupplier,
+    final Executor executor
+  ) {
+    Objects.requireNonNull(keyType);
+    Objects.requireNonNull(secureRandomSupplier);
+    Objects.requireNonNull(executor);
+    Preconditions.checkArgument(count >= 0, "count must not be negative");
+
+    final IntFunction<KeyPair> generator;
+    switch (keyType) {
+      case ED25519: {
+        generator = $ -> Seed.ed25519Seed(secureRandomSupplier.get()).deriveKeyPair();
+        break;
+      }
+      case SECP256K1: {
+        generator = $ -> Seed.secp256k1Seed(secureRandomSupplier.get()).deriveKeyPair();
+        break;
+      }
+      default: {
+        throw new IllegalArgumentException("Unhandled KeyType: " + keyType);
+      }
+    }
+    return inParallel(count, generator, executor);
+  }
+
+  /**
+   * Derive the {@link KeyPair} of each of {@code seeds} on the {@link ForkJoinPool#commonPool()}.
+   *
+   * @param seeds The {@link Seed}s to derive key pairs from.
+   *
+   * @return A {@link List} of {@link KeyPair}s, in the same order as {@code seeds}.
+   */
+  public static List<KeyPair> deriveKeyPairs(final List<Seed> seeds) {
+    return deriveKeyPairs(seeds, ForkJoinPool.commonPool());
+  }
+
+  /**
+   * Derive the {@link KeyPair} of each of {@code seeds} on {@code executor}.
+   *
+   * @param seeds    The {@link Seed}s to derive key pairs from.
+   * @param executor The {@link Executor} to derive the key pairs on.
+   *
+   * @return A {@link List} of {@link KeyPair}s, in the same order as {@code seeds}.
+   */
+  public static List<KeyPair> deriveKeyPairs(final List<Seed> seeds, final Executor executor) {
+    Objects.requireNonNull(seeds);
+    Objects.requireNonNull(executor);
+
+    final Seed[] seedArray = seeds.toArray(new Seed[0]);
+    return inParallel(seedArray.length, i -> deriveKeyPair(seedArray[i], DIGESTS.get()), executor);
+  }
+
+  /**
+   * Derive the classic {@link Address} of each of {@code seeds} on the {@link ForkJoinPool#commonPool()}.
+   *
+   * @param seeds The {@link Seed}s to derive addresses from.
+   *
+   * @return A {@link List} of {@link Address}es, in the same order as {@code seeds}.
+   */
+  public static List<Address> deriveAddresses(final List<Seed> seeds) {
+    return deriveAddresses(seeds, ForkJoinPool.commonPool());
+  }
+
+  /**
+   * Derive the classic {@link Address} of each of {@code seeds} on {@code executor}.
+   *
+   * @param seeds    The {@link Seed}s to derive addresses from.
+   * @param executor The {@link Executor} to derive the addresses on.
+   *
+   * @return A {@link List} of {@link Address}es, in the same order as {@code seeds}.
+   */
+  public static List<Address> deriveAddresses(final List<Seed> seeds, final Executor executor) {
+    Objects.requireNonNull(seeds);
+
+    final Seed[] seedArray = seeds.toArray(new Seed[0]);
+    return deriveAddresses(seedArray.length, i -> seedArray[i], executor);
+  }
+
+  /**
+   * Derive the classic {@link Address} of the {@link Seed} for each index in {@code [0, count)} on {@code executor}.
+   * Seeds are computed on the worker threads, so expensive seed derivations (e.g. from a server secret and a range of
+   * key identifiers) are parallelized too.
+   *
+   * @param count        The number of addresses to derive.
+   * @param seedForIndex Computes the {@link Seed} for an index. It is called on the worker threads.
+   * @param executor     The {@link Executor} to derive the addresses on.
+   *
+   * @return A {@link List} of {@code count} {@link Address}es, in index order.
+   */
+  public static List<Address> deriveAddresses(
+    final int count,
+    final IntFunction<Seed> seedForIndex,
+    final Executor executor
+  ) {
+    Objects.requireNonNull(seedForIndex);
+    Objects.requireNonNull(executor);
+    Preconditions.checkArgument(count >= 0, "count must not be negative");
+
+    return inParallel(count, i -> {
+      final KeyDerivationDigests digests = DIGESTS.get();
+      final KeyPair keyPair = deriveKeyPair(seedForIndex.apply(i), digests);
+      return AddressCodec.getInstance().encodeAccountId(digests.publicKeyHash(keyPair.publicKey().value()));
+    }, executor);
+  }
+
+  /**
+   * Derive the {@link KeyPair} of {@code seed}, hashing with {@code digests}.
+   *
+   * @param seed    A {@link Seed}.
+   * @param digests The {@link KeyDerivationDigests} to hash with.
+   *
+   * @return The derived {@link KeyPair}.
+   */
+  private static KeyPair deriveKeyPair(final Seed seed, final KeyDerivationDigests digests) {
+    Objects.requireNonNull(seed);
+
+    // Decoding a seed round-trips through Base58, so only do it once.
+    final Decoded decoded = seed.decodedSeed();
+    final KeyType keyType = decoded.type()
+      .orElseThrow(() -> new IllegalArgumentException("Unsupported seed type."));
+    switch (keyType) {
+      case ED25519: {
+        return Seed.DefaultSeed.Ed25519KeyPairService.deriveKeyPair(decoded, digests);
+      }
+      case SECP256K1: {
+        return Seed.DefaultSeed.Secp256k1KeyPairService.deriveKeyPair(decoded, digests);
+      }
+      default: {
+        throw new IllegalArgumentException("Unsupported seed type.");
+      }
+    }
+  }
+
+  /**
+   * Compute {@code task} for each index in {@code [0, count)}, in chunks of {@link #CHUNK_SIZE} indexes on
+   * {@code executor}, and wait for all of the results.
+   *
+   * @param count    The number of results.
+   * @param task     Computes the result for an index.
+   * @param executor The {@link Executor} to run chunks on.
+   * @param <T>      The type of each result.
+   *
+   * @return An unmodifiable {@link List} of the results, in index order.
+   */
+  @SuppressWarnings("unchecked")
+  static <T> List<T> inParallel(final int count, final IntFunction<T> task, final Executor executor) {
+    final Object[] results = new Object[count];
+    final List<CompletableFuture<Void>> chunks = new ArrayList<>();
+    for (int start = 0; start < count; start += CHUNK_SIZE) {
+      final int chunkStart = start;
+      final int chunkEnd = Math.min(start + CHUNK_SIZE, count);
+      chunks.add(CompletableFuture.runAsync(() -> {
+        for (int i = chunkStart; i < chunkEnd; i++) {
+          results[i] = task.apply(i);
+        }
+      }, executor));
+    }
+
+    try {
+      CompletableFuture.allOf(chunks.toArray(new CompletableFuture[0])).join();
+    } catch (CompletionException e) {
+      if (e.getCause() instanceof RuntimeException) {
+        throw (RuntimeException) e.getCause();
+      }
+      throw e;
+    }
+    // allOf().join() happens-after every chunk, so all writes to results are visible here.
+    return Collections.unmodifiableList((List<T>) Arrays.asList(results));
+  }
+}
@@ -24,6 +24,7 @@ import com.google.common.base.Preconditions;
 import org.xrpl.xrpl4j.codec.addresses.UnsignedByteArray;
 import org.xrpl.xrpl4j.crypto.SecureRandomUtils;
 
+import java.security.SecureRandom;
 import java.util.Arrays;
 import java.util.Objects;
 
@@ -45,6 +46,25 @@ public class Entropy implements javax.security.auth.Destroyable {
     return new Entropy(entropyBytes);
   }
 
+  /**
+   * Construct a new instance of an {@link Entropy} using random bytes from {@code secureRandom}, e.g. a
+   * {@link SecureRandomUtils#threadLocalSecureRandom()} when generating many keys concurrently.
+   *
+   * @param secureRandom The {@link SecureRandom} to draw the entropy from.
+   *
+   * @return An {@link Entropy}.
+   */
+  public static Entropy newInstance(final SecureRandom secureRandom) {
+    Objects.requireNonNull(secureRandom);
+    final byte[] entropyBytes = new byte[16];
+    try {
+      secureRandom.nextBytes(entropyBytes);
+      return new Entropy(entropyBytes);
+    } finally {
+      Arrays.fill(entropyBytes, (byte) 0);
+    }
+  }
+
   /**
    * Construct a new instance of an {@link Entropy} from the supplied byte array.
    *
@@ -0,0 +1,82 @@
+package org.xrpl.xrpl4j.crypto.keys;
+
+/*-
+ * ========================LICENSE_START=================================
+ * xrpl4j :: core
+ * %%
+ * Copyright (C) 2020 - 2023 XRPL Foundation and its contributors
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * =========================LICENSE_END==================================
+ */
+
+import org.bouncycastle.crypto.digests.RIPEMD160Digest;
+import org.bouncycastle.crypto.digests.SHA256Digest;
+import org.bouncycastle.crypto.digests.SHA512Digest;
+import org.xrpl.xrpl4j.codec.addresses.UnsignedByteArray;
+
+import java.util.Arrays;
+import java.util.Objects;
+
+/**
+ * The message digests used to derive keys and addresses, held together so that they can be reused across many
+ * derivations instead of being allocated for each one.
+ *
+ * <p>This class is not thread-safe; each thread should use its own instance.</p>
+ */
+final class KeyDerivationDigests {
+
+  private final SHA512Digest sha512 = new SHA512Digest();
+  private final SHA256Digest sha256 = new SHA256Digest();
+  private final RIPEMD160Digest ripemd160 = new RIPEMD160Digest();
+
+  private final byte[] sha512Output = new byte[64];
+  private final byte[] sha256Output = new byte[32];
+
+  /**
+   * Compute a SHA-512 hash of the given bytes and return the first half of the result.
+   *
+   * @param bytes The bytes to half hash.
+   *
+   * @return An {@link UnsignedByteArray} containing the first half of the SHA-512 hash of bytes.
+   */
+  UnsignedByteArray sha512Half(final byte[] bytes) {
+    Objects.requireNonNull(bytes);
+    sha512.update(bytes, 0, bytes.length);
+    sha512.doFinal(sha512Output, 0);
+    try {
+      return UnsignedByteArray.of(sha512Output, 0, 32);
+    } finally {
+      // The output may be private key material, so don't leave it lying around.
+      Arrays.fill(sha512Output, (byte) 0);
+    }
+  }
+
+  /**
+   * Compute the RIPEMD160 of the SHA256 of the given public key, which can be encoded to an XRPL address.
+   *
+   * @param publicKey The public key that should be hashed.
+   *
+   * @return An {@link UnsignedByteArray} containing the non-encoded XRPL address derived from the public key.
+   */
+  UnsignedByteArray publicKeyHash(final UnsignedByteArray publicKey) {
+    Objects.requireNonNull(publicKey);
+    final byte[] publicKeyBytes = publicKey.toByteArray();
+    sha256.update(publicKeyBytes, 0, publicKeyBytes.length);
+    sha256.doFinal(sha256Output, 0);
+    ripemd160.update(sha256Output, 0, sha256Output.length);
+    final byte[] accountId = new byte[ripemd160.getDigestSize()];
+    ripemd160.doFinal(accountId, 0);
+    return UnsignedByteArray.of(accountId);
+  }
+}
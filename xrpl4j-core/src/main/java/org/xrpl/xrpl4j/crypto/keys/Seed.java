@@ -29,6 +29,9 @@ import org.bouncycastle.asn1.x9.X9ECParameters;
 import org.bouncycastle.crypto.params.ECDomainParameters;
 import org.bouncycastle.crypto.params.Ed25519PrivateKeyParameters;
 import org.bouncycastle.crypto.params.Ed25519PublicKeyParameters;
+import org.bouncycastle.math.ec.ECMultiplier;
+import org.bouncycastle.math.ec.ECPoint;
+import org.bouncycastle.math.ec.FixedPointCombMultiplier;
 import org.xrpl.xrpl4j.codec.addresses.AddressBase58;
 import org.xrpl.xrpl4j.codec.addresses.Base58;
 import org.xrpl.xrpl4j.codec.addresses.Decoded;
@@ -41,6 +44,7 @@ import org.xrpl.xrpl4j.codec.addresses.exceptions.DecodeException;
 import org.xrpl.xrpl4j.crypto.HashingUtils;
 
 import java.math.BigInteger;
+import java.security.SecureRandom;
 import java.util.Objects;
 import java.util.Optional;
 
@@ -115,6 +119,17 @@ public interface Seed extends javax.security.auth.Destroyable {
     return ed25519SeedFromEntropy(Entropy.newInstance());
   }
 
+  /**
+   * Construct an Ed25519-compatible {@link Seed} using entropy drawn from {@code secureRandom}.
+   *
+   * @param secureRandom The {@link SecureRandom} to draw the seed's {@link Entropy} from.
+   *
+   * @return A {@link Seed}.
+   */
+  static Seed ed25519Seed(final SecureRandom secureRandom) {
+    return ed25519SeedFromEntropy(Entropy.newInstance(secureRandom));
+  }
+
   /**
    * Construct an Ed25519-compatible {@link Seed} from the supplied {@link Entropy}.
    *
@@ -144,6 +159,17 @@ public interface Seed extends javax.security.auth.Destroyable {
     return secp256k1SeedFromEntropy(Entropy.newInstance());
   }
 
+  /**
+   * Construct an secp256k1-compatible {@link Seed} using entropy drawn from {@code secureRandom}.
+   *
+   * @param secureRandom The {@link SecureRandom} to draw the seed's {@link Entropy} from.
+   *
+   * @return A {@link Seed}.
+   */
+  static Seed secp256k1Seed(final SecureRandom secureRandom) {
+    return secp256k1SeedFromEntropy(Entropy.newInstance(secureRandom));
+  }
+
   /**
    * Construct a secp256k1-compatible {@link Seed} from the supplied {@link Entropy}.
    *
@@ -302,13 +328,26 @@ public interface Seed extends javax.security.auth.Destroyable {
        */
       public static KeyPair deriveKeyPair(final Seed seed) {
         Objects.requireNonNull(seed);
+        return deriveKeyPair(seed.decodedSeed(), new KeyDerivationDigests());
+      }
+
+      /**
+       * Derive a {@link KeyPair} from the supplied {@code decoded} seed, hashing with {@code digests}.
+       *
+       * @param decoded The {@link Decoded} value of a {@link Seed}.
+       * @param digests The {@link KeyDerivationDigests} to hash with.
+       *
+       * @return A newly generated {@link KeyPair}.
+       */
+      static KeyPair deriveKeyPair(final Decoded decoded, final KeyDerivationDigests digests) {
+        Objects.requireNonNull(decoded);
+        Objects.requireNonNull(digests);
 
-        final Decoded decoded = seed.decodedSeed();
         if (!decoded.version().equals(Version.ED25519_SEED)) {
           throw new DecodeException("Seed must use ED25519 algorithm. Algorithm was " + decoded.version());
         }
 
-        UnsignedByteArray rawPrivateKey = HashingUtils.sha512Half(decoded.bytes());
+        UnsignedByteArray rawPrivateKey = digests.sha512Half(decoded.bytes().toByteArray());
         Ed25519PrivateKeyParameters privateKey = new Ed25519PrivateKeyParameters(rawPrivateKey.toByteArray(), 0);
 
         Ed25519PublicKeyParameters publicKey = privateKey.generatePublicKey();
@@ -345,6 +384,12 @@ public interface Seed extends javax.security.auth.Destroyable {
         EC_PARAMETERS.getH()
       );
 
+      /**
+       * Multiplies the generator point using a precomputed comb table, which is much faster than a general-purpose
+       * multiplication for the fixed base point used by every public key derivation.
+       */
+      private static final ECMultiplier BASE_POINT_MULTIPLIER = new FixedPointCombMultiplier();
+
       /**
        * Private, no-args constructor to prevent instantiation.
        */
@@ -360,8 +405,22 @@ public interface Seed extends javax.security.auth.Destroyable {
        */
       public static KeyPair deriveKeyPair(final Seed seed) {
         Objects.requireNonNull(seed);
+        return deriveKeyPair(seed.decodedSeed(), new KeyDerivationDigests());
+      }
+
+      /**
+       * Derive a {@link KeyPair} from the supplied {@code decoded} seed, hashing with {@code digests}.
+       *
+       * @param decoded The {@link Decoded} value of a {@link Seed}.
+       * @param digests The {@link KeyDerivationDigests} to hash with.
+       *
+       * @return A newly generated {@link KeyPair}.
+       */
+      static KeyPair deriveKeyPair(final Decoded decoded, final KeyDerivationDigests digests) {
+        Objects.requireNonNull(decoded);
+        Objects.requireNonNull(digests);
         // The seed `bytes` here are actually the bytes of the decoded seed, which reduces to just the entropy.
-        return deriveKeyPair(seed.decodedSeed().bytes(), 0);
+        return deriveKeyPair(decoded.bytes(), 0, digests);
       }
 
       /**
@@ -374,16 +433,20 @@ public interface Seed extends javax.security.auth.Destroyable {
        * secp256k1 keys and always uses  value of `0`.
        * </p>
        *
-       * @param seedBytes An {@link UnsignedByteArray} of length 16 containing a seedBytes.
+       * @param seedBytes     An {@link UnsignedByteArray} of length 16 containing a seedBytes.
+       * @param accountNumber An integer representing the account number.
+       * @param digests       The {@link KeyDerivationDigests} to hash with.
        *
        * @return A {@link KeyPair} containing a public/private keypair derived from seedBytes using the secp2561k
        *   algorithm.
        */
-      private static KeyPair deriveKeyPair(final UnsignedByteArray seedBytes, final int accountNumber) {
+      private static KeyPair deriveKeyPair(
+        final UnsignedByteArray seedBytes, final int accountNumber, final KeyDerivationDigests digests
+      ) {
         Objects.requireNonNull(seedBytes);
 
         // private key needs to be a BigInteger so we can derive the public key by multiplying G by the private key.
-        final BigInteger privateKeyInt = derivePrivateKey(seedBytes, accountNumber);
+        final BigInteger privateKeyInt = derivePrivateKey(seedBytes, accountNumber, digests);
         final UnsignedByteArray publicKeyInt = derivePublicKey(privateKeyInt);
 
         return KeyPair.builder()
@@ -403,7 +466,19 @@ public interface Seed extends javax.security.auth.Destroyable {
        */
       private static UnsignedByteArray derivePublicKey(final BigInteger privateKey) {
         Objects.requireNonNull(privateKey);
-        return UnsignedByteArray.of(EC_DOMAIN_PARAMETERS.getG().multiply(privateKey).getEncoded(true));
+        return UnsignedByteArray.of(multiplyBasePoint(privateKey).getEncoded(true));
+      }
+
+      /**
+       * Multiply the generator point of secp256k1 by {@code scalar}.
+       *
+       * @param scalar A {@link BigInteger} scalar.
+       *
+       * @return The resulting, normalized {@link ECPoint}.
+       */
+      static ECPoint multiplyBasePoint(final BigInteger scalar) {
+        Objects.requireNonNull(scalar);
+        return BASE_POINT_MULTIPLIER.multiply(EC_DOMAIN_PARAMETERS.getG(), scalar).normalize();
       }
 
       /**
@@ -412,19 +487,22 @@ public interface Seed extends javax.security.auth.Destroyable {
        * @param seed          A {@link UnsignedByteArray} representing a seed that can be used to generated an XRPL
        *                      address.
        * @param accountNumber An integer representing the account nunmber.
+       * @param digests       The {@link KeyDerivationDigests} to hash with.
        *
        * @return An {@link UnsignedInteger} representing the public key component of a secp256k1 keypair.
        */
-      private static BigInteger derivePrivateKey(final UnsignedByteArray seed, final int accountNumber) {
+      private static BigInteger derivePrivateKey(
+        final UnsignedByteArray seed, final int accountNumber, final KeyDerivationDigests digests
+      ) {
         Objects.requireNonNull(seed);
-        BigInteger privateGen = deriveScalar(seed);
+        BigInteger privateGen = deriveScalar(seed, digests);
         if (accountNumber == -1) {
           return privateGen;
         }
 
         UnsignedByteArray publicGen = UnsignedByteArray
-          .of(EC_DOMAIN_PARAMETERS.getG().multiply(privateGen).getEncoded(true));
-        return deriveScalar(publicGen, accountNumber)
+          .of(multiplyBasePoint(privateGen).getEncoded(true));
+        return deriveScalar(publicGen, accountNumber, digests)
           .add(privateGen)
           .mod(EC_DOMAIN_PARAMETERS.getN());
       }
@@ -432,13 +510,14 @@ public interface Seed extends javax.security.auth.Destroyable {
       /**
        * Helper to derive a scalar component for secp256k1.
        *
-       * @param seed A {@link UnsignedByteArray} representing a seed.
+       * @param seed    A {@link UnsignedByteArray} representing a seed.
+       * @param digests The {@link KeyDerivationDigests} to hash with.
        *
        * @return An {@link BigInteger} representing a corresponding scalar value.
        */
-      private static BigInteger deriveScalar(final UnsignedByteArray seed) {
+      private static BigInteger deriveScalar(final UnsignedByteArray seed, final KeyDerivationDigests digests) {
         Objects.requireNonNull(seed);
-        return deriveScalar(seed, Optional.empty());
+        return deriveScalar(seed, Optional.empty(), digests);
       }
 
       /**
@@ -446,13 +525,16 @@ public interface Seed extends javax.security.auth.Destroyable {
        *
        * @param seed          A {@link UnsignedByteArray} representing a seed.
        * @param discriminator An integer used as a discriminator for deriving a scalar.
+       * @param digests       The {@link KeyDerivationDigests} to hash with.
        *
        * @return An {@link BigInteger} representing a corresponding scalar value.
        */
-      private static BigInteger deriveScalar(final UnsignedByteArray seed, final Integer discriminator) {
+      private static BigInteger deriveScalar(
+        final UnsignedByteArray seed, final Integer discriminator, final KeyDerivationDigests digests
+      ) {
         Objects.requireNonNull(seed);
         Objects.requireNonNull(discriminator);
-        return deriveScalar(seed, Optional.of(discriminator));
+        return deriveScalar(seed, Optional.of(discriminator), digests);
       }
 
       /**
@@ -460,20 +542,24 @@ public interface Seed extends javax.security.auth.Destroyable {
        *
        * @param seed          A {@link UnsignedByteArray} representing a seed.
        * @param discriminator An optionally present {@link Integer} used as a discriminator for deriving a scalar.
+       * @param digests       The {@link KeyDerivationDigests} to hash with.
        *
        * @return An {@link BigInteger} representing a corresponding scalar value.
        */
       @SuppressWarnings("OptionalUsedAsFieldOrParameterType")
-      private static BigInteger deriveScalar(final UnsignedByteArray seed, final Optional<Integer> discriminator) {
+      private static BigInteger deriveScalar(
+        final UnsignedByteArray seed, final Optional<Integer> discriminator, final KeyDerivationDigests digests
+      ) {
         Objects.requireNonNull(seed);
         Objects.requireNonNull(discriminator);
+        Objects.requireNonNull(digests);
 
         BigInteger key = null;
         UnsignedByteArray seedCopy = UnsignedByteArray.of(seed.toByteArray());
         for (long i = 0; i <= 0xFFFFFFFFL; i++) {
           discriminator.map(d -> HashingUtils.addUInt32(seedCopy, d));
           HashingUtils.addUInt32(seedCopy, (int) i);
-          UnsignedByteArray hash = HashingUtils.sha512Half(seedCopy);
+          UnsignedByteArray hash = digests.sha512Half(seedCopy.toByteArray());
           key = new BigInteger(1, hash.toByteArray());
           if (key.compareTo(BigInteger.ZERO) > 0 && key.compareTo(EC_DOMAIN_PARAMETERS.getN()) < 0) {
             break;
@@ -33,7 +33,9 @@ import org.bouncycastle.crypto.params.Ed25519PublicKeyParameters;
 import org.bouncycastle.jce.ECNamedCurveTable;
 import org.bouncycastle.jce.provider.BouncyCastleProvider;
 import org.bouncycastle.jce.spec.ECNamedCurveParameterSpec;
+import org.bouncycastle.math.ec.ECMultiplier;
 import org.bouncycastle.math.ec.ECPoint;
+import org.bouncycastle.math.ec.FixedPointCombMultiplier;
 import org.xrpl.xrpl4j.codec.addresses.KeyType;
 import org.xrpl.xrpl4j.codec.addresses.UnsignedByteArray;
 import org.xrpl.xrpl4j.crypto.keys.PrivateKey;
@@ -59,6 +61,9 @@ public final class BcKeyUtils {
       EC_PARAMS.getH()
     );
 
+  // A comb multiplier caches a precomputed table for the generator point, which speeds up public key derivation.
+  private static final ECMultiplier BASE_POINT_MULTIPLIER = new FixedPointCombMultiplier();
+
   static {
     if (Security.getProvider(BouncyCastleProvider.PROVIDER_NAME) == null) {
       final BouncyCastleProvider bcProvider = new BouncyCastleProvider();
@@ -168,7 +173,7 @@ public final class BcKeyUtils {
    */
   public static ECPublicKeyParameters toPublicKey(final ECPrivateKeyParameters ecPrivateKeyParameters) {
     Objects.requireNonNull(ecPrivateKeyParameters);
-    ECPoint ecPoint = EC_DOMAIN_PARAMETERS.getG().multiply(ecPrivateKeyParameters.getD());
+    ECPoint ecPoint = BASE_POINT_MULTIPLIER.multiply(EC_DOMAIN_PARAMETERS.getG(), ecPrivateKeyParameters.getD());
     return new ECPublicKeyParameters(ecPoint, PARAMS);
   }
 
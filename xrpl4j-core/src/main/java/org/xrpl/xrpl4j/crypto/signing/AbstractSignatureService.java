@@ -29,8 +29,12 @@ import org.xrpl.xrpl4j.model.client.channels.UnsignedClaim;
 import org.xrpl.xrpl4j.model.transactions.Signer;
 import org.xrpl.xrpl4j.model.transactions.Transaction;
 
+import java.util.Collection;
+import java.util.List;
 import java.util.Objects;
 import java.util.Set;
+import java.util.concurrent.Executor;
+import java.util.function.BiPredicate;
 
 /**
  * An abstract implementation of {@link SignatureService} with common functionality that subclasses can utilize.
@@ -73,6 +77,11 @@ public abstract class AbstractSignatureService<P extends PrivateKeyable> impleme
       protected boolean ecDsaVerify(PublicKey publicKey, UnsignedByteArray transactionBytes, Signature signature) {
         return AbstractSignatureService.this.ecDsaVerify(publicKey, transactionBytes, signature);
       }
+
+      @Override
+      protected BiPredicate<UnsignedByteArray, Signature> signatureVerifierFor(PublicKey publicKey) {
+        return AbstractSignatureService.this.signatureVerifierFor(publicKey);
+      }
     };
   }
 
@@ -106,6 +115,11 @@ public abstract class AbstractSignatureService<P extends PrivateKeyable> impleme
     return abstractTransactionSigner.multiSign(privateKeyable, transaction);
   }
 
+  @Override
+  public Signature multiSign(final P privateKeyable, final MultiSignPayload multiSignPayload) {
+    return abstractTransactionSigner.multiSign(privateKeyable, multiSignPayload);
+  }
+
   @Override
   public <T extends Transaction> boolean verify(final Signer signer, final T unsignedTransaction) {
     return abstractTransactionVerifier.verify(signer, unsignedTransaction);
@@ -120,6 +134,11 @@ public abstract class AbstractSignatureService<P extends PrivateKeyable> impleme
     return abstractTransactionVerifier.verifyMultiSigned(signerSet, unsignedTransaction, minSigners);
   }
 
+  @Override
+  public List<Boolean> verifyAll(final Collection<VerificationRequest> requests, final Executor executor) {
+    return abstractTransactionVerifier.verifyAll(requests, executor);
+  }
+
   /**
    * Does the actual work of computing a signature using a ed25519 private-key, as locatable using {@code privateKey}.
    *
@@ -163,6 +182,32 @@ public abstract class AbstractSignatureService<P extends PrivateKeyable> impleme
    */
   protected abstract boolean ecDsaVerify(PublicKey publicKey, UnsignedByteArray transactionBytes, Signature signature);
 
+  /**
+   * Returns a function that verifies signatures made by {@code publicKey}, used by
+   * {@link #verifyAll(Collection, Executor)} to verify many signatures by the same key. Subclasses can override this
+   * to decode {@code publicKey} once rather than on every verification. The returned function must be safe to call
+   * from multiple threads.
+   *
+   * @param publicKey The {@link PublicKey} that signatures will be verified against.
+   *
+   * @return A {@link BiPredicate} that accepts the signed bytes and a {@link Signature} over them, and returns
+   *   {@code true} if the signature is valid.
+   */
+  protected BiPredicate<UnsignedByteArray, Signature> signatureVerifierFor(final PublicKey publicKey) {
+    Objects.requireNonNull(publicKey);
+    switch (publicKey.keyType()) {
+      case ED25519: {
+        return (transactionBytes, signature) -> edDsaVerify(publicKey, transactionBytes, signature);
+      }
+      case SECP256K1: {
+        return (transactionBytes, signature) -> ecDsaVerify(publicKey, transactionBytes, signature);
+      }
+      default: {
+        throw new IllegalArgumentException("Unhandled PublicKey KeyType: {}" + publicKey.keyType());
+      }
+    }
+  }
+
   /**
    * Helper method to derive a public key from a private key.
    *
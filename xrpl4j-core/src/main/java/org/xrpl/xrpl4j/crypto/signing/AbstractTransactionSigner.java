@@ -23,7 +23,6 @@ package org.xrpl.xrpl4j.crypto.signing;
 import org.xrpl.xrpl4j.codec.addresses.UnsignedByteArray;
 import org.xrpl.xrpl4j.crypto.keys.PrivateKeyReference;
 import org.xrpl.xrpl4j.crypto.keys.PrivateKeyable;
-import org.xrpl.xrpl4j.crypto.keys.PublicKey;
 import org.xrpl.xrpl4j.model.client.channels.UnsignedClaim;
 import org.xrpl.xrpl4j.model.transactions.Address;
 import org.xrpl.xrpl4j.model.transactions.Transaction;
@@ -76,6 +75,15 @@ public abstract class AbstractTransactionSigner<P extends PrivateKeyable> implem
     return this.signingHelper(privateKeyable, signableTransactionBytes);
   }
 
+  @Override
+  public Signature multiSign(final P privateKeyable, final MultiSignPayload multiSignPayload) {
+    Objects.requireNonNull(privateKeyable);
+    Objects.requireNonNull(multiSignPayload);
+
+    final Address address = derivePublicKey(privateKeyable).deriveAddress();
+    return this.signingHelper(privateKeyable, multiSignPayload.toMultiSignableBytes(address));
+  }
+
   /**
    * Helper to generate a signature based upon an {@link UnsignedByteArray} of transaction bytes.
    *
@@ -90,8 +98,8 @@ public abstract class AbstractTransactionSigner<P extends PrivateKeyable> implem
     Objects.requireNonNull(privateKey);
     Objects.requireNonNull(signableTransactionBytes);
 
-    final PublicKey publicKey = derivePublicKey(privateKey);
-    switch (publicKey.keyType()) {
+    // The key type is known without deriving the public key, which for secp256k1 costs as much as signing.
+    switch (privateKey.keyType()) {
       case ED25519: {
         return this.edDsaSign(privateKey, signableTransactionBytes);
       }
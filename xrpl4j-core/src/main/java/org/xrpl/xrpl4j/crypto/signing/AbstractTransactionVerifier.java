@@ -23,11 +23,19 @@ package org.xrpl.xrpl4j.crypto.signing;
 import com.google.common.base.Preconditions;
 import org.xrpl.xrpl4j.codec.addresses.UnsignedByteArray;
 import org.xrpl.xrpl4j.crypto.keys.PublicKey;
+import org.xrpl.xrpl4j.model.transactions.Address;
 import org.xrpl.xrpl4j.model.transactions.Signer;
 import org.xrpl.xrpl4j.model.transactions.Transaction;
 
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
 import java.util.Objects;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.function.BiPredicate;
+import java.util.stream.Collectors;
 
 /**
  * An abstract implementation of {@link TransactionVerifier}.
@@ -76,22 +84,41 @@ public abstract class AbstractTransactionVerifier implements TransactionVerifier
     Objects.requireNonNull(unsignedTransaction);
     Preconditions.checkArgument(minSigners > 0);
 
-    final long numValidSignatures = signerSet.stream()
-      .map(signer -> {
-        // Check signature against all public keys, hoping for a valid verification against one.
-        final UnsignedByteArray unsignedTransactionBytes =
-          this.getSignatureUtils().toMultiSignableBytes(
-            unsignedTransaction, signer.signingPublicKey().deriveAddress()
-          );
-        final boolean oneValidSignature = verifyHelper(signer, unsignedTransactionBytes);
-        return oneValidSignature;
+    // Index the signers by account so that each account's signature is checked against that account's own entry, and
+    // counts towards the quorum at most once. Encode the transaction once, and append each account to that encoding.
+    final Map<Address, List<Signer>> signersByAccount = signerSet.stream()
+      .collect(Collectors.groupingBy(Signer::account));
+    final MultiSignPayload multiSignPayload = this.getSignatureUtils().toMultiSignPayload(unsignedTransaction);
+    final long numValidSignatures = signersByAccount.entrySet().stream()
+      .filter(entry -> {
+        final UnsignedByteArray unsignedTransactionBytes = multiSignPayload.toMultiSignableBytes(entry.getKey());
+        return entry.getValue().stream().anyMatch(signer -> verifyHelper(signer, unsignedTransactionBytes));
       })
-      .filter($ -> $) // Only count it if it's 'true'
+      .limit(minSigners)
       .count();
 
     return numValidSignatures >= minSigners;
   }
 
+  @Override
+  public List<Boolean> verifyAll(final Collection<VerificationRequest> requests, final Executor executor) {
+    Objects.requireNonNull(requests);
+    Objects.requireNonNull(executor);
+
+    // Prepare each distinct public key once, and share it across every request (and thread) that uses it.
+    final Map<PublicKey, BiPredicate<UnsignedByteArray, Signature>> verifiers = new ConcurrentHashMap<>();
+    return BatchVerification.verifyAll(requests, executor, request -> {
+      final Signer signer = request.signer();
+      final UnsignedByteArray transactionBytes = request.multiSigned() ?
+        // Use the signer's account, as verifyMultiSigned does; it differs from the key's address when a signer list
+        // entry signs with its regular key.
+        this.getSignatureUtils().toMultiSignableBytes(request.unsignedTransaction(), signer.account()) :
+        this.getSignatureUtils().toSignableBytes(request.unsignedTransaction());
+      return verifiers.computeIfAbsent(signer.signingPublicKey(), this::signatureVerifierFor)
+        .test(transactionBytes, signer.transactionSignature());
+    });
+  }
+
   /**
    * Helper to verify a signed transaction.
    *
@@ -143,6 +170,31 @@ public abstract class AbstractTransactionVerifier implements TransactionVerifier
    */
   protected abstract boolean ecDsaVerify(PublicKey publicKey, UnsignedByteArray transactionBytes, Signature signature);
 
+  /**
+   * Returns a function that verifies signatures made by {@code publicKey}, for use across many signatures by the same
+   * key. Implementations can override this to decode {@code publicKey} once rather than on every verification. The
+   * returned function must be safe to call from multiple threads.
+   *
+   * @param publicKey The {@link PublicKey} that signatures will be verified against.
+   *
+   * @return A {@link BiPredicate} that accepts the signed bytes and a {@link Signature} over them, and returns
+   *   {@code true} if the signature is valid.
+   */
+  protected BiPredicate<UnsignedByteArray, Signature> signatureVerifierFor(final PublicKey publicKey) {
+    Objects.requireNonNull(publicKey);
+    switch (publicKey.keyType()) {
+      case ED25519: {
+        return (transactionBytes, signature) -> edDsaVerify(publicKey, transactionBytes, signature);
+      }
+      case SECP256K1: {
+        return (transactionBytes, signature) -> ecDsaVerify(publicKey, transactionBytes, signature);
+      }
+      default: {
+        throw new IllegalArgumentException("Unhandled PublicKey KeyType: {}" + publicKey.keyType());
+      }
+    }
+  }
+
   /**
    * Accessor for the {@link SignatureUtils} used by this class.
    *
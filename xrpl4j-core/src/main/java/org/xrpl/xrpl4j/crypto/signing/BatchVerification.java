@@ -0,0 +1,92 @@
+package org.xrpl.xrpl4j.crypto.signing;
+
+/*-
+ * ========================LICENSE_START=================================
+ * xrpl4j :: core
+ * %%
+ * Copyright (C) 2020 - 2023 XRPL Foundation and its contributors
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * =========================LICENSE_END==================================
+ */
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.function.Predicate;
+
+/**
+ * Splits a batch of {@link VerificationRequest}s into chunks and verifies the chunks concurrently on an
+ * {@link Executor}, collecting one result per request in request order.
+ */
+final class BatchVerification {
+
+  /**
+   * The number of requests verified by each task; large enough to amortize task overhead, small enough to spread a
+   * batch across every thread of a typical pool.
+   */
+  static final int CHUNK_SIZE = 64;
+
+  private BatchVerification() {
+  }
+
+  /**
+   * Verify every request in {@code requests} using {@code verifier}.
+   *
+   * @param requests A {@link Collection} of {@link VerificationRequest}s.
+   * @param executor The {@link Executor} to run verification tasks on.
+   * @param verifier A thread-safe {@link Predicate} that verifies a single request.
+   *
+   * @return An unmodifiable {@link List} holding the result for each request, in the iteration order of
+   *   {@code requests}.
+   */
+  static List<Boolean> verifyAll(
+    final Collection<VerificationRequest> requests,
+    final Executor executor,
+    final Predicate<VerificationRequest> verifier
+  ) {
+    Objects.requireNonNull(requests);
+    Objects.requireNonNull(executor);
+    Objects.requireNonNull(verifier);
+
+    final List<VerificationRequest> requestList = new ArrayList<>(requests);
+    final Boolean[] results = new Boolean[requestList.size()];
+    final List<CompletableFuture<Void>> tasks = new ArrayList<>();
+    for (int start = 0; start < requestList.size(); start += CHUNK_SIZE) {
+      final int chunkStart = start;
+      final int chunkEnd = Math.min(start + CHUNK_SIZE, requestList.size());
+      tasks.add(CompletableFuture.runAsync(() -> {
+        for (int i = chunkStart; i < chunkEnd; i++) {
+          results[i] = verifier.test(Objects.requireNonNull(requestList.get(i)));
+        }
+      }, executor));
+    }
+
+    try {
+      CompletableFuture.allOf(tasks.toArray(new CompletableFuture[0])).join();
+    } catch (CompletionException e) {
+      if (e.getCause() instanceof RuntimeException) {
+        throw (RuntimeException) e.getCause();
+      }
+      throw e;
+    }
+    // allOf().join() happens-after every task, so all writes to results are visible here.
+    return Collections.unmodifiableList(Arrays.asList(results));
+  }
+}
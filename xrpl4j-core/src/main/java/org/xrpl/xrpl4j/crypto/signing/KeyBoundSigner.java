@@ -0,0 +1,103 @@
+package org.xrpl.xrpl4j.crypto.signing;
+
+/*-
+ * ========================LICENSE_START=================================
+ * xrpl4j :: core
+ * %%
+ * Copyright (C) 2020 - 2023 XRPL Foundation and its contributors
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * =========================LICENSE_END==================================
+ */
+
+import org.xrpl.xrpl4j.crypto.keys.PublicKey;
+import org.xrpl.xrpl4j.model.client.channels.UnsignedClaim;
+import org.xrpl.xrpl4j.model.transactions.Address;
+import org.xrpl.xrpl4j.model.transactions.Transaction;
+
+import java.util.Objects;
+
+/**
+ * <p>Signs transactions and payment channel claims with a single private key that was bound to this signer when it
+ * was created. Unlike a {@link TransactionSigner}, which is handed a key on every call, a {@link KeyBoundSigner}
+ * prepares the key and derives its {@link PublicKey} and {@link Address} once, so that repeated signing with the same
+ * key does no per-call key processing.</p>
+ *
+ * <p>Implementations are safe for use by multiple threads.</p>
+ */
+public interface KeyBoundSigner {
+
+  /**
+   * The public key corresponding to the bound private key.
+   *
+   * @return A {@link PublicKey}.
+   */
+  PublicKey publicKey();
+
+  /**
+   * The classic address derived from {@link #publicKey()}.
+   *
+   * @return An {@link Address}.
+   */
+  Address address();
+
+  /**
+   * Obtain a singly-signed signature for the supplied transaction.
+   *
+   * @param transaction The {@link Transaction} to sign.
+   * @param <T>         The type {@link Transaction} to be signed.
+   *
+   * @return A {@link SingleSignedTransaction} of type {@link T} containing everything related to a signed transaction.
+   * @see TransactionSigner#sign(org.xrpl.xrpl4j.crypto.keys.PrivateKeyable, Transaction)
+   */
+  <T extends Transaction> SingleSignedTransaction<T> sign(T transaction);
+
+  /**
+   * Signs a claim for usage in a Payment Channel.
+   *
+   * @param unsignedClaim An {@link UnsignedClaim}.
+   *
+   * @return A {@link Signature}.
+   */
+  Signature sign(UnsignedClaim unsignedClaim);
+
+  /**
+   * Obtain a signature for the supplied unsigned transaction as one of several signers of a multi-signed transaction,
+   * signing on behalf of {@link #address()}.
+   *
+   * @param transaction The {@link Transaction} to sign.
+   * @param <T>         The type of the transaction to be signed.
+   *
+   * @return A {@link Signature} for the transaction.
+   * @see TransactionSigner#multiSign(org.xrpl.xrpl4j.crypto.keys.PrivateKeyable, Transaction)
+   */
+  <T extends Transaction> Signature multiSign(T transaction);
+
+  /**
+   * Obtain a multi-signature, on behalf of {@link #address()}, for a transaction that was encoded once via
+   * {@link SignatureUtils#toMultiSignPayload(Transaction)}.
+   *
+   * <p>The default implementation decodes the transaction from {@code multiSignPayload} and calls
+   * {@link #multiSign(Transaction)}; implementations that sign raw bytes override it to sign the payload directly.</p>
+   *
+   * @param multiSignPayload The {@link MultiSignPayload} of the transaction to sign.
+   *
+   * @return A {@link Signature} for the transaction.
+   * @see TransactionSigner#multiSign(org.xrpl.xrpl4j.crypto.keys.PrivateKeyable, MultiSignPayload)
+   */
+  default Signature multiSign(MultiSignPayload multiSignPayload) {
+    Objects.requireNonNull(multiSignPayload);
+    return multiSign(SignatureUtils.getInstance().fromMultiSignPayload(multiSignPayload));
+  }
+
+}
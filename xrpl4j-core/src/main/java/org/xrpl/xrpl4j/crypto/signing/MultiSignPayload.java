@@ -0,0 +1,76 @@
+package org.xrpl.xrpl4j.crypto.signing;
+
+/*-
+ * ========================LICENSE_START=================================
+ * xrpl4j :: core
+ * %%
+ * Copyright (C) 2020 - 2023 XRPL Foundation and its contributors
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * =========================LICENSE_END==================================
+ */
+
+import com.fasterxml.jackson.databind.annotation.JsonDeserialize;
+import com.fasterxml.jackson.databind.annotation.JsonSerialize;
+import org.immutables.value.Value;
+import org.xrpl.xrpl4j.codec.addresses.AddressCodec;
+import org.xrpl.xrpl4j.codec.addresses.UnsignedByteArray;
+import org.xrpl.xrpl4j.model.transactions.Address;
+import org.xrpl.xrpl4j.model.transactions.Transaction;
+
+import java.util.Objects;
+
+/**
+ * The multi-signing bytes of a transaction that are common to every signer, i.e. the multi-signing hash prefix
+ * followed by the transaction's signing fields. Each signer signs these bytes followed by its own 20-byte AccountID,
+ * so a transaction can be encoded once via {@link SignatureUtils#toMultiSignPayload(Transaction)} and then signed by
+ * any number of local keys, or sent to remote signers, without re-encoding it for each.
+ */
+@Value.Immutable
+@JsonSerialize(as = ImmutableMultiSignPayload.class)
+@JsonDeserialize(as = ImmutableMultiSignPayload.class)
+public interface MultiSignPayload {
+
+  /**
+   * Construct a {@link MultiSignPayload}.
+   *
+   * @param signingPayload The multi-signing bytes of a transaction, without any signer's AccountID.
+   *
+   * @return A {@link MultiSignPayload}.
+   */
+  static MultiSignPayload of(final UnsignedByteArray signingPayload) {
+    return ImmutableMultiSignPayload.builder().signingPayload(signingPayload).build();
+  }
+
+  /**
+   * The multi-signing hash prefix followed by the signing fields of the transaction.
+   *
+   * @return An {@link UnsignedByteArray}.
+   */
+  UnsignedByteArray signingPayload();
+
+  /**
+   * The bytes that {@code signerAddress} signs to add its signature to the transaction. These are the same bytes as
+   * {@link SignatureUtils#toMultiSignableBytes(Transaction, Address)} returns.
+   *
+   * @param signerAddress The {@link Address} of the signer.
+   *
+   * @return A new {@link UnsignedByteArray}.
+   */
+  default UnsignedByteArray toMultiSignableBytes(final Address signerAddress) {
+    Objects.requireNonNull(signerAddress);
+    return UnsignedByteArray.of(signingPayload().toByteArray())
+      .append(AddressCodec.getInstance().decodeAccountId(signerAddress));
+  }
+
+}
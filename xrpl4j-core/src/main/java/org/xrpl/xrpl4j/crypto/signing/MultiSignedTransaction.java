@@ -20,6 +20,7 @@ package org.xrpl.xrpl4j.crypto.signing;
  * =========================LICENSE_END==================================
  */
 
+import com.fasterxml.jackson.annotation.JsonProperty;
 import com.fasterxml.jackson.databind.annotation.JsonDeserialize;
 import com.fasterxml.jackson.databind.annotation.JsonSerialize;
 import org.immutables.value.Value;
@@ -64,12 +65,13 @@ public interface MultiSignedTransaction<T extends Transaction> extends SignedTra
 
   /**
    * The transaction with all signers in {@link #signerSet()} added to the {@link Transaction#signers()}
-   * field in the correct order.
+   * field in the correct order. This is computed at most once per instance, on first access.
    *
    * @return A {@link T}.
    */
   @Override
-  @Value.Derived
+  @JsonProperty("signedTransaction")
+  @Value.Lazy
   default T signedTransaction() {
     List<SignerWrapper> signers = signerSet().stream()
       .map(SignerWrapper::of)
@@ -21,6 +21,7 @@ package org.xrpl.xrpl4j.crypto.signing;
  */
 
 import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.google.common.base.Preconditions;
 import org.xrpl.xrpl4j.codec.addresses.UnsignedByteArray;
@@ -56,6 +57,7 @@ import org.xrpl.xrpl4j.model.transactions.TicketCreate;
 import org.xrpl.xrpl4j.model.transactions.Transaction;
 import org.xrpl.xrpl4j.model.transactions.TrustSet;
 
+import java.util.Arrays;
 import java.util.List;
 import java.util.Objects;
 
@@ -101,13 +103,8 @@ public class SignatureUtils {
    */
   public UnsignedByteArray toSignableBytes(final Transaction transaction) {
     Objects.requireNonNull(transaction);
-    try {
-      final String unsignedJson = objectMapper.writeValueAsString(transaction);
-      final String unsignedBinaryHex = binaryCodec.encodeForSigning(unsignedJson);
-      return UnsignedByteArray.fromHex(unsignedBinaryHex);
-    } catch (JsonProcessingException e) {
-      throw new RuntimeException(e.getMessage(), e);
-    }
+    final JsonNode unsignedJson = objectMapper.valueToTree(transaction);
+    return binaryCodec.encodeForSigningToBytes(unsignedJson);
   }
 
   /**
@@ -119,13 +116,8 @@ public class SignatureUtils {
    */
   public UnsignedByteArray toSignableBytes(final UnsignedClaim unsignedClaim) {
     Objects.requireNonNull(unsignedClaim);
-    try {
-      final String unsignedJson = objectMapper.writeValueAsString(unsignedClaim);
-      final String unsignedBinaryHex = binaryCodec.encodeForSigningClaim(unsignedJson);
-      return UnsignedByteArray.fromHex(unsignedBinaryHex);
-    } catch (JsonProcessingException e) {
-      throw new RuntimeException(e.getMessage(), e);
-    }
+    final JsonNode unsignedJson = objectMapper.valueToTree(unsignedClaim);
+    return binaryCodec.encodeForSigningClaimToBytes(unsignedJson);
   }
 
   /**
@@ -141,15 +133,66 @@ public class SignatureUtils {
     Objects.requireNonNull(transaction);
     Objects.requireNonNull(signerAddress);
 
+    final JsonNode unsignedJson = objectMapper.valueToTree(transaction);
+    return binaryCodec.encodeForMultiSigningToBytes(unsignedJson, signerAddress.value());
+  }
+
+  /**
+   * Helper method to encode a {@link Transaction} for multi-signing once, so that it can be signed by any number of
+   * signers without being re-encoded for each.
+   *
+   * @param transaction A {@link Transaction} to be signed.
+   *
+   * @return A {@link MultiSignPayload}.
+   */
+  public MultiSignPayload toMultiSignPayload(final Transaction transaction) {
+    Objects.requireNonNull(transaction);
+
+    final JsonNode unsignedJson = objectMapper.valueToTree(transaction);
+    return MultiSignPayload.of(binaryCodec.encodeForMultiSigningPayloadToBytes(unsignedJson));
+  }
+
+  /**
+   * Helper method to decode the unsigned {@link Transaction} that a {@link MultiSignPayload} was encoded from, for
+   * signers that can only sign a whole {@link Transaction}.
+   *
+   * @param multiSignPayload A {@link MultiSignPayload} returned by {@link #toMultiSignPayload(Transaction)}.
+   *
+   * @return The unsigned {@link Transaction}.
+   */
+  public Transaction fromMultiSignPayload(final MultiSignPayload multiSignPayload) {
+    Objects.requireNonNull(multiSignPayload);
+
+    final byte[] payloadBytes = multiSignPayload.signingPayload().toByteArray();
+    final byte[] prefix = UnsignedByteArray.fromHex(XrplBinaryCodec.TRX_MULTI_SIGNATURE_PREFIX).toByteArray();
+    Preconditions.checkArgument(
+      payloadBytes.length >= prefix.length && Arrays.equals(Arrays.copyOf(payloadBytes, prefix.length), prefix),
+      "multiSignPayload must start with the multi-signing prefix"
+    );
+    final JsonNode unsignedJson = binaryCodec.decodeToJson(
+      Arrays.copyOfRange(payloadBytes, prefix.length, payloadBytes.length)
+    );
     try {
-      final String unsignedJson = objectMapper.writeValueAsString(transaction);
-      final String unsignedBinaryHex = binaryCodec.encodeForMultiSigning(unsignedJson, signerAddress.value());
-      return UnsignedByteArray.fromHex(unsignedBinaryHex);
+      return objectMapper.treeToValue(unsignedJson, Transaction.class);
     } catch (JsonProcessingException e) {
-      throw new RuntimeException(e.getMessage(), e);
+      throw new IllegalArgumentException(e);
     }
   }
 
+  /**
+   * Helper method to convert a {@link Transaction}, including any signature fields, into the canonical binary
+   * representation that is submitted to the XRP Ledger (i.e., the {@code tx_blob}).
+   *
+   * @param transaction A {@link Transaction} to encode.
+   *
+   * @return An {@link UnsignedByteArray}.
+   */
+  public UnsignedByteArray toSignedTransactionBytes(final Transaction transaction) {
+    Objects.requireNonNull(transaction);
+    final JsonNode json = objectMapper.valueToTree(transaction);
+    return binaryCodec.encodeToBytes(json);
+  }
+
   /**
    * Add {@link Transaction#transactionSignature()} to the given transaction. Because {@link Transaction} is not an
    * Immutable object, it does not have a generated builder like its subclasses do. Thus, this method needs to rebuild
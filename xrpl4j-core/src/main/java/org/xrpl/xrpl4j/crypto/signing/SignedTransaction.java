@@ -20,18 +20,14 @@ package org.xrpl.xrpl4j.crypto.signing;
  * =========================LICENSE_END==================================
  */
 
-import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.annotation.JsonProperty;
 import com.google.common.hash.Hashing;
 import com.google.common.io.BaseEncoding;
 import org.immutables.value.Value;
 import org.xrpl.xrpl4j.codec.addresses.UnsignedByteArray;
-import org.xrpl.xrpl4j.codec.binary.XrplBinaryCodec;
-import org.xrpl.xrpl4j.model.jackson.ObjectMapperFactory;
 import org.xrpl.xrpl4j.model.transactions.Hash256;
 import org.xrpl.xrpl4j.model.transactions.Transaction;
 
-import java.util.Arrays;
-
 /**
  * Holds the bytes for a multi-signed XRPL transaction.
  *
@@ -59,19 +55,15 @@ public interface SignedTransaction<T extends Transaction> {
   T signedTransaction();
 
   /**
-   * The {@link #signedTransaction()} encoded into bytes that are suitable for submission to the XRP Ledger.
+   * The {@link #signedTransaction()} encoded into bytes that are suitable for submission to the XRP Ledger. This is
+   * computed at most once per instance, on first access, and is reused by {@link #hash()} and when submitting.
    *
    * @return A byte-array containing the signed transaction blob.
    */
-  @Value.Derived
+  @JsonProperty("signedTransactionBytes")
+  @Value.Lazy
   default UnsignedByteArray signedTransactionBytes() {
-    try {
-      return UnsignedByteArray.fromHex(
-        XrplBinaryCodec.getInstance().encode(ObjectMapperFactory.create().writeValueAsString(signedTransaction()))
-      );
-    } catch (JsonProcessingException e) {
-      throw new RuntimeException(e.getMessage(), e);
-    }
+    return SignatureUtils.getInstance().toSignedTransactionBytes(signedTransaction());
   }
 
   /**
@@ -81,17 +73,16 @@ public interface SignedTransaction<T extends Transaction> {
    *
    * @return A {@link Hash256} containing the transaction hash.
    */
-  @Value.Derived
+  @JsonProperty("hash")
+  @Value.Lazy
   default Hash256 hash() {
-    byte[] hashBytes = Arrays.copyOfRange(
-      Hashing.sha512().hashBytes(
-        BaseEncoding.base16().decode(
-          SIGNED_TRANSACTION_HASH_PREFIX.concat(signedTransactionBytes().hexValue()).toUpperCase()
-        )).asBytes(),
-      0,
-      32 // <-- SHA512 Half is the first 32 bytes of the SHA512 hash.
-    );
-    return Hash256.of(BaseEncoding.base16().encode(hashBytes));
+    final byte[] hashBytes = Hashing.sha512().newHasher()
+      .putBytes(BaseEncoding.base16().decode(SIGNED_TRANSACTION_HASH_PREFIX))
+      .putBytes(signedTransactionBytes().toByteArray())
+      .hash()
+      .asBytes();
+    // SHA512 Half is the first 32 bytes of the SHA512 hash.
+    return Hash256.of(BaseEncoding.base16().encode(hashBytes, 0, 32));
   }
 
 }
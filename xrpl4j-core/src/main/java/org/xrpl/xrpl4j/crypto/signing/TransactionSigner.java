@@ -82,6 +82,26 @@ public interface TransactionSigner<P extends PrivateKeyable> {
    */
   <T extends Transaction> Signature multiSign(P privateKeyable, T transaction);
 
+  /**
+   * Obtain a multi-signature for a transaction that was encoded once via
+   * {@link SignatureUtils#toMultiSignPayload(Transaction)}. This produces the same signature as
+   * {@link #multiSign(PrivateKeyable, Transaction)}, but lets many signers share a single encoding of the transaction.
+   *
+   * <p>The default implementation decodes the transaction from {@code multiSignPayload} and calls
+   * {@link #multiSign(PrivateKeyable, Transaction)}, so it does not save any encoding work. Implementations that sign
+   * raw bytes, such as {@link AbstractTransactionSigner}, override it to sign the payload directly.</p>
+   *
+   * @param privateKeyable   The {@link P} used to sign.
+   * @param multiSignPayload The {@link MultiSignPayload} of the transaction to sign.
+   *
+   * @return A {@link Signature} for the transaction.
+   */
+  default Signature multiSign(P privateKeyable, MultiSignPayload multiSignPayload) {
+    Objects.requireNonNull(privateKeyable);
+    Objects.requireNonNull(multiSignPayload);
+    return multiSign(privateKeyable, SignatureUtils.getInstance().fromMultiSignPayload(multiSignPayload));
+  }
+
   /**
    * Obtain a signature for the supplied unsigned transaction using the supplied {@link P}.
    * <p>
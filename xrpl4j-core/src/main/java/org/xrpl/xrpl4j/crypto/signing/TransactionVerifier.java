@@ -23,7 +23,12 @@ package org.xrpl.xrpl4j.crypto.signing;
 import org.xrpl.xrpl4j.model.transactions.Signer;
 import org.xrpl.xrpl4j.model.transactions.Transaction;
 
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
 import java.util.Set;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ForkJoinPool;
 
 /**
  * Defines how to verify an XRPL transaction using public key material supplied by the caller.
@@ -76,4 +81,35 @@ public interface TransactionVerifier {
     Set<Signer> signerSet, T unsignedTransaction, int minSigners
   );
 
+  /**
+   * Verify a batch of signatures on the {@link java.util.concurrent.ForkJoinPool#commonPool()}.
+   *
+   * @param requests A {@link Collection} of {@link VerificationRequest}s to verify.
+   *
+   * @return A {@link List} holding, for each request in the iteration order of {@code requests}, {@code true} if its
+   *   signature is valid and verified; {@code false} otherwise.
+   */
+  default List<Boolean> verifyAll(final Collection<VerificationRequest> requests) {
+    return verifyAll(requests, ForkJoinPool.commonPool());
+  }
+
+  /**
+   * Verify a batch of signatures, spreading the work across the threads of {@code executor}. This is equivalent to
+   * calling {@link #verify(Signer, Transaction)} for each single-signed request and
+   * {@link #verifyMultiSigned(Set, Transaction, int)} with a quorum of one for each multi-signed request, but
+   * implementations may share work, such as decoding public keys, across requests.
+   *
+   * @param requests A {@link Collection} of {@link VerificationRequest}s to verify.
+   * @param executor The {@link Executor} to verify on.
+   *
+   * @return A {@link List} holding, for each request in the iteration order of {@code requests}, {@code true} if its
+   *   signature is valid and verified; {@code false} otherwise.
+   */
+  default List<Boolean> verifyAll(final Collection<VerificationRequest> requests, final Executor executor) {
+    return BatchVerification.verifyAll(requests, executor, request -> request.multiSigned() ?
+      verifyMultiSigned(Collections.singleton(request.signer()), request.unsignedTransaction(), 1) :
+      verify(request.signer(), request.unsignedTransaction())
+    );
+  }
+
 }
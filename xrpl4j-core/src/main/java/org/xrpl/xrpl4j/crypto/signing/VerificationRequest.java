@@ -0,0 +1,79 @@
+package org.xrpl.xrpl4j.crypto.signing;
+
+/*-
+ * ========================LICENSE_START=================================
+ * xrpl4j :: core
+ * %%
+ * Copyright (C) 2020 - 2023 XRPL Foundation and its contributors
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * =========================LICENSE_END==================================
+ */
+
+import org.immutables.value.Value;
+import org.xrpl.xrpl4j.model.transactions.Signer;
+import org.xrpl.xrpl4j.model.transactions.Transaction;
+
+/**
+ * A single signature to check as part of a batch passed to {@link TransactionVerifier#verifyAll}.
+ */
+@Value.Immutable
+public interface VerificationRequest {
+
+  /**
+   * A builder.
+   *
+   * @return An {@link ImmutableVerificationRequest.Builder}.
+   */
+  static ImmutableVerificationRequest.Builder builder() {
+    return ImmutableVerificationRequest.builder();
+  }
+
+  /**
+   * Construct a {@link VerificationRequest} for a single-signed transaction.
+   *
+   * @param signer              The {@link Signer} whose signature should be verified.
+   * @param unsignedTransaction The {@link Transaction} that was signed.
+   *
+   * @return A {@link VerificationRequest}.
+   */
+  static VerificationRequest of(final Signer signer, final Transaction unsignedTransaction) {
+    return builder().signer(signer).unsignedTransaction(unsignedTransaction).build();
+  }
+
+  /**
+   * The {@link Signer} whose signature should be verified.
+   *
+   * @return A {@link Signer}.
+   */
+  Signer signer();
+
+  /**
+   * The {@link Transaction} that was signed, without any signature attached.
+   *
+   * @return A {@link Transaction}.
+   */
+  Transaction unsignedTransaction();
+
+  /**
+   * Whether {@link #signer()} supplied one of several signatures on a multi-signed transaction, in which case the
+   * signature covers the multi-signing bytes for the signer's address rather than the single-signing bytes.
+   *
+   * @return {@code true} if the signature is part of a multi-signed transaction; {@code false} otherwise.
+   */
+  @Value.Default
+  default boolean multiSigned() {
+    return false;
+  }
+
+}
@@ -23,9 +23,10 @@ package org.xrpl.xrpl4j.crypto.signing.bc;
 import com.github.benmanes.caffeine.cache.Caffeine;
 import com.github.benmanes.caffeine.cache.CaffeineSpec;
 import com.github.benmanes.caffeine.cache.LoadingCache;
+import com.github.benmanes.caffeine.cache.Ticker;
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
 import com.google.common.annotations.VisibleForTesting;
 import com.google.common.base.Preconditions;
-import com.google.common.collect.Sets;
 import com.google.common.hash.Hashing;
 import org.bouncycastle.crypto.digests.SHA256Digest;
 import org.bouncycastle.crypto.signers.ECDSASigner;
@@ -34,24 +35,32 @@ import org.bouncycastle.crypto.signers.HMacDSAKCalculator;
 import org.xrpl.xrpl4j.codec.addresses.KeyType;
 import org.xrpl.xrpl4j.crypto.ServerSecret;
 import org.xrpl.xrpl4j.crypto.ServerSecretSupplier;
+import org.xrpl.xrpl4j.crypto.keys.BulkKeyPairs;
 import org.xrpl.xrpl4j.crypto.keys.KeyPair;
 import org.xrpl.xrpl4j.crypto.keys.Passphrase;
 import org.xrpl.xrpl4j.crypto.keys.PrivateKey;
 import org.xrpl.xrpl4j.crypto.keys.PrivateKeyReference;
 import org.xrpl.xrpl4j.crypto.keys.PublicKey;
 import org.xrpl.xrpl4j.crypto.keys.Seed;
-import org.xrpl.xrpl4j.crypto.keys.bc.BcKeyUtils;
+import org.xrpl.xrpl4j.crypto.signing.KeyBoundSigner;
+import org.xrpl.xrpl4j.crypto.signing.MultiSignPayload;
 import org.xrpl.xrpl4j.crypto.signing.Signature;
 import org.xrpl.xrpl4j.crypto.signing.SignatureService;
 import org.xrpl.xrpl4j.crypto.signing.SignatureUtils;
 import org.xrpl.xrpl4j.crypto.signing.SingleSignedTransaction;
+import org.xrpl.xrpl4j.crypto.signing.VerificationRequest;
 import org.xrpl.xrpl4j.model.client.channels.UnsignedClaim;
+import org.xrpl.xrpl4j.model.transactions.Address;
 import org.xrpl.xrpl4j.model.transactions.Signer;
 import org.xrpl.xrpl4j.model.transactions.Transaction;
 
 import java.util.Arrays;
+import java.util.Collection;
+import java.util.List;
 import java.util.Objects;
 import java.util.Set;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ForkJoinPool;
 
 /**
  * An implementation of {@link SignatureService} that uses an in-memory secret value to deterministically create a seed
@@ -65,6 +74,9 @@ public class BcDerivedKeySignatureService implements SignatureService<PrivateKey
 
   private static final byte[] EMPTY_BYTE_ARRAY = new byte[0];
 
+  private static final String DEFAULT_CAFFEINE_SPEC =
+    "maximumSize=10000,expireAfterWrite=30s,refreshAfterWrite=20s,recordStats";
+
   private final LoadingCache<PrivateKeyReference, BcSingleKeyTransactionSigner> transactionSignerCache;
 
   private final ServerSecretSupplier serverSecretSupplier;
@@ -75,12 +87,16 @@ public class BcDerivedKeySignatureService implements SignatureService<PrivateKey
   /**
    * Required-args Constructor.
    *
+   * <p>Signers are cached for up to 30 seconds after they are derived. A signer that is used after 20 seconds is
+   * re-derived in the background while the cached one continues to serve requests, so keys in active use never expire
+   * on the request path; idle keys are dropped after 30 seconds.</p>
+   *
    * @param serverSecretSupplier A {@link ServerSecretSupplier} that can be used to generate seed values, which can
    */
   public BcDerivedKeySignatureService(final ServerSecretSupplier serverSecretSupplier) {
     this(
       serverSecretSupplier,
-      CaffeineSpec.parse("maximumSize=10000,expireAfterWrite=30s")
+      CaffeineSpec.parse(DEFAULT_CAFFEINE_SPEC)
     );
   }
 
@@ -89,23 +105,86 @@ public class BcDerivedKeySignatureService implements SignatureService<PrivateKey
    *
    * @param serverSecretSupplier A {@link ServerSecretSupplier} that can be used to generate seed values, which can
    * @param caffeineSpec         A {@link CaffeineSpec} that can be initialized externally to configure the Caffeine
-   *                             cache constructed by this service.
+   *                             cache constructed by this service. Include {@code refreshAfterWrite} to re-derive
+   *                             signers in the background before they expire, and {@code recordStats} to populate
+   *                             {@link #cacheStats()}.
    */
   public BcDerivedKeySignatureService(
     final ServerSecretSupplier serverSecretSupplier,
     final CaffeineSpec caffeineSpec
+  ) {
+    this(serverSecretSupplier, caffeineSpec, Ticker.systemTicker(), ForkJoinPool.commonPool());
+  }
+
+  /**
+   * Constructor that controls the cache's clock and the executor that runs background refreshes.
+   *
+   * @param serverSecretSupplier A {@link ServerSecretSupplier} that can be used to generate seed values, which can
+   * @param caffeineSpec         A {@link CaffeineSpec} to configure the Caffeine cache constructed by this service.
+   * @param ticker               The {@link Ticker} used to measure expiry and refresh intervals.
+   * @param refreshExecutor      The {@link Executor} that re-derives signers in the background.
+   */
+  @VisibleForTesting
+  BcDerivedKeySignatureService(
+    final ServerSecretSupplier serverSecretSupplier,
+    final CaffeineSpec caffeineSpec,
+    final Ticker ticker,
+    final Executor refreshExecutor
   ) {
     this.serverSecretSupplier = Objects.requireNonNull(serverSecretSupplier);
     this.transactionSignerCache = Caffeine.from(Objects.requireNonNull(caffeineSpec))
+      .ticker(Objects.requireNonNull(ticker))
+      .executor(Objects.requireNonNull(refreshExecutor))
       .build(this::constructTransactionSigner);
 
     this.commonBcSignatureService = new BcSignatureService(
       SignatureUtils.getInstance(),
-      new Ed25519Signer(),
-      new ECDSASigner(new HMacDSAKCalculator(new SHA256Digest()))
+      Ed25519Signer::new,
+      () -> new ECDSASigner(new HMacDSAKCalculator(new SHA256Digest()))
     );
   }
 
+  /**
+   * Derive and cache the signers for {@code privateKeyReferences}, e.g. at startup, so that the first request for each
+   * key does not pay for key derivation.
+   *
+   * @param privateKeyReferences A {@link Collection} of {@link PrivateKeyReference}s to load.
+   */
+  public void preload(final Collection<PrivateKeyReference> privateKeyReferences) {
+    Objects.requireNonNull(privateKeyReferences);
+    this.transactionSignerCache.getAll(privateKeyReferences);
+  }
+
+  /**
+   * Statistics for the signer cache, such as its hit rate and the number and duration of key derivations. These are
+   * only recorded when the cache is configured with {@code recordStats}, which the default configuration is.
+   *
+   * @return A {@link CacheStats}.
+   */
+  public CacheStats cacheStats() {
+    return this.transactionSignerCache.stats();
+  }
+
+  /**
+   * Derive the classic {@link Address} of each of {@code privateKeyReferences} on {@code executor}, e.g. to provision
+   * a range of deposit accounts. Unlike {@link #preload(Collection)}, no signers are created or cached.
+   *
+   * @param privateKeyReferences A {@link List} of {@link PrivateKeyReference}s.
+   * @param executor             The {@link Executor} to derive the addresses on.
+   *
+   * @return A {@link List} of {@link Address}es, in the same order as {@code privateKeyReferences}.
+   */
+  public List<Address> deriveAddresses(
+    final List<PrivateKeyReference> privateKeyReferences,
+    final Executor executor
+  ) {
+    Objects.requireNonNull(privateKeyReferences);
+    Objects.requireNonNull(executor);
+
+    final PrivateKeyReference[] references = privateKeyReferences.toArray(new PrivateKeyReference[0]);
+    return BulkKeyPairs.deriveAddresses(references.length, i -> this.generateSeed(references[i]), executor);
+  }
+
   @Override
   public PublicKey derivePublicKey(final PrivateKeyReference privateKeyable) {
     Objects.requireNonNull(privateKeyable);
@@ -136,6 +215,15 @@ public class BcDerivedKeySignatureService implements SignatureService<PrivateKey
     return getTransactionSigner(privateKeyReference).multiSign(transaction);
   }
 
+  @Override
+  public Signature multiSign(
+    final PrivateKeyReference privateKeyReference, final MultiSignPayload multiSignPayload
+  ) {
+    Objects.requireNonNull(privateKeyReference);
+    Objects.requireNonNull(multiSignPayload);
+    return getTransactionSigner(privateKeyReference).multiSign(multiSignPayload);
+  }
+
   @Override
   public <T extends Transaction> boolean verify(
     final Signer signer, final T unsignedTransaction
@@ -156,16 +244,12 @@ public class BcDerivedKeySignatureService implements SignatureService<PrivateKey
     Objects.requireNonNull(unsignedTransaction);
     Preconditions.checkArgument(minSigners > 0, "Valid multisigned transactions must have at least 1 signer");
 
-    final long numValidSignatures = signerSet.stream()
-      // Check signature against all public keys, hoping for a valid verification against one.
-      .map(signer -> this.commonBcSignatureService.verifyMultiSigned(
-          Sets.newHashSet(signer), unsignedTransaction, 1
-        )
-      )
-      .filter($ -> $) // Only count it if it's 'true'
-      .count();
+    return this.commonBcSignatureService.verifyMultiSigned(signerSet, unsignedTransaction, minSigners);
+  }
 
-    return numValidSignatures >= minSigners;
+  @Override
+  public List<Boolean> verifyAll(final Collection<VerificationRequest> requests, final Executor executor) {
+    return this.commonBcSignatureService.verifyAll(requests, executor);
   }
 
   //////////////////
@@ -183,18 +267,27 @@ public class BcDerivedKeySignatureService implements SignatureService<PrivateKey
   protected BcSingleKeyTransactionSigner constructTransactionSigner(final PrivateKeyReference privateKeyReference) {
     Objects.requireNonNull(privateKeyReference);
 
-    final KeyPair keyPair;
+    final KeyPair keyPair = this.generateSeed(privateKeyReference).deriveKeyPair();
+    return new BcSingleKeyTransactionSigner(keyPair.privateKey(), commonBcSignatureService);
+  }
+
+  /**
+   * Deterministically generate the {@link Seed} for {@code privateKeyReference}.
+   *
+   * @param privateKeyReference A {@link PrivateKeyReference} with information about a private key.
+   *
+   * @return A {@link Seed} of the referenced {@link KeyType}.
+   */
+  private Seed generateSeed(final PrivateKeyReference privateKeyReference) {
+    Objects.requireNonNull(privateKeyReference);
+
     if (KeyType.ED25519 == privateKeyReference.keyType()) {
-      final Seed seed = this.generateEd25519XrplSeed(privateKeyReference.keyIdentifier());
-      keyPair = seed.deriveKeyPair();
+      return this.generateEd25519XrplSeed(privateKeyReference.keyIdentifier());
     } else if (KeyType.SECP256K1 == privateKeyReference.keyType()) {
-      final Seed seed = this.generateSecp256k1Seed(privateKeyReference.keyIdentifier());
-      keyPair = seed.deriveKeyPair();
+      return this.generateSecp256k1Seed(privateKeyReference.keyIdentifier());
     } else {
       throw new IllegalArgumentException("Invalid KeyType: " + privateKeyReference.keyType());
     }
-
-    return new BcSingleKeyTransactionSigner(keyPair.privateKey(), commonBcSignatureService);
   }
 
   /**
@@ -277,29 +370,32 @@ public class BcDerivedKeySignatureService implements SignatureService<PrivateKey
    */
   private static class BcSingleKeyTransactionSigner {
 
-    private final PrivateKey privateKey;
-    private final BcSignatureService bcSignatureService;
+    private final KeyBoundSigner keyBoundSigner;
 
     public BcSingleKeyTransactionSigner(final PrivateKey privateKey, final BcSignatureService bcSignatureService) {
-      this.privateKey = Objects.requireNonNull(privateKey);
-      this.bcSignatureService = Objects.requireNonNull(bcSignatureService);
+      Objects.requireNonNull(privateKey);
+      this.keyBoundSigner = Objects.requireNonNull(bcSignatureService).keyBoundSigner(privateKey);
     }
 
     public final <T extends Transaction> SingleSignedTransaction<T> sign(final T transaction) {
-      return bcSignatureService.sign(this.privateKey, transaction);
+      return keyBoundSigner.sign(transaction);
     }
 
     public Signature sign(final UnsignedClaim unsignedClaim) {
       Objects.requireNonNull(unsignedClaim);
-      return bcSignatureService.sign(this.privateKey, unsignedClaim);
+      return keyBoundSigner.sign(unsignedClaim);
     }
 
     public <T extends Transaction> Signature multiSign(final T transaction) {
-      return bcSignatureService.multiSign(this.privateKey, transaction);
+      return keyBoundSigner.multiSign(transaction);
+    }
+
+    public Signature multiSign(final MultiSignPayload multiSignPayload) {
+      return keyBoundSigner.multiSign(multiSignPayload);
     }
 
     public PublicKey getPublicKey() {
-      return BcKeyUtils.toPublicKey(this.privateKey);
+      return keyBoundSigner.publicKey();
     }
   }
 
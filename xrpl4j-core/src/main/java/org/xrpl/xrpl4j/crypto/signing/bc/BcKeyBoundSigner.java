@@ -0,0 +1,140 @@
+package org.xrpl.xrpl4j.crypto.signing.bc;
+
+/*-
+ * ========================LICENSE_START=================================
+ * xrpl4j :: core
+ * %%
+ * Copyright (C) 2020 - 2023 XRPL Foundation and its contributors
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * =========================LICENSE_END==================================
+ */
+
+import org.bouncycastle.crypto.params.ECPrivateKeyParameters;
+import org.bouncycastle.crypto.params.Ed25519PrivateKeyParameters;
+import org.xrpl.xrpl4j.codec.addresses.UnsignedByteArray;
+import org.xrpl.xrpl4j.crypto.keys.PrivateKey;
+import org.xrpl.xrpl4j.crypto.keys.PublicKey;
+import org.xrpl.xrpl4j.crypto.keys.bc.BcKeyUtils;
+import org.xrpl.xrpl4j.crypto.signing.KeyBoundSigner;
+import org.xrpl.xrpl4j.crypto.signing.MultiSignPayload;
+import org.xrpl.xrpl4j.crypto.signing.Signature;
+import org.xrpl.xrpl4j.crypto.signing.SignatureUtils;
+import org.xrpl.xrpl4j.crypto.signing.SingleSignedTransaction;
+import org.xrpl.xrpl4j.model.client.channels.UnsignedClaim;
+import org.xrpl.xrpl4j.model.transactions.Address;
+import org.xrpl.xrpl4j.model.transactions.Transaction;
+
+import java.util.Objects;
+
+/**
+ * A {@link KeyBoundSigner} that holds a private key as decoded BouncyCastle parameters, together with its derived
+ * {@link PublicKey} and {@link Address}. For ed25519 keys, the parameters also retain the expanded public key so that
+ * each signature does not recompute it.
+ */
+final class BcKeyBoundSigner implements KeyBoundSigner {
+
+  private final BcSignatureService signatureService;
+  private final SignatureUtils signatureUtils;
+  private final Ed25519PrivateKeyParameters ed25519PrivateKeyParameters;
+  private final ECPrivateKeyParameters ecPrivateKeyParameters;
+  private final PublicKey publicKey;
+  private final Address address;
+
+  /**
+   * Required-args Constructor.
+   *
+   * @param privateKey       The {@link PrivateKey} to bind.
+   * @param signatureService The {@link BcSignatureService} that performs the signing.
+   * @param signatureUtils   A {@link SignatureUtils}.
+   */
+  BcKeyBoundSigner(
+    final PrivateKey privateKey, final BcSignatureService signatureService, final SignatureUtils signatureUtils
+  ) {
+    Objects.requireNonNull(privateKey);
+    this.signatureService = Objects.requireNonNull(signatureService);
+    this.signatureUtils = Objects.requireNonNull(signatureUtils);
+
+    switch (privateKey.keyType()) {
+      case ED25519: {
+        this.ed25519PrivateKeyParameters = BcKeyUtils.toEd25519PrivateKeyParams(privateKey);
+        this.ecPrivateKeyParameters = null;
+        this.publicKey = BcKeyUtils.toPublicKey(ed25519PrivateKeyParameters.generatePublicKey());
+        break;
+      }
+      case SECP256K1: {
+        this.ed25519PrivateKeyParameters = null;
+        this.ecPrivateKeyParameters = BcKeyUtils.toEcPrivateKeyParams(privateKey);
+        this.publicKey = BcKeyUtils.toPublicKey(BcKeyUtils.toPublicKey(ecPrivateKeyParameters));
+        break;
+      }
+      default: {
+        throw new IllegalArgumentException("Unhandled PrivateKey KeyType: " + privateKey.keyType());
+      }
+    }
+    this.address = publicKey.deriveAddress();
+  }
+
+  @Override
+  public PublicKey publicKey() {
+    return publicKey;
+  }
+
+  @Override
+  public Address address() {
+    return address;
+  }
+
+  @Override
+  public <T extends Transaction> SingleSignedTransaction<T> sign(final T transaction) {
+    Objects.requireNonNull(transaction);
+
+    final Signature signature = sign(signatureUtils.toSignableBytes(transaction));
+    return signatureUtils.addSignatureToTransaction(transaction, signature);
+  }
+
+  @Override
+  public Signature sign(final UnsignedClaim unsignedClaim) {
+    Objects.requireNonNull(unsignedClaim);
+    return sign(PaymentChannelClaimSigner.toSignableBytes(
+      PaymentChannelClaimSigner.claimTemplate(unsignedClaim.channel()), unsignedClaim.amount()
+    ));
+  }
+
+  /**
+   * Sign {@code signableBytes}, which must already carry the appropriate hash prefix, with the bound key.
+   *
+   * @param signableBytes An {@link UnsignedByteArray} to sign.
+   *
+   * @return A {@link Signature}.
+   */
+  Signature sign(final UnsignedByteArray signableBytes) {
+    if (ed25519PrivateKeyParameters != null) {
+      return signatureService.edDsaSign(ed25519PrivateKeyParameters, signableBytes);
+    } else {
+      return signatureService.ecDsaSign(ecPrivateKeyParameters, signableBytes);
+    }
+  }
+
+  @Override
+  public <T extends Transaction> Signature multiSign(final T transaction) {
+    Objects.requireNonNull(transaction);
+    return sign(signatureUtils.toMultiSignableBytes(transaction, address));
+  }
+
+  @Override
+  public Signature multiSign(final MultiSignPayload multiSignPayload) {
+    Objects.requireNonNull(multiSignPayload);
+    return sign(multiSignPayload.toMultiSignableBytes(address));
+  }
+}
@@ -36,13 +36,17 @@ import org.xrpl.xrpl4j.crypto.keys.PrivateKeyReference;
 import org.xrpl.xrpl4j.crypto.keys.PublicKey;
 import org.xrpl.xrpl4j.crypto.keys.bc.BcKeyUtils;
 import org.xrpl.xrpl4j.crypto.signing.AbstractSignatureService;
+import org.xrpl.xrpl4j.crypto.signing.KeyBoundSigner;
 import org.xrpl.xrpl4j.crypto.signing.Signature;
 import org.xrpl.xrpl4j.crypto.signing.SignatureService;
 import org.xrpl.xrpl4j.crypto.signing.SignatureUtils;
 import org.xrpl.xrpl4j.model.jackson.ObjectMapperFactory;
+import org.xrpl.xrpl4j.model.transactions.Hash256;
 
 import java.math.BigInteger;
 import java.util.Objects;
+import java.util.function.BiPredicate;
+import java.util.function.Supplier;
 
 /**
  * <p>A {@link SignatureService} that uses BouncyCastle internally to sign with an in-memory instance of
@@ -56,8 +60,13 @@ import java.util.Objects;
  */
 public class BcSignatureService extends AbstractSignatureService<PrivateKey> implements SignatureService<PrivateKey> {
 
-  private final Ed25519Signer ed25519Signer;
-  private final ECDSASigner ecdsaSigner;
+  // Each thread gets its own signer instances, so signing and verification never contend with other threads. Every use
+  // of a signer still synchronizes on it, which is uncontended for per-thread instances but keeps signers that were
+  // supplied as shared instances safe.
+  private final ThreadLocal<Ed25519Signer> ed25519Signer;
+  private final ThreadLocal<ECDSASigner> ecdsaSigner;
+  private final PublicKeyParametersCache publicKeyParametersCache;
+  private final SignatureUtils signatureUtils;
 
   /**
    * Required-args Constructor for use in development mode.
@@ -65,13 +74,15 @@ public class BcSignatureService extends AbstractSignatureService<PrivateKey> imp
   public BcSignatureService() {
     this(
       new SignatureUtils(ObjectMapperFactory.create(), XrplBinaryCodec.getInstance()),
-      new Ed25519Signer(),
-      new ECDSASigner(new HMacDSAKCalculator(new SHA256Digest()))
+      Ed25519Signer::new,
+      () -> new ECDSASigner(new HMacDSAKCalculator(new SHA256Digest()))
     );
   }
 
   /**
-   * Required-args Constructor.
+   * Required-args Constructor. The supplied signers are shared by every thread that uses this service, so calls
+   * through this service are serialized on each signer. Prefer
+   * {@link #BcSignatureService(SignatureUtils, Supplier, Supplier)} for concurrent use.
    *
    * @param signatureUtils An {@link SignatureUtils}.
    * @param ed25519Signer  An {@link Ed25519Signer}.
@@ -81,14 +92,58 @@ public class BcSignatureService extends AbstractSignatureService<PrivateKey> imp
     final SignatureUtils signatureUtils,
     final Ed25519Signer ed25519Signer,
     final ECDSASigner ecdsaSigner
+  ) {
+    this(signatureUtils, sharedSigner(ed25519Signer), sharedSigner(ecdsaSigner));
+  }
+
+  /**
+   * Required-args Constructor. Each thread that uses this service obtains its own signers from the given suppliers, so
+   * signing and verification scale with the number of calling threads.
+   *
+   * @param signatureUtils        An {@link SignatureUtils}.
+   * @param ed25519SignerSupplier A {@link Supplier} of new {@link Ed25519Signer} instances.
+   * @param ecdsaSignerSupplier   A {@link Supplier} of new {@link ECDSASigner} instances.
+   */
+  public BcSignatureService(
+    final SignatureUtils signatureUtils,
+    final Supplier<Ed25519Signer> ed25519SignerSupplier,
+    final Supplier<ECDSASigner> ecdsaSignerSupplier
+  ) {
+    this(signatureUtils, ed25519SignerSupplier, ecdsaSignerSupplier, new PublicKeyParametersCache());
+  }
+
+  /**
+   * Required-args Constructor. Each thread that uses this service obtains its own signers from the given suppliers,
+   * and public keys are decoded for verification through {@code publicKeyParametersCache}, which may be shared with
+   * other services.
+   *
+   * @param signatureUtils           An {@link SignatureUtils}.
+   * @param ed25519SignerSupplier    A {@link Supplier} of new {@link Ed25519Signer} instances.
+   * @param ecdsaSignerSupplier      A {@link Supplier} of new {@link ECDSASigner} instances.
+   * @param publicKeyParametersCache A {@link PublicKeyParametersCache}.
+   */
+  public BcSignatureService(
+    final SignatureUtils signatureUtils,
+    final Supplier<Ed25519Signer> ed25519SignerSupplier,
+    final Supplier<ECDSASigner> ecdsaSignerSupplier,
+    final PublicKeyParametersCache publicKeyParametersCache
   ) {
     super(signatureUtils);
-    this.ed25519Signer = Objects.requireNonNull(ed25519Signer);
-    this.ecdsaSigner = Objects.requireNonNull(ecdsaSigner);
+    this.signatureUtils = Objects.requireNonNull(signatureUtils);
+    this.publicKeyParametersCache = Objects.requireNonNull(publicKeyParametersCache);
+    Objects.requireNonNull(ed25519SignerSupplier);
+    Objects.requireNonNull(ecdsaSignerSupplier);
+    this.ed25519Signer = ThreadLocal.withInitial(() -> Objects.requireNonNull(ed25519SignerSupplier.get()));
+    this.ecdsaSigner = ThreadLocal.withInitial(() -> Objects.requireNonNull(ecdsaSignerSupplier.get()));
+  }
+
+  private static <T> Supplier<T> sharedSigner(final T signer) {
+    Objects.requireNonNull(signer);
+    return () -> signer;
   }
 
   @Override
-  protected synchronized Signature edDsaSign(
+  protected Signature edDsaSign(
     final PrivateKey privateKey, final UnsignedByteArray signableTransactionBytes
   ) {
     Objects.requireNonNull(privateKey);
@@ -101,17 +156,7 @@ public class BcSignatureService extends AbstractSignatureService<PrivateKey> imp
       Ed25519PrivateKeyParameters privateKeyParameters = new Ed25519PrivateKeyParameters(
         privateKeyBytes, 0
       );
-
-      ed25519Signer.reset();
-      ed25519Signer.init(true, privateKeyParameters);
-      ed25519Signer.update(
-        signableTransactionBytes.toByteArray(), 0, signableTransactionBytes.getUnsignedBytes().size()
-      );
-
-      final UnsignedByteArray sigBytes = UnsignedByteArray.of(ed25519Signer.generateSignature());
-      return Signature.builder()
-        .value(sigBytes)
-        .build();
+      return edDsaSign(privateKeyParameters, signableTransactionBytes);
     } finally {
       // Clear out the copied array, which was only used for signing.
       for (int i = 0; i < 32; i++) {
@@ -120,19 +165,63 @@ public class BcSignatureService extends AbstractSignatureService<PrivateKey> imp
     }
   }
 
+  /**
+   * Sign with already-decoded ed25519 private-key parameters.
+   *
+   * @param privateKeyParameters     The {@link Ed25519PrivateKeyParameters} to sign with.
+   * @param signableTransactionBytes A {@link UnsignedByteArray} to sign.
+   *
+   * @return A {@link Signature}.
+   */
+  Signature edDsaSign(
+    final Ed25519PrivateKeyParameters privateKeyParameters, final UnsignedByteArray signableTransactionBytes
+  ) {
+    final byte[] signatureBytes;
+    final Ed25519Signer signer = ed25519Signer.get();
+    synchronized (signer) {
+      signer.reset();
+      signer.init(true, privateKeyParameters);
+      signer.update(
+        signableTransactionBytes.toByteArray(), 0, signableTransactionBytes.length()
+      );
+      signatureBytes = signer.generateSignature();
+    }
+
+    final UnsignedByteArray sigBytes = UnsignedByteArray.of(signatureBytes);
+    return Signature.builder()
+      .value(sigBytes)
+      .build();
+  }
+
   @SuppressWarnings("checkstyle:LocalVariableName")
   @Override
-  protected synchronized Signature ecDsaSign(final PrivateKey privateKey, final UnsignedByteArray transactionBytes) {
+  protected Signature ecDsaSign(final PrivateKey privateKey, final UnsignedByteArray transactionBytes) {
     Objects.requireNonNull(privateKey);
     Objects.requireNonNull(transactionBytes);
 
-    final UnsignedByteArray messageHash = HashingUtils.sha512Half(transactionBytes);
-
     final BigInteger privateKeyInt = new BigInteger(privateKey.value().toByteArray());
     final ECPrivateKeyParameters parameters = new ECPrivateKeyParameters(privateKeyInt, Secp256k1.EC_DOMAIN_PARAMETERS);
+    return ecDsaSign(parameters, transactionBytes);
+  }
+
+  /**
+   * Sign with already-decoded secp256k1 private-key parameters.
+   *
+   * @param parameters       The {@link ECPrivateKeyParameters} to sign with.
+   * @param transactionBytes A {@link UnsignedByteArray} to sign.
+   *
+   * @return A {@link Signature}.
+   */
+  @SuppressWarnings("checkstyle:LocalVariableName")
+  Signature ecDsaSign(final ECPrivateKeyParameters parameters, final UnsignedByteArray transactionBytes) {
+    final UnsignedByteArray messageHash = HashingUtils.sha512Half(transactionBytes);
 
-    ecdsaSigner.init(true, parameters);
-    final BigInteger[] signatures = ecdsaSigner.generateSignature(messageHash.toByteArray());
+    final BigInteger[] signatures;
+    final ECDSASigner signer = ecdsaSigner.get();
+    synchronized (signer) {
+      signer.init(true, parameters);
+      signatures = signer.generateSignature(messageHash.toByteArray());
+    }
     final BigInteger r = signatures[0];
     BigInteger s = signatures[1];
     final BigInteger otherS = Secp256k1.EC_DOMAIN_PARAMETERS.getN().subtract(s);
@@ -152,40 +241,122 @@ public class BcSignatureService extends AbstractSignatureService<PrivateKey> imp
   }
 
   @Override
-  protected synchronized boolean edDsaVerify(
+  protected boolean edDsaVerify(
     final PublicKey publicKey, final UnsignedByteArray transactionBytes, final Signature signature
   ) {
     Objects.requireNonNull(publicKey);
     Objects.requireNonNull(transactionBytes);
     Objects.requireNonNull(signature);
 
-    final Ed25519PublicKeyParameters bcPublicKey = BcKeyUtils.toEd25519PublicKeyParameters(publicKey);
-
-    ed25519Signer.reset();
-    ed25519Signer.init(false, bcPublicKey);
-    ed25519Signer.update(transactionBytes.toByteArray(), 0, transactionBytes.length());
-
-    return ed25519Signer.verifySignature(signature.value().toByteArray());
+    return edDsaVerify(publicKeyParametersCache.ed25519PublicKeyParameters(publicKey), transactionBytes, signature);
   }
 
+  private boolean edDsaVerify(
+    final Ed25519PublicKeyParameters bcPublicKey, final UnsignedByteArray transactionBytes, final Signature signature
+  ) {
+    final Ed25519Signer signer = ed25519Signer.get();
+    synchronized (signer) {
+      signer.reset();
+      signer.init(false, bcPublicKey);
+      signer.update(transactionBytes.toByteArray(), 0, transactionBytes.length());
+      return signer.verifySignature(signature.value().toByteArray());
+    }
+  }
 
   @Override
-  protected synchronized boolean ecDsaVerify(
+  protected boolean ecDsaVerify(
     final PublicKey publicKey, final UnsignedByteArray transactionBytes, final Signature signature
   ) {
     Objects.requireNonNull(publicKey);
     Objects.requireNonNull(transactionBytes);
     Objects.requireNonNull(signature);
 
-    final ECPublicKeyParameters bcPublicKey = BcKeyUtils.toEcPublicKeyParameters(publicKey);
+    return ecDsaVerify(publicKeyParametersCache.ecPublicKeyParameters(publicKey), transactionBytes, signature);
+  }
+
+  private boolean ecDsaVerify(
+    final ECPublicKeyParameters bcPublicKey, final UnsignedByteArray transactionBytes, final Signature signature
+  ) {
     UnsignedByteArray messageHash = HashingUtils.sha512Half(transactionBytes);
     EcDsaSignature sig = EcDsaSignature.fromDer(signature.value().toByteArray());
     if (sig == null) {
       return false;
     }
 
-    ecdsaSigner.init(false, bcPublicKey);
-    return ecdsaSigner.verifySignature(messageHash.toByteArray(), sig.r(), sig.s());
+    final ECDSASigner signer = ecdsaSigner.get();
+    synchronized (signer) {
+      signer.init(false, bcPublicKey);
+      return signer.verifySignature(messageHash.toByteArray(), sig.r(), sig.s());
+    }
+  }
+
+  @Override
+  protected BiPredicate<UnsignedByteArray, Signature> signatureVerifierFor(final PublicKey publicKey) {
+    Objects.requireNonNull(publicKey);
+    switch (publicKey.keyType()) {
+      case ED25519: {
+        final Ed25519PublicKeyParameters bcPublicKey = publicKeyParametersCache.ed25519PublicKeyParameters(publicKey);
+        return (transactionBytes, signature) -> edDsaVerify(bcPublicKey, transactionBytes, signature);
+      }
+      case SECP256K1: {
+        final ECPublicKeyParameters bcPublicKey = publicKeyParametersCache.ecPublicKeyParameters(publicKey);
+        return (transactionBytes, signature) -> ecDsaVerify(bcPublicKey, transactionBytes, signature);
+      }
+      default: {
+        throw new IllegalArgumentException("Unhandled PublicKey KeyType: {}" + publicKey.keyType());
+      }
+    }
+  }
+
+  /**
+   * Create a {@link KeyBoundSigner} for {@code privateKey}. The key is decoded, and its public key and address are
+   * derived, once; the returned signer can then be used, from any thread, to sign many transactions and claims with
+   * that key at lower cost than calling this service with the same {@link PrivateKey} each time.
+   *
+   * <p>WARNING: The returned signer retains the decoded private key in memory for as long as it is reachable.</p>
+   *
+   * @param privateKey The {@link PrivateKey} to bind.
+   *
+   * @return A {@link KeyBoundSigner}.
+   */
+  public KeyBoundSigner keyBoundSigner(final PrivateKey privateKey) {
+    Objects.requireNonNull(privateKey);
+    return new BcKeyBoundSigner(privateKey, this, signatureUtils);
+  }
+
+  /**
+   * Create a {@link PaymentChannelClaimSigner} that signs claims on {@code channel} with {@code privateKey}, for
+   * senders that sign many claims on the same channel.
+   *
+   * <p>WARNING: The returned signer retains the decoded private key in memory for as long as it is reachable.</p>
+   *
+   * @param privateKey The {@link PrivateKey} of the channel.
+   * @param channel    The {@link Hash256} ID of the channel.
+   *
+   * @return A {@link PaymentChannelClaimSigner}.
+   */
+  public PaymentChannelClaimSigner paymentChannelClaimSigner(final PrivateKey privateKey, final Hash256 channel) {
+    Objects.requireNonNull(privateKey);
+    Objects.requireNonNull(channel);
+    return new PaymentChannelClaimSigner(channel, new BcKeyBoundSigner(privateKey, this, signatureUtils));
+  }
+
+  /**
+   * Create an empty {@link PaymentChannelClaimVerifier} that checks claim signatures using this service.
+   *
+   * @return A {@link PaymentChannelClaimVerifier}.
+   */
+  public PaymentChannelClaimVerifier paymentChannelClaimVerifier() {
+    return new PaymentChannelClaimVerifier(this);
+  }
+
+  /**
+   * The cache of decoded public keys used for verification, e.g. for monitoring its hit rate.
+   *
+   * @return A {@link PublicKeyParametersCache}.
+   */
+  public PublicKeyParametersCache getPublicKeyParametersCache() {
+    return publicKeyParametersCache;
   }
 
   @Override
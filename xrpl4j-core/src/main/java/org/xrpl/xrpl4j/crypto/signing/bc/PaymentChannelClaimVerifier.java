@@ -0,0 +1,231 @@
+package org.xrpl.xrpl4j.crypto.signing.bc;
+
+/*-
+ * ========================LICENSE_START=================================
+ * xrpl4j :: core
+ * %%
+ * Copyright (C) 2020 - 2023 XRPL Foundation and its contributors
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * =========================LICENSE_END==================================
+ */
+
+import com.google.common.base.Preconditions;
+import com.google.common.primitives.UnsignedLong;
+import org.xrpl.xrpl4j.codec.addresses.UnsignedByteArray;
+import org.xrpl.xrpl4j.crypto.keys.PublicKey;
+import org.xrpl.xrpl4j.crypto.signing.Signature;
+import org.xrpl.xrpl4j.model.client.channels.UnsignedClaim;
+import org.xrpl.xrpl4j.model.transactions.Hash256;
+import org.xrpl.xrpl4j.model.transactions.XrpCurrencyAmount;
+
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.BiPredicate;
+
+/**
+ * <p>Verifies payment channel claims in-process, for receivers that accept a stream of claims and would otherwise
+ * call the {@code channel_verify} API for each one.</p>
+ *
+ * <p>Each channel is registered with the public key from its {@code PaymentChannelCreate} transaction. Besides
+ * checking signatures, this verifier tracks the highest claim amount it has accepted on each channel: because claims
+ * are cumulative, a claim for no more than that amount is worth nothing to the receiver, and
+ * {@link #verifyAndAccept(UnsignedClaim, Signature)} rejects it without checking its signature. That amount is only
+ * held in memory, so callers must seed it when registering a channel whose claims may already have been redeemed; see
+ * {@link #registerChannel(Hash256, PublicKey, XrpCurrencyAmount)}.</p>
+ *
+ * <p>Instances are safe for use by multiple threads.</p>
+ */
+public final class PaymentChannelClaimVerifier {
+
+  private final BcSignatureService signatureService;
+  private final Map<Hash256, ChannelState> channels = new ConcurrentHashMap<>();
+
+  /**
+   * Required-args Constructor.
+   *
+   * @param signatureService The {@link BcSignatureService} that checks signatures.
+   */
+  PaymentChannelClaimVerifier(final BcSignatureService signatureService) {
+    this.signatureService = Objects.requireNonNull(signatureService);
+  }
+
+  /**
+   * Start tracking claims on a newly created {@code channel}, on which no claim has been accepted yet. This is the same
+   * as {@link #registerChannel(Hash256, PublicKey, XrpCurrencyAmount)} with an amount of zero, so it must not be used
+   * for a channel whose claims may already have been redeemed.
+   *
+   * @param channel   The {@link Hash256} ID of the channel.
+   * @param publicKey The {@link PublicKey} of the channel, which verifies its claims.
+   *
+   * @throws IllegalArgumentException If {@code channel} is already registered with a different public key.
+   */
+  public void registerChannel(final Hash256 channel, final PublicKey publicKey) {
+    registerChannel(channel, publicKey, XrpCurrencyAmount.ofDrops(0));
+  }
+
+  /**
+   * Start tracking claims on {@code channel}, treating every claim for no more than {@code alreadyAccepted} as already
+   * accepted.
+   *
+   * <p>This verifier only remembers accepted amounts in memory, so callers must seed them whenever a channel is
+   * registered, including after a restart or after {@link #unregisterChannel(Hash256)}: use the greater of the
+   * channel's {@code Balance} on the ledger and the highest claim amount the caller has persisted. Otherwise claims
+   * that were already redeemed would be accepted again.</p>
+   *
+   * <p>If the channel is already registered with the same public key, its highest accepted amount is raised to
+   * {@code alreadyAccepted}, but never lowered.</p>
+   *
+   * @param channel         The {@link Hash256} ID of the channel.
+   * @param publicKey       The {@link PublicKey} of the channel, which verifies its claims.
+   * @param alreadyAccepted The {@link XrpCurrencyAmount} up to which claims have already been accepted or redeemed.
+   *
+   * @throws IllegalArgumentException If {@code channel} is already registered with a different public key.
+   */
+  public void registerChannel(
+    final Hash256 channel,
+    final PublicKey publicKey,
+    final XrpCurrencyAmount alreadyAccepted
+  ) {
+    Objects.requireNonNull(channel);
+    Objects.requireNonNull(publicKey);
+    Objects.requireNonNull(alreadyAccepted);
+
+    final ChannelState state = channels.computeIfAbsent(
+      channel, $ -> new ChannelState(channel, publicKey, signatureService.signatureVerifierFor(publicKey))
+    );
+    Preconditions.checkArgument(
+      state.publicKey.equals(publicKey), "Channel %s is registered with a different public key", channel.value()
+    );
+    final long alreadyAcceptedDrops = alreadyAccepted.value().longValue();
+    state.highestAcceptedDrops.accumulateAndGet(
+      alreadyAcceptedDrops, (current, seed) -> Long.compareUnsigned(current, seed) >= 0 ? current : seed
+    );
+  }
+
+  /**
+   * Stop tracking claims on {@code channel}, e.g. once it has been closed. Its highest accepted amount is forgotten, so
+   * registering it again must seed that amount; see {@link #registerChannel(Hash256, PublicKey, XrpCurrencyAmount)}.
+   *
+   * @param channel The {@link Hash256} ID of the channel.
+   */
+  public void unregisterChannel(final Hash256 channel) {
+    Objects.requireNonNull(channel);
+    channels.remove(channel);
+  }
+
+  /**
+   * Check that {@code signature} is a valid signature of {@code unsignedClaim} by its channel's public key, without
+   * regard to, or any effect on, the highest accepted amount.
+   *
+   * @param unsignedClaim The {@link UnsignedClaim} that was signed.
+   * @param signature     The claim's {@link Signature}.
+   *
+   * @return {@code true} if the signature is valid; {@code false} otherwise.
+   *
+   * @throws IllegalArgumentException If the claim's channel is not registered.
+   */
+  public boolean verify(final UnsignedClaim unsignedClaim, final Signature signature) {
+    Objects.requireNonNull(unsignedClaim);
+    Objects.requireNonNull(signature);
+    return channelState(unsignedClaim.channel()).verify(unsignedClaim.amount(), signature);
+  }
+
+  /**
+   * Accept {@code unsignedClaim} if its signature is valid and its amount exceeds every amount previously accepted on
+   * its channel, in which case its amount becomes the channel's highest accepted amount. Of several valid claims
+   * accepted concurrently, only those that raise the highest accepted amount succeed.
+   *
+   * @param unsignedClaim The {@link UnsignedClaim} that was signed.
+   * @param signature     The claim's {@link Signature}.
+   *
+   * @return {@code true} if the claim was accepted; {@code false} otherwise.
+   *
+   * @throws IllegalArgumentException If the claim's channel is not registered.
+   */
+  public boolean verifyAndAccept(final UnsignedClaim unsignedClaim, final Signature signature) {
+    Objects.requireNonNull(unsignedClaim);
+    Objects.requireNonNull(signature);
+
+    final ChannelState state = channelState(unsignedClaim.channel());
+    final long amount = unsignedClaim.amount().value().longValue();
+    // Cheap check first, so that stale or replayed claims cost no signature verification.
+    if (Long.compareUnsigned(amount, state.highestAcceptedDrops.get()) <= 0) {
+      return false;
+    }
+    if (!state.verify(unsignedClaim.amount(), signature)) {
+      return false;
+    }
+    while (true) {
+      final long highest = state.highestAcceptedDrops.get();
+      if (Long.compareUnsigned(amount, highest) <= 0) {
+        return false;
+      }
+      if (state.highestAcceptedDrops.compareAndSet(highest, amount)) {
+        return true;
+      }
+    }
+  }
+
+  /**
+   * The highest claim amount accepted on {@code channel} by {@link #verifyAndAccept(UnsignedClaim, Signature)}, or
+   * seeded when it was registered.
+   *
+   * @param channel The {@link Hash256} ID of the channel.
+   *
+   * @return An optionally-present {@link XrpCurrencyAmount}, which is empty if the channel is not registered or no
+   *   claim on it has been accepted or seeded.
+   */
+  public Optional<XrpCurrencyAmount> highestAcceptedAmount(final Hash256 channel) {
+    Objects.requireNonNull(channel);
+    return Optional.ofNullable(channels.get(channel))
+      .map(state -> state.highestAcceptedDrops.get())
+      .filter(drops -> drops != 0)
+      .map(drops -> XrpCurrencyAmount.ofDrops(UnsignedLong.fromLongBits(drops)));
+  }
+
+  private ChannelState channelState(final Hash256 channel) {
+    final ChannelState state = channels.get(channel);
+    Preconditions.checkArgument(state != null, "Channel %s is not registered", channel.value());
+    return state;
+  }
+
+  /**
+   * The verification material and accepted amount of one channel.
+   */
+  private static final class ChannelState {
+
+    private final PublicKey publicKey;
+    private final BiPredicate<UnsignedByteArray, Signature> signatureVerifier;
+    private final byte[] claimTemplate;
+    // The unsigned drops value of the highest accepted claim; 0 until a claim is accepted or an amount is seeded.
+    private final AtomicLong highestAcceptedDrops = new AtomicLong();
+
+    ChannelState(
+      final Hash256 channel,
+      final PublicKey publicKey,
+      final BiPredicate<UnsignedByteArray, Signature> signatureVerifier
+    ) {
+      this.publicKey = publicKey;
+      this.signatureVerifier = signatureVerifier;
+      this.claimTemplate = PaymentChannelClaimSigner.claimTemplate(channel);
+    }
+
+    boolean verify(final XrpCurrencyAmount amount, final Signature signature) {
+      return signatureVerifier.test(PaymentChannelClaimSigner.toSignableBytes(claimTemplate, amount), signature);
+    }
+  }
+}
@@ -0,0 +1,136 @@
+package org.xrpl.xrpl4j.crypto.signing.bc;
+
+/*-
+ * ========================LICENSE_START=================================
+ * xrpl4j :: core
+ * %%
+ * Copyright (C) 2020 - 2023 XRPL Foundation and its contributors
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * =========================LICENSE_END==================================
+ */
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+import com.google.common.base.Preconditions;
+import org.bouncycastle.crypto.params.ECDomainParameters;
+import org.bouncycastle.crypto.params.ECPublicKeyParameters;
+import org.bouncycastle.crypto.params.Ed25519PublicKeyParameters;
+import org.bouncycastle.math.ec.ECAlgorithms;
+import org.xrpl.xrpl4j.crypto.keys.PublicKey;
+import org.xrpl.xrpl4j.crypto.keys.bc.BcKeyUtils;
+
+import java.math.BigInteger;
+import java.util.Objects;
+
+/**
+ * <p>A bounded, thread-safe cache of the BouncyCastle parameters for {@link PublicKey}s, for services that verify
+ * many signatures from a limited set of counterparties.</p>
+ *
+ * <p>For secp256k1 keys, decoding a {@link PublicKey} decompresses the curve point, and the first verification with
+ * that point builds the window-NAF multiplication tables that BouncyCastle attaches to it. Caching the
+ * {@link ECPublicKeyParameters} lets later verifications skip both steps; entries are precomputed when they are
+ * loaded so that those tables are ready before the parameters are shared.</p>
+ */
+public class PublicKeyParametersCache {
+
+  /**
+   * The default maximum number of entries for each key type.
+   */
+  public static final long DEFAULT_MAXIMUM_SIZE = 10_000;
+
+  private final Cache<PublicKey, Ed25519PublicKeyParameters> ed25519Parameters;
+  private final Cache<PublicKey, ECPublicKeyParameters> ecParameters;
+
+  /**
+   * No-args Constructor, which holds up to {@link #DEFAULT_MAXIMUM_SIZE} keys of each type.
+   */
+  public PublicKeyParametersCache() {
+    this(DEFAULT_MAXIMUM_SIZE);
+  }
+
+  /**
+   * Required-args Constructor.
+   *
+   * @param maximumSize The maximum number of keys of each type to hold; {@code 0} disables caching.
+   */
+  public PublicKeyParametersCache(final long maximumSize) {
+    Preconditions.checkArgument(maximumSize >= 0, "maximumSize must not be negative");
+    // Evict on the calling thread so that the size bound holds as soon as a lookup returns.
+    this.ed25519Parameters = Caffeine.newBuilder().maximumSize(maximumSize).executor(Runnable::run).recordStats()
+      .build();
+    this.ecParameters = Caffeine.newBuilder().maximumSize(maximumSize).executor(Runnable::run).recordStats().build();
+  }
+
+  /**
+   * Get the {@link Ed25519PublicKeyParameters} for an ed25519 {@link PublicKey}, decoding and caching them on a miss.
+   *
+   * @param publicKey An ed25519 {@link PublicKey}.
+   *
+   * @return The corresponding {@link Ed25519PublicKeyParameters}.
+   */
+  public Ed25519PublicKeyParameters ed25519PublicKeyParameters(final PublicKey publicKey) {
+    Objects.requireNonNull(publicKey);
+    return ed25519Parameters.get(publicKey, BcKeyUtils::toEd25519PublicKeyParameters);
+  }
+
+  /**
+   * Get the {@link ECPublicKeyParameters} for a secp256k1 {@link PublicKey}, decoding, precomputing and caching them
+   * on a miss.
+   *
+   * @param publicKey A secp256k1 {@link PublicKey}.
+   *
+   * @return The corresponding {@link ECPublicKeyParameters}.
+   */
+  public ECPublicKeyParameters ecPublicKeyParameters(final PublicKey publicKey) {
+    Objects.requireNonNull(publicKey);
+    return ecParameters.get(publicKey, PublicKeyParametersCache::toPrecomputedEcPublicKeyParameters);
+  }
+
+  /**
+   * Hit, miss and eviction counts for this cache, summed over both key types.
+   *
+   * @return A {@link CacheStats}.
+   */
+  public CacheStats stats() {
+    return ed25519Parameters.stats().plus(ecParameters.stats());
+  }
+
+  /**
+   * The approximate number of keys currently held, over both key types.
+   *
+   * @return A long.
+   */
+  public long estimatedSize() {
+    return ed25519Parameters.estimatedSize() + ecParameters.estimatedSize();
+  }
+
+  /**
+   * Discard all cached parameters. Statistics are not reset.
+   */
+  public void invalidateAll() {
+    ed25519Parameters.invalidateAll();
+    ecParameters.invalidateAll();
+  }
+
+  private static ECPublicKeyParameters toPrecomputedEcPublicKeyParameters(final PublicKey publicKey) {
+    final ECPublicKeyParameters parameters = BcKeyUtils.toEcPublicKeyParameters(publicKey);
+    // ECDSA verification computes u1 * G + u2 * Q. Doing the same with full-width scalars makes BouncyCastle build
+    // and attach to Q the same precomputed tables that verification will look for.
+    final ECDomainParameters domain = parameters.getParameters();
+    final BigInteger scalar = domain.getN().subtract(BigInteger.ONE);
+    ECAlgorithms.sumOfTwoMultiplies(domain.getG(), scalar, parameters.getQ(), scalar);
+    return parameters;
+  }
+}
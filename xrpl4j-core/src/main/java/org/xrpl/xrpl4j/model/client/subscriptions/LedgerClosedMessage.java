@@ -0,0 +1,161 @@
+package org.xrpl.xrpl4j.model.client.subscriptions;
+
+/*-
+ * ========================LICENSE_START=================================
+ * xrpl4j :: model
+ * %%
+ * Copyright (C) 2020 - 2022 XRPL Foundation and its contributors
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * =========================LICENSE_END==================================
+ */
+
+import com.fasterxml.jackson.annotation.JsonIgnore;
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+import com.fasterxml.jackson.annotation.JsonProperty;
+import com.fasterxml.jackson.databind.annotation.JsonDeserialize;
+import com.fasterxml.jackson.databind.annotation.JsonSerialize;
+import com.google.common.collect.Range;
+import com.google.common.primitives.UnsignedInteger;
+import com.google.common.primitives.UnsignedLong;
+import org.immutables.value.Value;
+import org.xrpl.xrpl4j.model.client.common.LedgerIndex;
+import org.xrpl.xrpl4j.model.client.common.TimeUtils;
+import org.xrpl.xrpl4j.model.client.serverinfo.LedgerRangeUtils;
+import org.xrpl.xrpl4j.model.transactions.Hash256;
+
+import java.time.ZonedDateTime;
+import java.util.Collections;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * A message from the "ledger" stream, sent whenever the consensus process declares a new validated ledger. The result
+ * of subscribing to the "ledger" stream has the same fields, describing the most recent validated ledger.
+ *
+ * @see "https://xrpl.org/subscribe.html#ledger-stream"
+ */
+@Value.Immutable
+@JsonSerialize(as = ImmutableLedgerClosedMessage.class)
+@JsonDeserialize(as = ImmutableLedgerClosedMessage.class)
+@JsonIgnoreProperties(ignoreUnknown = true)
+public interface LedgerClosedMessage {
+
+  /**
+   * Construct a builder for this class.
+   *
+   * @return An {@link ImmutableLedgerClosedMessage.Builder}.
+   */
+  static ImmutableLedgerClosedMessage.Builder builder() {
+    return ImmutableLedgerClosedMessage.builder();
+  }
+
+  /**
+   * The identifying hash of the ledger that was validated.
+   *
+   * @return A {@link Hash256}.
+   */
+  @JsonProperty("ledger_hash")
+  Hash256 ledgerHash();
+
+  /**
+   * The ledger index of the ledger that was validated.
+   *
+   * @return A {@link LedgerIndex}.
+   */
+  @JsonProperty("ledger_index")
+  LedgerIndex ledgerIndex();
+
+  /**
+   * The time this ledger was closed, in seconds since the Ripple Epoch.
+   *
+   * @return An {@link UnsignedLong}.
+   */
+  @JsonProperty("ledger_time")
+  UnsignedLong ledgerTime();
+
+  /**
+   * The time this ledger was closed, as a {@link ZonedDateTime} in UTC.
+   *
+   * @return A {@link ZonedDateTime}.
+   */
+  @JsonIgnore
+  @Value.Auxiliary
+  default ZonedDateTime ledgerTimeHuman() {
+    return TimeUtils.xrplTimeToZonedDateTime(ledgerTime());
+  }
+
+  /**
+   * The reference transaction cost as of this ledger, in drops of XRP. Absent for ledgers that were backfilled from a
+   * ledger method call, which does not report it.
+   *
+   * @return An optionally-present {@link UnsignedLong}.
+   */
+  @JsonProperty("fee_base")
+  Optional<UnsignedLong> feeBase();
+
+  /**
+   * The reference transaction cost in "fee units". Absent for backfilled ledgers.
+   *
+   * @return An optionally-present {@link UnsignedLong}.
+   */
+  @JsonProperty("fee_ref")
+  Optional<UnsignedLong> feeReference();
+
+  /**
+   * The minimum reserve, in drops of XRP, that is required for an account. Absent for backfilled ledgers.
+   *
+   * @return An optionally-present {@link UnsignedLong}.
+   */
+  @JsonProperty("reserve_base")
+  Optional<UnsignedLong> reserveBase();
+
+  /**
+   * The owner reserve, in drops of XRP, for each object an account owns. Absent for backfilled ledgers.
+   *
+   * @return An optionally-present {@link UnsignedLong}.
+   */
+  @JsonProperty("reserve_inc")
+  Optional<UnsignedLong> reserveIncrement();
+
+  /**
+   * The number of new transactions included in this ledger. Absent in the result of subscribing, and for backfilled
+   * ledgers.
+   *
+   * @return An optionally-present {@link UnsignedInteger}.
+   */
+  @JsonProperty("txn_count")
+  Optional<UnsignedInteger> transactionCount();
+
+  /**
+   * The range of ledgers that the server has available, e.g. "24900901-24900984,24901116-24901158". This may be a
+   * disjoint sequence of ranges. Only present if the server is connected to the XRP Ledger peer-to-peer network.
+   *
+   * @return An optionally-present {@link String}.
+   */
+  @JsonProperty("validated_ledgers")
+  Optional<String> validatedLedgers();
+
+  /**
+   * The ranges of {@link #validatedLedgers()}, parsed with {@link LedgerRangeUtils}.
+   *
+   * @return A {@link List} of {@link Range}s, which is empty if {@link #validatedLedgers()} is absent.
+   */
+  @JsonIgnore
+  @Value.Auxiliary
+  default List<Range<UnsignedLong>> validatedLedgerRanges() {
+    return validatedLedgers()
+      .map(LedgerRangeUtils::completeLedgersToListOfRange)
+      .orElse(Collections.emptyList());
+  }
+}
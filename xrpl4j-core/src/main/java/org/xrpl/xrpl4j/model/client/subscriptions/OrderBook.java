@@ -0,0 +1,93 @@
+package org.xrpl.xrpl4j.model.client.subscriptions;
+
+/*-
+ * ========================LICENSE_START=================================
+ * xrpl4j :: model
+ * %%
+ * Copyright (C) 2020 - 2022 XRPL Foundation and its contributors
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * =========================LICENSE_END==================================
+ */
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+import com.fasterxml.jackson.databind.annotation.JsonDeserialize;
+import com.fasterxml.jackson.databind.annotation.JsonSerialize;
+import org.immutables.value.Value;
+import org.xrpl.xrpl4j.model.client.path.PathCurrency;
+import org.xrpl.xrpl4j.model.transactions.Address;
+
+import java.util.Optional;
+
+/**
+ * An order book to subscribe to, identified by the currencies that takers of its offers get and pay.
+ *
+ * @see "https://xrpl.org/subscribe.html"
+ */
+@Value.Immutable
+@JsonSerialize(as = ImmutableOrderBook.class)
+@JsonDeserialize(as = ImmutableOrderBook.class)
+public interface OrderBook {
+
+  /**
+   * Construct a builder for this class.
+   *
+   * @return An {@link ImmutableOrderBook.Builder}.
+   */
+  static ImmutableOrderBook.Builder builder() {
+    return ImmutableOrderBook.builder();
+  }
+
+  /**
+   * The currency that takers of offers in this book receive.
+   *
+   * @return A {@link PathCurrency}.
+   */
+  @JsonProperty("taker_gets")
+  PathCurrency takerGets();
+
+  /**
+   * The currency that takers of offers in this book pay.
+   *
+   * @return A {@link PathCurrency}.
+   */
+  @JsonProperty("taker_pays")
+  PathCurrency takerPays();
+
+  /**
+   * An account to use as a perspective for viewing offers. This affects the funding status and fees of offers.
+   *
+   * @return An optionally-present {@link Address}.
+   */
+  Optional<Address> taker();
+
+  /**
+   * If {@code true}, return the current state of the order book once when subscribing, before sending updates.
+   *
+   * @return {@code true} to return a snapshot of the book; {@code false} otherwise. Defaults to {@code false}.
+   */
+  @Value.Default
+  default boolean snapshot() {
+    return false;
+  }
+
+  /**
+   * If {@code true}, return both sides of the order book.
+   *
+   * @return {@code true} to subscribe to both sides of the book; {@code false} otherwise. Defaults to {@code false}.
+   */
+  @Value.Default
+  default boolean both() {
+    return false;
+  }
+}
@@ -0,0 +1,83 @@
+package org.xrpl.xrpl4j.model.client.subscriptions;
+
+/*-
+ * ========================LICENSE_START=================================
+ * xrpl4j :: model
+ * %%
+ * Copyright (C) 2020 - 2022 XRPL Foundation and its contributors
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * =========================LICENSE_END==================================
+ */
+
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonValue;
+
+/**
+ * The general-purpose streams that a client can subscribe to with a subscribe method call.
+ *
+ * @see "https://xrpl.org/subscribe.html#streams"
+ */
+public enum StreamType {
+
+  /**
+   * Sends a message whenever the consensus process declares a new validated ledger.
+   */
+  LEDGER("ledger"),
+
+  /**
+   * Sends a message whenever a transaction is included in a closed ledger.
+   */
+  TRANSACTIONS("transactions"),
+
+  /**
+   * Sends a message whenever a transaction is included in a closed ledger, as well as some transactions that have not
+   * yet been included in a validated ledger and may never be.
+   */
+  TRANSACTIONS_PROPOSED("transactions_proposed");
+
+  private final String value;
+
+  StreamType(String value) {
+    this.value = value;
+  }
+
+  /**
+   * Constructs the {@link StreamType} corresponding to the given value, or throws an {@link IllegalArgumentException}
+   * if no corresponding {@link StreamType} exists.
+   *
+   * @param value The {@link String} value of a {@link StreamType}.
+   *
+   * @return A {@link StreamType}.
+   */
+  @JsonCreator
+  public static StreamType forValue(String value) {
+    for (StreamType type : StreamType.values()) {
+      if (type.value.equals(value)) {
+        return type;
+      }
+    }
+
+    throw new IllegalArgumentException("No matching StreamType enum value for String value " + value);
+  }
+
+  /**
+   * Get the underlying value of this {@link StreamType}.
+   *
+   * @return The {@link String} value associated with this {@link StreamType}.
+   */
+  @JsonValue
+  public String value() {
+    return value;
+  }
+}
@@ -0,0 +1,75 @@
+package org.xrpl.xrpl4j.model.client.subscriptions;
+
+/*-
+ * ========================LICENSE_START=================================
+ * xrpl4j :: model
+ * %%
+ * Copyright (C) 2020 - 2022 XRPL Foundation and its contributors
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * =========================LICENSE_END==================================
+ */
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.annotation.JsonInclude.Include;
+import com.fasterxml.jackson.databind.annotation.JsonDeserialize;
+import com.fasterxml.jackson.databind.annotation.JsonSerialize;
+import org.immutables.value.Value;
+import org.xrpl.xrpl4j.model.client.XrplRequestParams;
+import org.xrpl.xrpl4j.model.transactions.Address;
+
+import java.util.List;
+
+/**
+ * Request parameters for the "subscribe" and "unsubscribe" rippled API methods, which are only available over
+ * WebSocket connections.
+ *
+ * @see "https://xrpl.org/subscribe.html"
+ * @see "https://xrpl.org/unsubscribe.html"
+ */
+@Value.Immutable
+@JsonSerialize(as = ImmutableSubscribeRequestParams.class)
+@JsonDeserialize(as = ImmutableSubscribeRequestParams.class)
+@JsonInclude(Include.NON_EMPTY)
+public interface SubscribeRequestParams extends XrplRequestParams {
+
+  /**
+   * Construct a builder for this class.
+   *
+   * @return An {@link ImmutableSubscribeRequestParams.Builder}.
+   */
+  static ImmutableSubscribeRequestParams.Builder builder() {
+    return ImmutableSubscribeRequestParams.builder();
+  }
+
+  /**
+   * The general-purpose streams to subscribe to.
+   *
+   * @return A {@link List} of {@link StreamType}s.
+   */
+  List<StreamType> streams();
+
+  /**
+   * Accounts to receive validated transaction messages for.
+   *
+   * @return A {@link List} of {@link Address}es.
+   */
+  List<Address> accounts();
+
+  /**
+   * Order books to receive updates for.
+   *
+   * @return A {@link List} of {@link OrderBook}s.
+   */
+  List<OrderBook> books();
+}
@@ -0,0 +1,54 @@
+package org.xrpl.xrpl4j.model.jackson.modules;
+
+/*-
+ * ========================LICENSE_START=================================
+ * xrpl4j :: model
+ * %%
+ * Copyright (C) 2020 - 2022 XRPL Foundation and its contributors
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * =========================LICENSE_END==================================
+ */
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.ser.std.StdScalarSerializer;
+import com.google.common.primitives.UnsignedLong;
+
+import java.io.IOException;
+
+/**
+ * Custom Jackson serializer for {@link UnsignedLong}s.
+ *
+ * <p>Values are written as JSON integers, exactly as Jackson's default handling of {@link Number} does, but with an
+ * integral number type so that {@link com.fasterxml.jackson.databind.ObjectMapper#valueToTree} produces an integer
+ * node rather than a floating point one.</p>
+ */
+public class UnsignedLongSerializer extends StdScalarSerializer<UnsignedLong> {
+
+  /**
+   * No-args constructor.
+   */
+  public UnsignedLongSerializer() {
+    super(UnsignedLong.class, false);
+  }
+
+  @Override
+  public void serialize(UnsignedLong value, JsonGenerator gen, SerializerProvider provider) throws IOException {
+    if (value.longValue() >= 0) {
+      gen.writeNumber(value.longValue());
+    } else {
+      gen.writeNumber(value.bigIntegerValue());
+    }
+  }
+}
@@ -22,6 +22,8 @@ package org.xrpl.xrpl4j.model.jackson.modules;
 
 import com.fasterxml.jackson.core.Version;
 import com.fasterxml.jackson.databind.module.SimpleModule;
+import com.google.common.primitives.UnsignedInteger;
+import com.google.common.primitives.UnsignedLong;
 import org.xrpl.xrpl4j.codec.addresses.UnsignedByteArray;
 import org.xrpl.xrpl4j.model.client.common.LedgerIndex;
 import org.xrpl.xrpl4j.model.client.serverinfo.ServerInfo;
@@ -63,5 +65,8 @@ public class Xrpl4jModule extends SimpleModule {
     addSerializer(UnsignedByteArray.class, new UnsignedByteArraySerializer());
     addDeserializer(UnsignedByteArray.class, new UnsignedByteArrayDeserializer());
 
+    addSerializer(UnsignedInteger.class, new UnsignedIntegerSerializer());
+    addSerializer(UnsignedLong.class, new UnsignedLongSerializer());
+
   }
 }
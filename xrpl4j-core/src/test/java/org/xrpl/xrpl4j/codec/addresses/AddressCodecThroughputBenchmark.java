@@ -0,0 +1,121 @@
+package org.xrpl.xrpl4j.codec.addresses;
+
+/*-
+ * ========================LICENSE_START=================================
+ * xrpl4j :: address-codec
+ * %%
+ * Copyright (C) 2020 - 2022 XRPL Foundation and its contributors
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * =========================LICENSE_END==================================
+ */
+
+import org.xrpl.xrpl4j.model.transactions.Address;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * A simple, multi-threaded throughput benchmark for {@link AddressCodec}, which exercises the double-SHA256 checksum
+ * in {@link Utils}. It is not run as part of the test suite; run {@link #main(String[])} from the test classpath to
+ * see how encode/decode throughput scales with the number of threads, e.g.
+ *
+ * <pre>
+ *   java -cp target/classes:target/test-classes:$(dependency classpath) \
+ *     org.xrpl.xrpl4j.codec.addresses.AddressCodecThroughputBenchmark 5
+ * </pre>
+ *
+ * <p>The optional argument is the number of seconds to measure each thread count for (default 3).</p>
+ */
+public class AddressCodecThroughputBenchmark {
+
+  private static final int ACCOUNT_COUNT = 1024;
+
+  /**
+   * Run the benchmark for 1, 2, 4, ... up to the number of available processors.
+   *
+   * @param args An optional number of seconds to measure each thread count for.
+   *
+   * @throws InterruptedException if interrupted while waiting for worker threads.
+   */
+  public static void main(String[] args) throws InterruptedException {
+    final long seconds = args.length > 0 ? Long.parseLong(args[0]) : 3;
+    final int processors = Runtime.getRuntime().availableProcessors();
+
+    final Random random = new Random(42);
+    final List<UnsignedByteArray> accountIds = new ArrayList<>();
+    final List<Address> addresses = new ArrayList<>();
+    for (int i = 0; i < ACCOUNT_COUNT; i++) {
+      byte[] accountId = new byte[20];
+      random.nextBytes(accountId);
+      accountIds.add(UnsignedByteArray.of(accountId));
+      addresses.add(AddressCodec.getInstance().encodeAccountId(UnsignedByteArray.of(accountId)));
+    }
+
+    // Warm up the JIT before measuring.
+    run(1, 1, accountIds, addresses);
+
+    double singleThreaded = 0;
+    for (int threads = 1; threads <= processors; threads *= 2) {
+      final double opsPerSecond = run(threads, seconds, accountIds, addresses);
+      if (threads == 1) {
+        singleThreaded = opsPerSecond;
+      }
+      System.out.printf("threads=%-3d ops/s=%,12.0f speedup=%.2fx%n", threads, opsPerSecond,
+        opsPerSecond / singleThreaded);
+    }
+  }
+
+  private static double run(
+    final int threads,
+    final long seconds,
+    final List<UnsignedByteArray> accountIds,
+    final List<Address> addresses
+  ) throws InterruptedException {
+    final LongAdder operations = new LongAdder();
+    final CountDownLatch start = new CountDownLatch(1);
+    final long deadline = TimeUnit.SECONDS.toNanos(seconds);
+    final ExecutorService executor = Executors.newFixedThreadPool(threads);
+    final long[] startTime = new long[1];
+    for (int thread = 0; thread < threads; thread++) {
+      final int firstIndex = thread;
+      executor.execute(() -> {
+        try {
+          start.await();
+        } catch (InterruptedException e) {
+          Thread.currentThread().interrupt();
+          return;
+        }
+        int index = firstIndex;
+        while (System.nanoTime() - startTime[0] < deadline) {
+          final int i = index++ % ACCOUNT_COUNT;
+          AddressCodec.getInstance().encodeAccountId(accountIds.get(i));
+          AddressCodec.getInstance().decodeAccountId(addresses.get(i));
+          operations.add(2);
+        }
+      });
+    }
+    startTime[0] = System.nanoTime();
+    start.countDown();
+    executor.shutdown();
+    executor.awaitTermination(seconds + 30, TimeUnit.SECONDS);
+    final long elapsed = System.nanoTime() - startTime[0];
+    return operations.sum() / (elapsed / 1e9);
+  }
+}
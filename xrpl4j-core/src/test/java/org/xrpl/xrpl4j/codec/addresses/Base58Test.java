@@ -21,6 +21,7 @@ package org.xrpl.xrpl4j.codec.addresses;
  */
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.junit.jupiter.api.Assertions.fail;
 
 import com.google.common.collect.Lists;
@@ -30,7 +31,9 @@ import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.xrpl.xrpl4j.codec.addresses.exceptions.EncodingFormatException;
 
+import java.math.BigInteger;
 import java.util.Arrays;
+import java.util.Random;
 
 public class Base58Test {
 
@@ -89,4 +92,79 @@ public class Base58Test {
       logger.error("Test succeeded.");
     }
   }
+
+  @Test
+  public void testDecodeIllegalCharacterMessage() {
+    assertThatThrownBy(() -> Base58.decode("rrp0"))
+      .isInstanceOf(EncodingFormatException.class)
+      .hasMessage("Illegal character 0 at 3");
+    char outsideIndexes = (char) 0xFF;
+    assertThatThrownBy(() -> Base58.decode("r" + outsideIndexes))
+      .isInstanceOf(EncodingFormatException.class)
+      .hasMessage("Illegal character " + outsideIndexes + " at 1");
+  }
+
+  @Test
+  public void testEncodeRange() {
+    byte[] padded = "xxHello Worldyy".getBytes();
+    assertThat(Base58.encode(padded, 2, 11)).isEqualTo("JxErpTiA7PhnBMd");
+    assertThat(Base58.encode(padded, 2, 0)).isEmpty();
+    assertThat(padded).isEqualTo("xxHello Worldyy".getBytes());
+  }
+
+  @Test
+  public void testEncodeDecodeMatchesReferenceForRandomInputs() {
+    Random random = new Random(58);
+    for (int i = 0; i < 5000; i++) {
+      byte[] input = new byte[random.nextInt(80)];
+      random.nextBytes(input);
+      // Exercise leading-zero handling and limb boundaries.
+      int leadingZeros = Math.min(input.length, random.nextInt(4) == 0 ? random.nextInt(6) : 0);
+      Arrays.fill(input, 0, leadingZeros, (byte) 0);
+
+      String encoded = Base58.encode(input);
+      assertThat(encoded).isEqualTo(referenceEncode(input));
+      assertThat(Base58.decode(encoded)).isEqualTo(input);
+    }
+  }
+
+  @Test
+  public void testEncodeDecodeCheckedMatchesReferenceForFixedWidths() {
+    Random random = new Random(25);
+    for (int payloadLength : new int[] {16, 20, 33}) {
+      for (int i = 0; i < 500; i++) {
+        byte[] payload = new byte[payloadLength];
+        random.nextBytes(payload);
+        byte[] withChecksum = new byte[payloadLength + 4];
+        System.arraycopy(payload, 0, withChecksum, 0, payloadLength);
+        System.arraycopy(Utils.doubleDigest(payload), 0, withChecksum, payloadLength, 4);
+
+        String encoded = Base58.encodeChecked(payload);
+        assertThat(encoded).isEqualTo(referenceEncode(withChecksum));
+        assertThat(Base58.decodeChecked(encoded)).isEqualTo(payload);
+      }
+    }
+  }
+
+  /**
+   * Straightforward {@link BigInteger} based Base58 encoding, used to check the limb-based implementation.
+   *
+   * @param input The bytes to encode.
+   *
+   * @return The Base58 encoding of {@code input}.
+   */
+  private static String referenceEncode(byte[] input) {
+    StringBuilder builder = new StringBuilder();
+    BigInteger value = new BigInteger(1, input);
+    BigInteger base = BigInteger.valueOf(58);
+    while (value.signum() > 0) {
+      BigInteger[] quotientAndRemainder = value.divideAndRemainder(base);
+      builder.append(Base58.ALPHABET[quotientAndRemainder[1].intValue()]);
+      value = quotientAndRemainder[0];
+    }
+    for (int i = 0; i < input.length && input[i] == 0; i++) {
+      builder.append(Base58.ALPHABET[0]);
+    }
+    return builder.reverse().toString();
+  }
 }
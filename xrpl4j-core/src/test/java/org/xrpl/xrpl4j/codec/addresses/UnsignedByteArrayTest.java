@@ -153,6 +153,62 @@ public class UnsignedByteArrayTest {
     assertThrows(IndexOutOfBoundsException.class, () -> array1.slice(1, 5));
   }
 
+  @Test
+  public void sliceSharesBytesWithParent() {
+    UnsignedByteArray parent = of(new byte[] {0, 8, 9, 1});
+    UnsignedByteArray slice = parent.slice(1, 3);
+    parent.set(1, UnsignedByte.of(7));
+    assertThat(slice).isEqualTo(of(new byte[] {7, 9}));
+    slice.set(1, UnsignedByte.of(6));
+    assertThat(parent).isEqualTo(of(new byte[] {0, 7, 6, 1}));
+  }
+
+  @Test
+  public void appendToSliceDoesNotOverwriteParent() {
+    UnsignedByteArray parent = of(new byte[] {0, 8, 9, 1});
+    UnsignedByteArray slice = parent.slice(1, 3);
+    slice.append(UnsignedByte.of(5));
+    assertThat(slice).isEqualTo(of(new byte[] {8, 9, 5}));
+    assertThat(parent).isEqualTo(of(new byte[] {0, 8, 9, 1}));
+  }
+
+  @Test
+  public void appendGrowsBackingArray() {
+    UnsignedByteArray array = UnsignedByteArray.empty();
+    byte[] expected = new byte[1000];
+    for (int i = 0; i < expected.length; i++) {
+      expected[i] = (byte) i;
+      array.append((byte) i);
+    }
+    array.append(array.slice(0, 10));
+    assertThat(array.length()).isEqualTo(1010);
+    assertThat(array.slice(0, 1000).toByteArray()).isEqualTo(expected);
+    assertThat(array.slice(1000, 1010)).isEqualTo(array.slice(0, 10));
+  }
+
+  @Test
+  public void ofByteArrayRange() {
+    byte[] bytes = new byte[] {0, 8, 9, 1};
+    UnsignedByteArray array = of(bytes, 1, 2);
+    bytes[1] = 0;
+    assertThat(array).isEqualTo(of(new byte[] {8, 9}));
+    assertThrows(IndexOutOfBoundsException.class, () -> of(bytes, 3, 2));
+  }
+
+  @Test
+  public void getByte() {
+    UnsignedByteArray array = of(new byte[] {0, MAX_BYTE}).slice(1, 2);
+    assertThat(array.getByte(0)).isEqualTo(MAX_BYTE);
+    assertThat(array.get(0).asInt()).isEqualTo(255);
+    assertThrows(IndexOutOfBoundsException.class, () -> array.getByte(1));
+  }
+
+  @Test
+  public void hashCodeMatchesListOfUnsignedBytes() {
+    UnsignedByteArray array = of(new byte[] {0, 1, MAX_BYTE});
+    assertThat(array.hashCode()).isEqualTo(java.util.Objects.hash(array.getUnsignedBytes()));
+  }
+
   @Test
   public void hashcode() {
     UnsignedByteArray array1 = of(new byte[] {0, 1});
@@ -0,0 +1,114 @@
+package org.xrpl.xrpl4j.codec.addresses;
+
+/*-
+ * ========================LICENSE_START=================================
+ * xrpl4j :: address-codec
+ * %%
+ * Copyright (C) 2020 - 2022 XRPL Foundation and its contributors
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * =========================LICENSE_END==================================
+ */
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import com.google.common.io.BaseEncoding;
+import org.junit.jupiter.api.Test;
+import org.xrpl.xrpl4j.model.transactions.Address;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Unit tests for {@link Utils}.
+ */
+class UtilsTest {
+
+  private static final byte[] HELLO = "hello".getBytes(StandardCharsets.UTF_8);
+  private static final String HELLO_DOUBLE_DIGEST = "9595C9DF90075148EB06860365DF33584B75BFF782A510C6CD4883A419833D50";
+
+  @Test
+  void doubleDigest() {
+    assertThat(BaseEncoding.base16().encode(Utils.doubleDigest(HELLO))).isEqualTo(HELLO_DOUBLE_DIGEST);
+  }
+
+  @Test
+  void doubleDigestRange() {
+    byte[] padded = new byte[HELLO.length + 4];
+    System.arraycopy(HELLO, 0, padded, 2, HELLO.length);
+    assertThat(BaseEncoding.base16().encode(Utils.doubleDigest(padded, 2, HELLO.length)))
+      .isEqualTo(HELLO_DOUBLE_DIGEST);
+  }
+
+  @Test
+  void doubleDigestIntoBuffer() {
+    byte[] output = new byte[Utils.SHA256_LENGTH + 3];
+    Utils.doubleDigest(HELLO, 0, HELLO.length, output, 3);
+    assertThat(output[0]).isZero();
+    assertThat(BaseEncoding.base16().encode(output, 3, Utils.SHA256_LENGTH)).isEqualTo(HELLO_DOUBLE_DIGEST);
+
+    // The input and output may overlap.
+    byte[] inPlace = new byte[Utils.SHA256_LENGTH];
+    System.arraycopy(HELLO, 0, inPlace, 0, HELLO.length);
+    Utils.doubleDigest(inPlace, 0, HELLO.length, inPlace, 0);
+    assertThat(BaseEncoding.base16().encode(inPlace)).isEqualTo(HELLO_DOUBLE_DIGEST);
+  }
+
+  @Test
+  void doubleDigestOutOfBounds() {
+    assertThatThrownBy(() -> Utils.doubleDigest(HELLO, 1, HELLO.length))
+      .isInstanceOf(IndexOutOfBoundsException.class);
+    assertThatThrownBy(() -> Utils.doubleDigest(HELLO, 0, HELLO.length, new byte[Utils.SHA256_LENGTH], 1))
+      .isInstanceOf(IndexOutOfBoundsException.class);
+  }
+
+  @Test
+  void addressCodecIsThreadSafe() throws Exception {
+    Random random = new Random(7);
+    List<UnsignedByteArray> accountIds = new ArrayList<>();
+    List<Address> addresses = new ArrayList<>();
+    for (int i = 0; i < 200; i++) {
+      byte[] accountId = new byte[20];
+      random.nextBytes(accountId);
+      accountIds.add(UnsignedByteArray.of(accountId));
+      addresses.add(AddressCodec.getInstance().encodeAccountId(UnsignedByteArray.of(accountId)));
+    }
+
+    ExecutorService executor = Executors.newFixedThreadPool(8);
+    try {
+      List<Future<?>> futures = new ArrayList<>();
+      for (int thread = 0; thread < 8; thread++) {
+        futures.add(executor.submit(() -> {
+          for (int round = 0; round < 25; round++) {
+            for (int i = 0; i < accountIds.size(); i++) {
+              assertThat(AddressCodec.getInstance().encodeAccountId(accountIds.get(i))).isEqualTo(addresses.get(i));
+              assertThat(AddressCodec.getInstance().decodeAccountId(addresses.get(i))).isEqualTo(accountIds.get(i));
+            }
+          }
+        }));
+      }
+      for (Future<?> future : futures) {
+        future.get(60, TimeUnit.SECONDS);
+      }
+    } finally {
+      executor.shutdownNow();
+    }
+  }
+}
@@ -0,0 +1,95 @@
+package org.xrpl.xrpl4j.codec.binary;
+
+/*-
+ * ========================LICENSE_START=================================
+ * xrpl4j :: binary-codec
+ * %%
+ * Copyright (C) 2020 - 2022 XRPL Foundation and its contributors
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * =========================LICENSE_END==================================
+ */
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.google.common.io.BaseEncoding;
+import com.google.common.primitives.UnsignedInteger;
+import org.junit.jupiter.api.Test;
+import org.xrpl.xrpl4j.codec.addresses.UnsignedByteArray;
+import org.xrpl.xrpl4j.crypto.keys.PublicKey;
+import org.xrpl.xrpl4j.model.flags.PaymentFlags;
+import org.xrpl.xrpl4j.model.transactions.Address;
+import org.xrpl.xrpl4j.model.transactions.IssuedCurrencyAmount;
+import org.xrpl.xrpl4j.model.transactions.Payment;
+import org.xrpl.xrpl4j.model.transactions.Transaction;
+import org.xrpl.xrpl4j.model.transactions.XrpCurrencyAmount;
+
+class BinaryModelDecoderTest {
+
+  private static final String SIGNED_PAYMENT_HEX =
+    "535458001200002280020000230000000124000000012E0000000261D84462D53C8ABAC00000000000000000000000005553440000000" +
+      "0008B1CE810C13D6F337DAC85863B3D70265A24DF446840000000000003157321ED5F5AC8B98974A3CA843326D9B88CEB" +
+      "D0560177B973EE0B149F782CFAA06DC66A8114EE39E6D05CFD6A90DAB700A1D70149ECEE29DFEC83140000000000000000" +
+      "000000000000000000000001";
+
+  private static final Payment PAYMENT = Payment.builder()
+    .account(Address.of("r45dBj4S3VvMMYXxr9vHX4Z4Ma6ifPMCkK"))
+    .fee(XrpCurrencyAmount.ofDrops(789))
+    .amount(IssuedCurrencyAmount.builder()
+      .currency("USD")
+      .issuer(Address.of("rDgZZ3wyprx4ZqrGQUkquE9Fs2Xs8XBcdw"))
+      .value("1234567890123456")
+      .build())
+    .destination(Address.of("rrrrrrrrrrrrrrrrrrrrBZbvji"))
+    .signingPublicKey(
+      PublicKey.fromBase16EncodedPublicKey("ED5F5AC8B98974A3CA843326D9B88CEBD0560177B973EE0B149F782CFAA06DC66A")
+    )
+    .flags(PaymentFlags.builder().tfPartialPayment(true).build())
+    .destinationTag(UnsignedInteger.valueOf(2))
+    .sequence(UnsignedInteger.ONE)
+    .sourceTag(UnsignedInteger.ONE)
+    .build();
+
+  private final BinaryModelDecoder decoder = BinaryModelDecoder.getInstance();
+
+  @Test
+  void decodeTransactionResolvesConcreteType() throws JsonProcessingException {
+    Transaction transaction = decoder.decodeTransaction(BaseEncoding.base16().decode(SIGNED_PAYMENT_HEX));
+    assertThat(transaction).isInstanceOf(Payment.class).isEqualTo(PAYMENT);
+
+    assertThat(decoder.decodeTransaction(UnsignedByteArray.fromHex(SIGNED_PAYMENT_HEX))).isEqualTo(PAYMENT);
+  }
+
+  @Test
+  void decodeToRequestedType() throws JsonProcessingException {
+    assertThat(decoder.decode(BaseEncoding.base16().decode(SIGNED_PAYMENT_HEX), Payment.class)).isEqualTo(PAYMENT);
+    assertThat(decoder.decode(UnsignedByteArray.fromHex(SIGNED_PAYMENT_HEX), Transaction.class)).isEqualTo(PAYMENT);
+  }
+
+  @Test
+  void decodeTransactionWithoutTransactionType() {
+    // {"CloseResolution":1,"Method":2}
+    assertThatThrownBy(() -> decoder.decodeTransaction(BaseEncoding.base16().decode("011001021002")))
+      .isInstanceOf(IllegalArgumentException.class)
+      .hasMessageContaining("TransactionType");
+  }
+
+  @Test
+  void decodeNullBytes() {
+    assertThatThrownBy(() -> decoder.decodeTransaction((byte[]) null)).isInstanceOf(NullPointerException.class);
+    assertThatThrownBy(() -> decoder.decode((byte[]) null, Payment.class)).isInstanceOf(NullPointerException.class);
+    assertThatThrownBy(() -> decoder.decode(new byte[0], null)).isInstanceOf(NullPointerException.class);
+  }
+}
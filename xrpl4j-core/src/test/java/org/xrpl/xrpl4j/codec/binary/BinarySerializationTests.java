@@ -24,6 +24,7 @@ import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 
 import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.google.common.base.Strings;
 import com.google.common.io.BaseEncoding;
@@ -72,8 +73,11 @@ import java.math.BigDecimal;
 
 public class BinarySerializationTests {
 
+  private static final String MULTI_SIGNER_ADDRESS = "rJZdUusLDtY9NEsGea7ijqhVrXv98rYBYN";
+
   ObjectMapper objectMapper = ObjectMapperFactory.create();
   XrplBinaryCodec binaryCodec = XrplBinaryCodec.getInstance();
+  BinaryModelDecoder binaryModelDecoder = BinaryModelDecoder.getInstance();
 
   private static IssuedCurrencyAmount currencyAmount(int amount) {
     return IssuedCurrencyAmount.builder()
@@ -960,12 +964,29 @@ public class BinarySerializationTests {
     String transactionBinary = binaryCodec.encode(transactionJson);
     assertThat(transactionBinary).isEqualTo(expectedBinary);
 
+    // Encoding straight from the model tree must be byte-for-byte identical to encoding from a JSON String.
+    JsonNode transactionTree = objectMapper.valueToTree(transaction);
+    assertThat(binaryCodec.encodeToBytes(transactionTree).hexValue()).isEqualTo(expectedBinary);
+    assertThat(binaryCodec.encodeForSigningToBytes(transactionTree).hexValue())
+      .isEqualTo(binaryCodec.encodeForSigning(transactionJson));
+    assertThat(binaryCodec.encodeForMultiSigningToBytes(transactionTree, MULTI_SIGNER_ADDRESS).hexValue())
+      .isEqualTo(binaryCodec.encodeForMultiSigning(transactionJson, MULTI_SIGNER_ADDRESS));
+    assertThat(binaryCodec.encodeToBytes(transactionTree).hexValue())
+      .as("encoding must not modify the supplied JsonNode")
+      .isEqualTo(expectedBinary);
+
     String decodedBinary = binaryCodec.decode(transactionBinary);
     T deserialized = objectMapper.readValue(
       decodedBinary,
       objectMapper.getTypeFactory().constructType(transaction.getClass())
     );
     assertThat(deserialized).isEqualTo(transaction);
+
+    // Decoding straight from bytes into the model must yield the same result as going through a JSON String.
+    byte[] binaryBytes = BaseEncoding.base16().decode(expectedBinary);
+    assertThat(binaryCodec.decodeToJson(binaryBytes).toString()).isEqualTo(decodedBinary);
+    assertThat(binaryModelDecoder.decodeTransaction(binaryBytes)).isEqualTo(transaction);
+    assertThat(binaryModelDecoder.decode(binaryBytes, transaction.getClass())).isEqualTo(transaction);
   }
 
 }
@@ -23,8 +23,10 @@ package org.xrpl.xrpl4j.codec.binary;
 import static org.assertj.core.api.Assertions.assertThat;
 
 import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.google.common.base.Strings;
+import com.google.common.io.BaseEncoding;
 import com.google.common.primitives.UnsignedInteger;
 import org.assertj.core.api.Assertions;
 import org.assertj.core.util.Lists;
@@ -77,6 +79,15 @@ class XrplBinaryCodecTest {
     assertThat(encoder.decode(SIMPLE_HEX)).isEqualTo(SIMPLE_JSON);
   }
 
+  @Test
+  void decodeBytes() {
+    assertThat(encoder.decode(BaseEncoding.base16().decode(SIMPLE_HEX))).isEqualTo(SIMPLE_JSON);
+    assertThat(encoder.decode(BaseEncoding.base16().decode(MULTI_LEVEL_OBJECT_HEX)))
+      .isEqualTo(MULTI_LEVEL_OBJECT_JSON);
+    assertThat(encoder.decode(BaseEncoding.base16().decode(XrplBinaryCodec.TRX_SIGNATURE_PREFIX + SIMPLE_HEX)))
+      .isEqualTo(SIMPLE_JSON);
+  }
+
   @Test
   void encodeDecodeSingleChildObject() throws JsonProcessingException {
     assertThat(encoder.encode(SINGLE_LEVEL_OBJECT_JSON)).isEqualTo(SINGLE_OBJECT_HEX);
@@ -129,6 +140,17 @@ class XrplBinaryCodecTest {
     assertThat(encoder.decode(hex)).isEqualTo(json);
   }
 
+  @Test
+  void encodeDecodeMediumBlob() throws JsonProcessingException {
+    String mediumValue = Strings.repeat("AB", 300);
+    String json = "{\"Domain\":\"" + mediumValue + "\"}";
+    String blobType = "77";
+    String lengthInHex = "C16B"; // 300 encoded in XRPL hex length encoding
+    String hex = blobType + lengthInHex + mediumValue;
+    assertThat(encoder.encode(json)).isEqualTo(hex);
+    assertThat(encoder.decode(hex)).isEqualTo(json);
+  }
+
   @Test
   void encodeDecodeBigBlob() throws JsonProcessingException {
     String bigValue = Strings.repeat("A", 50000);
@@ -419,6 +441,31 @@ class XrplBinaryCodecTest {
     assertThat(encoder.encodeForMultiSigning(json, signerAccountId)).isEqualTo(expected);
   }
 
+  @Test
+  void encodeForMultiSigningPayload() throws JsonProcessingException {
+    String signerAccountId = "rJZdUusLDtY9NEsGea7ijqhVrXv98rYBYN";
+    String json =
+      "{\"Account\":\"r45dBj4S3VvMMYXxr9vHX4Z4Ma6ifPMCkK\",\"TransactionType\":\"Payment\",\"Fee\":\"789\"," +
+        "\"Sequence\":1,\"Flags\":2147614720,\"SourceTag\":1," +
+        "\"Amount\":{\"value\":\"1234567890123456\",\"currency\":\"USD\"," +
+        "\"issuer\":\"rDgZZ3wyprx4ZqrGQUkquE9Fs2Xs8XBcdw\"}," +
+        "\"Destination\":\"rrrrrrrrrrrrrrrrrrrrBZbvji\",\"DestinationTag\":2," +
+        "\"SigningPubKey\":\"ED5F5AC8B98974A3CA843326D9B88CEBD0560177B973EE0B149F782CFAA06DC66A\"," +
+        "\"TxnSignature\": \"12345678\"}";
+    JsonNode node = objectMapper.readTree(json);
+
+    // The multi-signing bytes, less the signer's 20-byte AccountID suffix.
+    String expectedPayload =
+      "534D54001200002280020000230000000124000000012E0000000261D84462D53C8ABAC000000000000000000000000" +
+        "055534400000000008B1CE810C13D6F337DAC85863B3D70265A24DF4468400000000000031573008114EE39E6D05C" +
+        "FD6A90DAB700A1D70149ECEE29DFEC83140000000000000000000000000000000000000001";
+    String payload = encoder.encodeForMultiSigningPayloadToBytes(node).hexValue();
+    assertThat(payload).isEqualTo(expectedPayload);
+    assertThat(payload + "C0A5ABEF242802EFED4B041E8F2D4A8CC86AE3D1")
+      .isEqualTo(encoder.encodeForMultiSigning(json, signerAccountId));
+    assertThat(node.get("SigningPubKey").asText()).isNotEmpty();
+  }
+
   @Test
   public void encodePaymentWithSigners() throws JsonProcessingException {
     String json = "{\"Account\":\"rGs8cFHMfJanAXVtn6e8Lz2iH8FtnGdexw\",\"Fee\":\"30\"," +
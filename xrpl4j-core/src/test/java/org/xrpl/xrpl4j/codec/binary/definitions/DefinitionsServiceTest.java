@@ -0,0 +1,96 @@
+package org.xrpl.xrpl4j.codec.binary.definitions;
+
+/*-
+ * ========================LICENSE_START=================================
+ * xrpl4j :: binary-codec
+ * %%
+ * Copyright (C) 2020 - 2022 XRPL Foundation and its contributors
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * =========================LICENSE_END==================================
+ */
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+import org.xrpl.xrpl4j.codec.binary.FieldHeader;
+
+/**
+ * Unit tests for {@link DefinitionsService}.
+ */
+class DefinitionsServiceTest {
+
+  private final DefinitionsService definitionsService = DefinitionsService.getInstance();
+
+  @ParameterizedTest
+  @CsvSource( {
+    "TransactionType,1,2",
+    "Flags,2,2",
+    "Fee,6,8",
+    "SigningPubKey,7,3",
+    "Account,8,1",
+    "Memos,15,9",
+    "Paths,18,1",
+    "TickSize,16,16",
+  })
+  void getFieldInstanceByCodeMatchesByName(String fieldName, int typeCode, int fieldCode) {
+    FieldInstance byName = definitionsService.getFieldInstance(fieldName).get();
+    assertThat(byName.name()).isEqualTo(fieldName);
+    assertThat(byName.header()).isEqualTo(FieldHeader.builder().typeCode(typeCode).fieldCode(fieldCode).build());
+
+    assertThat(definitionsService.getFieldInstance(typeCode, fieldCode)).hasValueSatisfying(
+      byCode -> assertThat(byCode).isSameAs(byName)
+    );
+    assertThat(definitionsService.getFieldInstance(byName.header())).hasValueSatisfying(
+      byHeader -> assertThat(byHeader).isSameAs(byName)
+    );
+    assertThat(definitionsService.getFieldName(byName.header())).isEqualTo(fieldName);
+  }
+
+  @Test
+  void getFieldInstanceIsPrecomputed() {
+    assertThat(definitionsService.getFieldInstance("Fee").get())
+      .isSameAs(definitionsService.getFieldInstance("Fee").get());
+  }
+
+  @Test
+  void getFieldInstanceForUnknownFields() {
+    assertThat(definitionsService.getFieldInstance("Foo")).isEmpty();
+    assertThat(definitionsService.getFieldInstance(1, 200)).isEmpty();
+    assertThat(definitionsService.getFieldInstance(200, 1)).isEmpty();
+    assertThat(definitionsService.getFieldInstance(1000, 1)).isEmpty();
+    assertThat(definitionsService.getFieldInstance(-1, 1)).isEmpty();
+    assertThat(definitionsService.getFieldInstance(1, -1)).isEmpty();
+  }
+
+  @Test
+  void fieldsOutsideOfBinaryHeaderRangeAreOnlyAvailableByName() {
+    // The "Transaction" field has type code 10001, which cannot appear in a binary field header.
+    FieldInstance transaction = definitionsService.getFieldInstance("Transaction").get();
+    assertThat(transaction.header().typeCode()).isEqualTo(10001);
+    assertThat(transaction.isSerialized()).isFalse();
+  }
+
+  @Test
+  void ordinalIsCanonicalSortKey() {
+    FieldInstance transactionType = definitionsService.getFieldInstance("TransactionType").get();
+    FieldInstance flags = definitionsService.getFieldInstance("Flags").get();
+    FieldInstance fee = definitionsService.getFieldInstance("Fee").get();
+
+    assertThat(transactionType.ordinal()).isEqualTo((1 << 16) | 2);
+    assertThat(transactionType).isLessThan(flags);
+    assertThat(flags).isLessThan(fee);
+  }
+}
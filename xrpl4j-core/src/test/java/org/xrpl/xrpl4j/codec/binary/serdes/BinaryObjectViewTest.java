@@ -0,0 +1,142 @@
+package org.xrpl.xrpl4j.codec.binary.serdes;
+
+/*-
+ * ========================LICENSE_START=================================
+ * xrpl4j :: binary-codec
+ * %%
+ * Copyright (C) 2020 - 2022 XRPL Foundation and its contributors
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * =========================LICENSE_END==================================
+ */
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.google.common.collect.Lists;
+import com.google.common.io.BaseEncoding;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.MethodSource;
+import org.xrpl.xrpl4j.codec.addresses.UnsignedByteArray;
+import org.xrpl.xrpl4j.codec.binary.XrplBinaryCodec;
+import org.xrpl.xrpl4j.codec.binary.definitions.FieldInstance;
+import org.xrpl.xrpl4j.codec.fixtures.FixtureUtils;
+import org.xrpl.xrpl4j.codec.fixtures.codec.CodecFixtures;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+/**
+ * Unit tests for {@link BinaryObjectView}.
+ */
+class BinaryObjectViewTest {
+
+  private static final String MEMOS_JSON = "{\"Account\":\"r45dBj4S3VvMMYXxr9vHX4Z4Ma6ifPMCkK\"," +
+    "\"Memos\":[{\"Memo\":{\"MemoType\":\"687474703A2F2F6578616D706C652E636F6D2F6D656D6F2F67656E65726963\"," +
+    "\"MemoData\":\"72656E74\"}},{\"Memo\":{\"MemoData\":\"0A0B\"}}]," +
+    "\"Sequence\":5,\"TransactionType\":\"Payment\"}";
+
+  private final XrplBinaryCodec binaryCodec = XrplBinaryCodec.getInstance();
+
+  private static Stream<Arguments> codecFixtures() throws IOException {
+    CodecFixtures fixtures = FixtureUtils.getCodecFixtures();
+    return Stream.concat(fixtures.accountState().stream(), fixtures.transactions().stream())
+      .map(fixture -> Arguments.of(fixture.binary()));
+  }
+
+  @ParameterizedTest
+  @MethodSource("codecFixtures")
+  void everyFieldMatchesFullDecode(String binary) {
+    byte[] bytes = BaseEncoding.base16().decode(binary);
+    JsonNode decoded = binaryCodec.decodeToJson(bytes);
+    BinaryObjectView view = BinaryObjectView.of(bytes);
+
+    assertThat(view.fields().stream().map(FieldInstance::name).collect(Collectors.toList()))
+      .isEqualTo(Lists.newArrayList(decoded.fieldNames()));
+    decoded.fields().forEachRemaining(
+      field -> assertThat(view.getJson(field.getKey())).hasValue(field.getValue())
+    );
+  }
+
+  @Test
+  void readSelectedFields() throws JsonProcessingException {
+    BinaryObjectView view = BinaryObjectView.of(binaryCodec.encodeToBytes(
+      binaryCodec.decodeToJson(BaseEncoding.base16().decode(binaryCodec.encode(MEMOS_JSON)))
+    ));
+
+    assertThat(view.size()).isEqualTo(4);
+    assertThat(view.hasField("Sequence")).isTrue();
+    assertThat(view.hasField("Fee")).isFalse();
+    assertThat(view.getJson("TransactionType").get().asText()).isEqualTo("Payment");
+    assertThat(view.getJson("Sequence").get().asLong()).isEqualTo(5);
+    assertThat(view.getJson("Account").get().asText()).isEqualTo("r45dBj4S3VvMMYXxr9vHX4Z4Ma6ifPMCkK");
+    assertThat(view.getValue("Fee")).isEmpty();
+    assertThat(view.getJson("Foo")).isEmpty();
+    assertThat(view.getRawValue("Sequence")).hasValue(UnsignedByteArray.fromHex("00000005"));
+  }
+
+  @Test
+  void readNestedArraysAndObjects() throws JsonProcessingException {
+    BinaryObjectView view = BinaryObjectView.of(UnsignedByteArray.fromHex(binaryCodec.encode(MEMOS_JSON)));
+
+    List<BinaryObjectView> memos = view.getArray("Memos").get();
+    assertThat(memos).hasSize(2);
+
+    BinaryObjectView firstMemo = memos.get(0).getObject("Memo").get();
+    assertThat(firstMemo.size()).isEqualTo(2);
+    assertThat(firstMemo.getJson("MemoData").get().asText()).isEqualTo("72656E74");
+    assertThat(firstMemo.getRawValue("MemoData")).hasValue(UnsignedByteArray.fromHex("72656E74"));
+
+    BinaryObjectView secondMemo = memos.get(1).getObject("Memo").get();
+    assertThat(secondMemo.size()).isEqualTo(1);
+    assertThat(secondMemo.getJson("MemoData").get().asText()).isEqualTo("0A0B");
+
+    assertThat(view.getJson("Memos").get().toString())
+      .isEqualTo(binaryCodec.decodeToJson(view.toBytes().toByteArray()).get("Memos").toString());
+    assertThat(view.getArray("Signers")).isEmpty();
+  }
+
+  @Test
+  void viewOverRange() throws JsonProcessingException {
+    byte[] objectBytes = BaseEncoding.base16().decode(binaryCodec.encode(MEMOS_JSON));
+    byte[] padded = new byte[objectBytes.length + 4];
+    System.arraycopy(objectBytes, 0, padded, 2, objectBytes.length);
+
+    BinaryObjectView view = BinaryObjectView.of(padded, 2, objectBytes.length);
+    assertThat(view.size()).isEqualTo(4);
+    assertThat(view.toBytes().toByteArray()).isEqualTo(objectBytes);
+    assertThatThrownBy(() -> BinaryObjectView.of(padded, 2, padded.length))
+      .isInstanceOf(IndexOutOfBoundsException.class);
+  }
+
+  @Test
+  void wrongFieldTypes() throws JsonProcessingException {
+    BinaryObjectView view = BinaryObjectView.of(UnsignedByteArray.fromHex(binaryCodec.encode(MEMOS_JSON)));
+    assertThatThrownBy(() -> view.getObject("Memos")).isInstanceOf(IllegalArgumentException.class);
+    assertThatThrownBy(() -> view.getArray("Account")).isInstanceOf(IllegalArgumentException.class);
+  }
+
+  @Test
+  void truncatedObject() throws JsonProcessingException {
+    byte[] objectBytes = BaseEncoding.base16().decode(binaryCodec.encode(MEMOS_JSON));
+    // Cut the object off in the middle of the last MemoData value, which is length-prefixed.
+    assertThatThrownBy(() -> BinaryObjectView.of(objectBytes, 0, objectBytes.length - 3))
+      .isInstanceOf(IllegalArgumentException.class);
+  }
+}
@@ -0,0 +1,104 @@
+package org.xrpl.xrpl4j.codec.binary.serdes;
+
+/*-
+ * ========================LICENSE_START=================================
+ * xrpl4j :: binary-codec
+ * %%
+ * Copyright (C) 2020 - 2022 XRPL Foundation and its contributors
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * =========================LICENSE_END==================================
+ */
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import com.google.common.io.BaseEncoding;
+import org.junit.jupiter.api.Test;
+import org.xrpl.xrpl4j.codec.binary.FieldHeader;
+
+import java.nio.ByteBuffer;
+
+/**
+ * Unit tests for {@link BinaryParser}.
+ */
+class BinaryParserTest {
+
+  private static final byte[] BYTES = BaseEncoding.base16().decode("01FF0203040506070809FFFFFFFFFFFFFFFF");
+
+  @Test
+  void readUInts() {
+    BinaryParser parser = new BinaryParser(BYTES);
+    assertThat(parser.size()).isEqualTo(BYTES.length);
+    assertThat(parser.readUInt8()).isEqualTo(0x01);
+    assertThat(parser.readUInt16()).isEqualTo(0xFF02);
+    assertThat(parser.readUInt32()).isEqualTo(0x03040506L);
+    assertThat(parser.peekUInt8()).isEqualTo(0x07);
+    assertThat(parser.read(3).hexValue()).isEqualTo("070809");
+    assertThat(parser.readUInt64()).isEqualTo(-1L);
+    assertThat(parser.hasMore()).isFalse();
+    assertThatThrownBy(parser::readUInt8).isInstanceOf(IndexOutOfBoundsException.class);
+  }
+
+  @Test
+  void hexAndByteParsersAreEquivalent() {
+    BinaryParser fromHex = new BinaryParser(BaseEncoding.base16().lowerCase().encode(BYTES));
+    BinaryParser fromBytes = new BinaryParser(BYTES);
+    while (fromBytes.hasMore()) {
+      assertThat(fromHex.readUInt8()).isEqualTo(fromBytes.readUInt8());
+    }
+    assertThat(fromHex.hasMore()).isFalse();
+  }
+
+  @Test
+  void readFromRange() {
+    BinaryParser parser = new BinaryParser(BYTES, 1, 2);
+    assertThat(parser.size()).isEqualTo(2);
+    assertThat(parser.readUInt16()).isEqualTo(0xFF02);
+    assertThat(parser.hasMore()).isFalse();
+    assertThatThrownBy(() -> parser.read(1)).isInstanceOf(IndexOutOfBoundsException.class);
+  }
+
+  @Test
+  void readFromByteBuffer() {
+    ByteBuffer heap = ByteBuffer.wrap(BYTES);
+    heap.position(3);
+    assertThat(new BinaryParser(heap).readUInt32()).isEqualTo(0x03040506L);
+    assertThat(heap.position()).isEqualTo(3);
+
+    ByteBuffer direct = ByteBuffer.allocateDirect(BYTES.length);
+    direct.put(BYTES).flip();
+    BinaryParser parser = new BinaryParser(direct);
+    assertThat(parser.size()).isEqualTo(BYTES.length);
+    assertThat(parser.readUInt8()).isEqualTo(0x01);
+  }
+
+  @Test
+  void readFieldHeaders() {
+    // TransactionType (type 1, field 2) fits in one byte; TickSize (type 16, field 16) needs three.
+    BinaryParser parser = new BinaryParser("12001010");
+    assertThat(parser.readFieldHeader()).isEqualTo(FieldHeader.builder().typeCode(1).fieldCode(2).build());
+    assertThat(parser.readFieldHeader()).isEqualTo(FieldHeader.builder().typeCode(16).fieldCode(16).build());
+    assertThat(parser.hasMore()).isFalse();
+  }
+
+  @Test
+  void readVariableLengthLengths() {
+    assertThat(new BinaryParser("C0").readVariableLengthLength()).isEqualTo(192);
+    assertThat(new BinaryParser("C100").readVariableLengthLength()).isEqualTo(193);
+    assertThat(new BinaryParser("C1FF").readVariableLengthLength()).isEqualTo(448);
+    assertThat(new BinaryParser("F0FF").readVariableLengthLength()).isEqualTo(12480);
+    assertThat(new BinaryParser("F10000").readVariableLengthLength()).isEqualTo(12481);
+    assertThat(new BinaryParser("F130E7").readVariableLengthLength()).isEqualTo(25000);
+  }
+}
@@ -28,6 +28,9 @@ import org.junit.jupiter.api.Test;
 import org.junit.jupiter.params.provider.Arguments;
 
 import java.io.IOException;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.util.Random;
 import java.util.stream.Stream;
 
 class AmountTypeTest extends BaseSerializerTypeTest {
@@ -118,4 +121,67 @@ class AmountTypeTest extends BaseSerializerTypeTest {
     assertThat(codec.fromJson(json).toHex()).isEqualTo(hex);
   }
 
+  @Test
+  void equivalentCurrencyAmountRepresentationsEncodeIdentically() {
+    String expected = codec.fromJson(currencyAmount("1.5")).toHex();
+    Stream.of("15e-1", "1.50", "+1.5", "0001.5", "150E-2", ".15e1", "0.0000015e+6")
+      .forEach(value -> assertThat(codec.fromJson(currencyAmount(value)).toHex()).as(value).isEqualTo(expected));
+
+    String zero = codec.fromJson(currencyAmount("0")).toHex();
+    Stream.of("-0", "0.000", "0e10", "000")
+      .forEach(value -> assertThat(codec.fromJson(currencyAmount(value)).toHex()).as(value).isEqualTo(zero));
+  }
+
+  @Test
+  void currencyAmountsRoundTripExactly() {
+    Random random = new Random(42);
+    for (int i = 0; i < 5000; i++) {
+      long mantissa = 1 + (long) (random.nextDouble() * 9_999_999_999_999_999L);
+      int scale = random.nextInt(96 + 80) - 80;
+      BigDecimal expected = new BigDecimal(BigInteger.valueOf(random.nextBoolean() ? mantissa : -mantissa), scale)
+        .stripTrailingZeros();
+      int exponent = expected.precision() - expected.scale() - 1;
+      if (exponent > 95 || exponent < -81) {
+        continue;
+      }
+
+      String hex = codec.fromJson(currencyAmount(expected.toPlainString())).toHex();
+      assertThat(codec.fromJson(currencyAmount(expected.toString())).toHex()).isEqualTo(hex);
+
+      String decoded = codec.fromHex(hex).toJson().get("value").asText();
+      assertThat(decoded).isEqualTo(expected.toPlainString());
+    }
+  }
+
+  @Test
+  void decodeXrpAmountEdgeCases() {
+    assertThat(codec.fromHex("4000000000000000").toJson().asText()).isEqualTo("0");
+    assertThat(codec.fromHex("0000000000000000").toJson().asText()).isEqualTo("0");
+    assertThat(codec.fromHex("0000000000000064").toJson().asText()).isEqualTo("-100");
+  }
+
+  @Test
+  void encodeInvalidCurrencyAmounts() {
+    // Too many significant digits.
+    assertThrows(IllegalArgumentException.class, () -> codec.fromJson(currencyAmount("12345678901234567")));
+    // Exponent out of range.
+    assertThrows(IllegalArgumentException.class, () -> codec.fromJson(currencyAmount("1e96")));
+    assertThrows(IllegalArgumentException.class, () -> codec.fromJson(currencyAmount("1e-82")));
+    // Not a number.
+    assertThrows(NumberFormatException.class, () -> codec.fromJson(currencyAmount("1.2.3")));
+    assertThrows(NumberFormatException.class, () -> codec.fromJson(currencyAmount("abc")));
+  }
+
+  @Test
+  void decodeCurrencyAmountWithTooManyDigits() {
+    // A mantissa of 2^54 - 1 has 17 digits, which is more than an XRPL amount allows.
+    assertThrows(Error.class, () -> codec.fromHex(
+      "D4BFFFFFFFFFFFFF00000000000000000000000055534400000000000000000000000000000000000000000000000001"
+    ).toJson());
+  }
+
+  private static String currencyAmount(String value) {
+    return "{\"currency\":\"USD\",\"value\":\"" + value + "\",\"issuer\":\"rrrrrrrrrrrrrrrrrrrrBZbvji\"}";
+  }
+
 }
@@ -23,10 +23,15 @@ package org.xrpl.xrpl4j.crypto;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.xrpl.xrpl4j.crypto.SecureRandomUtils.isAndroidRuntime;
 import static org.xrpl.xrpl4j.crypto.SecureRandomUtils.secureRandom;
+import static org.xrpl.xrpl4j.crypto.SecureRandomUtils.threadLocalSecureRandom;
 
 import org.junit.jupiter.api.Test;
 import org.xrpl.xrpl4j.crypto.SecureRandomUtils;
 
+import java.security.SecureRandom;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
 /**
  * Unit tests for {@link SecureRandomUtils}.
  */
@@ -37,6 +42,27 @@ public class SecureRandomUtilsTest {
     secureRandom().nextInt();
   }
 
+  @Test
+  public void threadLocalSecureRandomIsPerThread() throws Exception {
+    final SecureRandom mine = threadLocalSecureRandom();
+    assertThat(threadLocalSecureRandom()).isSameAs(mine);
+    assertThat(mine).isNotSameAs(secureRandom());
+
+    final ExecutorService executor = Executors.newSingleThreadExecutor();
+    try {
+      final SecureRandom theirs = executor.submit(SecureRandomUtils::threadLocalSecureRandom).get();
+      assertThat(theirs).isNotSameAs(mine);
+
+      final byte[] myBytes = new byte[32];
+      final byte[] theirBytes = new byte[32];
+      mine.nextBytes(myBytes);
+      executor.submit(() -> theirs.nextBytes(theirBytes)).get();
+      assertThat(myBytes).isNotEqualTo(theirBytes).isNotEqualTo(new byte[32]);
+    } finally {
+      executor.shutdown();
+    }
+  }
+
   @Test
   public void testIsNotAndroidRuntime() {
     assertThat(isAndroidRuntime()).isFalse();
@@ -0,0 +1,165 @@
+package org.xrpl.xrpl4j.crypto.keys;
+
+/*-
+ * ========================LICENSE_START=================================
+ * xrpl4j :: core
+ * %%
+ * Copyright (C) 2020 - 2023 XRPL Foundation and its contributors
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * =========================LICENSE_END==================================
+ */
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import com.google.common.collect.Lists;
+import org.junit.jupiter.api.Test;
+import org.xrpl.xrpl4j.codec.addresses.KeyType;
+import org.xrpl.xrpl4j.crypto.SecureRandomUtils;
+import org.xrpl.xrpl4j.model.transactions.Address;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Unit tests for {@link BulkKeyPairs}.
+ */
+class BulkKeyPairsTest {
+
+  @Test
+  void generateEd25519() {
+    final List<KeyPair> keyPairs = BulkKeyPairs.generate(100, KeyType.ED25519);
+    assertThat(keyPairs).hasSize(100).doesNotHaveDuplicates()
+      .allMatch(keyPair -> keyPair.publicKey().keyType() == KeyType.ED25519);
+  }
+
+  @Test
+  void generateSecp256k1() {
+    final List<KeyPair> keyPairs = BulkKeyPairs.generate(70, KeyType.SECP256K1);
+    assertThat(keyPairs).hasSize(70).doesNotHaveDuplicates()
+      .allMatch(keyPair -> keyPair.publicKey().keyType() == KeyType.SECP256K1);
+  }
+
+  @Test
+  void generateOnExecutor() {
+    final ExecutorService executor = Executors.newFixedThreadPool(3);
+    try {
+      final AtomicInteger calls = new AtomicInteger();
+      final List<KeyPair> keyPairs = BulkKeyPairs.generate(5, KeyType.ED25519, () -> {
+        calls.incrementAndGet();
+        return SecureRandomUtils.threadLocalSecureRandom();
+      }, executor);
+      assertThat(keyPairs).hasSize(5).doesNotHaveDuplicates();
+      assertThat(calls).hasValue(5);
+    } finally {
+      executor.shutdown();
+    }
+  }
+
+  @Test
+  void generateNone() {
+    assertThat(BulkKeyPairs.generate(0, KeyType.ED25519)).isEmpty();
+  }
+
+  @Test
+  void generateWithInvalidArguments() {
+    assertThrows(IllegalArgumentException.class, () -> BulkKeyPairs.generate(-1, KeyType.ED25519));
+    assertThrows(NullPointerException.class, () -> BulkKeyPairs.generate(1, null));
+    assertThrows(NullPointerException.class, () -> BulkKeyPairs.generate(1, KeyType.ED25519, null, Runnable::run));
+    assertThrows(NullPointerException.class, () -> BulkKeyPairs.generate(
+      1, KeyType.ED25519, SecureRandomUtils::threadLocalSecureRandom, null
+    ));
+  }
+
+  @Test
+  void deriveKeyPairsMatchesSeeds() {
+    final List<Seed> seeds = seeds(50);
+    final List<KeyPair> keyPairs = BulkKeyPairs.deriveKeyPairs(seeds);
+    assertThat(keyPairs).hasSize(50);
+    for (int i = 0; i < seeds.size(); i++) {
+      assertThat(keyPairs.get(i)).isEqualTo(seeds.get(i).deriveKeyPair());
+    }
+  }
+
+  @Test
+  void deriveAddressesMatchesPublicKeys() {
+    final List<Seed> seeds = seeds(50);
+    final List<Address> addresses = BulkKeyPairs.deriveAddresses(seeds);
+    assertThat(addresses).hasSize(50).doesNotHaveDuplicates();
+    for (int i = 0; i < seeds.size(); i++) {
+      assertThat(addresses.get(i)).isEqualTo(seeds.get(i).deriveKeyPair().publicKey().deriveAddress());
+    }
+    assertThat(BulkKeyPairs.deriveAddresses(Lists.newArrayList(
+      Seed.fromBase58EncodedSecret(Base58EncodedSecret.of("sEdSvUyszZFDFkkxQLm18ry3yeZ2FDM")),
+      Seed.fromBase58EncodedSecret(Base58EncodedSecret.of("sp5fghtJtpUorTwvof1NpDXAzNwf5"))
+    ))).containsExactly(
+      Address.of("rpsAiz1JjunVeGk5QipvZt8QxY3hRcmKRR"),
+      Address.of("rU6K7V3Po4snVhBBaU29sesqs2qTQJWDw1")
+    );
+  }
+
+  @Test
+  void deriveAddressesForIndexes() {
+    final List<Address> addresses = BulkKeyPairs.deriveAddresses(
+      100, i -> Seed.secp256k1SeedFromPassphrase(Passphrase.of("deposit_" + i)), Runnable::run
+    );
+    assertThat(addresses).hasSize(100).doesNotHaveDuplicates();
+    final Seed seed = Seed.secp256k1SeedFromPassphrase(Passphrase.of("deposit_7"));
+    assertThat(addresses.get(7)).isEqualTo(seed.deriveKeyPair().publicKey().deriveAddress());
+  }
+
+  @Test
+  void deriveWithInvalidArguments() {
+    assertThrows(NullPointerException.class, () -> BulkKeyPairs.deriveKeyPairs(null));
+    assertThrows(NullPointerException.class, () -> BulkKeyPairs.deriveKeyPairs(seeds(1), null));
+    assertThrows(NullPointerException.class, () -> BulkKeyPairs.deriveKeyPairs(Collections.singletonList(null)));
+    assertThrows(NullPointerException.class, () -> BulkKeyPairs.deriveAddresses(null));
+    assertThrows(NullPointerException.class, () -> BulkKeyPairs.deriveAddresses(seeds(1), null));
+    assertThrows(IllegalArgumentException.class, () -> BulkKeyPairs.deriveAddresses(-1, i -> null, Runnable::run));
+  }
+
+  @Test
+  void inParallelPreservesOrder() {
+    final List<Integer> results = BulkKeyPairs.inParallel(1000, i -> i * 2, Runnable::run);
+    assertThat(results).hasSize(1000);
+    for (int i = 0; i < results.size(); i++) {
+      assertThat(results.get(i)).isEqualTo(i * 2);
+    }
+  }
+
+  @Test
+  void inParallelRethrowsTaskFailures() {
+    final IllegalStateException exception = assertThrows(IllegalStateException.class,
+      () -> BulkKeyPairs.inParallel(100, i -> {
+        if (i == 42) {
+          throw new IllegalStateException("boom");
+        }
+        return i;
+      }, Runnable::run));
+    assertThat(exception).hasMessage("boom");
+  }
+
+  private static List<Seed> seeds(final int count) {
+    final List<Seed> seeds = new ArrayList<>();
+    for (int i = 0; i < count; i++) {
+      final Passphrase passphrase = Passphrase.of("seed_" + i);
+      seeds.add(i % 2 == 0 ? Seed.ed25519SeedFromPassphrase(passphrase) : Seed.secp256k1SeedFromPassphrase(passphrase));
+    }
+    return seeds;
+  }
+}
@@ -27,6 +27,7 @@ import org.assertj.core.api.Assertions;
 import org.junit.jupiter.api.Test;
 import org.xrpl.xrpl4j.crypto.keys.Entropy;
 
+import java.security.SecureRandom;
 import java.util.Arrays;
 
 /**
@@ -39,6 +40,13 @@ class EntropyTest {
     assertThat(Entropy.newInstance()).isNotNull();
   }
 
+  @Test
+  void newInstanceFromSecureRandom() {
+    final Entropy entropy = Entropy.newInstance(new FixedSecureRandom((byte) 7));
+    assertThat(entropy.value().toByteArray()).containsOnly(7).hasSize(16);
+    assertThrows(NullPointerException.class, () -> Entropy.newInstance(null));
+  }
+
   @Test
   void invalidValue() {
     assertThrows(IllegalArgumentException.class, () -> {
@@ -102,4 +110,21 @@ class EntropyTest {
     final Entropy entropy = Entropy.of(new byte[16]);
     assertThat(entropy.toString()).isEqualTo("Entropy{value=[redacted], destroyed=false}");
   }
+
+  /**
+   * A {@link SecureRandom} that always returns the same byte.
+   */
+  private static class FixedSecureRandom extends SecureRandom {
+
+    private final byte value;
+
+    FixedSecureRandom(final byte value) {
+      this.value = value;
+    }
+
+    @Override
+    public void nextBytes(final byte[] bytes) {
+      Arrays.fill(bytes, value);
+    }
+  }
 }
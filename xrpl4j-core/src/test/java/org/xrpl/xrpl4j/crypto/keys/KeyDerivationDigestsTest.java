@@ -0,0 +1,54 @@
+package org.xrpl.xrpl4j.crypto.keys;
+
+/*-
+ * ========================LICENSE_START=================================
+ * xrpl4j :: core
+ * %%
+ * Copyright (C) 2020 - 2023 XRPL Foundation and its contributors
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * =========================LICENSE_END==================================
+ */
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.junit.jupiter.api.Test;
+import org.xrpl.xrpl4j.codec.addresses.UnsignedByteArray;
+import org.xrpl.xrpl4j.crypto.HashingUtils;
+
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Unit tests for {@link KeyDerivationDigests}.
+ */
+class KeyDerivationDigestsTest {
+
+  @Test
+  void sha512HalfMatchesHashingUtilsWhenReused() {
+    final KeyDerivationDigests digests = new KeyDerivationDigests();
+    for (int i = 0; i < 3; i++) {
+      final byte[] bytes = ("message " + i).getBytes(StandardCharsets.UTF_8);
+      assertThat(digests.sha512Half(bytes)).isEqualTo(HashingUtils.sha512Half(bytes));
+    }
+  }
+
+  @Test
+  void publicKeyHashMatchesPublicKeyWhenReused() {
+    final KeyDerivationDigests digests = new KeyDerivationDigests();
+    for (int i = 0; i < 3; i++) {
+      final PublicKey publicKey = Seed.ed25519SeedFromPassphrase(Passphrase.of("key " + i)).deriveKeyPair().publicKey();
+      final UnsignedByteArray publicKeyHash = digests.publicKeyHash(publicKey.value());
+      assertThat(publicKeyHash).isEqualTo(PublicKey.computePublicKeyHash(publicKey.value()));
+    }
+  }
+}
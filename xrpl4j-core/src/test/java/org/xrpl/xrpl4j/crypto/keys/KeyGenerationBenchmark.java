@@ -0,0 +1,88 @@
+package org.xrpl.xrpl4j.crypto.keys;
+
+/*-
+ * ========================LICENSE_START=================================
+ * xrpl4j :: core
+ * %%
+ * Copyright (C) 2020 - 2023 XRPL Foundation and its contributors
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * =========================LICENSE_END==================================
+ */
+
+import org.xrpl.xrpl4j.codec.addresses.KeyType;
+import org.xrpl.xrpl4j.crypto.SecureRandomUtils;
+
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * A simple benchmark for {@link BulkKeyPairs}. It is not run as part of the test suite; run {@link #main(String[])}
+ * from the test classpath to see how key pair generation scales with the number of threads, e.g.
+ *
+ * <pre>
+ *   java -cp target/classes:target/test-classes:$(dependency classpath) \
+ *     org.xrpl.xrpl4j.crypto.keys.KeyGenerationBenchmark 20000
+ * </pre>
+ *
+ * <p>The optional argument is the number of key pairs to generate for each thread count (default 10000).</p>
+ */
+public class KeyGenerationBenchmark {
+
+  /**
+   * Run the benchmark for 1, 2, 4, ... up to the number of available processors, for both key types.
+   *
+   * @param args An optional number of key pairs to generate for each thread count.
+   *
+   * @throws InterruptedException if interrupted while waiting for worker threads.
+   */
+  public static void main(String[] args) throws InterruptedException {
+    final int count = args.length > 0 ? Integer.parseInt(args[0]) : 10000;
+    final int processors = Runtime.getRuntime().availableProcessors();
+
+    for (KeyType keyType : KeyType.values()) {
+      // Warm up the JIT before measuring.
+      run(1, count / 10, keyType);
+
+      double singleThreaded = 0;
+      for (int threads = 1; threads <= processors; threads *= 2) {
+        final double keyPairsPerSecond = run(threads, count, keyType);
+        if (threads == 1) {
+          singleThreaded = keyPairsPerSecond;
+        }
+        System.out.printf("%s threads=%-3d keypairs/s=%,10.0f per-thread=%,10.0f speedup=%.2fx%n", keyType, threads,
+          keyPairsPerSecond, keyPairsPerSecond / threads, keyPairsPerSecond / singleThreaded);
+      }
+    }
+  }
+
+  private static double run(final int threads, final int count, final KeyType keyType) throws InterruptedException {
+    final ExecutorService executor = Executors.newFixedThreadPool(threads);
+    try {
+      final long start = System.nanoTime();
+      final List<KeyPair> keyPairs = BulkKeyPairs.generate(
+        count, keyType, SecureRandomUtils::threadLocalSecureRandom, executor
+      );
+      final long elapsed = System.nanoTime() - start;
+      if (keyPairs.size() != count) {
+        throw new IllegalStateException("Expected " + count + " key pairs but got " + keyPairs.size());
+      }
+      return count / (elapsed / 1e9);
+    } finally {
+      executor.shutdown();
+      executor.awaitTermination(30, TimeUnit.SECONDS);
+    }
+  }
+}
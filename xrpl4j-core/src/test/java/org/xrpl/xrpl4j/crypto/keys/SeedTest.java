@@ -29,6 +29,7 @@ import org.xrpl.xrpl4j.codec.addresses.Base58;
 import org.xrpl.xrpl4j.codec.addresses.KeyType;
 import org.xrpl.xrpl4j.codec.addresses.UnsignedByteArray;
 import org.xrpl.xrpl4j.codec.addresses.exceptions.DecodeException;
+import org.xrpl.xrpl4j.crypto.SecureRandomUtils;
 import org.xrpl.xrpl4j.crypto.keys.Base58EncodedSecret;
 import org.xrpl.xrpl4j.crypto.keys.Entropy;
 import org.xrpl.xrpl4j.crypto.keys.KeyPair;
@@ -38,6 +39,7 @@ import org.xrpl.xrpl4j.crypto.keys.PublicKey;
 import org.xrpl.xrpl4j.crypto.keys.Seed;
 import org.xrpl.xrpl4j.crypto.keys.Seed.DefaultSeed;
 
+import java.security.SecureRandom;
 import javax.security.auth.DestroyFailedException;
 
 /**
@@ -96,6 +98,19 @@ public class SeedTest {
     assertThat(originalSeed.decodedSeed().bytes().hexValue()).isEqualTo(copiedSeed.decodedSeed().bytes().hexValue());
   }
 
+  @Test
+  void testRandomSeedGenerationFromSecureRandom() {
+    final SecureRandom secureRandom = SecureRandomUtils.threadLocalSecureRandom();
+    final Seed ed25519Seed = Seed.ed25519Seed(secureRandom);
+    assertThat(ed25519Seed.decodedSeed().type()).hasValue(KeyType.ED25519);
+    assertThat(ed25519Seed.deriveKeyPair().publicKey().keyType()).isEqualTo(KeyType.ED25519);
+
+    final Seed secp256k1Seed = Seed.secp256k1Seed(secureRandom);
+    assertThat(secp256k1Seed.decodedSeed().type()).hasValue(KeyType.SECP256K1);
+    assertThat(secp256k1Seed.deriveKeyPair().publicKey().keyType()).isEqualTo(KeyType.SECP256K1);
+    assertThat(Seed.secp256k1Seed(secureRandom)).isNotEqualTo(secp256k1Seed);
+  }
+
   @Test
   void testSecp256k1SeedFromNullEntropy() {
     assertThrows(NullPointerException.class, () -> {
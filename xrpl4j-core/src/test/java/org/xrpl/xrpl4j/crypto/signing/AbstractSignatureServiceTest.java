@@ -81,6 +81,7 @@ public class AbstractSignatureServiceTest {
     when(signedTransactionMock.unsignedTransaction()).thenReturn(transactionMock);
     when(signatureUtilsMock.toSignableBytes(Mockito.<Transaction>any())).thenReturn(UnsignedByteArray.empty());
     when(signatureUtilsMock.toMultiSignableBytes(any(), any())).thenReturn(UnsignedByteArray.empty());
+    when(signatureUtilsMock.toMultiSignPayload(any())).thenReturn(MultiSignPayload.of(UnsignedByteArray.empty()));
     when(signatureUtilsMock.addSignatureToTransaction(any(), any())).thenReturn(signedTransactionMock);
 
     this.signatureService = new AbstractSignatureService<PrivateKeyable>(signatureUtilsMock) {
@@ -314,6 +315,7 @@ public class AbstractSignatureServiceTest {
   public void verifyMultiEd25519() {
     Signer signerMock = mock(Signer.class);
     when(signerMock.signingPublicKey()).thenReturn(TestConstants.ED_PUBLIC_KEY);
+    when(signerMock.account()).thenReturn(TestConstants.ED_PUBLIC_KEY.deriveAddress());
     when(signerMock.transactionSignature()).thenReturn(ed25519SignatureMock);
 
     final Set<Signer> signatureWithPublicKeys = Sets.newLinkedHashSet(signerMock);
@@ -323,7 +325,7 @@ public class AbstractSignatureServiceTest {
     assertThat(actual).isTrue();
     assertThat(ed25519VerifyCalled.get()).isTrue();
     assertThat(secp256k1VerifyCalled.get()).isFalse();
-    verify(signatureUtilsMock).toMultiSignableBytes(any(), any());
+    verify(signatureUtilsMock).toMultiSignPayload(any());
     verifyNoMoreInteractions(signatureUtilsMock);
   }
 
@@ -331,6 +333,7 @@ public class AbstractSignatureServiceTest {
   public void verifyMultiSecp256k1() {
     Signer signerMock = mock(Signer.class);
     when(signerMock.signingPublicKey()).thenReturn(TestConstants.EC_PUBLIC_KEY);
+    when(signerMock.account()).thenReturn(TestConstants.EC_PUBLIC_KEY.deriveAddress());
     when(signerMock.transactionSignature()).thenReturn(secp256k1SignatureMock);
 
     final Set<Signer> signatureWithPublicKeys = Sets.newLinkedHashSet(signerMock);
@@ -340,7 +343,7 @@ public class AbstractSignatureServiceTest {
     assertThat(actual).isTrue();
     assertThat(secp256k1VerifyCalled.get()).isTrue();
     assertThat(ed25519VerifyCalled.get()).isFalse();
-    verify(signatureUtilsMock).toMultiSignableBytes(any(), any());
+    verify(signatureUtilsMock).toMultiSignPayload(any());
     verifyNoMoreInteractions(signatureUtilsMock);
   }
 
@@ -86,6 +86,7 @@ public class AbstractTransactionSignerTest {
 
     when(signerMock.signingPublicKey()).thenReturn(publicKeyMock);
     when(signerMock.transactionSignature()).thenReturn(ed25519SignatureMock);
+    when(privateKeyableMock.keyType()).thenAnswer($ -> keyType);
 
     this.transactionSigner = new AbstractTransactionSigner(signatureUtilsMock) {
       @Override
@@ -194,7 +195,7 @@ public class AbstractTransactionSignerTest {
 
   @Test
   void multiSignWithNullTransaction() {
-    assertThrows(NullPointerException.class, () -> transactionSigner.multiSign(privateKeyableMock, null));
+    assertThrows(NullPointerException.class, () -> transactionSigner.multiSign(privateKeyableMock, (Transaction) null));
   }
 
   @Test
@@ -222,6 +223,37 @@ public class AbstractTransactionSignerTest {
     verifyNoMoreInteractions(signatureUtilsMock);
   }
 
+  @Test
+  void multiSignPayloadWithNulls() {
+    final MultiSignPayload payload = MultiSignPayload.of(UnsignedByteArray.empty());
+    assertThrows(NullPointerException.class, () -> transactionSigner.multiSign(null, payload));
+    assertThrows(
+      NullPointerException.class, () -> transactionSigner.multiSign(privateKeyableMock, (MultiSignPayload) null)
+    );
+  }
+
+  @Test
+  void multiSignPayloadEd25519() {
+    keyType = KeyType.ED25519;
+
+    Signature signature = transactionSigner.multiSign(
+      privateKeyableMock, MultiSignPayload.of(UnsignedByteArray.fromHex("534D5400"))
+    );
+    assertThat(signature).isEqualTo(ed25519SignatureMock);
+    verifyNoMoreInteractions(signatureUtilsMock);
+  }
+
+  @Test
+  void multiSignPayloadSecp256k1() {
+    keyType = KeyType.SECP256K1;
+
+    Signature signature = transactionSigner.multiSign(
+      privateKeyableMock, MultiSignPayload.of(UnsignedByteArray.fromHex("534D5400"))
+    );
+    assertThat(signature).isEqualTo(secp256k1SignatureMock);
+    verifyNoMoreInteractions(signatureUtilsMock);
+  }
+
   ///////////////////
   // MultiSign to Signer
   ///////////////////
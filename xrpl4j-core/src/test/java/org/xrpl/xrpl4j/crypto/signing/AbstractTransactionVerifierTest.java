@@ -23,12 +23,16 @@ package org.xrpl.xrpl4j.crypto.signing;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.verifyNoMoreInteractions;
 import static org.mockito.Mockito.when;
 import static org.mockito.MockitoAnnotations.openMocks;
+import static org.xrpl.xrpl4j.crypto.TestConstants.EC_PUBLIC_KEY;
 import static org.xrpl.xrpl4j.crypto.TestConstants.ED_PUBLIC_KEY;
 
+import com.google.common.collect.Lists;
 import org.assertj.core.util.Sets;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -37,11 +41,21 @@ import org.mockito.Mockito;
 import org.xrpl.xrpl4j.codec.addresses.KeyType;
 import org.xrpl.xrpl4j.codec.addresses.UnsignedByteArray;
 import org.xrpl.xrpl4j.crypto.keys.PublicKey;
+import org.xrpl.xrpl4j.model.transactions.Address;
 import org.xrpl.xrpl4j.model.transactions.Signer;
 import org.xrpl.xrpl4j.model.transactions.Transaction;
 
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
 import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.BiPredicate;
 
 /**
  * Unit tests for {@link AbstractTransactionVerifier}.
@@ -82,9 +96,11 @@ public class AbstractTransactionVerifierTest {
 
     when(signatureUtilsMock.toSignableBytes(Mockito.<Transaction>any())).thenReturn(UnsignedByteArray.empty());
     when(signatureUtilsMock.toMultiSignableBytes(any(), any())).thenReturn(UnsignedByteArray.empty());
+    when(signatureUtilsMock.toMultiSignPayload(any())).thenReturn(MultiSignPayload.of(UnsignedByteArray.empty()));
 
     when(signer.signingPublicKey()).thenReturn(ED_PUBLIC_KEY);
     when(signer.transactionSignature()).thenReturn(ed25519SignatureMock);
+    when(signer.account()).thenReturn(ED_PUBLIC_KEY.deriveAddress());
 
     this.transactionVerifier = new AbstractTransactionVerifier(signatureUtilsMock) {
       @Override
@@ -178,7 +194,7 @@ public class AbstractTransactionVerifierTest {
     assertThat(actual).isTrue();
     assertThat(ed25519VerifyCalled.get()).isTrue();
     assertThat(secp256k1VerifyCalled.get()).isFalse();
-    verify(signatureUtilsMock).toMultiSignableBytes(any(), any());
+    verify(signatureUtilsMock).toMultiSignPayload(any());
     verifyNoMoreInteractions(signatureUtilsMock);
   }
 
@@ -193,7 +209,21 @@ public class AbstractTransactionVerifierTest {
     assertThat(actual).isTrue();
     assertThat(secp256k1VerifyCalled.get()).isTrue();
     assertThat(ed25519VerifyCalled.get()).isFalse();
-    verify(signatureUtilsMock).toMultiSignableBytes(any(), any());
+    verify(signatureUtilsMock).toMultiSignPayload(any());
+    verifyNoMoreInteractions(signatureUtilsMock);
+  }
+
+  @Test
+  void verifyMultiCountsEachAccountOnce() {
+    final Signer otherSigner = mock(Signer.class);
+    when(otherSigner.signingPublicKey()).thenReturn(edPublicKeyMock);
+    when(otherSigner.transactionSignature()).thenReturn(secp256k1SignatureMock);
+    when(otherSigner.account()).thenReturn(ED_PUBLIC_KEY.deriveAddress());
+
+    final Set<Signer> signerSet = Sets.newLinkedHashSet(signer, otherSigner);
+    assertThat(transactionVerifier.verifyMultiSigned(signerSet, transactionMock, 2)).isFalse();
+    assertThat(transactionVerifier.verifyMultiSigned(signerSet, transactionMock, 1)).isTrue();
+    verify(signatureUtilsMock, times(2)).toMultiSignPayload(transactionMock);
     verifyNoMoreInteractions(signatureUtilsMock);
   }
 
@@ -225,4 +255,144 @@ public class AbstractTransactionVerifierTest {
     assertThat(ed25519VerifyCalled.get()).isFalse();
     verifyNoMoreInteractions(signatureUtilsMock);
   }
+
+  ///////////////////
+  // verifyAll
+  ///////////////////
+
+  @Test
+  void verifyAllWithNulls() {
+    assertThrows(NullPointerException.class, () -> transactionVerifier.verifyAll(null));
+    assertThrows(NullPointerException.class,
+      () -> transactionVerifier.verifyAll(Lists.newArrayList(), (Executor) null));
+  }
+
+  @Test
+  void verifyAllEmpty() {
+    assertThat(transactionVerifier.verifyAll(Lists.newArrayList())).isEmpty();
+  }
+
+  @Test
+  void verifyAllReturnsResultsInOrderAndPreparesEachKeyOnce() {
+    final Signature validSignature = mock(Signature.class);
+    final Signature invalidSignature = mock(Signature.class);
+    final Map<PublicKey, AtomicInteger> preparedKeys = new ConcurrentHashMap<>();
+    final AbstractTransactionVerifier batchVerifier = new AbstractTransactionVerifier(signatureUtilsMock) {
+      @Override
+      protected boolean edDsaVerify(PublicKey publicKey, UnsignedByteArray transactionBytes, Signature signature) {
+        return signature == validSignature;
+      }
+
+      @Override
+      protected boolean ecDsaVerify(PublicKey publicKey, UnsignedByteArray transactionBytes, Signature signature) {
+        return signature == validSignature;
+      }
+
+      @Override
+      protected BiPredicate<UnsignedByteArray, Signature> signatureVerifierFor(PublicKey publicKey) {
+        preparedKeys.computeIfAbsent(publicKey, $ -> new AtomicInteger()).incrementAndGet();
+        return super.signatureVerifierFor(publicKey);
+      }
+    };
+
+    final List<VerificationRequest> requests = new ArrayList<>();
+    final List<Boolean> expected = new ArrayList<>();
+    for (int i = 0; i < 3 * BatchVerification.CHUNK_SIZE + 5; i++) {
+      final boolean valid = i % 3 != 0;
+      final Signer requestSigner = mock(Signer.class);
+      when(requestSigner.signingPublicKey()).thenReturn(i % 2 == 0 ? edPublicKeyMock : ecPublicKeyMock);
+      when(requestSigner.transactionSignature()).thenReturn(valid ? validSignature : invalidSignature);
+      when(requestSigner.account()).thenReturn(ED_PUBLIC_KEY.deriveAddress());
+      requests.add(VerificationRequest.builder()
+        .signer(requestSigner)
+        .unsignedTransaction(transactionMock)
+        .multiSigned(i % 5 == 0)
+        .build());
+      expected.add(valid);
+    }
+
+    final ExecutorService executor = Executors.newFixedThreadPool(4);
+    try {
+      assertThat(batchVerifier.verifyAll(requests, executor)).isEqualTo(expected);
+    } finally {
+      executor.shutdown();
+    }
+    assertThat(preparedKeys).containsOnlyKeys(edPublicKeyMock, ecPublicKeyMock);
+    assertThat(preparedKeys.values()).allMatch(count -> count.get() == 1);
+  }
+
+  @Test
+  void verifyAllMultiSignedUsesSignerAccount() {
+    // A signer list entry that signs with its regular key has an Account that differs from the key's own address.
+    final Address account = EC_PUBLIC_KEY.deriveAddress();
+    when(signer.account()).thenReturn(account);
+    final MultiSignPayload multiSignPayload = MultiSignPayload.of(UnsignedByteArray.of(new byte[] {1, 2, 3}));
+    when(signatureUtilsMock.toMultiSignPayload(transactionMock)).thenReturn(multiSignPayload);
+    when(signatureUtilsMock.toMultiSignableBytes(transactionMock, account))
+      .thenReturn(multiSignPayload.toMultiSignableBytes(account));
+    final List<UnsignedByteArray> verifiedBytes = new ArrayList<>();
+    final AbstractTransactionVerifier recordingVerifier = new AbstractTransactionVerifier(signatureUtilsMock) {
+      @Override
+      protected boolean edDsaVerify(PublicKey publicKey, UnsignedByteArray transactionBytes, Signature signature) {
+        verifiedBytes.add(transactionBytes);
+        return true;
+      }
+
+      @Override
+      protected boolean ecDsaVerify(PublicKey publicKey, UnsignedByteArray transactionBytes, Signature signature) {
+        verifiedBytes.add(transactionBytes);
+        return true;
+      }
+    };
+    final VerificationRequest request = VerificationRequest.builder()
+      .signer(signer)
+      .unsignedTransaction(transactionMock)
+      .multiSigned(true)
+      .build();
+
+    assertThat(recordingVerifier.verifyAll(Lists.newArrayList(request))).containsExactly(true);
+    assertThat(recordingVerifier.verifyMultiSigned(Sets.newLinkedHashSet(signer), transactionMock, 1)).isTrue();
+    assertThat(verifiedBytes).containsExactly(
+      multiSignPayload.toMultiSignableBytes(account), multiSignPayload.toMultiSignableBytes(account)
+    );
+  }
+
+  @Test
+  void verifyMultiStopsAtQuorum() {
+    final Signer otherSigner = mock(Signer.class);
+    when(otherSigner.signingPublicKey()).thenReturn(edPublicKeyMock);
+    when(otherSigner.transactionSignature()).thenReturn(ed25519SignatureMock);
+    when(otherSigner.account()).thenReturn(EC_PUBLIC_KEY.deriveAddress());
+    final AtomicInteger verifications = new AtomicInteger();
+    final AbstractTransactionVerifier countingVerifier = new AbstractTransactionVerifier(signatureUtilsMock) {
+      @Override
+      protected boolean edDsaVerify(PublicKey publicKey, UnsignedByteArray transactionBytes, Signature signature) {
+        verifications.incrementAndGet();
+        return true;
+      }
+
+      @Override
+      protected boolean ecDsaVerify(PublicKey publicKey, UnsignedByteArray transactionBytes, Signature signature) {
+        verifications.incrementAndGet();
+        return true;
+      }
+    };
+
+    assertThat(countingVerifier.verifyMultiSigned(Sets.newLinkedHashSet(signer, otherSigner), transactionMock, 1))
+      .isTrue();
+    assertThat(verifications).hasValue(1);
+    verify(signatureUtilsMock).toMultiSignPayload(transactionMock);
+    verifyNoMoreInteractions(signatureUtilsMock);
+  }
+
+  @Test
+  void verifyAllPropagatesExceptions() {
+    final PublicKey unknownKey = mock(PublicKey.class);
+    when(unknownKey.keyType()).thenReturn(null);
+    final Signer badSigner = mock(Signer.class);
+    when(badSigner.signingPublicKey()).thenReturn(unknownKey);
+
+    assertThrows(NullPointerException.class,
+      () -> transactionVerifier.verifyAll(Lists.newArrayList(VerificationRequest.of(badSigner, transactionMock))));
+  }
 }
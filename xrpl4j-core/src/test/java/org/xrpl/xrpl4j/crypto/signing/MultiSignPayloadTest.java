@@ -0,0 +1,88 @@
+package org.xrpl.xrpl4j.crypto.signing;
+
+/*-
+ * ========================LICENSE_START=================================
+ * xrpl4j :: core
+ * %%
+ * Copyright (C) 2020 - 2023 XRPL Foundation and its contributors
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * =========================LICENSE_END==================================
+ */
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.xrpl.xrpl4j.codec.addresses.UnsignedByteArray;
+import org.xrpl.xrpl4j.crypto.keys.KeyPair;
+import org.xrpl.xrpl4j.crypto.keys.Passphrase;
+import org.xrpl.xrpl4j.crypto.keys.Seed;
+import org.xrpl.xrpl4j.model.jackson.ObjectMapperFactory;
+import org.xrpl.xrpl4j.model.transactions.Address;
+import org.xrpl.xrpl4j.model.transactions.Payment;
+import org.xrpl.xrpl4j.model.transactions.XrpCurrencyAmount;
+
+/**
+ * Unit tests for {@link MultiSignPayload}.
+ */
+class MultiSignPayloadTest {
+
+  private Payment payment;
+
+  @BeforeEach
+  void setUp() {
+    final KeyPair keyPair = Seed.ed25519SeedFromPassphrase(Passphrase.of("hello")).deriveKeyPair();
+    payment = Payment.builder()
+      .account(keyPair.publicKey().deriveAddress())
+      .fee(XrpCurrencyAmount.ofDrops(10))
+      .destination(Address.of("rPT1Sjq2YGrBMTttX4GZHjKu9dyfzbpAYe"))
+      .amount(XrpCurrencyAmount.ofDrops(12345))
+      .build();
+  }
+
+  @Test
+  void toMultiSignableBytesMatchesSignatureUtils() {
+    final SignatureUtils signatureUtils = SignatureUtils.getInstance();
+    final MultiSignPayload multiSignPayload = signatureUtils.toMultiSignPayload(payment);
+
+    for (String signer : new String[] {"rJZdUusLDtY9NEsGea7ijqhVrXv98rYBYN", "rPT1Sjq2YGrBMTttX4GZHjKu9dyfzbpAYe"}) {
+      final Address signerAddress = Address.of(signer);
+      assertThat(multiSignPayload.toMultiSignableBytes(signerAddress))
+        .isEqualTo(signatureUtils.toMultiSignableBytes(payment, signerAddress));
+    }
+  }
+
+  @Test
+  void toMultiSignableBytesDoesNotModifyPayload() {
+    final MultiSignPayload multiSignPayload = MultiSignPayload.of(UnsignedByteArray.fromHex("534D5400"));
+    final UnsignedByteArray bytes = multiSignPayload.toMultiSignableBytes(
+      Address.of("rJZdUusLDtY9NEsGea7ijqhVrXv98rYBYN")
+    );
+
+    assertThat(bytes.hexValue()).isEqualTo("534D5400C0A5ABEF242802EFED4B041E8F2D4A8CC86AE3D1");
+    assertThat(multiSignPayload.signingPayload().hexValue()).isEqualTo("534D5400");
+  }
+
+  @Test
+  void jsonSerializeAndDeserialize() throws JsonProcessingException {
+    final ObjectMapper objectMapper = ObjectMapperFactory.create();
+    final MultiSignPayload multiSignPayload = SignatureUtils.getInstance().toMultiSignPayload(payment);
+
+    final String json = objectMapper.writeValueAsString(multiSignPayload);
+    assertThat(json).isEqualTo("{\"signingPayload\":\"" + multiSignPayload.signingPayload().hexValue() + "\"}");
+    assertThat(objectMapper.readValue(json, MultiSignPayload.class)).isEqualTo(multiSignPayload);
+  }
+}
@@ -25,6 +25,7 @@ import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.doReturn;
 import static org.mockito.Mockito.doThrow;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.verify;
@@ -32,11 +33,8 @@ import static org.mockito.Mockito.verifyNoMoreInteractions;
 import static org.mockito.Mockito.when;
 import static org.mockito.MockitoAnnotations.openMocks;
 
-import com.fasterxml.jackson.core.JsonLocation;
-import com.fasterxml.jackson.core.JsonParseException;
-import com.fasterxml.jackson.core.JsonParser;
-import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.JsonNodeFactory;
 import com.google.common.collect.Lists;
 import com.google.common.primitives.UnsignedInteger;
 import com.google.common.primitives.UnsignedLong;
@@ -114,15 +112,16 @@ public class SignatureUtilsTest {
   SignatureUtils signatureUtils;
 
   @BeforeEach
-  public void setUp() throws JsonProcessingException {
+  public void setUp() {
     openMocks(this);
 
     this.sourcePublicKey = PublicKey.fromBase16EncodedPublicKey(HEX_PUBLIC_KEY);
 
-    when(objectMapperMock.writeValueAsString(any())).thenReturn("{foo}"); // <-- Unused JSON value.
-    when(xrplBinaryCodecMock.encodeForSigning(anyString())).thenReturn("ED");
-    when(xrplBinaryCodecMock.encodeForMultiSigning(any(), anyString())).thenReturn("ED");
-    when(xrplBinaryCodecMock.encode(anyString())).thenReturn("0123456789"); // <-- Unused HEX value.
+    doReturn(JsonNodeFactory.instance.objectNode()).when(objectMapperMock).valueToTree(any()); // <-- Unused JSON.
+    when(xrplBinaryCodecMock.encodeForSigningToBytes(any())).thenReturn(UnsignedByteArray.fromHex("ED"));
+    when(xrplBinaryCodecMock.encodeForMultiSigningToBytes(any(), anyString()))
+      .thenReturn(UnsignedByteArray.fromHex("ED"));
+    when(xrplBinaryCodecMock.encodeToBytes(any())).thenReturn(UnsignedByteArray.fromHex("0123456789"));
     this.signatureUtils = new SignatureUtils(objectMapperMock, xrplBinaryCodecMock);
   }
 
@@ -150,28 +149,70 @@ public class SignatureUtilsTest {
   }
 
   @Test
-  public void toSignableBytesWithJsonException() throws JsonProcessingException {
-    doThrow(new JsonParseException(mock(JsonParser.class), "", mock(JsonLocation.class)))
-      .when(objectMapperMock).writeValueAsString(any());
+  public void toMultiSignPayloadWithNullTransaction() {
+    assertThrows(NullPointerException.class, () -> signatureUtils.toMultiSignPayload(null));
+  }
+
+  @Test
+  public void toMultiSignPayload() {
+    when(xrplBinaryCodecMock.encodeForMultiSigningPayloadToBytes(any()))
+      .thenReturn(UnsignedByteArray.fromHex("534D5400ABCD"));
+    MultiSignPayload actual = signatureUtils.toMultiSignPayload(transactionMock);
+    assertThat(actual.signingPayload().hexValue()).isEqualTo("534D5400ABCD");
+
+    verify(objectMapperMock).valueToTree(transactionMock);
+    verifyNoMoreInteractions(objectMapperMock);
+    verify(xrplBinaryCodecMock).encodeForMultiSigningPayloadToBytes(any());
+    verifyNoMoreInteractions(xrplBinaryCodecMock);
+  }
+
+  @Test
+  public void fromMultiSignPayloadWithNull() {
+    assertThrows(NullPointerException.class, () -> signatureUtils.fromMultiSignPayload(null));
+  }
+
+  @Test
+  public void fromMultiSignPayloadWithoutPrefix() {
+    assertThrows(IllegalArgumentException.class,
+      () -> signatureUtils.fromMultiSignPayload(MultiSignPayload.of(UnsignedByteArray.fromHex("53545800ABCD"))));
+  }
+
+  @Test
+  public void fromMultiSignPayload() {
+    Payment payment = Payment.builder()
+      .account(sourcePublicKey.deriveAddress())
+      .fee(XrpCurrencyAmount.ofDrops(UnsignedLong.ONE))
+      .sequence(UnsignedInteger.ONE)
+      .destination(sourcePublicKey.deriveAddress())
+      .amount(XrpCurrencyAmount.ofDrops(12345))
+      .build();
+    SignatureUtils realSignatureUtils = SignatureUtils.getInstance();
+
+    Transaction actual = realSignatureUtils.fromMultiSignPayload(realSignatureUtils.toMultiSignPayload(payment));
+    assertThat(actual).isEqualTo(payment);
+  }
+
+  @Test
+  public void toSignableBytesWithJsonException() {
+    doThrow(new IllegalArgumentException()).when(objectMapperMock).valueToTree(any());
     assertThrows(RuntimeException.class, () -> signatureUtils.toSignableBytes(transactionMock));
   }
 
   @Test
-  public void toMutliSignableBytesWithJsonException() throws JsonProcessingException {
-    doThrow(new JsonParseException(mock(JsonParser.class), "", mock(JsonLocation.class)))
-      .when(objectMapperMock).writeValueAsString(any());
+  public void toMutliSignableBytesWithJsonException() {
+    doThrow(new IllegalArgumentException()).when(objectMapperMock).valueToTree(any());
     assertThrows(RuntimeException.class,
       () -> signatureUtils.toMultiSignableBytes(transactionMock, mock(Address.class)));
   }
 
   @Test
-  public void toSignableBytes() throws JsonProcessingException {
+  public void toSignableBytes() {
     UnsignedByteArray actual = signatureUtils.toSignableBytes(transactionMock);
     assertThat(actual.length()).isEqualTo(1);
 
-    verify(objectMapperMock).writeValueAsString(transactionMock);
+    verify(objectMapperMock).valueToTree(transactionMock);
     verifyNoMoreInteractions(objectMapperMock);
-    verify(xrplBinaryCodecMock).encodeForSigning(anyString());
+    verify(xrplBinaryCodecMock).encodeForSigningToBytes(any());
     verifyNoMoreInteractions(xrplBinaryCodecMock);
   }
 
@@ -185,28 +226,27 @@ public class SignatureUtilsTest {
   }
 
   @Test
-  void unsignedClaimToSignableBytes() throws JsonProcessingException {
-    when(xrplBinaryCodecMock.encodeForSigningClaim(any())).thenReturn("ABCD1234");
+  void unsignedClaimToSignableBytes() {
+    when(xrplBinaryCodecMock.encodeForSigningClaimToBytes(any())).thenReturn(UnsignedByteArray.fromHex("ABCD1234"));
     UnsignedClaim unsignedClaim = UnsignedClaim.builder()
       .amount(XrpCurrencyAmount.of(UnsignedLong.ONE))
       .channel(Hash256.of("ABCDABCDABCDABCDABCDABCDABCDABCDABCDABCDABCDABCDABCDABCDABCDABCD"))
       .build();
     assertThat(signatureUtils.toSignableBytes(unsignedClaim).hexValue()).isEqualTo("ABCD1234");
 
-    verify(objectMapperMock).writeValueAsString(any());
+    verify(objectMapperMock).valueToTree(any());
     verifyNoMoreInteractions(objectMapperMock);
-    verify(xrplBinaryCodecMock).encodeForSigningClaim(any());
+    verify(xrplBinaryCodecMock).encodeForSigningClaimToBytes(any());
     verifyNoMoreInteractions(xrplBinaryCodecMock);
   }
 
   @Test
-  public void unsignedClaimToSignableBytesWithJsonException() throws JsonProcessingException {
+  public void unsignedClaimToSignableBytesWithJsonException() {
     UnsignedClaim unsignedClaim = UnsignedClaim.builder()
       .amount(XrpCurrencyAmount.of(UnsignedLong.ONE))
       .channel(Hash256.of("ABCDABCDABCDABCDABCDABCDABCDABCDABCDABCDABCDABCDABCDABCDABCDABCD"))
       .build();
-    doThrow(new JsonParseException(mock(JsonParser.class), "", mock(JsonLocation.class)))
-      .when(objectMapperMock).writeValueAsString(unsignedClaim);
+    doThrow(new IllegalArgumentException()).when(objectMapperMock).valueToTree(unsignedClaim);
     assertThrows(RuntimeException.class, () -> signatureUtils.toSignableBytes(unsignedClaim));
   }
 
@@ -226,20 +266,19 @@ public class SignatureUtilsTest {
 
 
   @Test
-  public void toMultiSignableBytes() throws JsonProcessingException {
+  public void toMultiSignableBytes() {
     UnsignedByteArray actual = signatureUtils.toMultiSignableBytes(transactionMock, sourcePublicKey.deriveAddress());
     assertThat(actual.length()).isEqualTo(1);
 
-    verify(objectMapperMock).writeValueAsString(transactionMock);
+    verify(objectMapperMock).valueToTree(transactionMock);
     verifyNoMoreInteractions(objectMapperMock);
-    verify(xrplBinaryCodecMock).encodeForMultiSigning(anyString(), anyString());
+    verify(xrplBinaryCodecMock).encodeForMultiSigningToBytes(any(), anyString());
     verifyNoMoreInteractions(xrplBinaryCodecMock);
   }
 
   @Test
-  public void toMultiSignableBytesWithJsonException() throws JsonProcessingException {
-    doThrow(new JsonParseException(mock(JsonParser.class), "", mock(JsonLocation.class)))
-      .when(objectMapperMock).writeValueAsString(any());
+  public void toMultiSignableBytesWithJsonException() {
+    doThrow(new IllegalArgumentException()).when(objectMapperMock).valueToTree(any());
     assertThrows(
       RuntimeException.class,
       () -> signatureUtils.toMultiSignableBytes(transactionMock, sourcePublicKey.deriveAddress())
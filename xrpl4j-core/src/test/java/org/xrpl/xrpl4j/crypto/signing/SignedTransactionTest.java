@@ -28,9 +28,15 @@ import com.google.common.primitives.UnsignedInteger;
 import org.junit.jupiter.api.Test;
 import org.xrpl.xrpl4j.codec.addresses.UnsignedByteArray;
 import org.xrpl.xrpl4j.codec.binary.XrplBinaryCodec;
+import org.xrpl.xrpl4j.crypto.HashingUtils;
+import org.xrpl.xrpl4j.crypto.keys.KeyPair;
+import org.xrpl.xrpl4j.crypto.keys.Passphrase;
 import org.xrpl.xrpl4j.crypto.keys.PublicKey;
+import org.xrpl.xrpl4j.crypto.keys.Seed;
+import org.xrpl.xrpl4j.crypto.signing.bc.BcSignatureService;
 import org.xrpl.xrpl4j.model.jackson.ObjectMapperFactory;
 import org.xrpl.xrpl4j.model.transactions.Address;
+import org.xrpl.xrpl4j.model.transactions.Hash256;
 import org.xrpl.xrpl4j.model.transactions.Payment;
 import org.xrpl.xrpl4j.model.transactions.XrpCurrencyAmount;
 
@@ -89,4 +95,29 @@ class SignedTransactionTest {
       XrplBinaryCodec.getInstance().encode(ObjectMapperFactory.create().writeValueAsString(signedPayment))
     );
   }
+
+  @Test
+  public void signedTransactionBytesAndHashAreComputedOnce() {
+    final KeyPair keyPair = Seed.ed25519SeedFromPassphrase(Passphrase.of("hello")).deriveKeyPair();
+    final Payment payment = Payment.builder()
+      .account(keyPair.publicKey().deriveAddress())
+      .fee(XrpCurrencyAmount.ofDrops(10))
+      .sequence(UnsignedInteger.ONE)
+      .destination(Address.of("rDNvjMc6LjtpR7BdfiSNvavUBjznhhmpNq"))
+      .amount(XrpCurrencyAmount.ofDrops(1))
+      .signingPublicKey(keyPair.publicKey())
+      .build();
+    final SingleSignedTransaction<Payment> signedTransaction = new BcSignatureService()
+      .sign(keyPair.privateKey(), payment);
+
+    final Hash256 hash = signedTransaction.hash();
+    assertThat(signedTransaction.signedTransactionBytes()).isSameAs(signedTransaction.signedTransactionBytes());
+    assertThat(signedTransaction.hash()).isSameAs(hash);
+    assertThat(hash).isEqualTo(
+      Hash256.of(HashingUtils.sha512Half(
+        UnsignedByteArray.fromHex(SignedTransaction.SIGNED_TRANSACTION_HASH_PREFIX)
+          .append(signedTransaction.signedTransactionBytes())
+      ).hexValue())
+    );
+  }
 }
@@ -23,12 +23,14 @@ package org.xrpl.xrpl4j.crypto.signing;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.Mockito.mock;
 
+import com.google.common.collect.Lists;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.xrpl.xrpl4j.model.transactions.Payment;
 import org.xrpl.xrpl4j.model.transactions.Signer;
 import org.xrpl.xrpl4j.model.transactions.Transaction;
 
+import java.util.List;
 import java.util.Set;
 import java.util.concurrent.atomic.AtomicBoolean;
 
@@ -73,4 +75,16 @@ class TransactionVerifierTest {
     assertThat(verify2Called.get()).isTrue();
   }
 
+  @Test
+  void verifyAll() {
+    final Signer signer = mock(Signer.class);
+    final List<Boolean> results = transactionVerifier.verifyAll(Lists.newArrayList(
+      VerificationRequest.of(signer, mock(Payment.class)),
+      VerificationRequest.builder().signer(signer).unsignedTransaction(mock(Payment.class)).multiSigned(true).build()
+    ));
+    assertThat(results).containsExactly(true, true);
+    assertThat(verify1Called.get()).isTrue();
+    assertThat(verify2Called.get()).isTrue();
+  }
+
 }
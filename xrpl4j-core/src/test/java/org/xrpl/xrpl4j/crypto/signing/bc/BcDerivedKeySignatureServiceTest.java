@@ -60,6 +60,8 @@ import java.util.concurrent.ExecutionException;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
 import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
 
 /**
  * Unit tests for {@link BcDerivedKeySignatureService}.
@@ -105,6 +107,69 @@ class BcDerivedKeySignatureServiceTest {
     );
   }
 
+  @Test
+  void preloadDerivesEachKeyOnce() {
+    final PrivateKeyReference edKey = privateKeyReference("ed_key", KeyType.ED25519);
+    final PrivateKeyReference ecKey = privateKeyReference("ec_key", KeyType.SECP256K1);
+    derivedKeySignatureService.preload(Lists.newArrayList(edKey, ecKey));
+    assertThat(derivedKeySignatureService.cacheStats().loadSuccessCount()).isEqualTo(2);
+
+    derivedKeySignatureService.derivePublicKey(edKey);
+    derivedKeySignatureService.derivePublicKey(ecKey);
+    assertThat(derivedKeySignatureService.cacheStats().loadSuccessCount()).isEqualTo(2);
+    assertThat(derivedKeySignatureService.cacheStats().hitCount()).isEqualTo(2);
+
+    assertThrows(NullPointerException.class, () -> derivedKeySignatureService.preload(null));
+  }
+
+  @Test
+  void deriveAddressesMatchesSigners() {
+    final List<PrivateKeyReference> references = new ArrayList<>();
+    for (int i = 0; i < 40; i++) {
+      references.add(privateKeyReference("deposit_" + i, i % 2 == 0 ? KeyType.ED25519 : KeyType.SECP256K1));
+    }
+    final ExecutorService executor = Executors.newFixedThreadPool(4);
+    try {
+      final List<Address> addresses = derivedKeySignatureService.deriveAddresses(references, executor);
+      assertThat(addresses).hasSize(40).doesNotHaveDuplicates();
+      assertThat(derivedKeySignatureService.cacheStats().loadCount()).isZero();
+      for (int i = 0; i < references.size(); i++) {
+        assertThat(addresses.get(i))
+          .isEqualTo(derivedKeySignatureService.derivePublicKey(references.get(i)).deriveAddress());
+      }
+    } finally {
+      executor.shutdown();
+    }
+
+    assertThrows(NullPointerException.class, () -> derivedKeySignatureService.deriveAddresses(null, Runnable::run));
+    assertThrows(NullPointerException.class, () -> derivedKeySignatureService.deriveAddresses(references, null));
+  }
+
+  @Test
+  void signersAreRefreshedBeforeTheyExpire() {
+    final AtomicLong nanos = new AtomicLong();
+    final BcDerivedKeySignatureService service = new BcDerivedKeySignatureService(
+      () -> ServerSecret.of("happy".getBytes(StandardCharsets.UTF_8)),
+      CaffeineSpec.parse("expireAfterWrite=30s,refreshAfterWrite=20s,recordStats"),
+      nanos::get,
+      Runnable::run
+    );
+    final PrivateKeyReference edKey = privateKeyReference("ed_key", KeyType.ED25519);
+    final PublicKey publicKey = service.derivePublicKey(edKey);
+    assertThat(service.cacheStats().loadCount()).isEqualTo(1);
+
+    // Past the refresh interval, the cached signer is returned and a new one is derived in the background.
+    nanos.addAndGet(TimeUnit.SECONDS.toNanos(21));
+    assertThat(service.derivePublicKey(edKey)).isEqualTo(publicKey);
+    assertThat(service.cacheStats().loadCount()).isEqualTo(2);
+
+    // 36 seconds after the first derivation, the refreshed signer has not expired.
+    nanos.addAndGet(TimeUnit.SECONDS.toNanos(15));
+    assertThat(service.derivePublicKey(edKey)).isEqualTo(publicKey);
+    assertThat(service.cacheStats().loadCount()).isEqualTo(2);
+    assertThat(service.cacheStats().missCount()).isEqualTo(1);
+  }
+
   /**
    * Note: this test runs in a loop solely to exercise concurrent correctness.
    */
@@ -44,6 +44,7 @@ import org.xrpl.xrpl4j.codec.addresses.UnsignedByteArray;
 import org.xrpl.xrpl4j.crypto.keys.KeyPair;
 import org.xrpl.xrpl4j.crypto.keys.Passphrase;
 import org.xrpl.xrpl4j.crypto.keys.Seed;
+import org.xrpl.xrpl4j.crypto.signing.MultiSignPayload;
 import org.xrpl.xrpl4j.crypto.signing.Signature;
 import org.xrpl.xrpl4j.crypto.signing.SignatureUtils;
 import org.xrpl.xrpl4j.crypto.signing.SingleSignedTransaction;
@@ -53,6 +54,8 @@ import org.xrpl.xrpl4j.model.transactions.Signer;
 import org.xrpl.xrpl4j.model.transactions.Transaction;
 
 import java.math.BigInteger;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
 
 /**
  * Unit tests for {@link BcSignatureService}.
@@ -95,6 +98,7 @@ class BcSignatureServiceTest {
     when(signedTransactionMock.unsignedTransaction()).thenReturn(transactionMock);
     when(signatureUtilsMock.toSignableBytes(Mockito.<Transaction>any())).thenReturn(UnsignedByteArray.empty());
     when(signatureUtilsMock.toMultiSignableBytes(any(), any())).thenReturn(UnsignedByteArray.empty());
+    when(signatureUtilsMock.toMultiSignPayload(any())).thenReturn(MultiSignPayload.of(UnsignedByteArray.empty()));
     when(signatureUtilsMock.addSignatureToTransaction(Mockito.<AccountSet>any(), any())).thenReturn(
       signedTransactionMock);
 
@@ -130,6 +134,48 @@ class BcSignatureServiceTest {
     assertThrows(NullPointerException.class, () -> new BcSignatureService(null, ed25519SignerMock, ecdsaSignerMock));
     assertThrows(NullPointerException.class, () -> new BcSignatureService(signatureUtilsMock, null, ecdsaSignerMock));
     assertThrows(NullPointerException.class, () -> new BcSignatureService(signatureUtilsMock, ed25519SignerMock, null));
+
+    // Supplier Constructor
+    assertThrows(NullPointerException.class,
+      () -> new BcSignatureService(null, () -> ed25519SignerMock, () -> ecdsaSignerMock));
+    assertThrows(NullPointerException.class,
+      () -> new BcSignatureService(signatureUtilsMock, (Supplier<Ed25519Signer>) null, () -> ecdsaSignerMock));
+    assertThrows(NullPointerException.class,
+      () -> new BcSignatureService(signatureUtilsMock, () -> ed25519SignerMock, (Supplier<ECDSASigner>) null));
+    assertThrows(NullPointerException.class,
+      () -> new BcSignatureService(signatureUtilsMock, () -> ed25519SignerMock, () -> ecdsaSignerMock, null));
+  }
+
+  @Test
+  void signersAreSuppliedOncePerThread() throws InterruptedException {
+    final AtomicInteger ed25519SignerCount = new AtomicInteger();
+    final AtomicInteger ecdsaSignerCount = new AtomicInteger();
+    final BcSignatureService perThreadService = new BcSignatureService(
+      signatureUtilsMock,
+      () -> {
+        ed25519SignerCount.incrementAndGet();
+        return ed25519SignerMock;
+      },
+      () -> {
+        ecdsaSignerCount.incrementAndGet();
+        return ecdsaSignerMock;
+      }
+    );
+
+    perThreadService.edDsaSign(ed25519KeyPair.privateKey(), UnsignedByteArray.empty());
+    perThreadService.edDsaSign(ed25519KeyPair.privateKey(), UnsignedByteArray.empty());
+    perThreadService.ecDsaSign(secp256k1KeyPair.privateKey(), UnsignedByteArray.empty());
+    assertThat(ed25519SignerCount).hasValue(1);
+    assertThat(ecdsaSignerCount).hasValue(1);
+
+    final Thread otherThread = new Thread(() -> {
+      perThreadService.edDsaSign(ed25519KeyPair.privateKey(), UnsignedByteArray.empty());
+      perThreadService.ecDsaSign(secp256k1KeyPair.privateKey(), UnsignedByteArray.empty());
+    });
+    otherThread.start();
+    otherThread.join();
+    assertThat(ed25519SignerCount).hasValue(2);
+    assertThat(ecdsaSignerCount).hasValue(2);
   }
 
   ///////////////////
@@ -319,7 +365,7 @@ class BcSignatureServiceTest {
     verifyNoMoreInteractions(ed25519SignerMock);
     verifyNoMoreInteractions(secp256k1SignatureMock);
 
-    verify(signatureUtilsMock).toMultiSignableBytes(any(), any());
+    verify(signatureUtilsMock).toMultiSignPayload(any());
     verifyNoMoreInteractions(signatureUtilsMock);
   }
 
@@ -340,7 +386,7 @@ class BcSignatureServiceTest {
     assertThat(actual).isTrue();
     verify(ecdsaSignerMock).init(anyBoolean(), any());
     verify(ecdsaSignerMock).verifySignature(any(), any(), any());
-    verify(signatureUtilsMock).toMultiSignableBytes(any(), any());
+    verify(signatureUtilsMock).toMultiSignPayload(any());
 
     verify(secp256k1SignatureMock).value();
     verifyNoMoreInteractions(secp256k1SignatureMock);
@@ -468,4 +514,21 @@ class BcSignatureServiceTest {
     Mockito.verifyNoMoreInteractions(ed25519SignerMock);
   }
 
+  @Test
+  public void verifyUsesPublicKeyParametersCache() {
+    final PublicKeyParametersCache cache = new PublicKeyParametersCache();
+    final BcSignatureService cachingService = new BcSignatureService(
+      signatureUtilsMock, () -> ed25519SignerMock, () -> ecdsaSignerMock, cache
+    );
+    assertThat(cachingService.getPublicKeyParametersCache()).isSameAs(cache);
+
+    for (int i = 0; i < 3; i++) {
+      cachingService.edDsaVerify(ed25519KeyPair.publicKey(), UnsignedByteArray.empty(), ed25519SignatureMock);
+      cachingService.ecDsaVerify(secp256k1KeyPair.publicKey(), UnsignedByteArray.empty(), secp256k1SignatureMock);
+    }
+
+    assertThat(cache.stats().missCount()).isEqualTo(2);
+    assertThat(cache.stats().hitCount()).isEqualTo(4);
+  }
+
 }
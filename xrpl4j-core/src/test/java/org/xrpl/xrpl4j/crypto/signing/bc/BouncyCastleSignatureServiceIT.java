@@ -29,9 +29,18 @@ import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.xrpl.xrpl4j.crypto.keys.KeyPair;
 import org.xrpl.xrpl4j.crypto.keys.Passphrase;
+import org.xrpl.xrpl4j.crypto.keys.PrivateKey;
+import org.xrpl.xrpl4j.crypto.keys.PublicKey;
 import org.xrpl.xrpl4j.crypto.keys.Seed;
+import org.xrpl.xrpl4j.crypto.signing.KeyBoundSigner;
+import org.xrpl.xrpl4j.crypto.signing.MultiSignPayload;
 import org.xrpl.xrpl4j.crypto.signing.Signature;
+import org.xrpl.xrpl4j.crypto.signing.SignatureUtils;
 import org.xrpl.xrpl4j.crypto.signing.SingleSignedTransaction;
+import org.xrpl.xrpl4j.crypto.signing.TransactionSigner;
+import org.xrpl.xrpl4j.crypto.signing.VerificationRequest;
+import org.xrpl.xrpl4j.model.client.channels.UnsignedClaim;
+import org.xrpl.xrpl4j.model.transactions.Hash256;
 import org.xrpl.xrpl4j.model.transactions.Payment;
 import org.xrpl.xrpl4j.model.transactions.Signer;
 import org.xrpl.xrpl4j.model.transactions.Transaction;
@@ -159,6 +168,19 @@ class BouncyCastleSignatureServiceIT {
     assertThat(actual).isFalse();
   }
 
+  @Test
+  void multiSignPayloadMatchesMultiSign() {
+    final MultiSignPayload multiSignPayload = SignatureUtils.getInstance().toMultiSignPayload(payment);
+    for (KeyPair keyPair : new KeyPair[] {ed25519KeyPair, ed25519KeyPairOther, secp256k1KeyPair,
+      secp256k1KeyPairOther}) {
+      final Signature signature = signatureService.multiSign(keyPair.privateKey(), multiSignPayload);
+      assertThat(signature).isEqualTo(signatureService.multiSign(keyPair.privateKey(), payment));
+      assertThat(signatureService.verifyMultiSigned(Sets.newLinkedHashSet(
+        Signer.builder().transactionSignature(signature).signingPublicKey(keyPair.publicKey()).build()), payment, 1)
+      ).isTrue();
+    }
+  }
+
   @Test
   void signAndVerifyEdMultithreaded() {
     final Callable<Boolean> signedTxCallable = () -> {
@@ -246,6 +268,135 @@ class BouncyCastleSignatureServiceIT {
     this.multiThreadedHelper(signedTxCallable);
   }
 
+  @Test
+  void signaturesAreIdenticalAcrossThreads() {
+    // Both Ed25519 and RFC6979 ECDSA signatures are deterministic, so signatures produced concurrently on per-thread
+    // signers must match the ones produced on this thread.
+    final Signature expectedEd = signatureService.sign(ed25519KeyPair.privateKey(), payment).signature();
+    final Signature expectedEc = signatureService.sign(secp256k1KeyPair.privateKey(), payment).signature();
+
+    final Callable<Boolean> signedTxCallable = () ->
+      signatureService.sign(ed25519KeyPair.privateKey(), payment).signature().equals(expectedEd) &&
+        signatureService.sign(secp256k1KeyPair.privateKey(), payment).signature().equals(expectedEc);
+    this.multiThreadedHelper(signedTxCallable);
+  }
+
+  @Test
+  void defaultMultiSignPayloadMatchesMultiSign() {
+    // A TransactionSigner that only implements the abstract methods falls back to signing the decoded transaction.
+    final TransactionSigner<PrivateKey> minimalSigner = new TransactionSigner<PrivateKey>() {
+      @Override
+      public PublicKey derivePublicKey(final PrivateKey privateKey) {
+        return signatureService.derivePublicKey(privateKey);
+      }
+
+      @Override
+      public <T extends Transaction> SingleSignedTransaction<T> sign(final PrivateKey privateKey, final T transaction) {
+        return signatureService.sign(privateKey, transaction);
+      }
+
+      @Override
+      public Signature sign(final PrivateKey privateKey, final UnsignedClaim unsignedClaim) {
+        return signatureService.sign(privateKey, unsignedClaim);
+      }
+
+      @Override
+      public <T extends Transaction> Signature multiSign(final PrivateKey privateKey, final T transaction) {
+        return signatureService.multiSign(privateKey, transaction);
+      }
+    };
+
+    final MultiSignPayload multiSignPayload = SignatureUtils.getInstance().toMultiSignPayload(payment);
+    for (KeyPair keyPair : new KeyPair[] {ed25519KeyPair, secp256k1KeyPair}) {
+      assertThat(minimalSigner.multiSign(keyPair.privateKey(), multiSignPayload))
+        .isEqualTo(signatureService.multiSign(keyPair.privateKey(), multiSignPayload));
+    }
+  }
+
+  @Test
+  void verifyAll() {
+    final Signature edSignature = signatureService.sign(ed25519KeyPair.privateKey(), payment).signature();
+    final Signature ecSignature = signatureService.sign(secp256k1KeyPair.privateKey(), payment).signature();
+    final Signature edMultiSignature = signatureService.multiSign(ed25519KeyPair.privateKey(), payment);
+
+    final List<VerificationRequest> requests = new ArrayList<>();
+    final List<Boolean> expected = new ArrayList<>();
+    for (int i = 0; i < 200; i++) {
+      final boolean valid = i % 4 != 3;
+      switch (i % 3) {
+        case 0: {
+          requests.add(VerificationRequest.of(Signer.builder().transactionSignature(edSignature)
+            .signingPublicKey(valid ? ed25519KeyPair.publicKey() : ed25519KeyPairOther.publicKey()).build(), payment));
+          break;
+        }
+        case 1: {
+          requests.add(VerificationRequest.of(Signer.builder().transactionSignature(ecSignature)
+            .signingPublicKey(valid ? secp256k1KeyPair.publicKey() : secp256k1KeyPairOther.publicKey()).build(),
+            payment));
+          break;
+        }
+        default: {
+          requests.add(VerificationRequest.builder()
+            .signer(Signer.builder().transactionSignature(valid ? edMultiSignature : edSignature)
+              .signingPublicKey(ed25519KeyPair.publicKey()).build())
+            .unsignedTransaction(payment)
+            .multiSigned(true)
+            .build());
+        }
+      }
+      expected.add(valid);
+    }
+
+    final ExecutorService pool = Executors.newFixedThreadPool(4);
+    try {
+      assertThat(signatureService.verifyAll(requests, pool)).isEqualTo(expected);
+    } finally {
+      pool.shutdown();
+    }
+    assertThat(signatureService.verifyAll(requests)).isEqualTo(expected);
+  }
+
+  @Test
+  void keyBoundSignerMatchesServiceEd() {
+    assertKeyBoundSignerMatchesService(ed25519KeyPair);
+  }
+
+  @Test
+  void keyBoundSignerMatchesServiceEc() {
+    assertKeyBoundSignerMatchesService(secp256k1KeyPair);
+  }
+
+  @Test
+  void keyBoundSignerMultithreaded() {
+    final KeyBoundSigner edSigner = signatureService.keyBoundSigner(ed25519KeyPair.privateKey());
+    final KeyBoundSigner ecSigner = signatureService.keyBoundSigner(secp256k1KeyPair.privateKey());
+    final Signature expectedEd = signatureService.sign(ed25519KeyPair.privateKey(), payment).signature();
+    final Signature expectedEc = signatureService.sign(secp256k1KeyPair.privateKey(), payment).signature();
+
+    final Callable<Boolean> signedTxCallable = () ->
+      edSigner.sign(payment).signature().equals(expectedEd) && ecSigner.sign(payment).signature().equals(expectedEc);
+    this.multiThreadedHelper(signedTxCallable);
+  }
+
+  private void assertKeyBoundSignerMatchesService(final KeyPair keyPair) {
+    final KeyBoundSigner keyBoundSigner = signatureService.keyBoundSigner(keyPair.privateKey());
+    assertThat(keyBoundSigner.publicKey()).isEqualTo(keyPair.publicKey());
+    assertThat(keyBoundSigner.address()).isEqualTo(keyPair.publicKey().deriveAddress());
+
+    final Payment unsigned = Payment.builder().from(payment).signingPublicKey(keyPair.publicKey()).build();
+    assertThat(keyBoundSigner.sign(unsigned)).isEqualTo(signatureService.sign(keyPair.privateKey(), unsigned));
+    assertThat(keyBoundSigner.multiSign(payment)).isEqualTo(signatureService.multiSign(keyPair.privateKey(), payment));
+    assertThat(keyBoundSigner.multiSign(SignatureUtils.getInstance().toMultiSignPayload(payment)))
+      .isEqualTo(signatureService.multiSign(keyPair.privateKey(), payment));
+
+    final UnsignedClaim unsignedClaim = UnsignedClaim.builder()
+      .amount(XrpCurrencyAmount.ofDrops(100))
+      .channel(Hash256.of("ABCDABCDABCDABCDABCDABCDABCDABCDABCDABCDABCDABCDABCDABCDABCDABCD"))
+      .build();
+    final Signature claimSignature = keyBoundSigner.sign(unsignedClaim);
+    assertThat(claimSignature).isEqualTo(signatureService.sign(keyPair.privateKey(), unsignedClaim));
+  }
+
   /**
    * Helper method to execute the same callable in parallel.
    *
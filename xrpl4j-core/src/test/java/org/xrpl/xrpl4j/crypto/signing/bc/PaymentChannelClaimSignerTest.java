@@ -0,0 +1,113 @@
+package org.xrpl.xrpl4j.crypto.signing.bc;
+
+/*-
+ * ========================LICENSE_START=================================
+ * xrpl4j :: core
+ * %%
+ * Copyright (C) 2020 - 2023 XRPL Foundation and its contributors
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * =========================LICENSE_END==================================
+ */
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.xrpl.xrpl4j.crypto.keys.KeyPair;
+import org.xrpl.xrpl4j.crypto.keys.Passphrase;
+import org.xrpl.xrpl4j.crypto.keys.Seed;
+import org.xrpl.xrpl4j.crypto.signing.SignatureUtils;
+import org.xrpl.xrpl4j.model.client.channels.UnsignedClaim;
+import org.xrpl.xrpl4j.model.transactions.Hash256;
+import org.xrpl.xrpl4j.model.transactions.XrpCurrencyAmount;
+
+/**
+ * Unit tests for {@link PaymentChannelClaimSigner}.
+ */
+class PaymentChannelClaimSignerTest {
+
+  private static final Hash256 CHANNEL =
+    Hash256.of("5DB01B7FFED6B67E6B0414DED11E051D2EE2B7619CE0EAA6286D67A3A4D5BDB3");
+
+  private BcSignatureService signatureService;
+  private KeyPair ed25519KeyPair;
+  private KeyPair secp256k1KeyPair;
+
+  @BeforeEach
+  void setUp() {
+    signatureService = new BcSignatureService();
+    ed25519KeyPair = Seed.ed25519SeedFromPassphrase(Passphrase.of("hello")).deriveKeyPair();
+    secp256k1KeyPair = Seed.secp256k1SeedFromPassphrase(Passphrase.of("hello")).deriveKeyPair();
+  }
+
+  @Test
+  void signableBytesMatchSignatureUtils() {
+    final byte[] claimTemplate = PaymentChannelClaimSigner.claimTemplate(
+      Hash256.of(CHANNEL.value().toLowerCase())
+    );
+    for (long drops : new long[] {0, 1, 1_000_000, 100_000_000_000_000_000L}) {
+      final UnsignedClaim unsignedClaim = UnsignedClaim.builder()
+        .channel(CHANNEL)
+        .amount(XrpCurrencyAmount.ofDrops(drops))
+        .build();
+      assertThat(PaymentChannelClaimSigner.toSignableBytes(claimTemplate, unsignedClaim.amount()))
+        .isEqualTo(SignatureUtils.getInstance().toSignableBytes(unsignedClaim));
+    }
+  }
+
+  @Test
+  void signaturesMatchSignatureService() {
+    for (KeyPair keyPair : new KeyPair[] {ed25519KeyPair, secp256k1KeyPair}) {
+      final PaymentChannelClaimSigner claimSigner =
+        signatureService.paymentChannelClaimSigner(keyPair.privateKey(), CHANNEL);
+      assertThat(claimSigner.channel()).isEqualTo(CHANNEL);
+      assertThat(claimSigner.publicKey()).isEqualTo(keyPair.publicKey());
+
+      for (long drops = 1; drops <= 1_000_000; drops *= 10) {
+        final UnsignedClaim unsignedClaim = UnsignedClaim.builder()
+          .channel(CHANNEL)
+          .amount(XrpCurrencyAmount.ofDrops(drops))
+          .build();
+        assertThat(claimSigner.sign(unsignedClaim.amount()))
+          .isEqualTo(signatureService.sign(keyPair.privateKey(), unsignedClaim));
+        assertThat(claimSigner.sign(unsignedClaim)).isEqualTo(claimSigner.sign(unsignedClaim.amount()));
+      }
+    }
+  }
+
+  @Test
+  void signRejectsOtherChannels() {
+    final PaymentChannelClaimSigner claimSigner =
+      signatureService.paymentChannelClaimSigner(ed25519KeyPair.privateKey(), CHANNEL);
+    final UnsignedClaim unsignedClaim = UnsignedClaim.builder()
+      .channel(Hash256.of("0000000000000000000000000000000000000000000000000000000000000001"))
+      .amount(XrpCurrencyAmount.ofDrops(1))
+      .build();
+
+    assertThrows(IllegalArgumentException.class, () -> claimSigner.sign(unsignedClaim));
+  }
+
+  @Test
+  void nulls() {
+    assertThrows(NullPointerException.class, () -> signatureService.paymentChannelClaimSigner(null, CHANNEL));
+    assertThrows(
+      NullPointerException.class, () -> signatureService.paymentChannelClaimSigner(ed25519KeyPair.privateKey(), null)
+    );
+    final PaymentChannelClaimSigner claimSigner =
+      signatureService.paymentChannelClaimSigner(ed25519KeyPair.privateKey(), CHANNEL);
+    assertThrows(NullPointerException.class, () -> claimSigner.sign((XrpCurrencyAmount) null));
+    assertThrows(NullPointerException.class, () -> claimSigner.sign((UnsignedClaim) null));
+  }
+}
@@ -0,0 +1,179 @@
+package org.xrpl.xrpl4j.crypto.signing.bc;
+
+/*-
+ * ========================LICENSE_START=================================
+ * xrpl4j :: core
+ * %%
+ * Copyright (C) 2020 - 2023 XRPL Foundation and its contributors
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * =========================LICENSE_END==================================
+ */
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.xrpl.xrpl4j.crypto.keys.KeyPair;
+import org.xrpl.xrpl4j.crypto.keys.Passphrase;
+import org.xrpl.xrpl4j.crypto.keys.Seed;
+import org.xrpl.xrpl4j.crypto.signing.Signature;
+import org.xrpl.xrpl4j.model.client.channels.UnsignedClaim;
+import org.xrpl.xrpl4j.model.transactions.Hash256;
+import org.xrpl.xrpl4j.model.transactions.XrpCurrencyAmount;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+/**
+ * Unit tests for {@link PaymentChannelClaimVerifier}.
+ */
+class PaymentChannelClaimVerifierTest {
+
+  private static final Hash256 CHANNEL =
+    Hash256.of("5DB01B7FFED6B67E6B0414DED11E051D2EE2B7619CE0EAA6286D67A3A4D5BDB3");
+
+  private BcSignatureService signatureService;
+  private KeyPair ed25519KeyPair;
+  private KeyPair secp256k1KeyPair;
+  private PaymentChannelClaimVerifier claimVerifier;
+
+  @BeforeEach
+  void setUp() {
+    signatureService = new BcSignatureService();
+    ed25519KeyPair = Seed.ed25519SeedFromPassphrase(Passphrase.of("hello")).deriveKeyPair();
+    secp256k1KeyPair = Seed.secp256k1SeedFromPassphrase(Passphrase.of("hello")).deriveKeyPair();
+    claimVerifier = signatureService.paymentChannelClaimVerifier();
+  }
+
+  @Test
+  void verify() {
+    for (KeyPair keyPair : new KeyPair[] {ed25519KeyPair, secp256k1KeyPair}) {
+      claimVerifier.unregisterChannel(CHANNEL);
+      claimVerifier.registerChannel(CHANNEL, keyPair.publicKey());
+      final UnsignedClaim claim = claim(100);
+      final Signature signature = signatureService.sign(keyPair.privateKey(), claim);
+
+      assertThat(claimVerifier.verify(claim, signature)).isTrue();
+      assertThat(claimVerifier.verify(claim(101), signature)).isFalse();
+      // verify() never changes the accepted amount.
+      assertThat(claimVerifier.verify(claim, signature)).isTrue();
+      assertThat(claimVerifier.highestAcceptedAmount(CHANNEL)).isEmpty();
+    }
+  }
+
+  @Test
+  void verifyAndAcceptIsMonotonic() {
+    claimVerifier.registerChannel(CHANNEL, ed25519KeyPair.publicKey());
+
+    assertThat(accept(ed25519KeyPair, 100)).isTrue();
+    assertThat(claimVerifier.highestAcceptedAmount(CHANNEL)).hasValue(XrpCurrencyAmount.ofDrops(100));
+    // Replays and lower amounts are rejected.
+    assertThat(accept(ed25519KeyPair, 100)).isFalse();
+    assertThat(accept(ed25519KeyPair, 50)).isFalse();
+    assertThat(accept(ed25519KeyPair, 150)).isTrue();
+    assertThat(claimVerifier.highestAcceptedAmount(CHANNEL)).hasValue(XrpCurrencyAmount.ofDrops(150));
+  }
+
+  @Test
+  void verifyAndAcceptRejectsInvalidSignatures() {
+    claimVerifier.registerChannel(CHANNEL, ed25519KeyPair.publicKey());
+
+    final UnsignedClaim claim = claim(100);
+    final Signature wrongKeySignature = signatureService.sign(secp256k1KeyPair.privateKey(), claim);
+    assertThat(claimVerifier.verifyAndAccept(claim, wrongKeySignature)).isFalse();
+    assertThat(claimVerifier.highestAcceptedAmount(CHANNEL)).isEmpty();
+
+    final Signature otherAmountSignature = signatureService.sign(ed25519KeyPair.privateKey(), claim(99));
+    assertThat(claimVerifier.verifyAndAccept(claim, otherAmountSignature)).isFalse();
+    assertThat(claimVerifier.highestAcceptedAmount(CHANNEL)).isEmpty();
+  }
+
+  @Test
+  void verifyAndAcceptConcurrently() throws InterruptedException, ExecutionException {
+    claimVerifier.registerChannel(CHANNEL, secp256k1KeyPair.publicKey());
+    final PaymentChannelClaimSigner claimSigner =
+      signatureService.paymentChannelClaimSigner(secp256k1KeyPair.privateKey(), CHANNEL);
+    final Signature signature = claimSigner.sign(XrpCurrencyAmount.ofDrops(1_000));
+
+    // Many threads presenting the same claim: exactly one of them is accepted.
+    final ExecutorService pool = Executors.newFixedThreadPool(4);
+    try {
+      final List<Future<Boolean>> results = new ArrayList<>();
+      for (int i = 0; i < 20; i++) {
+        results.add(pool.submit(() -> claimVerifier.verifyAndAccept(claim(1_000), signature)));
+      }
+      int accepted = 0;
+      for (Future<Boolean> result : results) {
+        accepted += result.get() ? 1 : 0;
+      }
+      assertThat(accepted).isEqualTo(1);
+    } finally {
+      pool.shutdown();
+    }
+  }
+
+  @Test
+  void registerChannel() {
+    claimVerifier.registerChannel(CHANNEL, ed25519KeyPair.publicKey());
+    claimVerifier.registerChannel(CHANNEL, ed25519KeyPair.publicKey());
+    assertThrows(
+      IllegalArgumentException.class, () -> claimVerifier.registerChannel(CHANNEL, secp256k1KeyPair.publicKey())
+    );
+
+    claimVerifier.unregisterChannel(CHANNEL);
+    assertThrows(IllegalArgumentException.class, () -> claimVerifier.verify(claim(1), signatureService.sign(
+      ed25519KeyPair.privateKey(), claim(1)
+    )));
+    assertThat(claimVerifier.highestAcceptedAmount(CHANNEL)).isEmpty();
+  }
+
+  @Test
+  void registerChannelWithAlreadyAcceptedAmount() {
+    claimVerifier.registerChannel(CHANNEL, ed25519KeyPair.publicKey(), XrpCurrencyAmount.ofDrops(100));
+    assertThat(claimVerifier.highestAcceptedAmount(CHANNEL)).hasValue(XrpCurrencyAmount.ofDrops(100));
+    assertThat(accept(ed25519KeyPair, 100)).isFalse();
+    assertThat(accept(ed25519KeyPair, 150)).isTrue();
+
+    // Registering again only ever raises the accepted amount.
+    claimVerifier.registerChannel(CHANNEL, ed25519KeyPair.publicKey(), XrpCurrencyAmount.ofDrops(120));
+    claimVerifier.registerChannel(CHANNEL, ed25519KeyPair.publicKey());
+    assertThat(claimVerifier.highestAcceptedAmount(CHANNEL)).hasValue(XrpCurrencyAmount.ofDrops(150));
+    claimVerifier.registerChannel(CHANNEL, ed25519KeyPair.publicKey(), XrpCurrencyAmount.ofDrops(200));
+    assertThat(claimVerifier.highestAcceptedAmount(CHANNEL)).hasValue(XrpCurrencyAmount.ofDrops(200));
+    assertThat(accept(ed25519KeyPair, 150)).isFalse();
+
+    // After unregistering, the caller re-seeds the amount it persisted.
+    claimVerifier.unregisterChannel(CHANNEL);
+    claimVerifier.registerChannel(CHANNEL, ed25519KeyPair.publicKey(), XrpCurrencyAmount.ofDrops(200));
+    assertThat(accept(ed25519KeyPair, 200)).isFalse();
+    assertThat(accept(ed25519KeyPair, 201)).isTrue();
+  }
+
+  private boolean accept(final KeyPair keyPair, final long drops) {
+    final UnsignedClaim claim = claim(drops);
+    return claimVerifier.verifyAndAccept(claim, signatureService.sign(keyPair.privateKey(), claim));
+  }
+
+  private UnsignedClaim claim(final long drops) {
+    return UnsignedClaim.builder()
+      .channel(CHANNEL)
+      .amount(XrpCurrencyAmount.ofDrops(drops))
+      .build();
+  }
+}
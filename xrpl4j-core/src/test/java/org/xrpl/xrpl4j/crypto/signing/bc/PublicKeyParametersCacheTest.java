@@ -0,0 +1,121 @@
+package org.xrpl.xrpl4j.crypto.signing.bc;
+
+/*-
+ * ========================LICENSE_START=================================
+ * xrpl4j :: core
+ * %%
+ * Copyright (C) 2020 - 2023 XRPL Foundation and its contributors
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * =========================LICENSE_END==================================
+ */
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import org.bouncycastle.crypto.params.ECPublicKeyParameters;
+import org.bouncycastle.crypto.params.Ed25519PublicKeyParameters;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.xrpl.xrpl4j.crypto.keys.Passphrase;
+import org.xrpl.xrpl4j.crypto.keys.PublicKey;
+import org.xrpl.xrpl4j.crypto.keys.Seed;
+import org.xrpl.xrpl4j.crypto.keys.bc.BcKeyUtils;
+
+/**
+ * Unit tests for {@link PublicKeyParametersCache}.
+ */
+class PublicKeyParametersCacheTest {
+
+  private PublicKey ed25519PublicKey;
+  private PublicKey secp256k1PublicKey;
+
+  @BeforeEach
+  void setUp() {
+    ed25519PublicKey = Seed.ed25519SeedFromPassphrase(Passphrase.of("hello")).deriveKeyPair().publicKey();
+    secp256k1PublicKey = Seed.secp256k1SeedFromPassphrase(Passphrase.of("hello")).deriveKeyPair().publicKey();
+  }
+
+  @Test
+  void constructorWithNegativeSize() {
+    assertThrows(IllegalArgumentException.class, () -> new PublicKeyParametersCache(-1));
+  }
+
+  @Test
+  void nullKeys() {
+    PublicKeyParametersCache cache = new PublicKeyParametersCache();
+    assertThrows(NullPointerException.class, () -> cache.ed25519PublicKeyParameters(null));
+    assertThrows(NullPointerException.class, () -> cache.ecPublicKeyParameters(null));
+  }
+
+  @Test
+  void wrongKeyType() {
+    PublicKeyParametersCache cache = new PublicKeyParametersCache();
+    assertThrows(IllegalArgumentException.class, () -> cache.ed25519PublicKeyParameters(secp256k1PublicKey));
+    assertThrows(IllegalArgumentException.class, () -> cache.ecPublicKeyParameters(ed25519PublicKey));
+    assertThat(cache.estimatedSize()).isZero();
+  }
+
+  @Test
+  void ed25519ParametersAreCached() {
+    PublicKeyParametersCache cache = new PublicKeyParametersCache();
+    Ed25519PublicKeyParameters first = cache.ed25519PublicKeyParameters(ed25519PublicKey);
+    Ed25519PublicKeyParameters second = cache.ed25519PublicKeyParameters(ed25519PublicKey);
+
+    assertThat(second).isSameAs(first);
+    assertThat(first.getEncoded())
+      .isEqualTo(BcKeyUtils.toEd25519PublicKeyParameters(ed25519PublicKey).getEncoded());
+    assertThat(cache.stats().hitCount()).isEqualTo(1);
+    assertThat(cache.stats().missCount()).isEqualTo(1);
+  }
+
+  @Test
+  void ecParametersAreCached() {
+    PublicKeyParametersCache cache = new PublicKeyParametersCache();
+    ECPublicKeyParameters first = cache.ecPublicKeyParameters(secp256k1PublicKey);
+    ECPublicKeyParameters second = cache.ecPublicKeyParameters(secp256k1PublicKey);
+
+    assertThat(second).isSameAs(first);
+    assertThat(first.getQ()).isEqualTo(BcKeyUtils.toEcPublicKeyParameters(secp256k1PublicKey).getQ());
+    assertThat(cache.stats().hitCount()).isEqualTo(1);
+    assertThat(cache.stats().missCount()).isEqualTo(1);
+  }
+
+  @Test
+  void statsCoverBothKeyTypes() {
+    PublicKeyParametersCache cache = new PublicKeyParametersCache();
+    for (int i = 0; i < 4; i++) {
+      cache.ed25519PublicKeyParameters(ed25519PublicKey);
+      cache.ecPublicKeyParameters(secp256k1PublicKey);
+    }
+
+    assertThat(cache.estimatedSize()).isEqualTo(2);
+    assertThat(cache.stats().requestCount()).isEqualTo(8);
+    assertThat(cache.stats().hitRate()).isEqualTo(0.75);
+
+    cache.invalidateAll();
+    assertThat(cache.estimatedSize()).isZero();
+    cache.ecPublicKeyParameters(secp256k1PublicKey);
+    assertThat(cache.stats().missCount()).isEqualTo(3);
+  }
+
+  @Test
+  void zeroSizeDisablesCaching() {
+    PublicKeyParametersCache cache = new PublicKeyParametersCache(0);
+    ECPublicKeyParameters first = cache.ecPublicKeyParameters(secp256k1PublicKey);
+    ECPublicKeyParameters second = cache.ecPublicKeyParameters(secp256k1PublicKey);
+
+    assertThat(second.getQ()).isEqualTo(first.getQ());
+    assertThat(cache.stats().hitCount()).isZero();
+  }
+}
@@ -0,0 +1,134 @@
+package org.xrpl.xrpl4j.crypto.signing.bc;
+
+/*-
+ * ========================LICENSE_START=================================
+ * xrpl4j :: core
+ * %%
+ * Copyright (C) 2020 - 2023 XRPL Foundation and its contributors
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * =========================LICENSE_END==================================
+ */
+
+import com.google.common.primitives.UnsignedInteger;
+import org.xrpl.xrpl4j.crypto.keys.KeyPair;
+import org.xrpl.xrpl4j.crypto.keys.Passphrase;
+import org.xrpl.xrpl4j.crypto.keys.Seed;
+import org.xrpl.xrpl4j.crypto.signing.SingleSignedTransaction;
+import org.xrpl.xrpl4j.model.transactions.Payment;
+import org.xrpl.xrpl4j.model.transactions.Signer;
+import org.xrpl.xrpl4j.model.transactions.XrpCurrencyAmount;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * A simple, multi-threaded throughput benchmark for a single shared {@link BcSignatureService}. It is not run as part
+ * of the test suite; run {@link #main(String[])} from the test classpath to see how sign-and-verify throughput scales
+ * with the number of threads, e.g.
+ *
+ * <pre>
+ *   java -cp target/classes:target/test-classes:$(dependency classpath) \
+ *     org.xrpl.xrpl4j.crypto.signing.bc.SignatureServiceThroughputBenchmark 5
+ * </pre>
+ *
+ * <p>The optional argument is the number of seconds to measure each thread count for (default 3). With per-thread
+ * signers the speedup should track the number of available processors.</p>
+ */
+public class SignatureServiceThroughputBenchmark {
+
+  /**
+   * Run the benchmark for 1, 2, 4, ... up to the number of available processors, for both key types.
+   *
+   * @param args An optional number of seconds to measure each thread count for.
+   *
+   * @throws InterruptedException if interrupted while waiting for worker threads.
+   */
+  public static void main(String[] args) throws InterruptedException {
+    final long seconds = args.length > 0 ? Long.parseLong(args[0]) : 3;
+    final int processors = Runtime.getRuntime().availableProcessors();
+    final BcSignatureService signatureService = new BcSignatureService();
+
+    final KeyPair[] keyPairs = {
+      Seed.ed25519SeedFromPassphrase(Passphrase.of("benchmark")).deriveKeyPair(),
+      Seed.secp256k1SeedFromPassphrase(Passphrase.of("benchmark")).deriveKeyPair()
+    };
+    for (KeyPair keyPair : keyPairs) {
+      final Payment payment = Payment.builder()
+        .account(keyPair.publicKey().deriveAddress())
+        .fee(XrpCurrencyAmount.ofDrops(10))
+        .sequence(UnsignedInteger.ONE)
+        .destination(keyPair.publicKey().deriveAddress())
+        .amount(XrpCurrencyAmount.ofDrops(12345))
+        .signingPublicKey(keyPair.publicKey())
+        .build();
+
+      // Warm up the JIT before measuring.
+      run(1, 1, signatureService, keyPair, payment);
+
+      double singleThreaded = 0;
+      for (int threads = 1; threads <= processors; threads *= 2) {
+        final double opsPerSecond = run(threads, seconds, signatureService, keyPair, payment);
+        if (threads == 1) {
+          singleThreaded = opsPerSecond;
+        }
+        System.out.printf("%s threads=%-3d ops/s=%,10.0f speedup=%.2fx%n", keyPair.publicKey().keyType(), threads,
+          opsPerSecond, opsPerSecond / singleThreaded);
+      }
+    }
+  }
+
+  private static double run(
+    final int threads,
+    final long seconds,
+    final BcSignatureService signatureService,
+    final KeyPair keyPair,
+    final Payment payment
+  ) throws InterruptedException {
+    final LongAdder operations = new LongAdder();
+    final CountDownLatch start = new CountDownLatch(1);
+    final long deadline = TimeUnit.SECONDS.toNanos(seconds);
+    final ExecutorService executor = Executors.newFixedThreadPool(threads);
+    final long[] startTime = new long[1];
+    for (int thread = 0; thread < threads; thread++) {
+      executor.execute(() -> {
+        try {
+          start.await();
+        } catch (InterruptedException e) {
+          Thread.currentThread().interrupt();
+          return;
+        }
+        while (System.nanoTime() - startTime[0] < deadline) {
+          final SingleSignedTransaction<Payment> signed = signatureService.sign(keyPair.privateKey(), payment);
+          final boolean valid = signatureService.verify(
+            Signer.builder().transactionSignature(signed.signature()).signingPublicKey(keyPair.publicKey()).build(),
+            payment
+          );
+          if (!valid) {
+            throw new IllegalStateException("Signature did not verify");
+          }
+          operations.add(2);
+        }
+      });
+    }
+    startTime[0] = System.nanoTime();
+    start.countDown();
+    executor.shutdown();
+    executor.awaitTermination(seconds + 30, TimeUnit.SECONDS);
+    final long elapsed = System.nanoTime() - startTime[0];
+    return operations.sum() / (elapsed / 1e9);
+  }
+}
@@ -0,0 +1,77 @@
+package org.xrpl.xrpl4j.model.client.subscriptions;
+
+/*-
+ * ========================LICENSE_START=================================
+ * xrpl4j :: model
+ * %%
+ * Copyright (C) 2020 - 2022 XRPL Foundation and its contributors
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * =========================LICENSE_END==================================
+ */
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.google.common.collect.Range;
+import com.google.common.primitives.UnsignedInteger;
+import com.google.common.primitives.UnsignedLong;
+import org.json.JSONException;
+import org.junit.jupiter.api.Test;
+import org.skyscreamer.jsonassert.JSONAssert;
+import org.skyscreamer.jsonassert.JSONCompareMode;
+import org.xrpl.xrpl4j.model.AbstractJsonTest;
+import org.xrpl.xrpl4j.model.client.common.LedgerIndex;
+import org.xrpl.xrpl4j.model.transactions.Hash256;
+
+public class LedgerClosedMessageJsonTests extends AbstractJsonTest {
+
+  @Test
+  public void testJson() throws JsonProcessingException, JSONException {
+    LedgerClosedMessage message = LedgerClosedMessage.builder()
+      .feeBase(UnsignedLong.valueOf(10))
+      .feeReference(UnsignedLong.valueOf(10))
+      .ledgerHash(Hash256.of("687F604EF6B2F67319E8DCC8C66EF49D84D18A1E18F948421FC24D2C7C3DB464"))
+      .ledgerIndex(LedgerIndex.of(UnsignedInteger.valueOf(7125358)))
+      .ledgerTime(UnsignedLong.valueOf(455751310))
+      .reserveBase(UnsignedLong.valueOf(20000000))
+      .reserveIncrement(UnsignedLong.valueOf(5000000))
+      .transactionCount(UnsignedInteger.valueOf(7))
+      .validatedLedgers("32570-7125358")
+      .build();
+
+    String json = "{\n" +
+      "  \"fee_base\": 10,\n" +
+      "  \"fee_ref\": 10,\n" +
+      "  \"ledger_hash\": \"687F604EF6B2F67319E8DCC8C66EF49D84D18A1E18F948421FC24D2C7C3DB464\",\n" +
+      "  \"ledger_index\": 7125358,\n" +
+      "  \"ledger_time\": 455751310,\n" +
+      "  \"reserve_base\": 20000000,\n" +
+      "  \"reserve_inc\": 5000000,\n" +
+      "  \"txn_count\": 7,\n" +
+      "  \"validated_ledgers\": \"32570-7125358\"\n" +
+      "}";
+
+    String serialized = objectMapper.writeValueAsString(message);
+    JSONAssert.assertEquals(json, serialized, JSONCompareMode.STRICT);
+    assertThat(objectMapper.readValue(serialized, LedgerClosedMessage.class)).isEqualTo(message);
+
+    // Stream messages also carry a type, which is ignored.
+    String streamMessage = "{\"type\": \"ledgerClosed\"," + json.substring(1);
+    assertThat(objectMapper.readValue(streamMessage, LedgerClosedMessage.class)).isEqualTo(message);
+
+    assertThat(message.validatedLedgerRanges())
+      .containsExactly(Range.closed(UnsignedLong.valueOf(32570), UnsignedLong.valueOf(7125358)));
+    assertThat(message.ledgerTimeHuman().getYear()).isEqualTo(2014);
+  }
+}
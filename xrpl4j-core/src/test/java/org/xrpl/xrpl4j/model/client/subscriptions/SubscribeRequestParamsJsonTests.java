@@ -0,0 +1,89 @@
+package org.xrpl.xrpl4j.model.client.subscriptions;
+
+/*-
+ * ========================LICENSE_START=================================
+ * xrpl4j :: model
+ * %%
+ * Copyright (C) 2020 - 2022 XRPL Foundation and its contributors
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * =========================LICENSE_END==================================
+ */
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import org.json.JSONException;
+import org.junit.jupiter.api.Test;
+import org.xrpl.xrpl4j.model.AbstractJsonTest;
+import org.xrpl.xrpl4j.model.client.path.PathCurrency;
+import org.xrpl.xrpl4j.model.transactions.Address;
+
+public class SubscribeRequestParamsJsonTests extends AbstractJsonTest {
+
+  @Test
+  public void testJson() throws JsonProcessingException, JSONException {
+    SubscribeRequestParams params = SubscribeRequestParams.builder()
+      .addStreams(StreamType.LEDGER, StreamType.TRANSACTIONS)
+      .addAccounts(Address.of("rrpNnNLKrartuEqfJGpqyDwPj1AFPg9vn1"))
+      .addBooks(OrderBook.builder()
+        .takerGets(PathCurrency.of("XRP"))
+        .takerPays(PathCurrency.builder()
+          .currency("USD")
+          .issuer(Address.of("rUQTpMqAF5jhykj4FExVeXakrZpiKF6cQV"))
+          .build())
+        .taker(Address.of("rUQTpMqAF5jhykj4FExVeXakrZpiKF6cQV"))
+        .snapshot(true)
+        .build())
+      .build();
+
+    String json = "{\n" +
+      "  \"streams\": [\"ledger\", \"transactions\"],\n" +
+      "  \"accounts\": [\"rrpNnNLKrartuEqfJGpqyDwPj1AFPg9vn1\"],\n" +
+      "  \"books\": [\n" +
+      "    {\n" +
+      "      \"taker_pays\": {\n" +
+      "        \"currency\": \"USD\",\n" +
+      "        \"issuer\": \"rUQTpMqAF5jhykj4FExVeXakrZpiKF6cQV\"\n" +
+      "      },\n" +
+      "      \"taker_gets\": {\n" +
+      "        \"currency\": \"XRP\"\n" +
+      "      },\n" +
+      "      \"taker\": \"rUQTpMqAF5jhykj4FExVeXakrZpiKF6cQV\",\n" +
+      "      \"snapshot\": true,\n" +
+      "      \"both\": false\n" +
+      "    }\n" +
+      "  ]\n" +
+      "}";
+
+    assertCanSerializeAndDeserialize(params, json);
+  }
+
+  @Test
+  public void testJsonWithOnlyStreams() throws JsonProcessingException, JSONException {
+    SubscribeRequestParams params = SubscribeRequestParams.builder()
+      .addStreams(StreamType.LEDGER)
+      .build();
+
+    assertCanSerializeAndDeserialize(params, "{\"streams\": [\"ledger\"]}");
+  }
+
+  @Test
+  public void streamTypeForValue() {
+    for (StreamType streamType : StreamType.values()) {
+      assertThat(StreamType.forValue(streamType.value())).isEqualTo(streamType);
+    }
+    assertThrows(IllegalArgumentException.class, () -> StreamType.forValue("foo"));
+  }
+}
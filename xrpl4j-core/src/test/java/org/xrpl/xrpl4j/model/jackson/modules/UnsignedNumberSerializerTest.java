@@ -0,0 +1,58 @@
+package org.xrpl.xrpl4j.model.jackson.modules;
+
+/*-
+ * ========================LICENSE_START=================================
+ * xrpl4j :: core
+ * %%
+ * Copyright (C) 2020 - 2023 XRPL Foundation and its contributors
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * =========================LICENSE_END==================================
+ */
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.google.common.primitives.UnsignedInteger;
+import com.google.common.primitives.UnsignedLong;
+import org.junit.jupiter.api.Test;
+import org.xrpl.xrpl4j.model.jackson.ObjectMapperFactory;
+
+/**
+ * Unit tests for {@link UnsignedIntegerSerializer} and {@link UnsignedLongSerializer}.
+ */
+class UnsignedNumberSerializerTest {
+
+  private final ObjectMapper objectMapper = ObjectMapperFactory.create();
+
+  @Test
+  void serializeUnsignedInteger() throws JsonProcessingException {
+    assertThat(objectMapper.writeValueAsString(UnsignedInteger.MAX_VALUE)).isEqualTo("4294967295");
+
+    JsonNode node = objectMapper.valueToTree(UnsignedInteger.ONE);
+    assertThat(node.isIntegralNumber()).isTrue();
+    assertThat(node.asText()).isEqualTo("1");
+  }
+
+  @Test
+  void serializeUnsignedLong() throws JsonProcessingException {
+    assertThat(objectMapper.writeValueAsString(UnsignedLong.ONE)).isEqualTo("1");
+    assertThat(objectMapper.writeValueAsString(UnsignedLong.MAX_VALUE)).isEqualTo("18446744073709551615");
+
+    JsonNode node = objectMapper.valueToTree(UnsignedLong.MAX_VALUE);
+    assertThat(node.isIntegralNumber()).isTrue();
+    assertThat(node.asText()).isEqualTo("18446744073709551615");
+  }
+}